@@ -24,6 +24,9 @@ import com.yahoo.elide.extensions.JsonApiPatch;
 import com.yahoo.elide.extensions.PatchRequestScope;
 import com.yahoo.elide.jsonapi.JsonApiMapper;
 import com.yahoo.elide.jsonapi.models.JsonApiDocument;
+import com.yahoo.elide.metrics.ElideMetrics;
+import com.yahoo.elide.metrics.ElideMetrics.Phase;
+import com.yahoo.elide.metrics.TimedTransaction;
 import com.yahoo.elide.parsers.BaseVisitor;
 import com.yahoo.elide.parsers.DeleteVisitor;
 import com.yahoo.elide.parsers.GetVisitor;
@@ -33,10 +36,12 @@ import com.yahoo.elide.parsers.PostVisitor;
 import com.yahoo.elide.security.User;
 import com.yahoo.elide.utils.coerce.CoerceUtil;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.owasp.encoder.Encode;
@@ -45,6 +50,7 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.function.Supplier;
 
 import javax.validation.ConstraintViolationException;
@@ -61,6 +67,7 @@ public class Elide {
     @Getter private final AuditLogger auditLogger;
     @Getter private final DataStore dataStore;
     @Getter private final JsonApiMapper mapper;
+    private final ElideMetrics metrics;
 
     /**
      * Instantiates a new Elide instance.
@@ -73,6 +80,7 @@ public class Elide {
         this.dataStore = new InMemoryDataStore(elideSettings.getDataStore());
         this.dataStore.populateEntityDictionary(elideSettings.getDictionary());
         this.mapper = elideSettings.getMapper();
+        this.metrics = elideSettings.getMetrics();
 
         elideSettings.getSerdes().forEach((targetType, serde) -> {
             CoerceUtil.register(targetType, serde);
@@ -107,7 +115,7 @@ public class Elide {
      */
     public ElideResponse post(String path, String jsonApiDocument, Object opaqueUser) {
         return handleRequest(false, opaqueUser, dataStore::beginTransaction, (tx, user) -> {
-            JsonApiDocument jsonApiDoc = mapper.readJsonApiDocument(jsonApiDocument);
+            JsonApiDocument jsonApiDoc = readJsonApiDocument(jsonApiDocument);
             RequestScope requestScope = new RequestScope(path, jsonApiDoc, tx, user, null, elideSettings);
             BaseVisitor visitor = new PostVisitor(requestScope);
             return visit(path, requestScope, visitor);
@@ -126,6 +134,22 @@ public class Elide {
      */
     public ElideResponse patch(String contentType, String accept,
                                String path, String jsonApiDocument, Object opaqueUser) {
+        return patch(contentType, accept, path, jsonApiDocument, null, opaqueUser);
+    }
+
+    /**
+     * Handle PATCH.
+     *
+     * @param contentType the content type
+     * @param accept the accept
+     * @param path the path
+     * @param jsonApiDocument the json api document
+     * @param queryParams the query params.  The filter of a bulk update of a collection.
+     * @param opaqueUser the opaque user
+     * @return Elide response object
+     */
+    public ElideResponse patch(String contentType, String accept, String path, String jsonApiDocument,
+                               MultivaluedMap<String, String> queryParams, Object opaqueUser) {
 
         Handler<DataStoreTransaction, User, HandlerResult> handler;
         if (JsonApiPatch.isPatchExtension(contentType) && JsonApiPatch.isPatchExtension(accept)) {
@@ -141,8 +165,8 @@ public class Elide {
             };
         } else {
             handler = (tx, user) -> {
-                JsonApiDocument jsonApiDoc = mapper.readJsonApiDocument(jsonApiDocument);
-                RequestScope requestScope = new RequestScope(path, jsonApiDoc, tx, user, null, elideSettings);
+                JsonApiDocument jsonApiDoc = readJsonApiDocument(jsonApiDocument);
+                RequestScope requestScope = new RequestScope(path, jsonApiDoc, tx, user, queryParams, elideSettings);
                 BaseVisitor visitor = new PatchVisitor(requestScope);
                 return visit(path, requestScope, visitor);
             };
@@ -160,11 +184,25 @@ public class Elide {
      * @return Elide response object
      */
     public ElideResponse delete(String path, String jsonApiDocument, Object opaqueUser) {
+        return delete(path, jsonApiDocument, null, opaqueUser);
+    }
+
+    /**
+     * Handle DELETE.
+     *
+     * @param path the path
+     * @param jsonApiDocument the json api document
+     * @param queryParams the query params.  The filter of a bulk delete of a collection.
+     * @param opaqueUser the opaque user
+     * @return Elide response object
+     */
+    public ElideResponse delete(String path, String jsonApiDocument, MultivaluedMap<String, String> queryParams,
+                                Object opaqueUser) {
         return handleRequest(false, opaqueUser, dataStore::beginTransaction, (tx, user) -> {
             JsonApiDocument jsonApiDoc = StringUtils.isEmpty(jsonApiDocument)
                     ? new JsonApiDocument()
-                    : mapper.readJsonApiDocument(jsonApiDocument);
-            RequestScope requestScope = new RequestScope(path, jsonApiDoc, tx, user, null, elideSettings);
+                    : readJsonApiDocument(jsonApiDocument);
+            RequestScope requestScope = new RequestScope(path, jsonApiDoc, tx, user, queryParams, elideSettings);
             BaseVisitor visitor = new DeleteVisitor(requestScope);
             return visit(path, requestScope, visitor);
         });
@@ -172,7 +210,11 @@ public class Elide {
 
     public HandlerResult visit(String path, RequestScope requestScope, BaseVisitor visitor) {
         try {
-            Supplier<Pair<Integer, JsonNode>> responder = visitor.visit(JsonApiParser.parse(path));
+            ParseTree parseTree;
+            try (ElideMetrics.Timer timer = metrics.start(Phase.PARSE, null, "path")) {
+                parseTree = JsonApiParser.parse(path);
+            }
+            Supplier<Pair<Integer, JsonNode>> responder = visitor.visit(parseTree);
             return new HandlerResult(requestScope, responder);
         } catch (RuntimeException e) {
             return new HandlerResult(requestScope, e);
@@ -192,32 +234,58 @@ public class Elide {
                                           Supplier<DataStoreTransaction> transaction,
                                           Handler<DataStoreTransaction, User, HandlerResult> handler) {
         boolean isVerbose = false;
-        try (DataStoreTransaction tx = transaction.get()) {
+        DataStoreTransaction tx = null;
+        try {
+            tx = transaction.get();
+            if (metrics != ElideMetrics.NONE) {
+                tx = new TimedTransaction(tx, metrics);
+            }
             final User user = tx.accessUser(opaqueUser);
             HandlerResult result = handler.handle(tx, user);
             RequestScope requestScope = result.getRequestScope();
             isVerbose = requestScope.getPermissionExecutor().isVerbose();
             Supplier<Pair<Integer, JsonNode>> responder = result.getResponder();
             tx.preCommit();
-            requestScope.runQueuedPreSecurityTriggers();
+            timed(Phase.TRIGGER, "preSecurity", requestScope::runQueuedPreSecurityTriggers);
             requestScope.getPermissionExecutor().executeCommitChecks();
             if (!isReadOnly) {
                 requestScope.saveOrCreateObjects();
             }
             tx.flush(requestScope);
 
-            requestScope.runQueuedPreCommitTriggers();
+            if (requestScope.getStreamWriter() != null) {
+                // Pre-commit triggers run before the body as for a buffered response, so they cannot fail after
+                // part of the body was sent.  Reads while the body is written run their hooks as they are published.
+                timed(Phase.TRIGGER, "preCommit", requestScope::runQueuedPreCommitTriggers);
 
-            ElideResponse response = buildResponse(responder.get());
+                // The audit logger keeps its messages per thread, so log them before the body is written elsewhere
+                auditLogger.commit(requestScope);
+
+                // The response now owns the transaction and completes the request once the body is written
+                ElideResponse response = new ElideResponse(responder.get().getLeft(), streamBody(tx, requestScope));
+                tx = null;
+                return response;
+            }
+
+            timed(Phase.TRIGGER, "preCommit", requestScope::runQueuedPreCommitTriggers);
+
+            ElideResponse response;
+            try (ElideMetrics.Timer timer = metrics.start(Phase.SERIALIZE, null, "response")) {
+                response = buildResponse(responder.get());
+            }
 
             auditLogger.commit(requestScope);
             tx.commit(requestScope);
-            requestScope.runQueuedPostCommitTriggers();
+            timed(Phase.TRIGGER, "postCommit", requestScope::runQueuedPostCommitTriggers);
 
             if (log.isTraceEnabled()) {
                 requestScope.getPermissionExecutor().printCheckStats();
             }
 
+            DataStoreTransaction committed = tx;
+            tx = null;
+            committed.close();
+
             return response;
 
         } catch (WebApplicationException e) {
@@ -259,10 +327,72 @@ public class Elide {
             throw e;
 
         } finally {
+            if (tx != null) {
+                closeTransaction(tx);
+            }
             auditLogger.clear();
         }
     }
 
+    /**
+     * Builds the body writer for a streamed response.  Writing the body serializes the resources, commits the
+     * transaction, runs the post-commit triggers and closes the transaction.  Closing a body which was never written
+     * closes the transaction without committing.
+     *
+     * @param tx the open transaction
+     * @param requestScope the request scope holding the stream writer
+     * @return the body writer
+     */
+    private ElideResponse.BodyWriter streamBody(DataStoreTransaction tx, RequestScope requestScope) {
+        return new ElideResponse.BodyWriter() {
+            @Override
+            public void write(OutputStream out) throws IOException {
+                try (DataStoreTransaction transaction = tx;
+                     JsonGenerator generator = mapper.getObjectMapper().getFactory().createGenerator(out)) {
+                    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                    try (ElideMetrics.Timer timer = metrics.start(Phase.SERIALIZE, null, "stream")) {
+                        requestScope.getStreamWriter().write(generator);
+                    }
+
+                    transaction.commit(requestScope);
+                    timed(Phase.TRIGGER, "postCommit", requestScope::runQueuedPostCommitTriggers);
+
+                    if (log.isTraceEnabled()) {
+                        requestScope.getPermissionExecutor().printCheckStats();
+                    }
+                } catch (IOException | RuntimeException | Error e) {
+                    log.error("Error while streaming response, response is incomplete", e);
+                    throw e;
+                }
+            }
+
+            @Override
+            public void close() {
+                closeTransaction(tx);
+            }
+        };
+    }
+
+    private JsonApiDocument readJsonApiDocument(String jsonApiDocument) throws IOException {
+        try (ElideMetrics.Timer timer = metrics.start(Phase.PARSE, null, "document")) {
+            return mapper.readJsonApiDocument(jsonApiDocument);
+        }
+    }
+
+    private void timed(Phase phase, String operation, Runnable action) {
+        try (ElideMetrics.Timer timer = metrics.start(phase, null, operation)) {
+            action.run();
+        }
+    }
+
+    private static void closeTransaction(DataStoreTransaction tx) {
+        try {
+            tx.close();
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to close transaction", e);
+        }
+    }
+
     protected ElideResponse buildErrorResponse(HttpStatusException error, boolean isVerbose) {
         if (error instanceof InternalServerErrorException) {
             log.error("Internal Server Error", error);
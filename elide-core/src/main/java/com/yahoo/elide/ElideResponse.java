@@ -7,12 +7,20 @@ package com.yahoo.elide;
 
 import lombok.Getter;
 
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Elide response object.
  */
-public class ElideResponse {
+public class ElideResponse implements Closeable {
     @Getter private final int responseCode;
-    @Getter private final String body;
+    private String body;
+    private BodyWriter bodyWriter;
 
     /**
      * Constructor.
@@ -24,4 +32,91 @@ public class ElideResponse {
         this.responseCode = responseCode;
         this.body = body;
     }
+
+    /**
+     * Constructor for a streamed response.  The request transaction stays open until the body is written,
+     * so the body must be consumed exactly once with {@link #writeBody(OutputStream)} or {@link #getBody()}, or
+     * discarded with {@link #close()}.
+     *
+     * @param responseCode HTTP response code
+     * @param bodyWriter writes the body and completes the request
+     */
+    public ElideResponse(int responseCode, BodyWriter bodyWriter) {
+        this.responseCode = responseCode;
+        this.bodyWriter = bodyWriter;
+    }
+
+    /**
+     * Whether the body has not been produced yet and will be written by {@link #writeBody(OutputStream)}.
+     *
+     * @return true for a streamed response
+     */
+    public boolean isStreaming() {
+        return bodyWriter != null;
+    }
+
+    /**
+     * Returns the body.  For a streamed response the body is written to memory first.
+     *
+     * @return the body string
+     */
+    public String getBody() {
+        if (bodyWriter != null) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try {
+                writeBody(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            body = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+        return body;
+    }
+
+    /**
+     * Writes the body to the output stream.
+     *
+     * @param out the output stream
+     * @throws IOException if the body cannot be written
+     */
+    public void writeBody(OutputStream out) throws IOException {
+        if (bodyWriter != null) {
+            BodyWriter writer = bodyWriter;
+            bodyWriter = null;
+            writer.write(out);
+        } else if (body != null) {
+            out.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Discards the body of a streamed response which was not written.  This ends the request without committing
+     * it.  Does nothing once the body was written.
+     *
+     * @throws IOException if the request cannot be ended
+     */
+    @Override
+    public void close() throws IOException {
+        if (bodyWriter != null) {
+            BodyWriter writer = bodyWriter;
+            bodyWriter = null;
+            writer.close();
+        }
+    }
+
+    /**
+     * Writes a streamed response body.
+     */
+    @FunctionalInterface
+    public interface BodyWriter {
+        void write(OutputStream out) throws IOException;
+
+        /**
+         * Releases what the body holds when it is discarded without being written.
+         *
+         * @throws IOException if it cannot be released
+         */
+        default void close() throws IOException {
+        }
+    }
 }
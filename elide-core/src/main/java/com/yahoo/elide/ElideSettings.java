@@ -12,7 +12,9 @@ import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.filter.dialect.JoinFilterDialect;
 import com.yahoo.elide.core.filter.dialect.SubqueryFilterDialect;
 import com.yahoo.elide.jsonapi.JsonApiMapper;
+import com.yahoo.elide.metrics.ElideMetrics;
 import com.yahoo.elide.security.PermissionExecutor;
+import com.yahoo.elide.security.permissions.UserCheckCache;
 import com.yahoo.elide.utils.coerce.converters.Serde;
 
 import lombok.AllArgsConstructor;
@@ -20,6 +22,7 @@ import lombok.Getter;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 /**
@@ -41,4 +44,11 @@ public class ElideSettings {
     @Getter private final boolean returnErrorObjects;
     @Getter private final Map<Class, Serde> serdes;
     @Getter private final boolean encodeErrorResponses;
+    @Getter private final boolean streamResponses;
+    @Getter private final UserCheckCache userCheckCache;
+    @Getter private final Executor includeExecutor;
+    @Getter private final int graphQLDocumentCacheSize;
+    @Getter private final boolean graphQLPersistedQueries;
+    @Getter private final Executor graphQLBatchExecutor;
+    @Getter private final ElideMetrics metrics;
 }
@@ -17,8 +17,10 @@ import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
 import com.yahoo.elide.core.filter.dialect.SubqueryFilterDialect;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.jsonapi.JsonApiMapper;
+import com.yahoo.elide.metrics.ElideMetrics;
 import com.yahoo.elide.security.PermissionExecutor;
 import com.yahoo.elide.security.executors.ActivePermissionExecutor;
+import com.yahoo.elide.security.permissions.UserCheckCache;
 import com.yahoo.elide.utils.coerce.converters.EpochToDateConverter;
 import com.yahoo.elide.utils.coerce.converters.ISO8601DateSerde;
 import com.yahoo.elide.utils.coerce.converters.Serde;
@@ -31,12 +33,15 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 /**
  * Builder for ElideSettings.
  */
 public class ElideSettingsBuilder {
+    public static final int DEFAULT_GRAPHQL_DOCUMENT_CACHE_SIZE = 0;
+
     private final DataStore dataStore;
     private AuditLogger auditLogger;
     private JsonApiMapper jsonApiMapper;
@@ -51,6 +56,13 @@ public class ElideSettingsBuilder {
     private int updateStatusCode;
     private boolean returnErrorObjects;
     private boolean encodeErrorResponses;
+    private boolean streamResponses;
+    private UserCheckCache userCheckCache;
+    private Executor includeExecutor;
+    private int graphQLDocumentCacheSize = DEFAULT_GRAPHQL_DOCUMENT_CACHE_SIZE;
+    private boolean graphQLPersistedQueries;
+    private Executor graphQLBatchExecutor;
+    private ElideMetrics metrics = ElideMetrics.NONE;
 
     /**
      * A new builder used to generate Elide instances. Instantiates an {@link EntityDictionary} without
@@ -96,7 +108,14 @@ public class ElideSettingsBuilder {
                 updateStatusCode,
                 returnErrorObjects,
                 serdes,
-                encodeErrorResponses);
+                encodeErrorResponses,
+                streamResponses,
+                userCheckCache,
+                includeExecutor,
+                graphQLDocumentCacheSize,
+                graphQLPersistedQueries,
+                graphQLBatchExecutor,
+                metrics);
     }
 
     public ElideSettingsBuilder withAuditLogger(AuditLogger auditLogger) {
@@ -201,4 +220,94 @@ public class ElideSettingsBuilder {
         this.encodeErrorResponses = encodeErrorResponses;
         return this;
     }
+
+    /**
+     * Stream collection GET responses to the client instead of building the whole document in memory.
+     * Errors raised after the first bytes of a streamed response are written can no longer change the
+     * response status and abort the response instead.
+     *
+     * @param streamResponses whether to stream collection responses
+     * @return the builder
+     */
+    public ElideSettingsBuilder withStreamResponses(boolean streamResponses) {
+        this.streamResponses = streamResponses;
+        return this;
+    }
+
+    /**
+     * Share the results of user checks between requests of the same user.  Keep a reference to the cache to
+     * invalidate the entries of a user whose roles change.
+     *
+     * @param userCheckCache the cache or null to evaluate user checks once per request
+     * @return the builder
+     */
+    public ElideSettingsBuilder withUserCheckCache(UserCheckCache userCheckCache) {
+        this.userCheckCache = userCheckCache;
+        return this;
+    }
+
+    /**
+     * Load the relationships of sibling include paths in parallel when the data store transaction supports
+     * concurrent reads.  Use a bounded executor; it is shared by all requests.
+     *
+     * @param includeExecutor the executor or null to load include paths one at a time
+     * @return the builder
+     */
+    public ElideSettingsBuilder withIncludeExecutor(Executor includeExecutor) {
+        this.includeExecutor = includeExecutor;
+        return this;
+    }
+
+    /**
+     * Cache the parsed and validated documents of GraphQL queries.  The cache is disabled by default.  GraphQL still
+     * parses and validates every query it executes, so the cache does not save that work.  It lets the endpoint
+     * reject invalid documents without opening a transaction, run queries in read transactions, and accept
+     * persisted queries.
+     *
+     * @param graphQLDocumentCacheSize the maximum number of cached documents or 0 to disable the cache
+     * @return the builder
+     */
+    public ElideSettingsBuilder withGraphQLDocumentCacheSize(int graphQLDocumentCacheSize) {
+        this.graphQLDocumentCacheSize = graphQLDocumentCacheSize;
+        return this;
+    }
+
+    /**
+     * Let GraphQL clients send the SHA-256 hash of a query they sent before as
+     * {@code extensions.persistedQuery.sha256Hash} instead of the query.  Persisted queries are kept in a cache of
+     * the document cache size and requests for an evicted query get a {@code PersistedQueryNotFound} error.
+     * Persisted queries need a document cache size above 0.
+     *
+     * @param graphQLPersistedQueries whether to accept persisted queries
+     * @return the builder
+     */
+    public ElideSettingsBuilder withGraphQLPersistedQueries(boolean graphQLPersistedQueries) {
+        this.graphQLPersistedQueries = graphQLPersistedQueries;
+        return this;
+    }
+
+    /**
+     * Run the entries of a batched GraphQL request concurrently.  Each entry already runs in its own transaction,
+     * so entries must not depend on the writes of earlier entries.  Use a bounded executor; it is shared by all
+     * requests.
+     *
+     * @param graphQLBatchExecutor the executor or null to run the entries one at a time
+     * @return the builder
+     */
+    public ElideSettingsBuilder withGraphQLBatchExecutor(Executor graphQLBatchExecutor) {
+        this.graphQLBatchExecutor = graphQLBatchExecutor;
+        return this;
+    }
+
+    /**
+     * Time the phases of each request: parsing, filter parsing, data store reads, permission evaluation, lifecycle
+     * triggers and serialization.
+     *
+     * @param metrics the metrics implementation
+     * @return the builder
+     */
+    public ElideSettingsBuilder withMetrics(ElideMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
 }
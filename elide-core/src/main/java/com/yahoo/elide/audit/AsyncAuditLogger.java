@@ -0,0 +1,175 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.audit;
+
+import com.yahoo.elide.core.RequestScope;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Audit logger which writes committed messages in batches from a background thread.
+ * <p>
+ * Messages are formatted on the request thread when the request commits, because their expressions read the
+ * entities of the request, and then handed to a bounded queue.  A daemon thread drains the queue and passes up to
+ * {@code batchSize} records at a time to the {@link BatchWriter}.  When the queue is full, the
+ * {@link OverflowPolicy} decides whether the request waits for room or the records are dropped.
+ */
+@Slf4j
+public class AsyncAuditLogger extends AuditLogger implements Closeable {
+    public static final int DEFAULT_QUEUE_SIZE = 10000;
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
+    /**
+     * What to do with committed records when the queue is full.
+     */
+    public enum OverflowPolicy {
+        /** Wait for the writer to make room.  Requests slow down to the speed of the writer. */
+        BLOCK,
+        /** Drop the records that do not fit and count them. */
+        DROP
+    }
+
+    /**
+     * A formatted audit log record.
+     */
+    @AllArgsConstructor
+    public static class Record {
+        @Getter private final long timestamp;
+        @Getter private final int operationCode;
+        @Getter private final String message;
+    }
+
+    /**
+     * Writes batches of records.
+     */
+    @FunctionalInterface
+    public interface BatchWriter {
+        void write(List<Record> records) throws IOException;
+    }
+
+    private final BlockingQueue<Record> queue;
+    private final BatchWriter writer;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread drainer;
+    private volatile boolean running = true;
+
+    /**
+     * Constructor for a logger which logs batches to SLF4J.
+     */
+    public AsyncAuditLogger() {
+        this(records -> records.forEach(record ->
+                log.info("{} {} {}", record.getTimestamp(), record.getOperationCode(), record.getMessage())),
+                DEFAULT_QUEUE_SIZE, DEFAULT_BATCH_SIZE, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param writer writes the batches of records
+     * @param queueSize the maximum number of records waiting to be written
+     * @param batchSize the maximum number of records passed to the writer at once
+     * @param overflowPolicy what to do with records when the queue is full
+     */
+    public AsyncAuditLogger(BatchWriter writer, int queueSize, int batchSize, OverflowPolicy overflowPolicy) {
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.writer = writer;
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.drainer = new Thread(this::drain, "elide-audit-logger");
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+    }
+
+    @Override
+    public void commit(RequestScope requestScope) throws IOException {
+        try {
+            for (LogMessage message : messages.get()) {
+                enqueue(new Record(System.currentTimeMillis(), message.getOperationCode(), message.getMessage()));
+            }
+        } finally {
+            messages.get().clear();
+        }
+    }
+
+    private void enqueue(Record record) throws IOException {
+        if (overflowPolicy == OverflowPolicy.DROP) {
+            if (!queue.offer(record)) {
+                dropped.incrementAndGet();
+            }
+            return;
+        }
+        try {
+            queue.put(record);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting to log an audit record", e);
+        }
+    }
+
+    private void drain() {
+        while (running || !queue.isEmpty()) {
+            List<Record> batch = new ArrayList<>(batchSize);
+            try {
+                Record first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writer.write(batch);
+            } catch (InterruptedException e) {
+                // close() interrupts the wait; the loop writes what is left in the queue
+            } catch (IOException | RuntimeException e) {
+                log.error("Unable to write {} audit records", batch.size(), e);
+            }
+        }
+    }
+
+    /**
+     * Get the number of records dropped because the queue was full.
+     *
+     * @return the number of dropped records
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Get the number of records waiting to be written.
+     *
+     * @return the queue length
+     */
+    public int getQueueLength() {
+        return queue.size();
+    }
+
+    /**
+     * Write the queued records and stop the background thread.
+     */
+    @Override
+    public void close() {
+        running = false;
+        drainer.interrupt();
+        try {
+            drainer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
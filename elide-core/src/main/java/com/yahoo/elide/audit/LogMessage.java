@@ -13,10 +13,12 @@ import com.yahoo.elide.security.ChangeSpec;
 
 import de.odysseus.el.ExpressionFactoryImpl;
 import de.odysseus.el.util.SimpleContext;
+import de.odysseus.el.util.SimpleResolver;
 
 import java.text.MessageFormat;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import javax.el.ELException;
@@ -31,6 +33,7 @@ public class LogMessage {
     //Supposedly this is thread safe.
     private static final ExpressionFactory EXPRESSION_FACTORY = new ExpressionFactoryImpl();
     private static final String[] EMPTY_STRING_ARRAY = new String[0];
+    private static final ConcurrentHashMap<String, ValueExpression> COMPILED_EXPRESSIONS = new ConcurrentHashMap<>();
 
     private final String template;
     private final PersistentResource record;
@@ -95,8 +98,8 @@ public class LogMessage {
      * @return the message
      */
     public String getMessage() {
-        final SimpleContext ctx = new SimpleContext();
-        final SimpleContext singleElementContext = new SimpleContext();
+        final SimpleContext ctx = new SimpleContext(new SimpleResolver());
+        final SimpleContext singleElementContext = new SimpleContext(new SimpleResolver());
 
         if (record != null) {
             /* Create a new lineage which includes the passed in record */
@@ -105,36 +108,24 @@ public class LogMessage {
             for (String name : lineage.getKeys()) {
                 List<PersistentResource> values = lineage.getRecord(name);
 
-                final ValueExpression expression;
-                final ValueExpression singleElementExpression;
+                final Object value;
+                final Object singleElementValue;
                 if (values.size() == 1) {
-                    expression = EXPRESSION_FACTORY.createValueExpression(values.get(0).getObject(), Object.class);
-                    singleElementExpression = expression;
+                    value = values.get(0).getObject();
+                    singleElementValue = value;
                 } else {
-                    List<Object> objects = values.stream().map(PersistentResource::getObject)
-                            .collect(Collectors.toList());
-                    expression = EXPRESSION_FACTORY.createValueExpression(objects, List.class);
-                    singleElementExpression = EXPRESSION_FACTORY.createValueExpression(values.get(values.size() - 1)
-                            .getObject(), Object.class);
+                    value = values.stream().map(PersistentResource::getObject).collect(Collectors.toList());
+                    singleElementValue = values.get(values.size() - 1).getObject();
                 }
-                ctx.setVariable(name, expression);
-                singleElementContext.setVariable(name, singleElementExpression);
+                // Identifiers are resolved as root properties so the compiled expressions can be shared
+                ctx.getELResolver().setValue(ctx, null, name, value);
+                singleElementContext.getELResolver().setValue(singleElementContext, null, name, singleElementValue);
             }
         }
 
         Object[] results = new Object[expressions.length];
         for (int idx = 0; idx < results.length; idx++) {
-            String expressionText = expressions[idx];
-
-            final ValueExpression expression;
-            final ValueExpression singleElementExpression;
-            try {
-                expression = EXPRESSION_FACTORY.createValueExpression(ctx, expressionText, Object.class);
-                singleElementExpression =
-                        EXPRESSION_FACTORY.createValueExpression(singleElementContext, expressionText, Object.class);
-            } catch (ELException e) {
-                throw new InvalidSyntaxException(e);
-            }
+            ValueExpression expression = compile(expressions[idx]);
 
             Object result;
             try {
@@ -144,7 +135,7 @@ public class LogMessage {
                 // supported lists (i.e. the ${entityType[idx].field} syntax), this also continues to support that.
                 // It should be noted, however, that list indexing is somewhat brittle unless properly accounted for
                 // from all possible paths.
-                result = singleElementExpression.getValue(singleElementContext);
+                result = expression.getValue(singleElementContext);
             } catch (PropertyNotFoundException e) {
                 // Try list syntax if not single element
                 result = expression.getValue(ctx);
@@ -159,6 +150,29 @@ public class LogMessage {
         }
     }
 
+    /**
+     * Compile an expression once.  Expressions are compiled without variables, so their identifiers are resolved
+     * from the context they are evaluated in and the compiled expression can be shared by every message of an
+     * {@link Audit} annotation.
+     *
+     * @param expressionText the UEL expression
+     * @return the compiled expression
+     * @throws InvalidSyntaxException if the expression has invalid syntax
+     */
+    private static ValueExpression compile(String expressionText) {
+        ValueExpression expression = COMPILED_EXPRESSIONS.get(expressionText);
+        if (expression == null) {
+            try {
+                expression = EXPRESSION_FACTORY.createValueExpression(
+                        new SimpleContext(), expressionText, Object.class);
+            } catch (ELException e) {
+                throw new InvalidSyntaxException(e);
+            }
+            COMPILED_EXPRESSIONS.putIfAbsent(expressionText, expression);
+        }
+        return expression;
+    }
+
     public RequestScope getRequestScope() {
         if (record != null) {
             return record.getRequestScope();
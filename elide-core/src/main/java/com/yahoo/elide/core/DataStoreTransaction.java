@@ -14,7 +14,10 @@ import com.yahoo.elide.security.User;
 
 import java.io.Closeable;
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -189,6 +192,29 @@ public interface DataStoreTransaction extends Closeable {
         return PersistentResource.getValue(entity, relationName, scope);
     }
 
+    /**
+     * Retrieve a relation from several objects of the same type at once.
+     * <p>
+     * Elide core calls this method (when it can) instead of calling {@link #getRelation} for each object so that
+     * a data store can load the relation with one query rather than one query per object.  The relation is neither
+     * sorted nor paginated.
+     *
+     * @param relationTx - The datastore that governs objects of the relationhip's type.
+     * @param entities - The objects which own the relationship.
+     * @param relationName - name of the relationship.
+     * @param filterExpression - filtering which can be pushed down to the data store.
+     * @param scope - contains request level metadata.
+     * @return the relation value of each object keyed by the object.  Objects which are not in the map are
+     * loaded individually with {@link #getRelation}.  By default, the map is empty.
+     */
+    default Map<Object, Object> getRelations(
+            DataStoreTransaction relationTx,
+            Collection<?> entities,
+            String relationName,
+            Optional<FilterExpression> filterExpression,
+            RequestScope scope) {
+        return Collections.emptyMap();
+    }
 
     /**
      * Elide core will update the in memory representation of the objects to the requested state.
@@ -285,4 +311,50 @@ public interface DataStoreTransaction extends Closeable {
     default boolean supportsPagination(Class<?> entityClass) {
         return true;
     }
+
+    /**
+     * Whether or not {@link #getRelations} may be called from several threads at once.  Elide can then load
+     * sibling relationships (for example several include paths) in parallel.
+     * @return true if relationships can be read concurrently
+     */
+    default boolean supportsConcurrentReads() {
+        return false;
+    }
+
+    /**
+     * Whether or not the transaction can delete or update the instances of a class matching a filter expression
+     * with a single statement through {@link #bulkDelete} and {@link #bulkUpdate}.
+     * @param entityClass The class to delete or update
+     * @param expression The filter expression
+     * @return true if bulk writes are possible
+     */
+    default boolean supportsBulkWrites(Class<?> entityClass, FilterExpression expression) {
+        return false;
+    }
+
+    /**
+     * Delete all instances of a class matching a filter expression without loading them.
+     * Only called when {@link #supportsBulkWrites} returns true.
+     * @param entityClass The class to delete
+     * @param filterExpression The instances to delete.  Predicates only reference attributes of the class.
+     * @param scope the request scope
+     * @return the number of deleted instances
+     */
+    default long bulkDelete(Class<?> entityClass, Optional<FilterExpression> filterExpression, RequestScope scope) {
+        throw new UnsupportedOperationException("Bulk delete is not supported");
+    }
+
+    /**
+     * Set attributes of all instances of a class matching a filter expression without loading them.
+     * Only called when {@link #supportsBulkWrites} returns true.
+     * @param entityClass The class to update
+     * @param attributes The attribute names and their new values, already coerced to the attribute types
+     * @param filterExpression The instances to update.  Predicates only reference attributes of the class.
+     * @param scope the request scope
+     * @return the number of updated instances
+     */
+    default long bulkUpdate(Class<?> entityClass, Map<String, Object> attributes,
+                            Optional<FilterExpression> filterExpression, RequestScope scope) {
+        throw new UnsupportedOperationException("Bulk update is not supported");
+    }
 }
@@ -111,6 +111,7 @@ public class EntityBinding {
     public final ConcurrentHashMap<String, String> relationshipToInverse = new ConcurrentHashMap<>();
     public final ConcurrentHashMap<String, CascadeType[]> relationshipToCascadeTypes = new ConcurrentHashMap<>();
     public final ConcurrentHashMap<String, AccessibleObject> fieldsToValues = new ConcurrentHashMap<>();
+    public final ConcurrentHashMap<String, FieldAccessor> fieldsToAccessors = new ConcurrentHashMap<>();
     public final MultiValuedMap<Pair<Class, String>, LifeCycleHook> fieldsToTriggers = new HashSetValuedHashMap<>();
     public final MultiValuedMap<Class, LifeCycleHook> classToTriggers = new HashSetValuedHashMap<>();
     public final ConcurrentHashMap<String, Class<?>> fieldsToTypes = new ConcurrentHashMap<>();
@@ -296,6 +297,7 @@ public class EntityBinding {
         idFieldName = fieldName;
 
         fieldsToValues.put(fieldName, fieldOrMethod);
+        bindAccessor(fieldName, fieldType, fieldOrMethod);
 
         if (idField != null && !fieldOrMethod.equals(idField)) {
             throw new DuplicateMappingException(type + " " + cls.getName() + ":" + fieldName);
@@ -391,12 +393,29 @@ public class EntityBinding {
         relationshipsDeque.push(fieldName);
         fieldsToValues.put(fieldName, fieldOrMethod);
         fieldsToTypes.put(fieldName, fieldType);
+        bindAccessor(fieldName, fieldType, fieldOrMethod);
     }
 
     private void bindAttr(AccessibleObject fieldOrMethod, String fieldName, Class<?> fieldType) {
         attributesDeque.push(fieldName);
         fieldsToValues.put(fieldName, fieldOrMethod);
         fieldsToTypes.put(fieldName, fieldType);
+        bindAccessor(fieldName, fieldType, fieldOrMethod);
+    }
+
+    /**
+     * Resolve the getter and setter handles for a field.  Fields which cannot be reached through method handles
+     * are left unbound and are accessed reflectively.
+     *
+     * @param fieldName     Field name
+     * @param fieldType     Bound type of the field
+     * @param fieldOrMethod Field or method to bind
+     */
+    private void bindAccessor(String fieldName, Class<?> fieldType, AccessibleObject fieldOrMethod) {
+        FieldAccessor accessor = FieldAccessor.of(entityClass, fieldName, fieldType, fieldOrMethod);
+        if (accessor != null) {
+            fieldsToAccessors.put(fieldName, accessor);
+        }
     }
 
     /**
@@ -548,6 +567,18 @@ public class EntityBinding {
         return methods == null ? Collections.emptyList() : methods;
     }
 
+    /**
+     * Is any hook invoked for an event on a field (or on the entity when the field is empty)?
+     *
+     * @param annotationClass the hook annotation
+     * @param fieldName the field or an empty string for the entity
+     * @return true if {@link LifecycleHookInvoker} would invoke at least one hook
+     */
+    public boolean hasTriggers(Class<? extends Annotation> annotationClass, String fieldName) {
+        return fieldsToTriggers.containsKey(Pair.of(annotationClass, fieldName))
+                || (!fieldName.isEmpty() && classToTriggers.containsKey(annotationClass));
+    }
+
     /**
      * Cache placeholder for no annotation.
      */
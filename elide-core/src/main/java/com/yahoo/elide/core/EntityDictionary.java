@@ -16,6 +16,7 @@ import com.yahoo.elide.annotation.MappedInterface;
 import com.yahoo.elide.annotation.SharePermission;
 import com.yahoo.elide.core.exceptions.DuplicateMappingException;
 import com.yahoo.elide.functions.LifeCycleHook;
+import com.yahoo.elide.parsers.expression.PermissionExpressionTemplate;
 import com.yahoo.elide.security.checks.Check;
 import com.yahoo.elide.security.checks.prefab.Collections.AppendOnly;
 import com.yahoo.elide.security.checks.prefab.Collections.RemoveOnly;
@@ -245,6 +246,34 @@ public class EntityDictionary {
         return binding.entityPermissions.getFieldChecksForPermission(field, annotationClass);
     }
 
+    /**
+     * Gets the compiled permission expression (if any) at the class level.
+     *
+     * @param resourceClass the entity to check
+     * @param annotationClass the permission to look for
+     * @return the compiled permission or {@code null} if the permission is not specified at a class level
+     */
+    public PermissionExpressionTemplate getPermissionExpressionForClass(Class<?> resourceClass,
+            Class<? extends Annotation> annotationClass) {
+        EntityBinding binding = getEntityBinding(resourceClass);
+        return binding.entityPermissions.getClassExpressionForPermission(annotationClass);
+    }
+
+    /**
+     * Gets the compiled permission expression (if any) of a field.
+     *
+     * @param resourceClass the entity to check
+     * @param field the field to inspect
+     * @param annotationClass the permission to look for
+     * @return the compiled permission or {@code null} if the permission is not specified on that field
+     */
+    public PermissionExpressionTemplate getPermissionExpressionForField(Class<?> resourceClass,
+            String field,
+            Class<? extends Annotation> annotationClass) {
+        EntityBinding binding = getEntityBinding(resourceClass);
+        return binding.entityPermissions.getFieldExpressionForPermission(field, annotationClass);
+    }
+
     /**
      * Returns the check mapped to a particular identifier.
      *
@@ -1067,6 +1096,17 @@ public class EntityDictionary {
         return getEntityBinding(targetClass).fieldsToValues.get(fieldName);
     }
 
+    /**
+     * Retrieve the pre-resolved accessor for a field.
+     *
+     * @param targetClass the object class
+     * @param fieldName   the field name
+     * @return the accessor or null if the field must be accessed reflectively
+     */
+    public FieldAccessor getFieldAccessor(Class<?> targetClass, String fieldName) {
+        return getEntityBinding(targetClass).fieldsToAccessors.get(fieldName);
+    }
+
     /**
      * Retrieve fields from an object containing a particular type.
      *
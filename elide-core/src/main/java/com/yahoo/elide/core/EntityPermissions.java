@@ -12,6 +12,8 @@ import com.yahoo.elide.annotation.SharePermission;
 import com.yahoo.elide.annotation.UpdatePermission;
 import com.yahoo.elide.generated.parsers.ExpressionLexer;
 import com.yahoo.elide.generated.parsers.ExpressionParser;
+import com.yahoo.elide.parsers.expression.PermissionExpressionTemplate;
+import com.yahoo.elide.parsers.expression.PermissionExpressionTemplateVisitor;
 
 import org.antlr.v4.runtime.ANTLRInputStream;
 import org.antlr.v4.runtime.BailErrorStrategy;
@@ -32,6 +34,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Extract permissions related annotation data for a model.
@@ -51,10 +54,15 @@ public class EntityPermissions implements CheckInstantiator {
     private static final AnnotationBinding EMPTY_BINDING = new AnnotationBinding(null, Collections.emptyMap());
     private final HashMap<Class<? extends Annotation>, AnnotationBinding> bindings = new HashMap<>();
 
+    private final EntityDictionary dictionary;
+
     private static class AnnotationBinding {
         final ParseTree classPermission;
         final Map<String, ParseTree> fieldPermissions;
 
+        /* Compiled on first use because checks may be registered after the entity is bound */
+        final Map<ParseTree, PermissionExpressionTemplate> templates = new ConcurrentHashMap<>();
+
         public AnnotationBinding(ParseTree classPermission, Map<String, ParseTree> fieldPermissions) {
             this.classPermission = classPermission;
             this.fieldPermissions = fieldPermissions.isEmpty() ? Collections.emptyMap() : fieldPermissions;
@@ -63,6 +71,7 @@ public class EntityPermissions implements CheckInstantiator {
 
 
     private EntityPermissions() {
+        dictionary = null;
     }
 
     /**
@@ -74,6 +83,7 @@ public class EntityPermissions implements CheckInstantiator {
     public EntityPermissions(EntityDictionary dictionary,
                              Class<?> cls,
                              Collection<AccessibleObject> fieldOrMethodList)  {
+        this.dictionary = dictionary;
         for (Class<? extends Annotation> annotationClass : PERMISSION_ANNOTATIONS) {
             final Map<String, ParseTree> fieldPermissions = new HashMap<>();
             fieldOrMethodList.stream()
@@ -163,4 +173,34 @@ public class EntityPermissions implements CheckInstantiator {
     public ParseTree getFieldChecksForPermission(String field, Class<? extends Annotation> annotationClass) {
         return bindings.getOrDefault(annotationClass, EMPTY_BINDING).fieldPermissions.get(field);
     }
+
+    /**
+     * Get the compiled entity permission expression.
+     * @param annotationClass permission class
+     * @return compiled entity permission or null if none
+     */
+    public PermissionExpressionTemplate getClassExpressionForPermission(Class<? extends Annotation> annotationClass) {
+        AnnotationBinding binding = bindings.getOrDefault(annotationClass, EMPTY_BINDING);
+        return compile(binding, binding.classPermission);
+    }
+
+    /**
+     * Get the compiled field permission expression for provided name.
+     * @param field provided field name
+     * @param annotationClass permission class
+     * @return compiled field permission or null if none
+     */
+    public PermissionExpressionTemplate getFieldExpressionForPermission(String field,
+                                                                        Class<? extends Annotation> annotationClass) {
+        AnnotationBinding binding = bindings.getOrDefault(annotationClass, EMPTY_BINDING);
+        return compile(binding, binding.fieldPermissions.get(field));
+    }
+
+    private PermissionExpressionTemplate compile(AnnotationBinding binding, ParseTree permission) {
+        if (permission == null) {
+            return null;
+        }
+        return binding.templates.computeIfAbsent(permission,
+                tree -> new PermissionExpressionTemplateVisitor(dictionary).visit(tree));
+    }
 }
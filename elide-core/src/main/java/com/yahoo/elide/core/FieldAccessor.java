@@ -0,0 +1,167 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import com.yahoo.elide.security.RequestScope;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Getter and setter for a single entity attribute or relationship, resolved once when the entity is bound.
+ * <p>
+ * The accessor wraps {@link MethodHandle}s that have already been adapted to erased signatures so that reading or
+ * writing a field avoids the per call access checks and argument array allocation of {@link Method#invoke} as well
+ * as the request scope parameter lookup for computed attributes.
+ */
+@Slf4j
+public class FieldAccessor {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SCOPED_GETTER_TYPE =
+            MethodType.methodType(Object.class, Object.class, RequestScope.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    @Getter private final String fieldName;
+    private final MethodHandle getter;
+    private final boolean requestScopeable;
+    private final MethodHandle setter;
+    @Getter private final Class<?> valueType;
+    private final Class<?> boxedValueType;
+
+    private FieldAccessor(String fieldName, MethodHandle getter, boolean requestScopeable,
+                          MethodHandle setter, Class<?> valueType) {
+        this.fieldName = fieldName;
+        this.getter = getter;
+        this.requestScopeable = requestScopeable;
+        this.setter = setter;
+        this.valueType = valueType;
+        this.boxedValueType = valueType == null ? null : ClassUtils.primitiveToWrapper(valueType);
+    }
+
+    /**
+     * Builds an accessor for the given field or getter method.
+     *
+     * @param entityClass The bound entity class
+     * @param fieldName The exposed field name
+     * @param fieldType The bound type of the field
+     * @param fieldOrMethod The field or getter method bound to the field name
+     * @return The accessor or null if the member cannot be reached through method handles
+     */
+    public static FieldAccessor of(Class<?> entityClass, String fieldName, Class<?> fieldType,
+                                   AccessibleObject fieldOrMethod) {
+        try {
+            MethodHandle getter;
+            boolean requestScopeable = false;
+            if (fieldOrMethod instanceof Field) {
+                getter = LOOKUP.unreflectGetter((Field) fieldOrMethod).asType(GETTER_TYPE);
+            } else {
+                Method method = (Method) fieldOrMethod;
+                requestScopeable = EntityBinding.isRequestScopeableMethod(method);
+                getter = LOOKUP.unreflect(method).asType(requestScopeable ? SCOPED_GETTER_TYPE : GETTER_TYPE);
+            }
+
+            MethodHandle setter = null;
+            Class<?> valueType = null;
+            Method setMethod = findSetter(entityClass, fieldName, fieldType);
+            if (setMethod != null) {
+                setter = LOOKUP.unreflect(setMethod).asType(SETTER_TYPE);
+                valueType = fieldType;
+            } else if (fieldOrMethod instanceof Field && !Modifier.isFinal(((Field) fieldOrMethod).getModifiers())) {
+                setter = LOOKUP.unreflectSetter((Field) fieldOrMethod).asType(SETTER_TYPE);
+                valueType = ((Field) fieldOrMethod).getType();
+            }
+
+            return new FieldAccessor(fieldName, getter, requestScopeable, setter, valueType);
+        } catch (IllegalAccessException | RuntimeException e) {
+            log.debug("Falling back to reflection for {}.{}: {}", entityClass.getName(), fieldName, e.getMessage());
+            return null;
+        }
+    }
+
+    private static Method findSetter(Class<?> entityClass, String fieldName, Class<?> fieldType) {
+        if (fieldType == null) {
+            return null;
+        }
+        try {
+            return EntityDictionary.findMethod(entityClass, "set" + StringUtils.capitalize(fieldName), fieldType);
+        } catch (NoSuchMethodException | SecurityException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads the field from the target entity.
+     *
+     * @param target The entity to read
+     * @param scope The request scope passed to computed attributes that accept one
+     * @return The field value
+     * @throws InvocationTargetException if the underlying getter throws
+     */
+    public Object getValue(Object target, RequestScope scope) throws InvocationTargetException {
+        try {
+            if (requestScopeable) {
+                return getter.invokeExact(target, scope);
+            }
+            return getter.invokeExact(target);
+        } catch (Error e) {
+            // Errors such as OutOfMemoryError are not failures of the getter, do not wrap them
+            throw e;
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Whether the value can be written through this accessor.  Values that are not instances of the setter
+     * type (including null for primitive fields) must take the reflective path so that errors are reported
+     * the same way.
+     *
+     * @param value The value (already coerced to {@link #getValueType()})
+     * @return true if {@link #setValue(Object, Object)} may be called with the value
+     */
+    public boolean canSetValue(Object value) {
+        return setter != null && (value == null ? !valueType.isPrimitive() : boxedValueType.isInstance(value));
+    }
+
+    /**
+     * Whether the field has a setter or a writable field.
+     *
+     * @return true if the field is writable
+     */
+    public boolean isWritable() {
+        return setter != null;
+    }
+
+    /**
+     * Writes the field on the target entity.
+     *
+     * @param target The entity to modify
+     * @param value The new value
+     * @throws InvocationTargetException if the underlying setter throws
+     */
+    public void setValue(Object target, Object value) throws InvocationTargetException {
+        try {
+            setter.invokeExact(target, value);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import com.yahoo.elide.annotation.OnCreatePostCommit;
+import com.yahoo.elide.annotation.OnCreatePreCommit;
+import com.yahoo.elide.annotation.OnCreatePreSecurity;
+import com.yahoo.elide.annotation.OnDeletePostCommit;
+import com.yahoo.elide.annotation.OnDeletePreCommit;
+import com.yahoo.elide.annotation.OnDeletePreSecurity;
+import com.yahoo.elide.annotation.OnReadPostCommit;
+import com.yahoo.elide.annotation.OnReadPreCommit;
+import com.yahoo.elide.annotation.OnReadPreSecurity;
+import com.yahoo.elide.annotation.OnUpdatePostCommit;
+import com.yahoo.elide.annotation.OnUpdatePreCommit;
+import com.yahoo.elide.annotation.OnUpdatePreSecurity;
+import com.yahoo.elide.security.ChangeSpec;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The lifecycle events of a request.
+ * <p>
+ * Events are only recorded when a lifecycle hook is bound for the event's action on the entity (or field).  Each
+ * distinct event is recorded once, in publication order, in a list per CRUD action.  Read, update and delete
+ * pre-security hooks run when the event is published.  All other hooks run when the queued events are replayed,
+ * and for events published after that, when they are published.
+ */
+public class LifecycleEventLog {
+    private static final Map<CRUDEvent.CRUDAction, List<Class<? extends Annotation>>> HOOKS =
+            new EnumMap<>(CRUDEvent.CRUDAction.class);
+    private static final Map<CRUDEvent.CRUDAction, Class<? extends Annotation>> IMMEDIATE_HOOKS =
+            new EnumMap<>(CRUDEvent.CRUDAction.class);
+
+    static {
+        HOOKS.put(CRUDEvent.CRUDAction.CREATE,
+                Arrays.asList(OnCreatePreSecurity.class, OnCreatePreCommit.class, OnCreatePostCommit.class));
+        HOOKS.put(CRUDEvent.CRUDAction.READ,
+                Arrays.asList(OnReadPreSecurity.class, OnReadPreCommit.class, OnReadPostCommit.class));
+        HOOKS.put(CRUDEvent.CRUDAction.UPDATE,
+                Arrays.asList(OnUpdatePreSecurity.class, OnUpdatePreCommit.class, OnUpdatePostCommit.class));
+        HOOKS.put(CRUDEvent.CRUDAction.DELETE,
+                Arrays.asList(OnDeletePreSecurity.class, OnDeletePreCommit.class, OnDeletePostCommit.class));
+
+        IMMEDIATE_HOOKS.put(CRUDEvent.CRUDAction.READ, OnReadPreSecurity.class);
+        IMMEDIATE_HOOKS.put(CRUDEvent.CRUDAction.UPDATE, OnUpdatePreSecurity.class);
+        IMMEDIATE_HOOKS.put(CRUDEvent.CRUDAction.DELETE, OnDeletePreSecurity.class);
+    }
+
+    private final EntityDictionary dictionary;
+    private final Set<CRUDEvent> published = new HashSet<>();
+    private final Map<CRUDEvent.CRUDAction, List<CRUDEvent>> queued = new EnumMap<>(CRUDEvent.CRUDAction.class);
+
+    /* The hooks of each action which were replayed, by annotation */
+    private final Map<CRUDEvent.CRUDAction, Map<Class<? extends Annotation>, LifecycleHookInvoker>> replayed =
+            new EnumMap<>(CRUDEvent.CRUDAction.class);
+
+    public LifecycleEventLog(EntityDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Publish a lifecycle event.
+     *
+     * @param resource the resource
+     * @param fieldName the field or {@link PersistentResource#CLASS_NO_FIELD}
+     * @param action the CRUD action
+     * @param changeSpec the change to pass to the hooks
+     */
+    public void publish(PersistentResource<?> resource,
+                        String fieldName,
+                        CRUDEvent.CRUDAction action,
+                        Optional<ChangeSpec> changeSpec) {
+        if (!hasHooks(resource.getResourceClass(), fieldName, action)) {
+            return;
+        }
+
+        CRUDEvent event = new CRUDEvent(action, resource, fieldName, changeSpec);
+        if (!published.add(event)) {
+            return;
+        }
+        queued.computeIfAbsent(action, key -> new ArrayList<>()).add(event);
+
+        Class<? extends Annotation> immediateHook = IMMEDIATE_HOOKS.get(action);
+        if (immediateHook != null) {
+            new LifecycleHookInvoker(dictionary, immediateHook, true).onNext(event);
+        }
+
+        // Hooks which were already replayed run for late events as they are published
+        replayed.getOrDefault(action, Collections.emptyMap()).values().forEach(invoker -> invoker.onNext(event));
+    }
+
+    /**
+     * Invoke the hooks of an annotation for every queued event of an action.  Every event is processed before the
+     * last exception thrown by a hook (if any) is rethrown.  Events of the action published later run the hooks
+     * when they are published, and exceptions they throw are not rethrown.
+     *
+     * @param action the CRUD action
+     * @param annotationClass the hook annotation
+     */
+    public void replay(CRUDEvent.CRUDAction action, Class<? extends Annotation> annotationClass) {
+        List<CRUDEvent> events = queued.getOrDefault(action, Collections.emptyList());
+        LifecycleHookInvoker invoker = new LifecycleHookInvoker(dictionary, annotationClass, false);
+
+        // Hooks may publish more events, so the list can grow while it is replayed
+        for (int idx = 0; idx < events.size(); idx++) {
+            invoker.onNext(events.get(idx));
+        }
+        replayed.computeIfAbsent(action, key -> new LinkedHashMap<>()).put(annotationClass, invoker);
+        invoker.throwOnError();
+    }
+
+    /**
+     * Is any hook bound for an action on an entity (or field)?
+     *
+     * @param entityClass the entity class
+     * @param fieldName the field or {@link PersistentResource#CLASS_NO_FIELD}
+     * @param action the CRUD action
+     * @return true if publishing the event would record it
+     */
+    boolean hasHooks(Class<?> entityClass, String fieldName, CRUDEvent.CRUDAction action) {
+        EntityBinding binding = dictionary.getEntityBinding(entityClass);
+        for (Class<? extends Annotation> annotationClass : HOOKS.get(action)) {
+            if (binding.hasTriggers(annotationClass, fieldName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -21,9 +21,13 @@ import com.yahoo.elide.core.exceptions.InvalidEntityBodyException;
 import com.yahoo.elide.core.exceptions.InvalidObjectIdentifierException;
 import com.yahoo.elide.core.exceptions.InvalidPredicateException;
 import com.yahoo.elide.core.exceptions.InvalidValueException;
+import com.yahoo.elide.core.filter.FilterPredicate;
 import com.yahoo.elide.core.filter.InPredicate;
+import com.yahoo.elide.core.filter.Operator;
 import com.yahoo.elide.core.filter.expression.AndFilterExpression;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
+import com.yahoo.elide.core.pagination.KeysetPagination;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.core.sort.Sorting;
 import com.yahoo.elide.jsonapi.models.Data;
@@ -38,6 +42,8 @@ import com.yahoo.elide.utils.coerce.CoerceUtil;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -53,6 +59,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -66,9 +73,12 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.Version;
 import javax.ws.rs.WebApplicationException;
 
 /**
@@ -86,6 +96,7 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
     private final RequestScope requestScope;
     private int hashCode = 0;
     static final String CLASS_NO_FIELD = "";
+    private static final int BULK_FLUSH_SIZE = 100;
 
     /**
      * The Dictionary.
@@ -268,9 +279,6 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
         EntityDictionary dictionary = requestScope.getDictionary();
         FilterExpression filterExpression;
 
-        DataStoreTransaction tx = requestScope.getTransaction();
-
-
         if (shouldSkipCollection(loadClass, ReadPermission.class, requestScope)) {
             if (ids.isEmpty()) {
                 return Collections.emptySet();
@@ -279,12 +287,7 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
             }
         }
 
-
-        if (pagination.isPresent() && !pagination.get().isDefaultInstance()
-                && !CanPaginateVisitor.canPaginate(loadClass, dictionary, requestScope)) {
-            throw new InvalidPredicateException(String.format("Cannot paginate %s",
-                    dictionary.getJsonAliasFor(loadClass)));
-        }
+        checkCanPaginate(loadClass, pagination, requestScope);
 
         Set<PersistentResource> newResources = new LinkedHashSet<>();
 
@@ -304,18 +307,10 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
             filterExpression = filter.orElse(null);
         }
 
-        Optional<FilterExpression> permissionFilter = getPermissionFilterExpression(loadClass, requestScope);
-        if (permissionFilter.isPresent()) {
-            if (filterExpression != null) {
-                filterExpression = new AndFilterExpression(filterExpression, permissionFilter.get());
-            } else {
-                filterExpression = permissionFilter.get();
-            }
-        }
+        Iterable<Object> loaded = loadObjects(loadClass, filterExpression, sorting, pagination, requestScope);
 
         Set<PersistentResource> existingResources = filter(ReadPermission.class,
-                new PersistentResourceSet(tx.loadObjects(loadClass, Optional.ofNullable(filterExpression), sorting,
-                pagination.map(p -> p.evaluate(loadClass)), requestScope), requestScope));
+                new PersistentResourceSet(loaded, requestScope));
 
         Set<PersistentResource> allResources = Sets.union(newResources, existingResources);
 
@@ -331,6 +326,292 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
         return allResources;
     }
 
+    /**
+     * Load a collection from the datastore without collecting it.  The records are read and checked for read
+     * permission as the result is iterated, so a response can be written while the data store returns them.
+     *
+     * @param loadClass the load class
+     * @param filter the filter expression
+     * @param sorting the sorting
+     * @param pagination the pagination
+     * @param requestScope the request scope
+     * @return the resources the user may read, in the order of the data store
+     */
+    public static Iterable<PersistentResource> streamRecords(
+            Class<?> loadClass,
+            Optional<FilterExpression> filter,
+            Optional<Sorting> sorting,
+            Optional<Pagination> pagination,
+            RequestScope requestScope) {
+        if (shouldSkipCollection(loadClass, ReadPermission.class, requestScope)) {
+            return Collections.emptyList();
+        }
+        checkCanPaginate(loadClass, pagination, requestScope);
+
+        Iterable<Object> loaded = loadObjects(loadClass, filter.orElse(null), sorting, pagination, requestScope);
+        Iterable<PersistentResource> resources = new PersistentResourceSet(loaded, requestScope);
+        return Iterables.filter(resources, resource -> isPermitted(ReadPermission.class, resource));
+    }
+
+    private static void checkCanPaginate(Class<?> loadClass, Optional<Pagination> pagination,
+                                         RequestScope requestScope) {
+        EntityDictionary dictionary = requestScope.getDictionary();
+        if (pagination.isPresent() && !pagination.get().isDefaultInstance()
+                && !CanPaginateVisitor.canPaginate(loadClass, dictionary, requestScope)) {
+            throw new InvalidPredicateException(String.format("Cannot paginate %s",
+                    dictionary.getJsonAliasFor(loadClass)));
+        }
+    }
+
+    /**
+     * Load the objects of a collection matching a filter and the read permission filter of the class.
+     */
+    private static Iterable<Object> loadObjects(Class<?> loadClass, FilterExpression filter,
+                                                Optional<Sorting> sorting, Optional<Pagination> pagination,
+                                                RequestScope requestScope) {
+        DataStoreTransaction tx = requestScope.getTransaction();
+        FilterExpression filterExpression = filter;
+
+        Optional<FilterExpression> permissionFilter = getPermissionFilterExpression(loadClass, requestScope);
+        if (permissionFilter.isPresent()) {
+            if (filterExpression != null) {
+                filterExpression = new AndFilterExpression(filterExpression, permissionFilter.get());
+            } else {
+                filterExpression = permissionFilter.get();
+            }
+        }
+
+        Optional<Pagination> computedPagination = pagination.map(p -> p.evaluate(loadClass));
+        Optional<KeysetPagination> keyset = computedPagination
+                .filter(Pagination::hasCursor)
+                .map(p -> new KeysetPagination(loadClass, sorting, p, requestScope));
+
+        Optional<Sorting> computedSorting = sorting;
+        if (keyset.isPresent()) {
+            Optional<FilterExpression> collectionFilter = Optional.ofNullable(filterExpression);
+            keyset.get().loadPageTotals(count ->
+                    tx.loadObjects(loadClass, collectionFilter, Optional.empty(), count, requestScope));
+            filterExpression = andExpressions(filterExpression, keyset.get().getSeekExpression().orElse(null));
+            computedSorting = Optional.of(keyset.get().getSorting());
+        }
+
+        Iterable<Object> loaded = tx.loadObjects(loadClass, Optional.ofNullable(filterExpression), computedSorting,
+                computedPagination, requestScope);
+        if (keyset.isPresent()) {
+            loaded = keyset.get().getPage(loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Delete the instances of a class matching a filter.  Instances the user may not read or delete are left
+     * untouched.
+     * <p>
+     * When the transaction supports bulk writes, the filter and the permissions only reference attributes of the
+     * class, and the class has no relationships, lifecycle hooks or delete audit, the data store deletes the
+     * instances with a single statement.  Otherwise the instances are loaded and deleted one by one.
+     *
+     * @param loadClass the class to delete
+     * @param filter the instances to delete
+     * @param requestScope the request scope
+     * @return the number of deleted instances
+     */
+    public static long deleteRecords(Class<?> loadClass, FilterExpression filter, RequestScope requestScope) {
+        EntityDictionary dictionary = requestScope.getDictionary();
+        DataStoreTransaction tx = requestScope.getTransaction();
+
+        // Bulk statements do not cascade to relationships or to the tables of collection attributes
+        boolean bulk = dictionary.getRelationships(loadClass).isEmpty()
+                && dictionary.getAttributes(loadClass).stream()
+                        .noneMatch(fieldName -> isCollectionType(dictionary.getType(loadClass, fieldName)))
+                && !requestScope.hasLifecycleHooks(loadClass, CLASS_NO_FIELD, CRUDEvent.CRUDAction.DELETE)
+                && !isAudited(loadClass, Audit.Action.DELETE);
+        Optional<FilterExpression> bulkFilter = bulk
+                ? getBulkFilter(loadClass, DeletePermission.class, Collections.emptySet(), filter, requestScope)
+                : Optional.empty();
+        if (bulkFilter.isPresent()) {
+            return tx.bulkDelete(loadClass, bulkFilter, requestScope);
+        }
+
+        return writeRecords(loadClass, filter, requestScope, resource -> {
+            try {
+                resource.deleteResource();
+                return true;
+            } catch (ForbiddenAccessException e) {
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Set attributes of the instances of a class matching a filter.  Instances the user may not read or update are
+     * left untouched.
+     * <p>
+     * When the transaction supports bulk writes, the filter and the permissions only reference attributes of the
+     * class, the class has no optimistic lock version, and the attributes are neither computed nor collections and
+     * have no lifecycle hooks or update audit, the data store updates the instances with a single statement.
+     * Otherwise the instances are loaded and updated one by one.
+     *
+     * @param loadClass the class to update
+     * @param attributes the attribute names and their new values
+     * @param filter the instances to update
+     * @param requestScope the request scope
+     * @return the number of updated instances
+     */
+    public static long updateRecords(Class<?> loadClass, Map<String, Object> attributes, FilterExpression filter,
+                                     RequestScope requestScope) {
+        EntityDictionary dictionary = requestScope.getDictionary();
+        DataStoreTransaction tx = requestScope.getTransaction();
+
+        for (String fieldName : attributes.keySet()) {
+            if (!dictionary.isAttribute(loadClass, fieldName)) {
+                throw new InvalidAttributeException(fieldName, dictionary.getJsonAliasFor(loadClass));
+            }
+        }
+
+        // Bulk statements do not increment optimistic lock versions
+        boolean bulk = !requestScope.hasLifecycleHooks(loadClass, CLASS_NO_FIELD, CRUDEvent.CRUDAction.UPDATE)
+                && !isAudited(loadClass, Audit.Action.UPDATE)
+                && !isVersioned(loadClass)
+                && attributes.keySet().stream().allMatch(fieldName -> {
+                    Class<?> fieldClass = dictionary.getType(loadClass, fieldName);
+                    Audit[] audits = dictionary.getAttributeOrRelationAnnotations(loadClass, Audit.class, fieldName);
+                    return !dictionary.isComputed(loadClass, fieldName)
+                            && !isCollectionType(fieldClass)
+                            && (audits == null || audits.length == 0)
+                            && !requestScope.hasLifecycleHooks(loadClass, fieldName, CRUDEvent.CRUDAction.UPDATE);
+                });
+        Optional<FilterExpression> bulkFilter = bulk
+                ? getBulkFilter(loadClass, UpdatePermission.class, attributes.keySet(), filter, requestScope)
+                : Optional.empty();
+        if (bulkFilter.isPresent()) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            attributes.forEach((fieldName, value) ->
+                    values.put(fieldName, CoerceUtil.coerce(value, dictionary.getType(loadClass, fieldName))));
+            return tx.bulkUpdate(loadClass, values, bulkFilter, requestScope);
+        }
+
+        return writeRecords(loadClass, filter, requestScope, resource -> {
+            if (!resource.canUpdateAttributes(attributes)) {
+                return false;
+            }
+            attributes.forEach(resource::updateAttribute);
+            return true;
+        });
+    }
+
+    /**
+     * Write the instances of a class matching a filter one at a time.  The instances are loaded in pages of
+     * {@code BULK_FLUSH_SIZE} in id order, and the transaction is flushed after every page.
+     *
+     * @param loadClass the class to write
+     * @param filter the instances to write
+     * @param requestScope the request scope
+     * @param write writes an instance, returns false if the user may not modify it
+     * @return the number of written instances
+     */
+    private static long writeRecords(Class<?> loadClass, FilterExpression filter, RequestScope requestScope,
+                                     Predicate<PersistentResource> write) {
+        if (shouldSkipCollection(loadClass, ReadPermission.class, requestScope)) {
+            return 0;
+        }
+
+        EntityDictionary dictionary = requestScope.getDictionary();
+        DataStoreTransaction tx = requestScope.getTransaction();
+        String idField = dictionary.getIdFieldName(loadClass);
+        Path idPath = new Path(loadClass, dictionary, idField);
+        Optional<Sorting> byId = Optional.of(new Sorting(Collections.singletonMap(idField, Sorting.SortOrder.asc)));
+        FilterExpression readFilter =
+                andExpressions(filter, getPermissionFilterExpression(loadClass, requestScope).orElse(null));
+
+        long count = 0;
+        Object lastId = null;
+        while (true) {
+            // Seek past the last page rather than skipping rows, since writes can change which rows match
+            FilterExpression pageFilter = lastId == null
+                    ? readFilter
+                    : new AndFilterExpression(readFilter,
+                            new FilterPredicate(idPath, Operator.GT, Collections.singletonList(lastId)));
+            Iterable<Object> loaded = tx.loadObjects(loadClass, Optional.of(pageFilter), byId,
+                    Optional.of(Pagination.fromOffsetAndLimit(BULK_FLUSH_SIZE, 0, false)), requestScope);
+            List<Object> page = loaded == null ? Collections.emptyList() : Lists.newArrayList(loaded);
+            if (page.isEmpty()) {
+                return count;
+            }
+
+            lastId = getValue(page.get(page.size() - 1), idField, requestScope);
+            for (PersistentResource resource : filter(ReadPermission.class,
+                    new PersistentResourceSet(page, requestScope))) {
+                if (write.test(resource)) {
+                    count++;
+                }
+            }
+            tx.flush(requestScope);
+
+            if (page.size() < BULK_FLUSH_SIZE) {
+                return count;
+            }
+        }
+    }
+
+    /**
+     * Restrict a bulk write filter to the instances the user may modify.
+     *
+     * @return the restricted filter, or empty if the write must be done one instance at a time
+     */
+    private static Optional<FilterExpression> getBulkFilter(Class<?> loadClass,
+                                                            Class<? extends Annotation> annotationClass,
+                                                            Collection<String> fields,
+                                                            FilterExpression filter,
+                                                            RequestScope requestScope) {
+        Optional<FilterExpression> bulkFilter = requestScope.getPermissionExecutor()
+                .getBulkPermissionFilter(loadClass, annotationClass, fields, filter);
+
+        // Bulk statements cannot join other entities
+        return bulkFilter.filter(expression -> expression.accept(new PredicateExtractionVisitor()).stream()
+                        .allMatch(predicate -> predicate.getPath().getPathElements().size() == 1))
+                .filter(expression -> requestScope.getTransaction().supportsBulkWrites(loadClass, expression));
+    }
+
+    private static boolean isCollectionType(Class<?> fieldClass) {
+        return Collection.class.isAssignableFrom(fieldClass) || Map.class.isAssignableFrom(fieldClass);
+    }
+
+    private static boolean isAudited(Class<?> loadClass, Audit.Action action) {
+        return Arrays.stream(loadClass.getAnnotationsByType(Audit.class))
+                .anyMatch(audit -> Arrays.asList(audit.action()).contains(action));
+    }
+
+    private static boolean isVersioned(Class<?> loadClass) {
+        for (Class<?> cls = loadClass; cls != null && cls != Object.class; cls = cls.getSuperclass()) {
+            if (Stream.concat(Arrays.stream(cls.getDeclaredFields()), Arrays.stream(cls.getDeclaredMethods()))
+                    .anyMatch(member -> member.isAnnotationPresent(Version.class))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check the update permissions of several attributes before any of them is changed.
+     *
+     * @param attributes the attribute names and their new values
+     * @return false if the user may not update one of the attributes
+     */
+    private boolean canUpdateAttributes(Map<String, Object> attributes) {
+        try {
+            for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+                String fieldName = entry.getKey();
+                Class<?> fieldClass = dictionary.getType(getResourceClass(), fieldName);
+                checkFieldAwareDeferPermissions(UpdatePermission.class, fieldName,
+                        coerce(entry.getValue(), fieldName, fieldClass), getValueUnchecked(fieldName));
+            }
+            return true;
+        } catch (ForbiddenAccessException e) {
+            return false;
+        }
+    }
+
     /**
      * Update attribute in existing resource.
      *
@@ -853,6 +1134,20 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
         return allResources;
     }
 
+    /**
+     * Join two optional filter expressions.
+     *
+     * @param left a filter expression or null
+     * @param right a filter expression or null
+     * @return the conjunction of the non null expressions or null
+     */
+    private static FilterExpression andExpressions(FilterExpression left, FilterExpression right) {
+        if (left == null) {
+            return right;
+        }
+        return right == null ? left : new AndFilterExpression(left, right);
+    }
+
     /**
      * Build an id filter expression for a particular entity type.
      *
@@ -968,6 +1263,25 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
 
     }
 
+    /**
+     * Merge the filter requested for a relationship with the read permission filter of the relationship type.
+     *
+     * @param relationClass the relationship type
+     * @param filterExpression the requested filter
+     * @return the filter pushed to the data store when the relationship is read
+     */
+    Optional<FilterExpression> getRelationFilter(Class<?> relationClass, Optional<FilterExpression> filterExpression) {
+        //Invoke filterExpressionCheck and then merge with filterExpression.
+        Optional<FilterExpression> permissionFilter = getPermissionFilterExpression(relationClass, requestScope);
+
+        if (permissionFilter.isPresent() && filterExpression.isPresent()) {
+            return Optional.of(new AndFilterExpression(filterExpression.get(), permissionFilter.get()));
+        } else if (permissionFilter.isPresent()) {
+            return permissionFilter;
+        }
+        return filterExpression;
+    }
+
     /**
      * Retrieve an uncheck set of relations.
      *
@@ -989,20 +1303,35 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
 
         Optional<Pagination> computedPagination = pagination.map(p -> p.evaluate(relationClass));
 
-        //Invoke filterExpressionCheck and then merge with filterExpression.
-        Optional<FilterExpression> permissionFilter = getPermissionFilterExpression(relationClass, requestScope);
-        Optional<FilterExpression> computedFilters = filterExpression;
+        Optional<FilterExpression> computedFilters = getRelationFilter(relationClass, filterExpression);
 
-        if (permissionFilter.isPresent() && filterExpression.isPresent()) {
-            FilterExpression mergedExpression =
-                    new AndFilterExpression(filterExpression.get(), permissionFilter.get());
-            computedFilters = Optional.of(mergedExpression);
-        } else if (permissionFilter.isPresent()) {
-            computedFilters = permissionFilter;
+        Optional<KeysetPagination> keyset = computedPagination
+                .filter(Pagination::hasCursor)
+                .map(p -> new KeysetPagination(relationClass, sorting, p, requestScope));
+
+        Optional<Sorting> computedSorting = sorting;
+        if (keyset.isPresent()) {
+            Optional<FilterExpression> collectionFilters = computedFilters;
+            keyset.get().loadPageTotals(count -> transaction.getRelation(transaction, obj, relationName,
+                    collectionFilters, Optional.empty(), count, requestScope));
+            computedFilters = Optional.ofNullable(
+                    andExpressions(computedFilters.orElse(null), keyset.get().getSeekExpression().orElse(null)));
+            computedSorting = Optional.of(keyset.get().getSorting());
         }
 
-        Object val = transaction.getRelation(transaction, obj, relationName,
-                    computedFilters, sorting, computedPagination, requestScope);
+        Optional<Object> batchedVal = Optional.empty();
+        if (!computedPagination.isPresent() && (!sorting.isPresent() || sorting.get().isDefaultInstance())) {
+            batchedVal = requestScope.getRelationshipBatchLoader().getRelation(obj, relationName, computedFilters);
+        }
+
+        Object val = batchedVal.isPresent()
+                ? batchedVal.get()
+                : transaction.getRelation(transaction, obj, relationName,
+                    computedFilters, computedSorting, computedPagination, requestScope);
+
+        if (keyset.isPresent() && val instanceof Iterable) {
+            val = keyset.get().getPage((Iterable<Object>) val);
+        }
 
         if (val == null) {
             return Collections.emptySet();
@@ -1425,10 +1754,27 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
     protected void setValue(String fieldName, Object value) {
         Class<?> targetClass = obj.getClass();
         final Object original = getValueUnchecked(fieldName);
+
+        // Accessors are bound to the field names, not to their aliases
+        String realName = dictionary.getNameFromAlias(obj, fieldName);
+        String accessorName = (realName != null) ? realName : fieldName;
+        FieldAccessor fieldAccessor = dictionary.getFieldAccessor(targetClass, accessorName);
+        if (fieldAccessor != null && fieldAccessor.isWritable()) {
+            Object coerced = coerce(value, accessorName, fieldAccessor.getValueType());
+            if (fieldAccessor.canSetValue(coerced)) {
+                try {
+                    fieldAccessor.setValue(obj, coerced);
+                } catch (InvocationTargetException e) {
+                    throw handleInvocationTargetException(e);
+                }
+                triggerUpdate(accessorName, original, value);
+                return;
+            }
+        }
+
         try {
             Class<?> fieldClass = dictionary.getType(targetClass, fieldName);
-            String realName = dictionary.getNameFromAlias(obj, fieldName);
-            fieldName = (realName != null) ? realName : fieldName;
+            fieldName = accessorName;
             String setMethod = "set" + StringUtils.capitalize(fieldName);
             Method method = EntityDictionary.findMethod(targetClass, setMethod, fieldClass);
             method.invoke(obj, coerce(value, fieldName, fieldClass));
@@ -1531,6 +1877,21 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
         return true;
     }
 
+    /**
+     * Read a field through an accessor already resolved with {@link EntityDictionary#getFieldAccessor}.
+     * @param target the object to get
+     * @param fieldAccessor the accessor of the field
+     * @param requestScope the request scope
+     * @return the value
+     */
+    public static Object getValue(Object target, FieldAccessor fieldAccessor, RequestScope requestScope) {
+        try {
+            return fieldAccessor.getValue(target, requestScope);
+        } catch (InvocationTargetException e) {
+            throw handleInvocationTargetException(e);
+        }
+    }
+
     /**
      * Invoke the get[fieldName] method on the target object OR get the field with the corresponding name.
      * @param target the object to get
@@ -1540,6 +1901,11 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
      */
     public static Object getValue(Object target, String fieldName, RequestScope requestScope) {
         EntityDictionary dictionary = requestScope.getDictionary();
+        FieldAccessor fieldAccessor = dictionary.getFieldAccessor(target.getClass(), fieldName);
+        if (fieldAccessor != null) {
+            return getValue(target, fieldAccessor, requestScope);
+        }
+
         AccessibleObject accessor = dictionary.getAccessibleObject(target, fieldName);
         try {
             if (accessor instanceof Method) {
@@ -1667,19 +2033,8 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
                                                     Set<PersistentResource> resources) {
         Set<PersistentResource> filteredSet = new LinkedHashSet<>();
         for (PersistentResource resource : resources) {
-            try {
-                // NOTE: This is for avoiding filtering on _newly created_ objects within this transaction.
-                // Namely-- in a JSONPATCH request or GraphQL request-- we need to read all newly created
-                // resources /regardless/ of whether or not we actually have permission to do so; this is to
-                // retrieve the object id to return to the caller. If no fields on the object are readable by the caller
-                // then they will be filtered out and only the id is returned. Similarly, all future requests to this
-                // object will behave as expected.
-                if (!resource.getRequestScope().getNewResources().contains(resource)) {
-                    resource.checkFieldAwarePermissions(permission);
-                }
+            if (isPermitted(permission, resource)) {
                 filteredSet.add(resource);
-            } catch (ForbiddenAccessException e) {
-                // Do nothing. Filter from set.
             }
         }
         // keep original SingleElementSet
@@ -1689,6 +2044,24 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
         return filteredSet;
     }
 
+    private static boolean isPermitted(Class<? extends Annotation> permission, PersistentResource resource) {
+        try {
+            // NOTE: This is for avoiding filtering on _newly created_ objects within this transaction.
+            // Namely-- in a JSONPATCH request or GraphQL request-- we need to read all newly created
+            // resources /regardless/ of whether or not we actually have permission to do so; this is to
+            // retrieve the object id to return to the caller. If no fields on the object are readable by the caller
+            // then they will be filtered out and only the id is returned. Similarly, all future requests to this
+            // object will behave as expected.
+            if (!resource.getRequestScope().getNewResources().contains(resource)) {
+                resource.checkFieldAwarePermissions(permission);
+            }
+            return true;
+        } catch (ForbiddenAccessException e) {
+            // Do nothing. Filter from set.
+            return false;
+        }
+    }
+
     /**
      * Filter a set of fields.
      *
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Loads relationships for groups of sibling objects rather than for one object at a time.
+ * <p>
+ * Objects are registered in groups (for example the primary data of a collection request).  The first time a
+ * relationship of a member of a group is read, the relationship is loaded for every member of the group with
+ * {@link DataStoreTransaction#getRelations}.  The objects which are loaded form a new group so the next level of
+ * an include path is also loaded with a single call.
+ * <p>
+ * The loader itself is not thread safe.  When the transaction supports concurrent reads, {@link #prefetch} runs
+ * the data store calls for several relationships on an executor and records the results on the calling thread.
+ */
+public class RelationshipBatchLoader {
+    private final RequestScope requestScope;
+    private final Map<Object, Group> groups = new IdentityHashMap<>();
+
+    /**
+     * Objects of the same type which are loaded together.
+     */
+    private static class Group {
+        private final List<Object> members = new ArrayList<>();
+        private final Map<Pair<String, Optional<FilterExpression>>, Map<Object, Object>> relations = new HashMap<>();
+    }
+
+    public RelationshipBatchLoader(RequestScope requestScope) {
+        this.requestScope = requestScope;
+    }
+
+    /**
+     * Register objects whose relationships should be loaded together.  Objects are grouped by type and objects
+     * which already belong to a group are ignored.
+     *
+     * @param objects the objects
+     */
+    public void register(Iterable<?> objects) {
+        EntityDictionary dictionary = requestScope.getDictionary();
+        Map<Class<?>, Group> byType = new HashMap<>();
+        for (Object object : objects) {
+            if (object == null || groups.containsKey(object)) {
+                continue;
+            }
+            Group group = byType.computeIfAbsent(dictionary.lookupEntityClass(object.getClass()), cls -> new Group());
+            group.members.add(object);
+            groups.put(object, group);
+        }
+    }
+
+    /**
+     * Get a relationship of an object by loading the relationship for the object's whole group.
+     *
+     * @param object the object which owns the relationship
+     * @param relationName the relationship
+     * @param filterExpression the filter to apply to the relationship
+     * @return the relationship value or empty if it must be loaded with {@link DataStoreTransaction#getRelation}
+     */
+    public Optional<Object> getRelation(Object object, String relationName,
+                                        Optional<FilterExpression> filterExpression) {
+        Group group = groups.get(object);
+        if (group == null || group.members.size() < 2) {
+            return Optional.empty();
+        }
+
+        Pair<String, Optional<FilterExpression>> key = Pair.of(relationName, filterExpression);
+        Map<Object, Object> values = group.relations.get(key);
+        if (values == null) {
+            values = load(group, relationName, filterExpression);
+            group.relations.put(key, values);
+        }
+
+        return Optional.ofNullable(values.get(object));
+    }
+
+    /**
+     * Load several relationships of the groups of the given resources in parallel.  Does nothing unless an executor
+     * is given and the transaction supports concurrent reads.  Relationships which are not prefetched are loaded
+     * when they are first read.
+     *
+     * @param resources the resources whose relationships will be read
+     * @param relationNames the relationships which will be read
+     * @param executor runs the data store calls or null to load relationships when they are read
+     */
+    public void prefetch(Collection<PersistentResource> resources, Collection<String> relationNames,
+                         Executor executor) {
+        DataStoreTransaction transaction = requestScope.getTransaction();
+        if (executor == null || relationNames.size() < 2 || !transaction.supportsConcurrentReads()) {
+            return;
+        }
+
+        Map<Group, PersistentResource> representatives = new IdentityHashMap<>();
+        resources.forEach(resource -> {
+            Group group = groups.get(resource.getObject());
+            if (group != null && group.members.size() > 1) {
+                representatives.putIfAbsent(group, resource);
+            }
+        });
+
+        Map<Pair<Group, Pair<String, Optional<FilterExpression>>>, CompletableFuture<Map<Object, Object>>> loads =
+                new LinkedHashMap<>();
+        representatives.forEach((group, resource) -> {
+            for (String relationName : relationNames) {
+                Class<?> relationClass = requestScope.getDictionary()
+                        .getParameterizedType(resource.getObject(), relationName);
+                if (relationClass == null) {
+                    continue;
+                }
+
+                Optional<FilterExpression> filterExpression = resource.getRelationFilter(relationClass,
+                        requestScope.getExpressionForRelation(resource, relationName));
+                Pair<String, Optional<FilterExpression>> key = Pair.of(relationName, filterExpression);
+                if (!group.relations.containsKey(key)) {
+                    loads.put(Pair.of(group, key), CompletableFuture.supplyAsync(
+                            () -> fetch(group, relationName, filterExpression), executor));
+                }
+            }
+        });
+
+        loads.forEach((key, load) -> {
+            Map<Object, Object> values;
+            try {
+                values = load.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+            registerLoaded(values);
+            key.getLeft().relations.put(key.getRight(), values);
+        });
+    }
+
+    private Map<Object, Object> load(Group group, String relationName, Optional<FilterExpression> filterExpression) {
+        Map<Object, Object> values = fetch(group, relationName, filterExpression);
+        registerLoaded(values);
+        return values;
+    }
+
+    private Map<Object, Object> fetch(Group group, String relationName, Optional<FilterExpression> filterExpression) {
+        DataStoreTransaction transaction = requestScope.getTransaction();
+        return transaction.getRelations(transaction, group.members, relationName, filterExpression, requestScope);
+    }
+
+    private void registerLoaded(Map<Object, Object> values) {
+        List<Object> loaded = new ArrayList<>();
+        values.values().forEach(value -> {
+            if (value instanceof Iterable) {
+                ((Iterable<?>) value).forEach(loaded::add);
+            } else if (value != null) {
+                loaded.add(value);
+            }
+        });
+        register(loaded);
+    }
+}
@@ -11,13 +11,10 @@ import com.yahoo.elide.annotation.OnCreatePreCommit;
 import com.yahoo.elide.annotation.OnCreatePreSecurity;
 import com.yahoo.elide.annotation.OnDeletePostCommit;
 import com.yahoo.elide.annotation.OnDeletePreCommit;
-import com.yahoo.elide.annotation.OnDeletePreSecurity;
 import com.yahoo.elide.annotation.OnReadPostCommit;
 import com.yahoo.elide.annotation.OnReadPreCommit;
-import com.yahoo.elide.annotation.OnReadPreSecurity;
 import com.yahoo.elide.annotation.OnUpdatePostCommit;
 import com.yahoo.elide.annotation.OnUpdatePreCommit;
-import com.yahoo.elide.annotation.OnUpdatePreSecurity;
 import com.yahoo.elide.audit.AuditLogger;
 import com.yahoo.elide.core.exceptions.InvalidAttributeException;
 import com.yahoo.elide.core.exceptions.InvalidOperationException;
@@ -29,16 +26,16 @@ import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.core.sort.Sorting;
 import com.yahoo.elide.jsonapi.JsonApiMapper;
+import com.yahoo.elide.jsonapi.JsonApiStreamWriter;
 import com.yahoo.elide.jsonapi.models.JsonApiDocument;
+import com.yahoo.elide.metrics.ElideMetrics;
 import com.yahoo.elide.security.ChangeSpec;
 import com.yahoo.elide.security.PermissionExecutor;
 import com.yahoo.elide.security.User;
 import com.yahoo.elide.security.executors.ActivePermissionExecutor;
 
-import io.reactivex.Observable;
-import io.reactivex.subjects.PublishSubject;
-import io.reactivex.subjects.ReplaySubject;
 import lombok.Getter;
+import lombok.Setter;
 
 import java.util.Collections;
 import java.util.HashMap;
@@ -76,17 +73,19 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
     @Getter private final ElideSettings elideSettings;
     @Getter private final boolean useFilterExpressions;
     @Getter private final int updateStatusCode;
+    @Getter private final RelationshipBatchLoader relationshipBatchLoader;
 
     @Getter private final MultipleFilterDialect filterDialect;
     private final Map<String, FilterExpression> expressionsByType;
 
-    private PublishSubject<CRUDEvent> lifecycleEvents;
-    private Observable<CRUDEvent> distinctLifecycleEvents;
-    private ReplaySubject<CRUDEvent> queuedLifecycleEvents;
+    private final LifecycleEventLog lifecycleEvents;
 
     /* Used to filter across heterogeneous types during the first load */
     private FilterExpression globalFilterExpression;
 
+    /* Set when the response body should be streamed rather than returned as a document */
+    @Getter @Setter private JsonApiStreamWriter streamWriter;
+
     /**
      * Create a new RequestScope with specified update status code.
      *
@@ -103,16 +102,12 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
                         User user,
                         MultivaluedMap<String, String> queryParams,
                         ElideSettings elideSettings) {
-        this.lifecycleEvents = PublishSubject.create();
-        this.distinctLifecycleEvents = lifecycleEvents.distinct();
-        this.queuedLifecycleEvents = ReplaySubject.create();
-        this.distinctLifecycleEvents.subscribe(queuedLifecycleEvents);
-
         this.path = path;
         this.jsonApiDocument = jsonApiDocument;
         this.transaction = transaction;
         this.user = user;
         this.dictionary = elideSettings.getDictionary();
+        this.lifecycleEvents = new LifecycleEventLog(dictionary);
         this.mapper = elideSettings.getMapper();
         this.auditLogger = elideSettings.getAuditLogger();
         this.filterDialect = new MultipleFilterDialect(elideSettings.getJoinFilterDialects(),
@@ -127,6 +122,7 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
         this.newPersistentResources = new LinkedHashSet<>();
         this.dirtyResources = new LinkedHashSet<>();
         this.deletedResources = new LinkedHashSet<>();
+        this.relationshipBatchLoader = new RelationshipBatchLoader(this);
 
         Function<RequestScope, PermissionExecutor> permissionExecutorGenerator = elideSettings.getPermissionExecutor();
         this.permissionExecutor = (permissionExecutorGenerator == null)
@@ -137,8 +133,6 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
                 ? Optional.empty()
                 : Optional.of(queryParams);
 
-        registerPreSecurityObservers();
-
         if (this.queryParams.isPresent()) {
 
             /* Extract any query param that starts with 'filter' */
@@ -146,31 +140,34 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
 
             String errorMessage = "";
             if (! filterParams.isEmpty()) {
+                try (ElideMetrics.Timer timer = elideSettings.getMetrics()
+                        .start(ElideMetrics.Phase.FILTER_PARSE, null, "filter")) {
+
+                    /* First check to see if there is a global, cross-type filter */
+                    try {
+                        globalFilterExpression = filterDialect.parseGlobalExpression(path, filterParams);
+                    } catch (ParseException e) {
+                        errorMessage = e.getMessage();
+                    }
 
-                /* First check to see if there is a global, cross-type filter */
-                try {
-                    globalFilterExpression = filterDialect.parseGlobalExpression(path, filterParams);
-                } catch (ParseException e) {
-                    errorMessage = e.getMessage();
-                }
+                    /* Next check to see if there is are type specific filters */
+                    try {
+                        expressionsByType.putAll(filterDialect.parseTypedExpression(path, filterParams));
+                    } catch (ParseException e) {
 
-                /* Next check to see if there is are type specific filters */
-                try {
-                    expressionsByType.putAll(filterDialect.parseTypedExpression(path, filterParams));
-                } catch (ParseException e) {
+                        /* If neither dialect parsed, report the last error found */
+                        if (globalFilterExpression == null) {
 
-                    /* If neither dialect parsed, report the last error found */
-                    if (globalFilterExpression == null) {
+                            if (errorMessage.isEmpty()) {
+                                errorMessage = e.getMessage();
+                            } else if (! errorMessage.equals(e.getMessage())) {
 
-                        if (errorMessage.isEmpty()) {
-                            errorMessage = e.getMessage();
-                        } else if (! errorMessage.equals(e.getMessage())) {
+                                /* Combine the two different messages together */
+                                errorMessage = errorMessage + "\n" + e.getMessage();
+                            }
 
-                            /* Combine the two different messages together */
-                            errorMessage = errorMessage + "\n" + e.getMessage();
+                            throw new InvalidPredicateException(errorMessage);
                         }
-
-                        throw new InvalidPredicateException(errorMessage);
                     }
                 }
             }
@@ -209,14 +206,13 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
         this.permissionExecutor = outerRequestScope.getPermissionExecutor();
         this.dirtyResources = outerRequestScope.dirtyResources;
         this.deletedResources = outerRequestScope.deletedResources;
+        this.relationshipBatchLoader = outerRequestScope.relationshipBatchLoader;
         this.filterDialect = outerRequestScope.filterDialect;
         this.expressionsByType = outerRequestScope.expressionsByType;
         this.elideSettings = outerRequestScope.elideSettings;
         this.useFilterExpressions = outerRequestScope.useFilterExpressions;
         this.updateStatusCode = outerRequestScope.updateStatusCode;
         this.lifecycleEvents = outerRequestScope.lifecycleEvents;
-        this.distinctLifecycleEvents = outerRequestScope.distinctLifecycleEvents;
-        this.queuedLifecycleEvents = outerRequestScope.queuedLifecycleEvents;
     }
 
     @Override
@@ -264,6 +260,19 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
         return Optional.ofNullable(expressionsByType.get(type));
     }
 
+    /**
+     * Get the filter expression requested for the first load, without the read permission filter.
+     * @param loadClass Entity class
+     * @return The global filter expression, or else the filter expression of the type
+     */
+    public Optional<FilterExpression> getRequestFilterExpression(Class<?> loadClass) {
+        if (globalFilterExpression == null) {
+            String typeName = dictionary.getJsonAliasFor(loadClass);
+            return getFilterExpressionByType(typeName);
+        }
+        return Optional.of(globalFilterExpression);
+    }
+
     /**
      * Get the global/cross-type filter expression.
      * @param loadClass Entity class
@@ -272,13 +281,7 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
     public Optional<FilterExpression> getLoadFilterExpression(Class<?> loadClass) {
         Optional<FilterExpression> permissionFilter;
         permissionFilter = getPermissionExecutor().getReadPermissionFilter(loadClass);
-        Optional<FilterExpression> globalFilterExpressionOptional = null;
-        if (globalFilterExpression == null) {
-            String typeName = dictionary.getJsonAliasFor(loadClass);
-            globalFilterExpressionOptional =  getFilterExpressionByType(typeName);
-        } else {
-            globalFilterExpressionOptional = Optional.of(globalFilterExpression);
-        }
+        Optional<FilterExpression> globalFilterExpressionOptional = getRequestFilterExpression(loadClass);
 
         if (globalFilterExpressionOptional.isPresent() && permissionFilter.isPresent()) {
             return Optional.of(new AndFilterExpression(globalFilterExpressionOptional.get(),
@@ -349,60 +352,45 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
      * Run queued on triggers (i.e. @OnCreatePreSecurity, @OnUpdatePreSecurity, etc.).
      */
     public void runQueuedPreSecurityTriggers() {
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isCreateEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnCreatePreSecurity.class, false))
-                .throwOnError();
+        lifecycleEvents.replay(CRUDEvent.CRUDAction.CREATE, OnCreatePreSecurity.class);
     }
 
     /**
      * Run queued pre triggers (i.e. @OnCreatePreCommit, @OnUpdatePreCommit, etc.).
      */
     public void runQueuedPreCommitTriggers() {
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isCreateEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnCreatePreCommit.class, false))
-                .throwOnError();
-
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isUpdateEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnUpdatePreCommit.class, false))
-                .throwOnError();
-
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isDeleteEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnDeletePreCommit.class, false))
-                .throwOnError();
-
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isReadEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnReadPreCommit.class, false))
-                .throwOnError();
+        lifecycleEvents.replay(CRUDEvent.CRUDAction.CREATE, OnCreatePreCommit.class);
+
+        lifecycleEvents.replay(CRUDEvent.CRUDAction.UPDATE, OnUpdatePreCommit.class);
+
+        lifecycleEvents.replay(CRUDEvent.CRUDAction.DELETE, OnDeletePreCommit.class);
+
+        lifecycleEvents.replay(CRUDEvent.CRUDAction.READ, OnReadPreCommit.class);
     }
 
     /**
      * Run queued post triggers (i.e. @OnCreatePostCommit, @OnUpdatePostCommit, etc.).
      */
     public void runQueuedPostCommitTriggers() {
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isCreateEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnCreatePostCommit.class, false))
-                .throwOnError();
-
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isUpdateEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnUpdatePostCommit.class, false))
-                .throwOnError();
-
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isDeleteEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnDeletePostCommit.class, false))
-                .throwOnError();
-
-        this.queuedLifecycleEvents
-                .filter(CRUDEvent::isReadEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnReadPostCommit.class, false))
-                .throwOnError();
+        lifecycleEvents.replay(CRUDEvent.CRUDAction.CREATE, OnCreatePostCommit.class);
+
+        lifecycleEvents.replay(CRUDEvent.CRUDAction.UPDATE, OnUpdatePostCommit.class);
+
+        lifecycleEvents.replay(CRUDEvent.CRUDAction.DELETE, OnDeletePostCommit.class);
+
+        lifecycleEvents.replay(CRUDEvent.CRUDAction.READ, OnReadPostCommit.class);
+    }
+
+    /**
+     * Whether or not a lifecycle hook is bound for an action on an entity (or field).
+     *
+     * @param entityClass the entity class
+     * @param fieldName the field or an empty string for the entity
+     * @param crudAction CRUD action
+     * @return true if a hook is bound
+     */
+    protected boolean hasLifecycleHooks(Class<?> entityClass, String fieldName, CRUDEvent.CRUDAction crudAction) {
+        return lifecycleEvents.hasHooks(entityClass, fieldName, crudAction);
     }
 
     /**
@@ -412,9 +400,7 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
      * @param crudAction CRUD action
      */
     protected void publishLifecycleEvent(PersistentResource<?> resource, CRUDEvent.CRUDAction crudAction) {
-        lifecycleEvents.onNext(
-                    new CRUDEvent(crudAction, resource, PersistentResource.CLASS_NO_FIELD, Optional.empty())
-        );
+        lifecycleEvents.publish(resource, PersistentResource.CLASS_NO_FIELD, crudAction, Optional.empty());
     }
 
     /**
@@ -429,9 +415,7 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
                                          String fieldName,
                                          CRUDEvent.CRUDAction crudAction,
                                          Optional<ChangeSpec> changeSpec) {
-        lifecycleEvents.onNext(
-                    new CRUDEvent(crudAction, resource, fieldName, changeSpec)
-        );
+        lifecycleEvents.publish(resource, fieldName, crudAction, changeSpec);
     }
 
     public void saveOrCreateObjects() {
@@ -474,19 +458,4 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
     private String getInheritanceKey(String subClass, String superClass) {
         return subClass + "!" + superClass;
     }
-
-    private void registerPreSecurityObservers() {
-
-        this.distinctLifecycleEvents
-                .filter(CRUDEvent::isReadEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnReadPreSecurity.class, true));
-
-        this.distinctLifecycleEvents
-                .filter(CRUDEvent::isUpdateEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnUpdatePreSecurity.class, true));
-
-        this.distinctLifecycleEvents
-                .filter(CRUDEvent::isDeleteEvent)
-                .subscribeWith(new LifecycleHookInvoker(dictionary, OnDeletePreSecurity.class, true));
-    }
 }
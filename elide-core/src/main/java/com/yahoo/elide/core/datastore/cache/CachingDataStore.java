@@ -0,0 +1,51 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.cache;
+
+import com.yahoo.elide.core.DataStore;
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+
+import lombok.Getter;
+
+/**
+ * Data Store that wraps another store and caches the ids returned by root collection reads.
+ * <p>
+ * Read-only transactions look up the ids of a query in the {@link QueryResultCache} and load the entities by id.
+ * Every transaction records the entity classes it writes and makes their cached results stale when it commits.
+ * The cache only sees writes made through this store in this process.  The expiry of the cache bounds how long
+ * writes made by other processes go unnoticed.
+ */
+public class CachingDataStore implements DataStore {
+    private final DataStore wrappedStore;
+
+    @Getter
+    private final QueryResultCache cache;
+
+    public CachingDataStore(DataStore wrappedStore) {
+        this(wrappedStore, new QueryResultCache());
+    }
+
+    public CachingDataStore(DataStore wrappedStore, QueryResultCache cache) {
+        this.wrappedStore = wrappedStore;
+        this.cache = cache;
+    }
+
+    @Override
+    public void populateEntityDictionary(EntityDictionary dictionary) {
+        wrappedStore.populateEntityDictionary(dictionary);
+    }
+
+    @Override
+    public DataStoreTransaction beginTransaction() {
+        return new CachingTransaction(wrappedStore.beginTransaction(), cache, false);
+    }
+
+    @Override
+    public DataStoreTransaction beginReadTransaction() {
+        return new CachingTransaction(wrappedStore.beginReadTransaction(), cache, true);
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.cache;
+
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.wrapped.TransactionWrapper;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.InPredicate;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+import com.yahoo.elide.utils.coerce.CoerceUtil;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Transaction of the {@link CachingDataStore}.
+ * <p>
+ * Read-only transactions serve root collection reads from the cache.  All transactions record the entity classes
+ * they write and make the cached queries of those classes stale after they commit.
+ */
+public class CachingTransaction extends TransactionWrapper {
+    private final QueryResultCache cache;
+    private final boolean readOnly;
+    private final Set<Class<?>> written = new HashSet<>();
+
+    public CachingTransaction(DataStoreTransaction tx, QueryResultCache cache, boolean readOnly) {
+        super(tx);
+        this.cache = cache;
+        this.readOnly = readOnly;
+    }
+
+    @Override
+    public Iterable<Object> loadObjects(Class<?> entityClass,
+                                        Optional<FilterExpression> filterExpression,
+                                        Optional<Sorting> sorting,
+                                        Optional<Pagination> pagination,
+                                        RequestScope requestScope) {
+        if (!readOnly) {
+            return tx.loadObjects(entityClass, filterExpression, sorting, pagination, requestScope);
+        }
+
+        EntityDictionary dictionary = requestScope.getDictionary();
+        QueryResultCache.Key key = getKey(entityClass, filterExpression, sorting, pagination, dictionary);
+
+        Optional<QueryResultCache.Entry> cached = cache.get(key);
+        if (cached.isPresent()) {
+            return loadCached(entityClass, cached.get(), pagination, requestScope);
+        }
+
+        Map<Class<?>, Long> generations =
+                cache.getGenerations(getReadClasses(entityClass, filterExpression, sorting, dictionary));
+        Iterable<Object> loaded = tx.loadObjects(entityClass, filterExpression, sorting, pagination, requestScope);
+        if (loaded == null) {
+            return null;
+        }
+        return () -> new RecordingIterator(key, loaded.iterator(), generations, pagination, dictionary);
+    }
+
+    /**
+     * Load the entities of a cached query by id, in the order the query returned them.
+     */
+    private Iterable<Object> loadCached(Class<?> entityClass, QueryResultCache.Entry entry,
+                                        Optional<Pagination> pagination, RequestScope requestScope) {
+        pagination.filter(Pagination::isGenerateTotals)
+                .filter(p -> entry.getPageTotals() != null)
+                .ifPresent(p -> p.setPageTotals(entry.getPageTotals()));
+
+        List<String> ids = entry.getIds();
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        EntityDictionary dictionary = requestScope.getDictionary();
+        Class<?> idType = dictionary.getIdType(entityClass);
+        List<Object> values = ids.stream()
+                .map(id -> CoerceUtil.coerce(id, idType))
+                .collect(Collectors.toList());
+        FilterExpression idFilter =
+                new InPredicate(new Path(entityClass, dictionary, dictionary.getIdFieldName(entityClass)), values);
+
+        Map<String, Object> loaded = new HashMap<>();
+        Iterable<Object> objects =
+                tx.loadObjects(entityClass, Optional.of(idFilter), Optional.empty(), Optional.empty(), requestScope);
+        if (objects != null) {
+            objects.forEach(object -> loaded.put(dictionary.getId(object), object));
+        }
+
+        return ids.stream()
+                .map(loaded::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Passes the loaded entities through, collecting their ids, and caches the ids when the iteration completes.
+     */
+    private class RecordingIterator implements Iterator<Object> {
+        private final QueryResultCache.Key key;
+        private final Iterator<Object> loaded;
+        private final Map<Class<?>, Long> generations;
+        private final Optional<Pagination> pagination;
+        private final EntityDictionary dictionary;
+        private final List<String> ids = new ArrayList<>();
+        private boolean done;
+
+        RecordingIterator(QueryResultCache.Key key, Iterator<Object> loaded, Map<Class<?>, Long> generations,
+                          Optional<Pagination> pagination, EntityDictionary dictionary) {
+            this.key = key;
+            this.loaded = loaded;
+            this.generations = generations;
+            this.pagination = pagination;
+            this.dictionary = dictionary;
+        }
+
+        @Override
+        public boolean hasNext() {
+            boolean hasNext = loaded.hasNext();
+            if (!hasNext && !done) {
+                done = true;
+                Long pageTotals = pagination
+                        .filter(Pagination::isGenerateTotals)
+                        .map(Pagination::getPageTotals)
+                        .orElse(null);
+                cache.put(key, new QueryResultCache.Entry(ids, pageTotals, generations));
+            }
+            return hasNext;
+        }
+
+        @Override
+        public Object next() {
+            Object next = loaded.next();
+            if (!done) {
+                if (ids.size() < cache.getMaximumIds()) {
+                    ids.add(dictionary.getId(next));
+                } else {
+                    // Too many results to cache
+                    done = true;
+                }
+            }
+            return next;
+        }
+    }
+
+    @Override
+    public void save(Object entity, RequestScope scope) {
+        written.add(entity.getClass());
+        tx.save(entity, scope);
+    }
+
+    @Override
+    public void delete(Object entity, RequestScope scope) {
+        written.add(entity.getClass());
+        tx.delete(entity, scope);
+    }
+
+    @Override
+    public void createObject(Object entity, RequestScope scope) {
+        written.add(entity.getClass());
+        tx.createObject(entity, scope);
+    }
+
+    @Override
+    public long bulkDelete(Class<?> entityClass, Optional<FilterExpression> filterExpression, RequestScope scope) {
+        written.add(entityClass);
+        return tx.bulkDelete(entityClass, filterExpression, scope);
+    }
+
+    @Override
+    public long bulkUpdate(Class<?> entityClass, Map<String, Object> attributes,
+                           Optional<FilterExpression> filterExpression, RequestScope scope) {
+        written.add(entityClass);
+        return tx.bulkUpdate(entityClass, attributes, filterExpression, scope);
+    }
+
+    @Override
+    public void updateToManyRelation(DataStoreTransaction relationTx, Object entity, String relationName,
+                                     Set<Object> newRelationships, Set<Object> deletedRelationships,
+                                     RequestScope scope) {
+        written.add(entity.getClass());
+        newRelationships.forEach(related -> written.add(related.getClass()));
+        deletedRelationships.forEach(related -> written.add(related.getClass()));
+        tx.updateToManyRelation(relationTx, entity, relationName, newRelationships, deletedRelationships, scope);
+    }
+
+    @Override
+    public void updateToOneRelation(DataStoreTransaction relationTx, Object entity,
+                                    String relationName, Object relationshipValue, RequestScope scope) {
+        written.add(entity.getClass());
+        if (relationshipValue != null) {
+            written.add(relationshipValue.getClass());
+        }
+        tx.updateToOneRelation(relationTx, entity, relationName, relationshipValue, scope);
+    }
+
+    @Override
+    public void setAttribute(Object entity, String attributeName, Object attributeValue, RequestScope scope) {
+        written.add(entity.getClass());
+        tx.setAttribute(entity, attributeName, attributeValue, scope);
+    }
+
+    @Override
+    public void commit(RequestScope scope) {
+        tx.commit(scope);
+        written.forEach(cache::invalidate);
+        written.clear();
+    }
+
+    /**
+     * Build the cache key of a query.  The page totals and cursors of the pagination are results of the query, so
+     * only the requested page is part of the key.
+     */
+    private static QueryResultCache.Key getKey(Class<?> entityClass, Optional<FilterExpression> filterExpression,
+                                               Optional<Sorting> sorting, Optional<Pagination> pagination,
+                                               EntityDictionary dictionary) {
+        // The order of the sort rules matters, so compare them as a list
+        List<Map.Entry<Path, Sorting.SortOrder>> sortRules = sorting
+                .map(sort -> new ArrayList<>(sort.getValidSortingRules(entityClass, dictionary).entrySet()))
+                .orElse(null);
+        return new QueryResultCache.Key(
+                entityClass,
+                filterExpression.orElse(null),
+                sortRules,
+                sorting.map(Sorting::isNullsGreatest).orElse(false),
+                pagination.map(Pagination::getOffset).orElse(null),
+                pagination.map(Pagination::getLimit).orElse(null),
+                pagination.map(Pagination::isGenerateTotals).orElse(false),
+                pagination.map(Pagination::isLookahead).orElse(false),
+                pagination.map(Pagination::getAfter).orElse(null),
+                pagination.map(Pagination::getBefore).orElse(null));
+    }
+
+    /**
+     * Get the entity classes whose writes can change the result of a query.
+     */
+    private static Collection<Class<?>> getReadClasses(Class<?> entityClass,
+                                                       Optional<FilterExpression> filterExpression,
+                                                       Optional<Sorting> sorting, EntityDictionary dictionary) {
+        Set<Class<?>> classes = new HashSet<>();
+        classes.add(entityClass);
+
+        List<Path> paths = new ArrayList<>();
+        filterExpression.ifPresent(filter -> filter.accept(new PredicateExtractionVisitor()).stream()
+                .map(FilterPredicate::getPath)
+                .forEach(paths::add));
+        sorting.ifPresent(sort -> paths.addAll(sort.getValidSortingRules(entityClass, dictionary).keySet()));
+
+        paths.forEach(path -> path.getPathElements().forEach(element -> classes.add(element.getType())));
+        return classes;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.cache;
+
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.sort.Sorting;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of the ids returned by root collection queries.
+ * <p>
+ * Every entity class has a generation which is incremented when a transaction which wrote entities of the class
+ * commits.  An entry records the generations of the classes its query read when the query ran, and is stale as soon
+ * as one of them changes.  Entries also expire a fixed time after they are written, which bounds how long writes
+ * made outside of Elide stay invisible.
+ */
+public class QueryResultCache {
+    public static final long DEFAULT_MAXIMUM_SIZE = 1000;
+    public static final long DEFAULT_EXPIRE_AFTER_WRITE_SECONDS = 60;
+    public static final int DEFAULT_MAXIMUM_IDS = 1000;
+
+    /**
+     * A query.  Filter expressions and paths compare by value, so queries only share an entry when they are equal.
+     * The page totals and cursors returned by a query are not part of it, only the requested page is.
+     */
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key {
+        private final Class<?> entityClass;
+        private final FilterExpression filterExpression;
+        private final List<Map.Entry<Path, Sorting.SortOrder>> sortRules;
+        private final boolean nullsGreatest;
+        private final Integer offset;
+        private final Integer limit;
+        private final boolean generateTotals;
+        private final boolean lookahead;
+        private final String after;
+        private final String before;
+    }
+
+    /**
+     * The cached result of a query.
+     */
+    @AllArgsConstructor
+    public static class Entry {
+        @Getter private final List<String> ids;
+        @Getter private final Long pageTotals;
+        private final Map<Class<?>, Long> generations;
+    }
+
+    private final Cache<Key, Entry> cache;
+    private final Map<Class<?>, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong stale = new AtomicLong();
+
+    @Getter
+    private final int maximumIds;
+
+    public QueryResultCache() {
+        this(DEFAULT_MAXIMUM_SIZE, DEFAULT_EXPIRE_AFTER_WRITE_SECONDS, TimeUnit.SECONDS, DEFAULT_MAXIMUM_IDS);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize the maximum number of cached queries
+     * @param expireAfterWrite how long a query result is kept
+     * @param unit the unit of expireAfterWrite
+     * @param maximumIds queries which return more ids than this are not cached
+     */
+    public QueryResultCache(long maximumSize, long expireAfterWrite, TimeUnit unit, int maximumIds) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite, unit)
+                .recordStats()
+                .build();
+        this.maximumIds = maximumIds;
+    }
+
+    /**
+     * Get the cached result of a query.  Stale results are removed.
+     *
+     * @param key the query
+     * @return the cached result, if it is still current
+     */
+    public Optional<Entry> get(Key key) {
+        Entry entry = cache.getIfPresent(key);
+        if (entry != null && !entry.generations.equals(getGenerations(entry.generations.keySet()))) {
+            cache.invalidate(key);
+            stale.incrementAndGet();
+            entry = null;
+        }
+
+        (entry == null ? misses : hits).incrementAndGet();
+        return Optional.ofNullable(entry);
+    }
+
+    public void put(Key key, Entry entry) {
+        cache.put(key, entry);
+    }
+
+    /**
+     * Get the current generations of entity classes.  Read them before running a query so that writes which commit
+     * while the query runs make its entry stale.
+     *
+     * @param entityClasses the entity classes the query reads
+     * @return the generation of each class
+     */
+    public Map<Class<?>, Long> getGenerations(Collection<Class<?>> entityClasses) {
+        Map<Class<?>, Long> current = new HashMap<>();
+        for (Class<?> entityClass : entityClasses) {
+            current.put(entityClass, generations.computeIfAbsent(entityClass, cls -> new AtomicLong()).get());
+        }
+        return current;
+    }
+
+    /**
+     * Make the cached results of every query that read an entity class stale.  Queries of the superclasses of the
+     * class may have returned its entities, so they are made stale as well.
+     *
+     * @param entityClass the written entity class
+     */
+    public void invalidate(Class<?> entityClass) {
+        for (Class<?> cls = entityClass; cls != null && cls != Object.class; cls = cls.getSuperclass()) {
+            generations.computeIfAbsent(cls, key -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    /**
+     * Remove all cached query results.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public double getHitRate() {
+        long requests = hits.get() + misses.get();
+        return requests == 0 ? 1.0 : (double) hits.get() / requests;
+    }
+
+    /**
+     * Get the number of entries removed because they expired, the cache was full, or a write made them stale.
+     *
+     * @return the number of evicted entries
+     */
+    public long getEvictionCount() {
+        return cache.stats().evictionCount() + stale.get();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+}
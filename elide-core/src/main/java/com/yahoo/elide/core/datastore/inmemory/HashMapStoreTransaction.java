@@ -37,7 +37,7 @@ import javax.persistence.Id;
 @Slf4j
 public class HashMapStoreTransaction implements DataStoreTransaction {
     private final Map<Class<?>, Map<String, Object>> dataStore;
-    private final List<Operation> operations;
+    protected final List<Operation> operations;
     private final EntityDictionary dictionary;
     private final Map<Class<?>, AtomicLong> typeIds;
 
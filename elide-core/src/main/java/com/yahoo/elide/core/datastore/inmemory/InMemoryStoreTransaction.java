@@ -20,17 +20,26 @@ import com.yahoo.elide.core.sort.Sorting;
 import com.yahoo.elide.security.User;
 import org.apache.commons.lang3.tuple.Pair;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -39,6 +48,10 @@ import java.util.stream.StreamSupport;
  */
 public class InMemoryStoreTransaction implements DataStoreTransaction {
 
+    private static final int INITIAL_HEAP_CAPACITY = 1024;
+    private static final Comparator<Comparable<Object>> NULLS_GREATEST =
+            Comparator.nullsLast(Comparator.naturalOrder());
+
     private DataStoreTransaction tx;
 
     /**
@@ -52,6 +65,17 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
                      RequestScope scope);
     }
 
+    /**
+     * A loaded record with its sort keys, read once before sorting.
+     */
+    @AllArgsConstructor
+    @Getter
+    private static class SortableRecord {
+        private final Object record;
+        private final Object[] keys;
+        private final long sequence;
+    }
+
 
     public InMemoryStoreTransaction(DataStoreTransaction tx) {
         this.tx = tx;
@@ -114,6 +138,55 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
         return fetchData(fetcher, relationClass, filterExpression, sorting, pagination, filterInMemory, scope);
     }
 
+    @Override
+    public Map<Object, Object> getRelations(DataStoreTransaction relationTx,
+                                            Collection<?> entities,
+                                            String relationName,
+                                            Optional<FilterExpression> filterExpression,
+                                            RequestScope scope) {
+
+        /*
+         * Relations can only be loaded in bulk when the data store evaluates the entire filter and there are no
+         * newly created entities which must be filtered in memory.
+         */
+        if (entities.isEmpty() || scope.getNewPersistentResources().size() > 0) {
+            return Collections.emptyMap();
+        }
+
+        if (filterExpression.isPresent()) {
+            Class<?> relationClass = scope.getDictionary()
+                    .getParameterizedType(entities.iterator().next(), relationName);
+            if (tx.supportsFiltering(relationClass, filterExpression.get()) != FeatureSupport.FULL) {
+                return Collections.emptyMap();
+            }
+        }
+
+        return tx.getRelations(relationTx, entities, relationName, filterExpression, scope);
+    }
+
+    @Override
+    public boolean supportsConcurrentReads() {
+        return tx.supportsConcurrentReads();
+    }
+
+    @Override
+    public boolean supportsBulkWrites(Class<?> entityClass, FilterExpression expression) {
+        // The wrapped store must evaluate the entire filter, nothing is loaded to filter in memory
+        return tx.supportsFiltering(entityClass, expression) == FeatureSupport.FULL
+                && tx.supportsBulkWrites(entityClass, expression);
+    }
+
+    @Override
+    public long bulkDelete(Class<?> entityClass, Optional<FilterExpression> filterExpression, RequestScope scope) {
+        return tx.bulkDelete(entityClass, filterExpression, scope);
+    }
+
+    @Override
+    public long bulkUpdate(Class<?> entityClass, Map<String, Object> attributes,
+                           Optional<FilterExpression> filterExpression, RequestScope scope) {
+        return tx.bulkUpdate(entityClass, attributes, filterExpression, scope);
+    }
+
     @Override
     public void updateToManyRelation(DataStoreTransaction relationTx,
                                      Object entity,
@@ -199,20 +272,6 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
         tx.close();
     }
 
-    private Iterable<Object> filterLoadedData(Iterable<Object> loadedRecords,
-                                                Optional<FilterExpression> filterExpression,
-                                                RequestScope scope) {
-        if (! filterExpression.isPresent()) {
-            return loadedRecords;
-        }
-
-        Predicate predicate = filterExpression.get().accept(new InMemoryFilterExecutor(scope));
-
-        return StreamSupport.stream(loadedRecords.spliterator(), false)
-                            .filter(predicate::test)
-                            .collect(Collectors.toList());
-    }
-
     private Object fetchData(DataFetcher fetcher,
                                Class<?> entityClass,
                                Optional<FilterExpression> filterExpression,
@@ -248,30 +307,33 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
 
         Iterable<Object> loadedRecords = (Iterable<Object>) result;
 
-        if (inMemoryFilter.isPresent()) {
-            loadedRecords = filterLoadedData(loadedRecords, filterExpression, scope);
-        }
-
+        Optional<Predicate> inMemoryPredicate = inMemoryFilter.isPresent()
+                ? Optional.of(filterExpression.get().accept(new InMemoryFilterExecutor(scope)))
+                : Optional.empty();
 
-        return sortAndPaginateLoadedData(
+        return filterSortAndPaginateLoadedData(
                     loadedRecords,
                     entityClass,
+                    inMemoryPredicate,
                     inMemorySort,
                     inMemoryPagination,
                     scope);
     }
 
 
-    private Iterable<Object> sortAndPaginateLoadedData(Iterable<Object> loadedRecords,
-                                                         Class<?> entityClass,
-                                                         Optional<Sorting> sorting,
-                                                         Optional<Pagination> pagination,
-                                                         RequestScope scope) {
-
-        //Try to skip the data copy if possible
-        if (! sorting.isPresent() && ! pagination.isPresent()) {
-            return loadedRecords;
-        }
+    /**
+     * Filters, sorts and paginates loaded records in a single pass.  Records are only copied when the result is
+     * sorted or paginated, and only the requested page is retained:
+     *  - without sorting, records are skipped and taken as they are read.
+     *  - with sorting, the sort keys of a record are read once and the page is selected with a heap holding at most
+     *    offset + limit records.
+     */
+    private Iterable<Object> filterSortAndPaginateLoadedData(Iterable<Object> loadedRecords,
+                                                             Class<?> entityClass,
+                                                             Optional<Predicate> predicate,
+                                                             Optional<Sorting> sorting,
+                                                             Optional<Pagination> pagination,
+                                                             RequestScope scope) {
 
         EntityDictionary dictionary = scope.getDictionary();
 
@@ -279,82 +341,145 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
                 .map((s) -> s.getValidSortingRules(entityClass, dictionary))
                 .orElse(new HashMap<>());
 
-        // No sorting required for this type & no pagination.
-        if (sortRules.isEmpty() && ! pagination.isPresent()) {
+        //Try to skip the data copy if possible
+        if (! predicate.isPresent() && sortRules.isEmpty() && ! pagination.isPresent()) {
             return loadedRecords;
         }
-        //We need an in memory copy to sort or paginate.
-        List<Object> results = StreamSupport.stream(loadedRecords.spliterator(), false).collect(Collectors.toList());
 
-        if (! sortRules.isEmpty()) {
-            results = sortInMemory(results, sortRules, scope);
+        Stream<Object> records = StreamSupport.stream(loadedRecords.spliterator(), false);
+        if (predicate.isPresent()) {
+            records = records.filter(predicate.get()::test);
+        }
+
+        if (sortRules.isEmpty() && ! pagination.isPresent()) {
+            return records.collect(Collectors.toList());
         }
 
-        if (pagination.isPresent()) {
-            results = paginateInMemory(results, pagination.get());
+        if (sortRules.isEmpty()) {
+            return paginateInMemory(records.iterator(), pagination.get());
         }
 
-        return results;
+        List<Path> sortPaths = new ArrayList<>(sortRules.keySet());
+        List<Sorting.SortOrder> sortOrders = new ArrayList<>(sortRules.values());
+        Comparator<SortableRecord> comparator = getComparator(sortOrders);
+
+        AtomicLong sequence = new AtomicLong();
+        Stream<SortableRecord> decorated = records
+                .map(record -> new SortableRecord(record, getSortKeys(record, sortPaths, scope),
+                        sequence.getAndIncrement()));
+
+        if (! pagination.isPresent()) {
+            return decorated
+                    .sorted(comparator)
+                    .map(SortableRecord::getRecord)
+                    .collect(Collectors.toList());
+        }
+
+        return topKInMemory(decorated.iterator(), comparator, pagination.get());
     }
 
-    private List<Object> paginateInMemory(List<Object> records, Pagination pagination) {
+    private List<Object> paginateInMemory(Iterator<Object> records, Pagination pagination) {
         int offset = pagination.getOffset();
         int limit = pagination.getLimit();
-        if (offset < 0 || offset >= records.size()) {
-            return Collections.emptyList();
+        boolean generateTotals = pagination.isGenerateTotals();
+
+        List<Object> page = new ArrayList<>();
+        long count = 0;
+        while (records.hasNext()) {
+            if (! generateTotals && offset >= 0 && count >= (long) offset + limit) {
+                break;
+            }
+            Object record = records.next();
+            if (offset >= 0 && count >= offset && count < (long) offset + limit) {
+                page.add(record);
+            }
+            count++;
+        }
+
+        if (generateTotals) {
+            pagination.setPageTotals(count);
         }
+        return page;
+    }
 
-        int endIdx = offset + limit;
-        if (endIdx > records.size()) {
-            endIdx = records.size();
+    private List<Object> topKInMemory(Iterator<SortableRecord> records,
+                                      Comparator<SortableRecord> comparator,
+                                      Pagination pagination) {
+        int offset = pagination.getOffset();
+        int limit = pagination.getLimit();
+        long size = (long) offset + limit;
+
+        // Max heap of the first offset + limit records seen so far
+        PriorityQueue<SortableRecord> heap = new PriorityQueue<>(
+                (int) Math.max(1, Math.min(size, INITIAL_HEAP_CAPACITY)), comparator.reversed());
+        long count = 0;
+        while (records.hasNext()) {
+            SortableRecord record = records.next();
+            count++;
+            if (offset < 0 || limit <= 0) {
+                continue;
+            }
+            if (heap.size() < size) {
+                heap.add(record);
+            } else if (comparator.compare(record, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(record);
+            }
         }
 
         if (pagination.isGenerateTotals()) {
-            pagination.setPageTotals(records.size());
+            pagination.setPageTotals(count);
         }
-        return records.subList(offset, endIdx);
-    }
 
-    private List<Object> sortInMemory(List<Object> records,
-                                        Map<Path, Sorting.SortOrder> sortRules,
-                                        RequestScope scope) {
-        //Build a comparator that handles multiple comparison rules.
-        Comparator<Object> noSort = (left, right) -> 0;
-
-        Comparator<Object> comp = sortRules.entrySet().stream()
-            .map(entry -> getComparator(entry.getKey(), entry.getValue(), scope))
-            .reduce(noSort, (comparator1, comparator2) -> (left, right) -> {
-                int comparison = comparator1.compare(left, right);
-                if (comparison == 0) {
-                    return comparator2.compare(left, right);
-                }
-                return comparison;
-            });
+        if (offset < 0 || offset >= heap.size()) {
+            return Collections.emptyList();
+        }
 
-        records.sort(comp);
-        return records;
+        List<SortableRecord> sorted = new ArrayList<>(heap);
+        sorted.sort(comparator);
+        return sorted.subList(offset, sorted.size()).stream()
+                .map(SortableRecord::getRecord)
+                .collect(Collectors.toList());
     }
 
-    private Comparator<Object> getComparator(Path path, Sorting.SortOrder order, RequestScope requestScope) {
-        return (left, right) -> {
-            Object leftCompare = left;
-            Object rightCompare = right;
+    private Object[] getSortKeys(Object record, List<Path> sortPaths, RequestScope scope) {
+        Object[] keys = new Object[sortPaths.size()];
+        for (int idx = 0; idx < keys.length; idx++) {
+            Object value = record;
 
             // Drill down into path to find value for comparison
-            for (Path.PathElement pathElement : path.getPathElements()) {
-                leftCompare = PersistentResource.getValue(leftCompare, pathElement.getFieldName(), requestScope);
-                rightCompare = PersistentResource.getValue(rightCompare, pathElement.getFieldName(), requestScope);
+            for (Path.PathElement pathElement : sortPaths.get(idx).getPathElements()) {
+                value = PersistentResource.getValue(value, pathElement.getFieldName(), scope);
             }
+            keys[idx] = value;
+        }
+        return keys;
+    }
 
-            // Make sure value is comparable and perform comparison
-            if (leftCompare instanceof Comparable) {
-                if (order == Sorting.SortOrder.asc) {
-                    return ((Comparable<Object>) leftCompare).compareTo(rightCompare);
+    /*
+     * Builds a comparator that handles multiple comparison rules.  Records with equal keys keep the order in which
+     * they were loaded.  Null values are greater than all other values.
+     */
+    private Comparator<SortableRecord> getComparator(List<Sorting.SortOrder> sortOrders) {
+        return (left, right) -> {
+            for (int idx = 0; idx < sortOrders.size(); idx++) {
+                Object leftCompare = left.getKeys()[idx];
+                Object rightCompare = right.getKeys()[idx];
+
+                // Make sure value is comparable and perform comparison
+                if ((leftCompare != null && ! (leftCompare instanceof Comparable))
+                        || (rightCompare != null && ! (rightCompare instanceof Comparable))) {
+                    throw new IllegalStateException("Trying to comparing non-comparable types!");
                 }
-                return ((Comparable<Object>) rightCompare).compareTo(leftCompare);
-            }
 
-            throw new IllegalStateException("Trying to comparing non-comparable types!");
+                int comparison = sortOrders.get(idx) == Sorting.SortOrder.asc
+                        ? NULLS_GREATEST.compare((Comparable<Object>) leftCompare, (Comparable<Object>) rightCompare)
+                        : NULLS_GREATEST.compare((Comparable<Object>) rightCompare, (Comparable<Object>) leftCompare);
+                if (comparison != 0) {
+                    return comparison;
+                }
+            }
+            return Long.compare(left.getSequence(), right.getSequence());
         };
     }
 
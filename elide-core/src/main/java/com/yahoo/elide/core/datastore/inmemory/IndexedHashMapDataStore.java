@@ -0,0 +1,107 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import com.yahoo.elide.core.DataStore;
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+
+import org.reflections.Reflections;
+import org.reflections.scanners.SubTypesScanner;
+import org.reflections.scanners.TypeAnnotationsScanner;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.persistence.Entity;
+
+/**
+ * In-memory database with secondary indexes.
+ * <p>
+ * Unlike {@link HashMapDataStore}, each entity type is locked separately and reads never block: transactions read
+ * immutable snapshots of the set of rows that are replaced when a transaction commits.  The entities are shared
+ * between transactions as in {@link HashMapDataStore}.  Attributes can be indexed to narrow equality, IN and range
+ * filters, which are then re-checked in memory, and to sort and paginate in the store.  A commit copies the maps of
+ * the types it modified, so this store suits data that is read far more often than it is written.
+ */
+public class IndexedHashMapDataStore implements DataStore {
+
+    /**
+     * Kinds of secondary index.
+     */
+    public enum IndexType {
+        /** Serves equality and IN filters */
+        HASH,
+
+        /** Serves equality, IN and range filters and sorting */
+        SORTED
+    }
+
+    private final Map<Class<?>, IndexedTable> tables = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Map<String, IndexType>> indexes = new HashMap<>();
+    @Getter private EntityDictionary dictionary;
+    @Getter private final Package beanPackage;
+    @Getter private final ConcurrentHashMap<Class<?>, AtomicLong> typeIds = new ConcurrentHashMap<>();
+
+    public IndexedHashMapDataStore(Package beanPackage) {
+        this.beanPackage = beanPackage;
+    }
+
+    /**
+     * Index an attribute.  Indexes must be declared before the entity dictionary is populated, which fails if an
+     * attribute does not exist or a sorted index is declared on an attribute that is not {@link Comparable}.
+     *
+     * @param entityClass the entity class
+     * @param attribute the attribute name
+     * @param indexType the kind of index
+     * @return this data store
+     */
+    public IndexedHashMapDataStore withIndex(Class<?> entityClass, String attribute, IndexType indexType) {
+        indexes.computeIfAbsent(entityClass, key -> new HashMap<>()).put(attribute, indexType);
+        return this;
+    }
+
+    @Override
+    public void populateEntityDictionary(EntityDictionary dictionary) {
+        Reflections reflections = new Reflections(new ConfigurationBuilder()
+                .addUrls(ClasspathHelper.forPackage(beanPackage.getName()))
+                .setScanners(new SubTypesScanner(), new TypeAnnotationsScanner()));
+        reflections.getTypesAnnotatedWith(Entity.class).stream()
+                .filter(entityAnnotatedClass -> entityAnnotatedClass.getPackage().getName()
+                        .startsWith(beanPackage.getName()))
+                .forEach((cls) -> {
+                    dictionary.bindEntity(cls);
+                    tables.put(cls, new IndexedTable(cls, dictionary,
+                            indexes.getOrDefault(cls, Collections.emptyMap())));
+                });
+        this.dictionary = dictionary;
+    }
+
+    @Override
+    public DataStoreTransaction beginTransaction() {
+        return new IndexedHashMapStoreTransaction(tables, dictionary, typeIds);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Data store contents ");
+        for (Map.Entry<Class<?>, IndexedTable> table : tables.entrySet()) {
+            sb.append("\n Table ").append(table.getKey()).append(" contents \n");
+            for (Map.Entry<String, Object> e : table.getValue().getSnapshot().getRows().entrySet()) {
+                sb.append(" Id: ").append(e.getKey()).append(" Value: ").append(e.getValue());
+            }
+        }
+        return sb.toString();
+    }
+}
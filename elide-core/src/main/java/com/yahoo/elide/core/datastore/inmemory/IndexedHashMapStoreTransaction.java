@@ -0,0 +1,138 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.InMemoryFilterExecutor;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+
+import com.google.common.collect.Maps;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * IndexedHashMapDataStore transaction handler.
+ * <p>
+ * Each entity type is read from the snapshot that was current when the transaction first read it, so a transaction
+ * sees a stable set of rows while other transactions commit.  Committed operations are applied one type at a time.
+ * The rows themselves are shared with the requests that modify them, so index lookups only narrow filters, and
+ * filters are re-checked in memory.
+ */
+public class IndexedHashMapStoreTransaction extends HashMapStoreTransaction {
+    private final Map<Class<?>, IndexedTable> tables;
+    private final EntityDictionary dictionary;
+    private final Map<Class<?>, IndexedTable.Snapshot> snapshots = new HashMap<>();
+
+    IndexedHashMapStoreTransaction(Map<Class<?>, IndexedTable> tables,
+                                   EntityDictionary dictionary, Map<Class<?>, AtomicLong> typeIds) {
+        super(Maps.transformValues(tables, table -> table.getSnapshot().getRows()), dictionary, typeIds);
+        this.tables = tables;
+        this.dictionary = dictionary;
+    }
+
+    @Override
+    public void commit(RequestScope scope) {
+        Map<Class<?>, List<Operation>> operationsByType = new LinkedHashMap<>();
+        operations.stream()
+                .filter(op -> op.getInstance() != null)
+                .forEach(op -> operationsByType
+                        .computeIfAbsent(dictionary.lookupEntityClass(op.getType()), key -> new ArrayList<>())
+                        .add(op));
+
+        operationsByType.forEach((entityClass, typeOperations) -> getTable(entityClass).apply(typeOperations));
+        operations.clear();
+        snapshots.clear();
+    }
+
+    @Override
+    public Iterable<Object> loadObjects(Class<?> entityClass, Optional<FilterExpression> filterExpression,
+                                        Optional<Sorting> sorting, Optional<Pagination> pagination,
+                                        RequestScope scope) {
+        IndexedTable.Snapshot snapshot = getSnapshot(entityClass);
+
+        List<Object> selected = filterExpression.map(snapshot::select).orElse(null);
+
+        Map<Path, Sorting.SortOrder> sortRules = sorting
+                .map(s -> s.getValidSortingRules(entityClass, dictionary))
+                .orElse(Collections.emptyMap());
+        List<Object> results = snapshot.sort(sortRules, selected);
+
+        if (!pagination.isPresent()) {
+            return results;
+        }
+
+        Pagination page = pagination.get();
+        if (page.isGenerateTotals()) {
+            page.setPageTotals(results.size());
+        }
+
+        int offset = page.getOffset();
+        if (offset < 0 || offset >= results.size()) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(results.subList(offset, Math.min(results.size(), offset + page.getLimit())));
+    }
+
+    @Override
+    public Object loadObject(Class<?> entityClass, Serializable id,
+                             Optional<FilterExpression> filterExpression,
+                             RequestScope scope) {
+        Object object = getSnapshot(entityClass).getRows().get(id.toString());
+        if (object == null || !filterExpression.isPresent()) {
+            return object;
+        }
+
+        Predicate predicate = filterExpression.get().accept(new InMemoryFilterExecutor(scope));
+        return predicate.test(object) ? object : null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        super.close();
+        snapshots.clear();
+    }
+
+    @Override
+    public FeatureSupport supportsFiltering(Class<?> entityClass, FilterExpression expression) {
+        return getTable(dictionary.lookupEntityClass(entityClass)).getFilterSupport(expression);
+    }
+
+    @Override
+    public boolean supportsSorting(Class<?> entityClass, Sorting sorting) {
+        return getTable(dictionary.lookupEntityClass(entityClass))
+                .canSort(sorting.getValidSortingRules(entityClass, dictionary));
+    }
+
+    @Override
+    public boolean supportsPagination(Class<?> entityClass) {
+        return true;
+    }
+
+    private IndexedTable.Snapshot getSnapshot(Class<?> entityClass) {
+        return snapshots.computeIfAbsent(dictionary.lookupEntityClass(entityClass),
+                key -> getTable(key).getSnapshot());
+    }
+
+    /* Types bound to the dictionary after the store populated it have no indexes */
+    private IndexedTable getTable(Class<?> entityClass) {
+        return tables.computeIfAbsent(entityClass,
+                key -> new IndexedTable(key, dictionary, Collections.emptyMap()));
+    }
+}
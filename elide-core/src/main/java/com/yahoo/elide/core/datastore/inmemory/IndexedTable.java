@@ -0,0 +1,453 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import com.yahoo.elide.core.DataStoreTransaction.FeatureSupport;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.FieldAccessor;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpressionVisitor;
+import com.yahoo.elide.core.filter.expression.NotFilterExpression;
+import com.yahoo.elide.core.filter.expression.OrFilterExpression;
+import com.yahoo.elide.core.sort.Sorting;
+import com.yahoo.elide.utils.coerce.CoerceUtil;
+
+import org.apache.commons.lang3.ClassUtils;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The rows of one entity type in an {@link IndexedHashMapDataStore}.
+ * <p>
+ * Readers use an immutable {@link Snapshot} of the rows and their indexes without locking.  Writers build the next
+ * snapshot under a per-type lock and publish it atomically.  A commit copies the maps of the snapshot, not the rows,
+ * and only reads the indexed values of the rows it changed.
+ * <p>
+ * Rows are the entity instances themselves, which requests modify in place before they commit, so an index key is
+ * the value a row had when it was committed and may no longer match the row.  The indexes therefore only narrow
+ * filters, which are re-checked in memory, and sorting always compares the current values.
+ */
+class IndexedTable {
+    private final Class<?> entityClass;
+    private final EntityDictionary dictionary;
+    private final Map<String, IndexedHashMapDataStore.IndexType> indexTypes;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    IndexedTable(Class<?> entityClass, EntityDictionary dictionary,
+                 Map<String, IndexedHashMapDataStore.IndexType> indexTypes) {
+        this.entityClass = entityClass;
+        this.dictionary = dictionary;
+        this.indexTypes = new HashMap<>(indexTypes);
+
+        Map<String, Map<Object, List<Object>>> indexes = new HashMap<>();
+        Map<String, Map<String, Object>> keys = new HashMap<>();
+        Map<String, Map<String, Object>> nullRows = new HashMap<>();
+        indexTypes.forEach((attribute, indexType) -> {
+            Class<?> attributeType = dictionary.getType(entityClass, attribute);
+            if (attributeType == null) {
+                throw new IllegalArgumentException("Cannot index unknown attribute " + attribute + " of "
+                        + entityClass.getName());
+            }
+            if (indexType == IndexedHashMapDataStore.IndexType.SORTED
+                    && !Comparable.class.isAssignableFrom(ClassUtils.primitiveToWrapper(attributeType))) {
+                throw new IllegalArgumentException("Sorted index on " + attribute + " of "
+                        + entityClass.getName() + " requires a Comparable attribute");
+            }
+            indexes.put(attribute, indexType == IndexedHashMapDataStore.IndexType.SORTED
+                    ? new TreeMap<>()
+                    : new HashMap<>());
+            keys.put(attribute, new HashMap<>());
+            nullRows.put(attribute, new LinkedHashMap<>());
+        });
+        this.snapshot = new Snapshot(new LinkedHashMap<>(), indexes, keys, nullRows);
+    }
+
+    Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Apply committed operations and publish the resulting snapshot.
+     *
+     * @param operations the operations on this type
+     */
+    void apply(List<Operation> operations) {
+        writeLock.lock();
+        try {
+            Map<String, Object> rows = new LinkedHashMap<>(snapshot.rows);
+            List<IndexCopy> copies = new ArrayList<>();
+            indexTypes.keySet().forEach(attribute -> copies.add(new IndexCopy(attribute, snapshot)));
+
+            for (Operation operation : operations) {
+                String id = operation.getId();
+                Object previous = operation.getDelete()
+                        ? rows.remove(id)
+                        : rows.put(id, operation.getInstance());
+                for (IndexCopy copy : copies) {
+                    if (previous != null) {
+                        copy.remove(id, previous);
+                    }
+                    if (!operation.getDelete()) {
+                        copy.add(id, operation.getInstance());
+                    }
+                }
+            }
+
+            Map<String, Map<Object, List<Object>>> indexes = new HashMap<>();
+            Map<String, Map<String, Object>> keys = new HashMap<>();
+            Map<String, Map<String, Object>> nullRows = new HashMap<>();
+            for (IndexCopy copy : copies) {
+                copy.removeEmptyKeys();
+                indexes.put(copy.attribute, copy.index);
+                keys.put(copy.attribute, copy.keys);
+                nullRows.put(copy.attribute, copy.nulls);
+            }
+            snapshot = new Snapshot(rows, indexes, keys, nullRows);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * How much of a filter expression the indexes can evaluate.  Index keys can be stale, so the indexes never
+     * evaluate a filter on their own.
+     *
+     * @param expression the filter expression
+     * @return PARTIAL if the indexes select a superset of the matching rows, NONE if they cannot narrow the rows
+     */
+    FeatureSupport getFilterSupport(FilterExpression expression) {
+        return expression.accept(new FilterExpressionVisitor<FeatureSupport>() {
+            @Override
+            public FeatureSupport visitPredicate(FilterPredicate filterPredicate) {
+                return isIndexed(filterPredicate) ? FeatureSupport.PARTIAL : FeatureSupport.NONE;
+            }
+
+            @Override
+            public FeatureSupport visitAndExpression(AndFilterExpression expression) {
+                FeatureSupport left = expression.getLeft().accept(this);
+                FeatureSupport right = expression.getRight().accept(this);
+                return left != FeatureSupport.NONE || right != FeatureSupport.NONE
+                        ? FeatureSupport.PARTIAL
+                        : FeatureSupport.NONE;
+            }
+
+            @Override
+            public FeatureSupport visitOrExpression(OrFilterExpression expression) {
+                FeatureSupport left = expression.getLeft().accept(this);
+                FeatureSupport right = expression.getRight().accept(this);
+                return left != FeatureSupport.NONE && right != FeatureSupport.NONE
+                        ? FeatureSupport.PARTIAL
+                        : FeatureSupport.NONE;
+            }
+
+            @Override
+            public FeatureSupport visitNotExpression(NotFilterExpression expression) {
+                return FeatureSupport.NONE;
+            }
+        });
+    }
+
+    /**
+     * Whether rows can be returned in an order.
+     *
+     * @param sortRules the valid sorting rules
+     * @return true if there is at most one rule and a sorted index serves it
+     */
+    boolean canSort(Map<Path, Sorting.SortOrder> sortRules) {
+        if (sortRules.isEmpty()) {
+            return true;
+        }
+        if (sortRules.size() != 1) {
+            return false;
+        }
+        String attribute = getAttribute(sortRules.keySet().iterator().next());
+        return attribute != null && indexTypes.get(attribute) == IndexedHashMapDataStore.IndexType.SORTED;
+    }
+
+    private boolean isIndexed(FilterPredicate predicate) {
+        String attribute = getAttribute(predicate.getPath());
+        IndexedHashMapDataStore.IndexType indexType = attribute == null ? null : indexTypes.get(attribute);
+        if (indexType == null || predicate.getValues().isEmpty()) {
+            return false;
+        }
+
+        switch (predicate.getOperator()) {
+            case IN:
+                return true;
+            case GT:
+            case GE:
+            case LT:
+            case LE:
+                return indexType == IndexedHashMapDataStore.IndexType.SORTED && predicate.getValues().size() == 1;
+            default:
+                return false;
+        }
+    }
+
+    /* The attribute of this type a path refers to or null if the path leaves this type */
+    private String getAttribute(Path path) {
+        List<Path.PathElement> elements = path.getPathElements();
+        if (elements.size() != 1 || dictionary.lookupEntityClass(elements.get(0).getType()) != entityClass) {
+            return null;
+        }
+        return elements.get(0).getFieldName();
+    }
+
+    private Object getValue(Object row, String attribute) {
+        try {
+            FieldAccessor fieldAccessor = dictionary.getFieldAccessor(entityClass, attribute);
+            if (fieldAccessor != null) {
+                return fieldAccessor.getValue(row, null);
+            }
+
+            AccessibleObject accessor = dictionary.getAccessibleObject(row, attribute);
+            if (accessor instanceof Method) {
+                return ((Method) accessor).invoke(row);
+            }
+            if (accessor instanceof Field) {
+                return ((Field) accessor).get(row);
+            }
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot index " + attribute + " of " + entityClass.getName(), e);
+        }
+        throw new IllegalStateException("Cannot index " + attribute + " of " + entityClass.getName());
+    }
+
+    private Object coerceKey(String attribute, Object value) {
+        Class<?> attributeType = ClassUtils.primitiveToWrapper(dictionary.getType(entityClass, attribute));
+        return CoerceUtil.coerce(value, attributeType);
+    }
+
+    /**
+     * The index of one attribute being updated by a commit.  The maps are copied, and the row list of a key is
+     * copied the first time the commit changes it, so the published snapshot is never modified.
+     */
+    private class IndexCopy {
+        private final String attribute;
+        private final Map<Object, List<Object>> index;
+        private final Map<String, Object> keys;
+        private final Map<String, Object> nulls;
+        private final Set<Object> copiedKeys = new HashSet<>();
+
+        private IndexCopy(String attribute, Snapshot from) {
+            Map<Object, List<Object>> committed = from.indexes.get(attribute);
+            this.attribute = attribute;
+            this.index = committed instanceof TreeMap ? new TreeMap<>(committed) : new HashMap<>(committed);
+            this.keys = new HashMap<>(from.keys.get(attribute));
+            this.nulls = new LinkedHashMap<>(from.nullRows.get(attribute));
+        }
+
+        /* Remove a row under the key it was committed with, whatever its current value */
+        private void remove(String id, Object row) {
+            if (!keys.containsKey(id)) {
+                nulls.remove(id);
+                return;
+            }
+            rowsOf(keys.remove(id)).removeIf(indexed -> indexed == row);
+        }
+
+        private void add(String id, Object row) {
+            Object value = getValue(row, attribute);
+            if (value == null) {
+                nulls.put(id, row);
+                return;
+            }
+            keys.put(id, value);
+            rowsOf(value).add(row);
+        }
+
+        private List<Object> rowsOf(Object key) {
+            if (copiedKeys.add(key)) {
+                index.put(key, new ArrayList<>(index.getOrDefault(key, Collections.emptyList())));
+            }
+            return index.get(key);
+        }
+
+        private void removeEmptyKeys() {
+            copiedKeys.stream()
+                    .filter(key -> index.get(key).isEmpty())
+                    .forEach(index::remove);
+        }
+    }
+
+    /**
+     * The rows of a type and their indexes at one point in time.
+     */
+    class Snapshot {
+        private final Map<String, Object> rows;
+
+        /* Rows by committed attribute value.  Sorted indexes are TreeMaps. */
+        private final Map<String, Map<Object, List<Object>>> indexes;
+
+        /* The committed attribute value of each indexed row by id */
+        private final Map<String, Map<String, Object>> keys;
+
+        /* Rows with a null committed attribute value by id, which are not in the index */
+        private final Map<String, Map<String, Object>> nullRows;
+
+        private Snapshot(Map<String, Object> rows, Map<String, Map<Object, List<Object>>> indexes,
+                         Map<String, Map<String, Object>> keys, Map<String, Map<String, Object>> nullRows) {
+            this.rows = Collections.unmodifiableMap(rows);
+            this.indexes = indexes;
+            this.keys = keys;
+            this.nullRows = nullRows;
+        }
+
+        Map<String, Object> getRows() {
+            return rows;
+        }
+
+        /**
+         * Select rows with the indexes.
+         *
+         * @param expression the filter expression
+         * @return a superset of the matching rows or null if the indexes cannot narrow the rows
+         */
+        List<Object> select(FilterExpression expression) {
+            return expression.accept(new FilterExpressionVisitor<List<Object>>() {
+                @Override
+                public List<Object> visitPredicate(FilterPredicate filterPredicate) {
+                    return isIndexed(filterPredicate) ? lookup(filterPredicate) : null;
+                }
+
+                @Override
+                public List<Object> visitAndExpression(AndFilterExpression expression) {
+                    List<Object> left = expression.getLeft().accept(this);
+                    List<Object> right = expression.getRight().accept(this);
+                    if (left == null || right == null) {
+                        return left == null ? right : left;
+                    }
+                    Set<Object> members = identitySet(right);
+                    List<Object> both = new ArrayList<>();
+                    left.stream().filter(members::contains).forEach(both::add);
+                    return both;
+                }
+
+                @Override
+                public List<Object> visitOrExpression(OrFilterExpression expression) {
+                    List<Object> left = expression.getLeft().accept(this);
+                    List<Object> right = expression.getRight().accept(this);
+                    if (left == null || right == null) {
+                        return null;
+                    }
+                    Set<Object> either = identitySet(left);
+                    List<Object> union = new ArrayList<>(left);
+                    right.stream().filter(either::add).forEach(union::add);
+                    return union;
+                }
+
+                @Override
+                public List<Object> visitNotExpression(NotFilterExpression expression) {
+                    return null;
+                }
+            });
+        }
+
+        /**
+         * Order rows by an attribute with a sorted index.  Null values are greater than all other values, as in
+         * {@link InMemoryStoreTransaction}: last in ascending order and first in descending order.  Rows are
+         * compared by their current values, starting from the index order, which is already sorted unless rows were
+         * modified since they were committed.
+         *
+         * @param sortRules the sorting rules accepted by {@link #canSort}
+         * @param selected the rows to order or null for all rows
+         * @return the ordered rows
+         */
+        List<Object> sort(Map<Path, Sorting.SortOrder> sortRules, List<Object> selected) {
+            if (sortRules.isEmpty()) {
+                return selected == null ? new ArrayList<>(rows.values()) : selected;
+            }
+
+            Map.Entry<Path, Sorting.SortOrder> rule = sortRules.entrySet().iterator().next();
+            String attribute = getAttribute(rule.getKey());
+            boolean ascending = rule.getValue() == Sorting.SortOrder.asc;
+
+            List<Object> sorted;
+            if (selected == null) {
+                NavigableMap<Object, List<Object>> index = (NavigableMap<Object, List<Object>>) indexes.get(attribute);
+                sorted = new ArrayList<>(rows.size());
+                if (!ascending) {
+                    sorted.addAll(nullRows.get(attribute).values());
+                }
+                (ascending ? index : index.descendingMap()).values().forEach(sorted::addAll);
+                if (ascending) {
+                    sorted.addAll(nullRows.get(attribute).values());
+                }
+            } else {
+                sorted = new ArrayList<>(selected);
+            }
+
+            Comparator<Comparable> nullsGreatest = Comparator.nullsLast(Comparator.naturalOrder());
+            Comparator<Object> order = Comparator.comparing(row -> (Comparable) getValue(row, attribute),
+                    nullsGreatest);
+            sorted.sort(ascending ? order : order.reversed());
+            return sorted;
+        }
+
+        private List<Object> lookup(FilterPredicate predicate) {
+            String attribute = getAttribute(predicate.getPath());
+            Map<Object, List<Object>> index = indexes.get(attribute);
+
+            if (predicate.getOperator() == Operator.IN) {
+                List<Object> matches = new ArrayList<>();
+                Set<Object> keys = new LinkedHashSet<>();
+                predicate.getValues().forEach(value -> keys.add(coerceKey(attribute, value)));
+                keys.forEach(key -> matches.addAll(index.getOrDefault(key, Collections.emptyList())));
+                return matches;
+            }
+
+            NavigableMap<Object, List<Object>> sorted = (NavigableMap<Object, List<Object>>) index;
+            Object key = coerceKey(attribute, predicate.getValues().get(0));
+            Collection<List<Object>> ranges;
+            switch (predicate.getOperator()) {
+                case GT:
+                    ranges = sorted.tailMap(key, false).values();
+                    break;
+                case GE:
+                    ranges = sorted.tailMap(key, true).values();
+                    break;
+                case LT:
+                    ranges = sorted.headMap(key, false).values();
+                    break;
+                default:
+                    ranges = sorted.headMap(key, true).values();
+                    break;
+            }
+            List<Object> matches = new ArrayList<>();
+            ranges.forEach(matches::addAll);
+            return matches;
+        }
+
+        private Set<Object> identitySet(Collection<Object> objects) {
+            Set<Object> set = Collections.newSetFromMap(new IdentityHashMap<>());
+            set.addAll(objects);
+            return set;
+        }
+    }
+}
@@ -17,6 +17,8 @@ import lombok.Data;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -56,6 +58,13 @@ public abstract class TransactionWrapper implements DataStoreTransaction {
         return tx.getRelation(relationTx, entity, relationName, filterExpression, sorting, pagination, scope);
     }
 
+    @Override
+    public Map<Object, Object> getRelations(DataStoreTransaction relationTx, Collection<?> entities,
+                                            String relationName, Optional<FilterExpression> filterExpression,
+                                            RequestScope scope) {
+        return tx.getRelations(relationTx, entities, relationName, filterExpression, scope);
+    }
+
     @Override
     public void updateToManyRelation(DataStoreTransaction relationTx, Object entity, String relationName,
                                      Set<Object> newRelationships, Set<Object> deletedRelationships,
@@ -95,6 +104,27 @@ public abstract class TransactionWrapper implements DataStoreTransaction {
         return tx.supportsPagination(entityClass);
     }
 
+    @Override
+    public boolean supportsConcurrentReads() {
+        return tx.supportsConcurrentReads();
+    }
+
+    @Override
+    public boolean supportsBulkWrites(Class<?> entityClass, FilterExpression expression) {
+        return tx.supportsBulkWrites(entityClass, expression);
+    }
+
+    @Override
+    public long bulkDelete(Class<?> entityClass, Optional<FilterExpression> filterExpression, RequestScope scope) {
+        return tx.bulkDelete(entityClass, filterExpression, scope);
+    }
+
+    @Override
+    public long bulkUpdate(Class<?> entityClass, Map<String, Object> attributes,
+                           Optional<FilterExpression> filterExpression, RequestScope scope) {
+        return tx.bulkUpdate(entityClass, attributes, filterExpression, scope);
+    }
+
     @Override
     public void save(Object o, RequestScope requestScope) {
         tx.save(o, requestScope);
@@ -76,9 +76,23 @@ public class FilterPredicate implements FilterExpression, Function<RequestScope,
      * @return the filter parameters for this predicate
      */
     public List<FilterParameter> getParameters() {
-        String baseName = String.format("%s_%s_",
+        return getParameters(String.format("%s_%s_",
                 getFieldPath().replace(PERIOD, UNDERSCORE),
-                Integer.toHexString(hashCode()));
+                Integer.toHexString(hashCode())));
+    }
+
+    /**
+     * Compute the parameter value/name pairings of the predicate at a position of a filter expression.  The names
+     * depend on the field path and position but not on the filter values, so queries that differ only by their
+     * filter values have the same text.
+     * @param position the position of this predicate in the filter expression
+     * @return the filter parameters for this predicate
+     */
+    public List<FilterParameter> getParameters(int position) {
+        return getParameters(String.format("%s_p%d_", getFieldPath().replace(PERIOD, UNDERSCORE), position));
+    }
+
+    private List<FilterParameter> getParameters(String baseName) {
         return IntStream.range(0, values.size())
                 .mapToObj(idx -> new FilterParameter(String.format("%s%d", baseName, idx), values.get(idx)))
                 .collect(Collectors.toList());
@@ -137,7 +151,7 @@ public class FilterPredicate implements FilterExpression, Function<RequestScope,
 
     @Override
     public Predicate apply(RequestScope dictionary) {
-        return operator.contextualize(getFieldPath(), values, dictionary);
+        return operator.contextualize(path, values, dictionary);
     }
 
     public boolean isMatchingOperator() {
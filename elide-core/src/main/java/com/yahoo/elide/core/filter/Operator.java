@@ -5,19 +5,30 @@
  */
 package com.yahoo.elide.core.filter;
 
-import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.exceptions.InvalidOperatorNegationException;
 import com.yahoo.elide.core.exceptions.InvalidPredicateException;
 import com.yahoo.elide.utils.coerce.CoerceUtil;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+
+import org.apache.commons.lang3.ClassUtils;
+
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.IntPredicate;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Operator enum for predicates.
@@ -26,127 +37,126 @@ import java.util.function.Predicate;
 public enum Operator {
     IN("in", true) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return in(field, values, requestScope);
+        <T> Predicate<T> compile(PathAccessor field, List<Object> values) {
+            return in(field, values);
         }
     },
 
     IN_INSENSITIVE("ini", true) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return in(field, values, requestScope, FOLD_CASE);
+        <T> Predicate<T> compile(PathAccessor field, List<Object> values) {
+            return in(field, values, FOLD_CASE);
         }
     },
 
     NOT("not", true) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return (T entity) -> !in(field, values, requestScope).test(entity);
+        <T> Predicate<T> compile(PathAccessor field, List<Object> values) {
+            return Operator.<T>in(field, values).negate();
         }
     },
 
     NOT_INSENSITIVE("noti", true) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return (T entity) -> !in(field, values, requestScope, FOLD_CASE).test(entity);
+        <T> Predicate<T> compile(PathAccessor field, List<Object> values) {
+            return Operator.<T>in(field, values, FOLD_CASE).negate();
         }
     },
 
     PREFIX_CASE_INSENSITIVE("prefixi", true) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return prefix(field, values, requestScope, s -> s.toLowerCase(Locale.ENGLISH));
+        <T> Predicate<T> compile(PathAccessor field, List<Object> values) {
+            return prefix(field, values, s -> s.toLowerCase(Locale.ENGLISH));
         }
     },
 
     PREFIX("prefix", true) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return prefix(field, values, requestScope, Function.identity());
+        <T> Predicate<T> compile(PathAccessor field, List<Object> values) {
+            return prefix(field, values, Function.identity());
         }
     },
 
     POSTFIX("postfix", true) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return postfix(field, values, requestScope, Function.identity());
+        <T> Predicate<T> compile(PathAccessor field, List<Object> values) {
+            return postfix(field, values, Function.identity());
         }
     },
 
     POSTFIX_CASE_INSENSITIVE("postfixi", true) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return postfix(field, values, requestScope, FOLD_CASE);
+        <T> Predicate<T> compile(PathAccessor field, List<Object> values) {
+            return postfix(field, values, FOLD_CASE);
         }
     },
 
     INFIX("infix", true) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return infix(field, values, requestScope, Function.identity());
+        <T> Predicate<T> compile(PathAccessor field, List<Object> values) {
+            return infix(field, values, Function.identity());
         }
     },
 
     INFIX_CASE_INSENSITIVE("infixi", true) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return infix(field, values, requestScope, FOLD_CASE);
+        <T> Predicate<T> compile(PathAccessor field, List<Object> values) {
+            return infix(field, values, FOLD_CASE);
         }
     },
 
     ISNULL("isnull", false) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return isNull(field, requestScope);
+        <T> Predicate<T> compile(PathAccessor field, List<Object> values) {
+            return isNull(field);
         }
     },
 
     NOTNULL("notnull", false) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return (val) -> !isNull(field, requestScope).test(val);
+        <T> Predicate<T> compile(PathAccessor field, List<Object> values) {
+            return Operator.<T>isNull(field).negate();
         }
     },
 
     LT("lt", true) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return lt(field, values, requestScope);
+        <T> Predicate<T> compile(PathAccessor field, List<Object> values) {
+            return lt(field, values);
         }
     },
 
     LE("le", true) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return le(field, values, requestScope);
+        <T> Predicate<T> compile(PathAccessor field, List<Object> values) {
+            return le(field, values);
         }
     },
 
     GT("gt", true) {
         @Override
-        public <T> Predicate<T> contextualize(
-                String field, List<Object> values, RequestScope requestScope) {
-            return gt(field, values, requestScope);
+        <T> Predicate<T> compile(PathAccessor field, List<Object> values) {
+            return gt(field, values);
         }
     },
 
     GE("ge", true) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
-            return ge(field, values, requestScope);
+        <T> Predicate<T> compile(PathAccessor field, List<Object> values) {
+            return ge(field, values);
         }
     },
 
     TRUE("true", false) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
+        <T> Predicate<T> compile(PathAccessor field, List<Object> values) {
             return isTrue();
         }
     },
 
     FALSE("false", false) {
         @Override
-        public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
+        <T> Predicate<T> compile(PathAccessor field, List<Object> values) {
             return isFalse();
         }
     },
@@ -189,7 +199,39 @@ public enum Operator {
         throw new InvalidPredicateException("Unknown operator in filter: " + string);
     }
 
-    public abstract <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope);
+    /**
+     * Build a predicate that reads the field at the end of a path from an entity.
+     *
+     * @param <T> the entity type
+     * @param field the field path (for example author.name)
+     * @param values the filter values
+     * @param requestScope the request scope
+     * @return the predicate
+     */
+    public <T> Predicate<T> contextualize(String field, List<Object> values, RequestScope requestScope) {
+        return compile(new PathAccessor(field, requestScope), values);
+    }
+
+    /**
+     * Build a predicate that reads the field at the end of a path from an entity.  Filter values are coerced and
+     * case folded when the predicate is built (or, for values coerced to the type of the field value, when the
+     * first entity is tested) rather than for every entity tested.
+     *
+     * @param <T> the entity type
+     * @param path the path
+     * @param values the filter values
+     * @param requestScope the request scope
+     * @return the predicate
+     */
+    public <T> Predicate<T> contextualize(Path path, List<Object> values, RequestScope requestScope) {
+        List<String> fieldNames = path.getPathElements().stream()
+                .map(Path.PathElement::getFieldName)
+                .collect(Collectors.toList());
+        Class<?> fieldType = path.lastElement().map(Path.PathElement::getFieldType).orElse(null);
+        return compile(new PathAccessor(fieldNames, fieldType, requestScope), values);
+    }
+
+    abstract <T> Predicate<T> compile(PathAccessor field, List<Object> values);
 
     //
     // Predicate generation
@@ -197,22 +239,28 @@ public enum Operator {
 
     //
     // In with strict equality
-    private static <T> Predicate<T> in(String field, List<Object> values, RequestScope requestScope) {
+    private static <T> Predicate<T> in(PathAccessor field, List<Object> values) {
+        CoercedValues<Set<Object>> operands = new CoercedValues<>(field.getFieldType(), type -> values.stream()
+                .map(v -> (Object) CoerceUtil.coerce(v, type))
+                .collect(Collectors.toCollection(HashSet::new)));
+
         return (T entity) -> {
-            Object val = getFieldValue(entity, field, requestScope);
+            Object val = field.apply(entity);
 
-            return val != null && values.stream()
-                    .map(v -> CoerceUtil.coerce(v, val.getClass()))
-                    .anyMatch(val::equals);
+            return val != null && operands.get(val.getClass()).contains(val);
         };
     }
 
     //
     // String-like In with optional transformation
-    private static <T> Predicate<T> in(String field, List<Object> values,
-                                       RequestScope requestScope, Function<String, String> transform) {
+    private static <T> Predicate<T> in(PathAccessor field, List<Object> values,
+                                       Function<String, String> transform) {
+        Supplier<Set<String>> operands = Suppliers.memoize(() -> values.stream()
+                .map(v -> transform.apply(CoerceUtil.coerce(v, String.class)))
+                .collect(Collectors.toCollection(HashSet::new)));
+
         return (T entity) -> {
-            Object fieldValue = getFieldValue(entity, field, requestScope);
+            Object fieldValue = field.apply(entity);
 
             if (fieldValue == null) {
                 return false;
@@ -223,89 +271,90 @@ public enum Operator {
             }
 
             String val = transform.apply((String) fieldValue);
-            return val != null && values.stream()
-                    .map(v -> transform.apply(CoerceUtil.coerce(v, String.class)))
-                    .anyMatch(val::equals);
+            return val != null && operands.get().contains(val);
         };
     }
 
     //
     // String-like prefix matching with optional transformation
-    private static <T> Predicate<T> prefix(String field, List<Object> values,
-                                           RequestScope requestScope, Function<String, String> transform) {
+    private static <T> Predicate<T> prefix(PathAccessor field, List<Object> values,
+                                           Function<String, String> transform) {
+        Supplier<String> operand = transformedOperand(values, transform);
+
         return (T entity) -> {
             if (values.size() != 1) {
                 throw new InvalidPredicateException("PREFIX can only take one argument");
             }
 
-            Object val = getFieldValue(entity, field, requestScope);
-            String valStr = CoerceUtil.coerce(val, String.class);
-            String filterStr = CoerceUtil.coerce(values.get(0), String.class);
+            String valStr = CoerceUtil.coerce(field.apply(entity), String.class);
+            String filterStr = operand.get();
 
             return valStr != null
                     && filterStr != null
-                    && transform.apply(valStr).startsWith(transform.apply(filterStr));
+                    && transform.apply(valStr).startsWith(filterStr);
         };
     }
 
     //
     // String-like postfix matching with optional transformation
-    private static <T> Predicate<T> postfix(String field, List<Object> values,
-                                            RequestScope requestScope, Function<String, String> transform) {
+    private static <T> Predicate<T> postfix(PathAccessor field, List<Object> values,
+                                            Function<String, String> transform) {
+        Supplier<String> operand = transformedOperand(values, transform);
+
         return (T entity) -> {
             if (values.size() != 1) {
                 throw new InvalidPredicateException("POSTFIX can only take one argument");
             }
 
-            Object val = getFieldValue(entity, field, requestScope);
-            String valStr = CoerceUtil.coerce(val, String.class);
-            String filterStr = CoerceUtil.coerce(values.get(0), String.class);
+            String valStr = CoerceUtil.coerce(field.apply(entity), String.class);
+            String filterStr = operand.get();
 
             return valStr != null
                     && filterStr != null
-                    && transform.apply(valStr).endsWith(transform.apply(filterStr));
+                    && transform.apply(valStr).endsWith(filterStr);
         };
     }
 
     //
     // String-like infix matching with optional transformation
-    private static <T> Predicate<T> infix(String field, List<Object> values,
-                                          RequestScope requestScope, Function<String, String> transform) {
+    private static <T> Predicate<T> infix(PathAccessor field, List<Object> values,
+                                          Function<String, String> transform) {
+        Supplier<String> operand = transformedOperand(values, transform);
+
         return (T entity) -> {
             if (values.size() != 1) {
                 throw new InvalidPredicateException("INFIX can only take one argument");
             }
 
-            Object val = getFieldValue(entity, field, requestScope);
-            String valStr = CoerceUtil.coerce(val, String.class);
-            String filterStr = CoerceUtil.coerce(values.get(0), String.class);
+            String valStr = CoerceUtil.coerce(field.apply(entity), String.class);
+            String filterStr = operand.get();
 
             return valStr != null
                     && filterStr != null
-                    && transform.apply(valStr).contains(transform.apply(filterStr));
+                    && transform.apply(valStr).contains(filterStr);
         };
     }
 
     //
     // Null checking
-    private static <T> Predicate<T> isNull(String field, RequestScope requestScope) {
-        return (T entity) -> getFieldValue(entity, field, requestScope) == null;
+    private static <T> Predicate<T> isNull(PathAccessor field) {
+        return (T entity) -> field.apply(entity) == null;
     }
 
-    private static <T> Predicate<T> lt(String field, List<Object> values, RequestScope requestScope) {
-        return getComparator(field, values, requestScope, compareResult -> compareResult < 0);
+    private static <T> Predicate<T> lt(PathAccessor field, List<Object> values) {
+        return getComparator(field, values, compareResult -> compareResult < 0);
     }
 
-    private static <T> Predicate<T> le(String field, List<Object> values, RequestScope requestScope) {
-        return getComparator(field, values, requestScope, compareResult -> compareResult <= 0);
+    private static <T> Predicate<T> le(PathAccessor field, List<Object> values) {
+        return getComparator(field, values, compareResult -> compareResult <= 0);
     }
 
-    private static <T> Predicate<T> gt(String field, List<Object> values, RequestScope requestScope) {
-        return getComparator(field, values, requestScope, compareResult -> compareResult > 0);
+    private static <T> Predicate<T> gt(PathAccessor field, List<Object> values) {
+        return getComparator(field, values, compareResult -> compareResult > 0);
     }
 
-    private static <T> Predicate<T> ge(String field, List<Object> values, RequestScope requestScope) {
-        return getComparator(field, values, requestScope, compareResult -> compareResult >= 0);
+    private static <T> Predicate<T> ge(PathAccessor field, List<Object> values) {
+        return getComparator(field, values, compareResult -> compareResult >= 0);
     }
 
     private static <T> Predicate<T> isTrue() {
@@ -317,48 +366,69 @@ public enum Operator {
     }
 
     /**
-     * Return value of field/path for given entity.  For example this.book.author
+     * The single filter value of a string matching operator, coerced to a string and transformed once.
      *
-     * @param <T> the type of entity to retrieve a value from
-     * @param entity Entity bean
-     * @param fieldPath field value/path
-     * @param requestScope Request scope
-     * @return the value of the field
+     * @param values the filter values
+     * @param transform the transformation (for example case folding)
+     * @return the transformed value (computed on first use)
      */
-    private static <T> Object getFieldValue(T entity, String fieldPath, RequestScope requestScope) {
-        Object val = entity;
-        for (String field : fieldPath.split("\\.")) {
-            if ("this".equals(field)) {
-                continue;
-            }
-            if (val == null) {
-                break;
-            }
-            val = PersistentResource.getValue(val, field, requestScope);
-        }
-        return val;
+    private static Supplier<String> transformedOperand(List<Object> values, Function<String, String> transform) {
+        return Suppliers.memoize(() -> {
+            String filterStr = CoerceUtil.coerce(values.get(0), String.class);
+            return filterStr == null ? null : transform.apply(filterStr);
+        });
     }
 
-    private static <T> Predicate<T> getComparator(String field, List<Object> values,
-                                                  RequestScope requestScope, Predicate<Integer> condition) {
+    private static <T> Predicate<T> getComparator(PathAccessor field, List<Object> values,
+                                                  IntPredicate condition) {
+        CoercedValues<List<Comparable>> operands = new CoercedValues<>(field.getFieldType(), type -> values.stream()
+                .map(testVal -> CoerceUtil.coerce(CoerceUtil.coerce(testVal, type), Comparable.class))
+                .collect(Collectors.toList()));
+
         return (T entity) -> {
             if (values.size() == 0) {
                 throw new InvalidPredicateException("No value to compare");
             }
-            Object fieldVal = getFieldValue(entity, field, requestScope);
-            return fieldVal != null
-                    && values.stream()
-                    .anyMatch(testVal -> condition.test(compare(fieldVal, testVal)));
-        };
+            Object fieldVal = field.apply(entity);
+            if (fieldVal == null) {
+                return false;
+            }
 
+            Comparable fieldComp = CoerceUtil.coerce(fieldVal, Comparable.class);
+            for (Comparable testComp : operands.get(fieldVal.getClass())) {
+                if (condition.test(fieldComp.compareTo(testComp))) {
+                    return true;
+                }
+            }
+            return false;
+        };
     }
 
-    private static int compare(Object fieldValue, Object rawTestValue) {
-        Object testValue = CoerceUtil.coerce(rawTestValue, fieldValue.getClass());
-        Comparable testComp = CoerceUtil.coerce(testValue, Comparable.class);
-        Comparable fieldComp = CoerceUtil.coerce(fieldValue, Comparable.class);
+    /**
+     * Filter values coerced to the type of the field values they are compared with.  The values are coerced to the
+     * declared type of the field once.  Field values of other types, for example when the declared type is unknown
+     * or is a supertype of the values, are coerced once per type.
+     *
+     * @param <V> the coerced values
+     */
+    private static class CoercedValues<V> {
+        private final Class<?> fieldType;
+        private final Function<Class<?>, V> coercion;
+        private final Supplier<V> declared;
+        private final Map<Class<?>, V> coerced = new ConcurrentHashMap<>();
+
+        CoercedValues(Class<?> fieldType, Function<Class<?>, V> coercion) {
+            this.fieldType = fieldType == null ? null : ClassUtils.primitiveToWrapper(fieldType);
+            this.coercion = coercion;
+            this.declared = Suppliers.memoize(() -> coercion.apply(this.fieldType));
+        }
 
-        return fieldComp.compareTo(testComp);
+        V get(Class<?> type) {
+            if (type == fieldType) {
+                return declared.get();
+            }
+            return coerced.computeIfAbsent(type, coercion);
+        }
     }
 
     public Operator negate() {
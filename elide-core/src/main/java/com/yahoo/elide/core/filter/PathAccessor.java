@@ -0,0 +1,79 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.filter;
+
+import com.yahoo.elide.core.FieldAccessor;
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.RequestScope;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Reads the value at the end of a field path (for example book.author.name) from an entity.
+ * <p>
+ * The accessor of each path element is resolved once per entity class rather than once per read, so evaluating a
+ * filter over a collection of entities of one class only invokes the getters.
+ */
+class PathAccessor implements Function<Object, Object> {
+    private final String[] fieldNames;
+    @Getter private final Class<?> fieldType;
+    private final RequestScope requestScope;
+    private final ResolvedAccessor[] accessors;
+
+    @AllArgsConstructor
+    private static class ResolvedAccessor {
+        private final Class<?> targetClass;
+        private final FieldAccessor fieldAccessor;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param fieldNames the field names of the path.  'this' elements are skipped.
+     * @param fieldType the declared type of the field at the end of the path, or null if it is unknown
+     * @param requestScope the request scope
+     */
+    PathAccessor(List<String> fieldNames, Class<?> fieldType, RequestScope requestScope) {
+        this.fieldNames = fieldNames.stream()
+                .filter(fieldName -> !"this".equals(fieldName))
+                .toArray(String[]::new);
+        this.fieldType = fieldType;
+        this.requestScope = requestScope;
+        this.accessors = new ResolvedAccessor[this.fieldNames.length];
+    }
+
+    PathAccessor(String fieldPath, RequestScope requestScope) {
+        this(Arrays.asList(fieldPath.split("\\.")), null, requestScope);
+    }
+
+    @Override
+    public Object apply(Object entity) {
+        Object val = entity;
+        for (int idx = 0; idx < fieldNames.length && val != null; idx++) {
+            val = read(idx, val);
+        }
+        return val;
+    }
+
+    private Object read(int idx, Object target) {
+        ResolvedAccessor resolved = accessors[idx];
+        if (resolved == null || resolved.targetClass != target.getClass()) {
+            resolved = new ResolvedAccessor(target.getClass(),
+                    requestScope.getDictionary().getFieldAccessor(target.getClass(), fieldNames[idx]));
+            accessors[idx] = resolved;
+        }
+
+        if (resolved.fieldAccessor == null) {
+            return PersistentResource.getValue(target, fieldNames[idx], requestScope);
+        }
+        return PersistentResource.getValue(target, resolved.fieldAccessor, requestScope);
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.pagination;
+
+import com.yahoo.elide.annotation.ReadPermission;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.exceptions.InvalidValueException;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.InPredicate;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.OrFilterExpression;
+import com.yahoo.elide.core.sort.Sorting;
+import com.yahoo.elide.utils.coerce.CoerceUtil;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Keyset (cursor) pagination for a collection of one entity type.
+ * <p>
+ * Rather than skipping {@code offset} rows, a page starts at the row after (or before) the row a cursor was taken
+ * from.  The collection is ordered by the requested sort keys followed by the entity id so that the order is total.
+ * A cursor encodes the values of these keys for one row and is turned into a seek predicate which is added to the
+ * filter expression, so any data store that can filter and sort can serve keyset pages without scanning the rows
+ * before the page.
+ * <p>
+ * Null key values are ordered explicitly as greater than all other values (see {@link Sorting#isNullsGreatest()}),
+ * and the seek predicate selects null values accordingly.  Cursors hold the values of the sort keys, so building a
+ * cursor requires permission to read them.
+ */
+public class KeysetPagination {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<List<Object>> VALUES_TYPE = new TypeReference<List<Object>>() { };
+
+    private final Pagination pagination;
+    private final RequestScope requestScope;
+    private final boolean backwards;
+    private Long pageTotals;
+
+    /* The sort keys in the order the data store must return rows */
+    private final Map<Path, Sorting.SortOrder> keys = new LinkedHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param entityClass the type of the collection
+     * @param sorting the requested sorting
+     * @param pagination the evaluated pagination which must have a cursor
+     * @param requestScope the request scope
+     */
+    public KeysetPagination(Class<?> entityClass,
+                            Optional<Sorting> sorting,
+                            Pagination pagination,
+                            RequestScope requestScope) {
+        this.pagination = pagination;
+        this.requestScope = requestScope;
+        this.backwards = pagination.getBefore() != null;
+
+        EntityDictionary dictionary = requestScope.getDictionary();
+        Map<Path, Sorting.SortOrder> rules = new LinkedHashMap<>(sorting
+                .map(s -> s.getValidSortingRules(entityClass, dictionary))
+                .orElse(Collections.emptyMap()));
+
+        Path idPath = new Path(entityClass, dictionary, dictionary.getIdFieldName(entityClass));
+        rules.putIfAbsent(idPath, Sorting.SortOrder.asc);
+
+        rules.forEach((path, order) -> keys.put(path, backwards ? reverse(order) : order));
+    }
+
+    /**
+     * Get the sorting which orders rows by the cursor keys.  When paging backwards, the order is reversed.
+     *
+     * @return the sorting to push down to the data store
+     */
+    public Sorting getSorting() {
+        Map<String, Sorting.SortOrder> sortRules = new LinkedHashMap<>();
+        keys.forEach((path, order) -> sortRules.put(path.getFieldPath(), order));
+        return new Sorting(sortRules, true);
+    }
+
+    /**
+     * Get the predicate which selects the rows after the cursor in the order given by {@link #getSorting()}.
+     * For ascending keys k1, k2 with non-null cursor values v1, v2 this is
+     * {@code (k1 > v1 OR k1 IS NULL) OR (k1 = v1 AND (k2 > v2 OR k2 IS NULL))}.
+     *
+     * @return the seek predicate or empty for the first page
+     */
+    public Optional<FilterExpression> getSeekExpression() {
+        String cursor = backwards ? pagination.getBefore() : pagination.getAfter();
+        List<Object> values = decodeCursor(cursor);
+        if (values.isEmpty()) {
+            return Optional.empty();
+        }
+        if (values.size() != keys.size()) {
+            throw new InvalidValueException("Cursor does not match the requested sort order");
+        }
+
+        FilterExpression seek = null;
+        FilterExpression equalPrefix = null;
+        int idx = 0;
+        for (Map.Entry<Path, Sorting.SortOrder> key : keys.entrySet()) {
+            Path path = key.getKey();
+            Object value = values.get(idx++);
+            boolean ascending = key.getValue() == Sorting.SortOrder.asc;
+
+            // Nulls are greater than all other values: last in ascending order and first in descending order
+            FilterExpression isNull = new FilterPredicate(path, Operator.ISNULL, Collections.emptyList());
+            FilterExpression comparison;
+            FilterExpression equal;
+            if (value == null) {
+                comparison = ascending
+                        ? null
+                        : new FilterPredicate(path, Operator.NOTNULL, Collections.emptyList());
+                equal = isNull;
+            } else {
+                value = CoerceUtil.coerce(value, path.lastElement().map(Path.PathElement::getFieldType).orElse(null));
+                FilterExpression beyond = new FilterPredicate(path, ascending ? Operator.GT : Operator.LT,
+                        Collections.singletonList(value));
+                comparison = ascending ? new OrFilterExpression(beyond, isNull) : beyond;
+                equal = new InPredicate(path, value);
+            }
+
+            if (comparison != null) {
+                FilterExpression branch = equalPrefix == null
+                        ? comparison
+                        : new AndFilterExpression(equalPrefix, comparison);
+                seek = seek == null ? branch : new OrFilterExpression(seek, branch);
+            }
+
+            equalPrefix = equalPrefix == null ? equal : new AndFilterExpression(equalPrefix, equal);
+        }
+
+        if (seek == null) {
+            // Only possible when the id, which is never null, is null in the cursor
+            throw new InvalidValueException("Invalid pagination cursor: " + cursor);
+        }
+        return Optional.of(seek);
+    }
+
+    /**
+     * Count the rows of the collection for the page totals.  The data store counts the rows matching the filter it
+     * is given, which for the page includes the seek predicate, so the collection is counted with a separate load
+     * of a single row without it.  Does nothing unless page totals were requested.
+     *
+     * @param load loads the collection without the seek predicate with the given pagination
+     */
+    public void loadPageTotals(Function<Optional<Pagination>, Object> load) {
+        if (!pagination.isGenerateTotals()) {
+            return;
+        }
+        Pagination count = Pagination.fromOffsetAndLimit(1, 0, true);
+        Object loaded = load.apply(Optional.of(count));
+        if (loaded instanceof Iterable) {
+            // Stores which paginate in memory count while the rows are read
+            ((Iterable<?>) loaded).forEach(row -> { });
+        }
+        pageTotals = count.getPageTotals();
+    }
+
+    /**
+     * Collect a page loaded with {@link #getSorting()} and {@link #getSeekExpression()}, restore the requested
+     * order, and record the cursors of the first and last row and the totals from {@link #loadPageTotals} on the
+     * pagination.  When the page was loaded with lookahead, the extra row is dropped and tells whether rows follow
+     * the page.  A page before a cursor is followed by the row of the cursor.
+     *
+     * @param loaded the loaded rows
+     * @return the page in the requested order
+     */
+    public List<Object> getPage(Iterable<Object> loaded) {
+        List<Object> page = new ArrayList<>();
+        loaded.forEach(page::add);
+        if (pagination.isLookahead()) {
+            int pageSize = pagination.getLimit() - 1;
+            boolean more = page.size() > pageSize;
+            if (more) {
+                page = new ArrayList<>(page.subList(0, pageSize));
+            }
+            pagination.setHasNextPage(Optional.of(backwards
+                    ? !decodeCursor(pagination.getBefore()).isEmpty()
+                    : more));
+        }
+        if (backwards) {
+            Collections.reverse(page);
+        }
+
+        if (!page.isEmpty()) {
+            pagination.setStartCursor(getCursor(page.get(0)));
+            pagination.setEndCursor(getCursor(page.get(page.size() - 1)));
+        }
+        if (pageTotals != null) {
+            pagination.setPageTotals(pageTotals);
+        }
+        return page;
+    }
+
+    /**
+     * Build the cursor of a row.
+     *
+     * @param object the row
+     * @return the cursor
+     * @throws com.yahoo.elide.core.exceptions.ForbiddenAccessException if the user may not read a sort key
+     */
+    public String getCursor(Object object) {
+        List<Object> values = new ArrayList<>();
+        for (Path path : keys.keySet()) {
+            Object value = object;
+            for (Path.PathElement element : path.getPathElements()) {
+                if (value == null) {
+                    break;
+                }
+                checkReadPermission(value, element.getFieldName());
+                value = PersistentResource.getValue(value, element.getFieldName(), requestScope);
+            }
+            values.add(value);
+        }
+        return encodeCursor(values);
+    }
+
+    private void checkReadPermission(Object object, String fieldName) {
+        PersistentResource<Object> resource =
+                new PersistentResource<>(object, null, requestScope.getUUIDFor(object), requestScope);
+        requestScope.getPermissionExecutor()
+                .checkSpecificFieldPermissions(resource, null, ReadPermission.class, fieldName);
+    }
+
+    /**
+     * Encode the key values of a row as an opaque cursor.
+     *
+     * @param values the key values
+     * @return the cursor
+     */
+    public static String encodeCursor(List<Object> values) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(values));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Decode a cursor.  An empty cursor selects the first page.
+     *
+     * @param cursor the cursor
+     * @return the key values of the row the cursor was taken from
+     * @throws InvalidValueException if the cursor is malformed
+     */
+    public static List<Object> decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return Collections.emptyList();
+        }
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor.getBytes(StandardCharsets.US_ASCII));
+            return MAPPER.readValue(json, VALUES_TYPE);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new InvalidValueException("Invalid pagination cursor: " + cursor);
+        }
+    }
+
+    private static Sorting.SortOrder reverse(Sorting.SortOrder order) {
+        return order == Sorting.SortOrder.asc ? Sorting.SortOrder.desc : Sorting.SortOrder.asc;
+    }
+}
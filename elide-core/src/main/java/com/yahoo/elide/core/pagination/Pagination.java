@@ -12,6 +12,7 @@ import com.yahoo.elide.core.exceptions.InvalidValueException;
 import com.google.common.collect.ImmutableMap;
 
 import lombok.Getter;
+import lombok.Setter;
 import lombok.ToString;
 
 import java.util.HashMap;
@@ -30,7 +31,7 @@ public class Pagination {
     /**
      * Denotes the internal field names for paging.
      */
-    public enum PaginationKey { offset, number, size, limit, totals }
+    public enum PaginationKey { offset, number, size, limit, totals, after, before }
 
     public static final int DEFAULT_OFFSET = 0;
     public static final int DEFAULT_PAGE_LIMIT = 500;
@@ -51,6 +52,12 @@ public class Pagination {
     // For requesting total pages/records be included in the response page meta data
     public static final String PAGE_TOTALS_KEY = "page[totals]";
 
+    // For requesting the rows after the row a cursor was taken from
+    public static final String PAGE_AFTER_KEY = "page[after]";
+
+    // For requesting the rows before the row a cursor was taken from
+    public static final String PAGE_BEFORE_KEY = "page[before]";
+
     public static final Map<String, PaginationKey> PAGE_KEYS = new HashMap<>();
     static {
         PAGE_KEYS.put(PAGE_NUMBER_KEY, PaginationKey.number);
@@ -58,6 +65,8 @@ public class Pagination {
         PAGE_KEYS.put(PAGE_OFFSET_KEY, PaginationKey.offset);
         PAGE_KEYS.put(PAGE_LIMIT_KEY, PaginationKey.limit);
         PAGE_KEYS.put(PAGE_TOTALS_KEY, PaginationKey.totals);
+        PAGE_KEYS.put(PAGE_AFTER_KEY, PaginationKey.after);
+        PAGE_KEYS.put(PAGE_BEFORE_KEY, PaginationKey.before);
     }
 
     private long pageTotals = 0;
@@ -76,6 +85,29 @@ public class Pagination {
     @Getter
     private boolean generateTotals;
 
+    // The cursors of a keyset page request
+    @Getter
+    private String after;
+
+    @Getter
+    private String before;
+
+    // The cursors of the first and last row of a loaded keyset page
+    @Getter @Setter
+    private String startCursor;
+
+    @Getter @Setter
+    private String endCursor;
+
+    // Fetch one record past the page to tell whether there is a next page without counting the records.
+    // The limit then includes the extra record, which the caller drops.  Keyset pages drop it when they are loaded.
+    @Getter @Setter
+    private boolean lookahead;
+
+    // Whether rows follow a loaded keyset page, known when the page was loaded with lookahead
+    @Getter @Setter
+    private Optional<Boolean> hasNextPage = Optional.empty();
+
     private final int defaultMaxPageSize;
     private final int defaultPageSize;
 
@@ -130,8 +162,14 @@ public class Pagination {
             int offset;
             int first;
 
+            // A non numeric offset is a cursor
+            String cursor = offsetOpt.filter(value -> !isInteger(value)).orElse(null);
+            if (cursor != null) {
+                KeysetPagination.decodeCursor(cursor);
+            }
+
             try {
-                offset = offsetOpt.map(Integer::parseInt).orElse(0);
+                offset = cursor == null ? offsetOpt.map(Integer::parseInt).orElse(0) : 0;
                 first = Integer.parseInt(firstString);
             } catch (NumberFormatException e) {
                 throw new InvalidValueException("Offset and first must be numeric values.");
@@ -144,13 +182,15 @@ public class Pagination {
             }
 
             ImmutableMap.Builder<PaginationKey, Integer> pageData = ImmutableMap.<PaginationKey, Integer>builder()
-                    .put(PAGE_KEYS.get(PAGE_OFFSET_KEY), offset)
+                    .put(PAGE_KEYS.get(cursor == null ? PAGE_OFFSET_KEY : PAGE_AFTER_KEY), offset)
                     .put(PAGE_KEYS.get(PAGE_LIMIT_KEY), first);
             if (generatePageTotals) {
                 pageData.put(PAGE_KEYS.get(PAGE_TOTALS_KEY), 1);
             }
 
-            return Optional.of(getPagination(pageData.build(), elideSettings));
+            Pagination pagination = getPagination(pageData.build(), elideSettings);
+            pagination.after = cursor;
+            return Optional.of(pagination);
         }).orElseGet(() -> {
             if (generatePageTotals) {
                 Pagination pagination = getDefaultPagination(elideSettings);
@@ -173,6 +213,7 @@ public class Pagination {
                                               ElideSettings elideSettings)
             throws InvalidValueException {
         final Map<PaginationKey, Integer> pageData = new HashMap<>();
+        final Map<PaginationKey, String> cursors = new HashMap<>();
         queryParams.entrySet()
                 .forEach(paramEntry -> {
                     final String queryParamKey = paramEntry.getKey();
@@ -182,6 +223,12 @@ public class Pagination {
                             // page[totals] is a valueless parameter, use value of 0 just so that its presence can
                             // be recorded in the map
                             pageData.put(paginationKey, 0);
+                        } else if (paginationKey == PaginationKey.after || paginationKey == PaginationKey.before) {
+                            // Cursors are opaque strings, record their presence in the map
+                            final String value = paramEntry.getValue().get(0);
+                            KeysetPagination.decodeCursor(value);
+                            cursors.put(paginationKey, value == null ? "" : value);
+                            pageData.put(paginationKey, 0);
                         } else {
                             final String value = paramEntry.getValue().get(0);
                             try {
@@ -196,7 +243,19 @@ public class Pagination {
                                 + PAGE_KEYS_CSV);
                     }
                 });
-        return getPagination(pageData, elideSettings);
+        Pagination pagination = getPagination(pageData, elideSettings);
+        pagination.after = cursors.get(PaginationKey.after);
+        pagination.before = cursors.get(PaginationKey.before);
+        return pagination;
+    }
+
+    /**
+     * Whether this is a keyset page request, selected by a cursor rather than an offset.
+     *
+     * @return true if there is an after or before cursor
+     */
+    public boolean hasCursor() {
+        return after != null || before != null;
     }
 
     /**
@@ -253,12 +312,24 @@ public class Pagination {
 
         generateTotals = pageData.containsKey(PaginationKey.totals);
 
+        if (lookahead) {
+            limit++;
+        }
+
         return this;
     }
 
     private boolean hasInvalidCombination(Map<PaginationKey, Integer> pageData) {
-        return (pageData.containsKey(PaginationKey.size) || pageData.containsKey(PaginationKey.number))
-                && (pageData.containsKey(PaginationKey.limit) || pageData.containsKey(PaginationKey.offset));
+        boolean hasCursor = pageData.containsKey(PaginationKey.after) || pageData.containsKey(PaginationKey.before);
+        return ((pageData.containsKey(PaginationKey.size) || pageData.containsKey(PaginationKey.number))
+                && (pageData.containsKey(PaginationKey.limit) || pageData.containsKey(PaginationKey.offset)))
+                || (pageData.containsKey(PaginationKey.after) && pageData.containsKey(PaginationKey.before))
+                || (hasCursor && (pageData.containsKey(PaginationKey.offset)
+                        || pageData.containsKey(PaginationKey.number)));
+    }
+
+    private static boolean isInteger(String value) {
+        return !value.isEmpty() && value.chars().allMatch(c -> Character.isDigit(c) || c == '-');
     }
 
     private void pageByOffset(int defaultLimit, int maxLimit) {
@@ -9,6 +9,7 @@ import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.exceptions.InvalidValueException;
 
+import lombok.Getter;
 import lombok.ToString;
 
 import java.util.Arrays;
@@ -34,14 +35,31 @@ public class Sorting {
     private static final Sorting DEFAULT_EMPTY_INSTANCE = null;
     private static final String JSONAPI_ID_KEYWORD = "id";
 
+    /**
+     * Whether null values must be ordered as greater than all other values: last in ascending order and first in
+     * descending order.  Otherwise, the data store orders null values as it sees fit.
+     */
+    @Getter
+    private final boolean nullsGreatest;
+
     /**
      * Constructs a new Sorting instance.
      * @param sortingRules The map of sorting rules
      */
     public Sorting(final Map<String, SortOrder> sortingRules) {
+        this(sortingRules, false);
+    }
+
+    /**
+     * Constructs a new Sorting instance.
+     * @param sortingRules The map of sorting rules
+     * @param nullsGreatest Whether null values must be ordered as greater than all other values
+     */
+    public Sorting(final Map<String, SortOrder> sortingRules, boolean nullsGreatest) {
         if (sortingRules != null) {
             sortRules.putAll(sortingRules);
         }
+        this.nullsGreatest = nullsGreatest;
     }
 
     /**
@@ -14,6 +14,7 @@ import com.yahoo.elide.core.exceptions.JsonPatchExtensionException;
 import com.yahoo.elide.jsonapi.models.Data;
 import com.yahoo.elide.jsonapi.models.JsonApiDocument;
 import com.yahoo.elide.jsonapi.models.Patch;
+import com.yahoo.elide.jsonapi.models.Relationship;
 import com.yahoo.elide.jsonapi.models.Resource;
 import com.yahoo.elide.parsers.DeleteVisitor;
 import com.yahoo.elide.parsers.JsonApiParser;
@@ -26,13 +27,16 @@ import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -61,7 +65,6 @@ public class JsonApiPatch {
             if (isPostProcessing) {
                 try {
                     // Only update relationships
-                    clearAllExceptRelationships(doc);
                     PatchVisitor visitor = new PatchVisitor(new PatchRequestScope(path, doc, requestScope));
                     visitor.visit(JsonApiParser.parse(path));
                 } catch (HttpStatusException e) {
@@ -74,6 +77,7 @@ public class JsonApiPatch {
 
     private final List<PatchAction> actions;
     private final String rootUri;
+    private final Map<String, ParseTree> parsedPaths = new HashMap<>();
 
     private static final ObjectNode ERR_NODE_ERR_IN_SUBSEQUENT_OPERATION;
     private static final ObjectNode ERR_NODE_OPERATION_NOT_RUN;
@@ -200,17 +204,20 @@ public class JsonApiPatch {
             }
             Collection<Resource> resources = data.get();
             if (!path.contains("relationships")) { // Reserved key for relationships
-                String id = getSingleResource(resources).getId();
-                String fullPath = path + "/" + id;
-                // Defer relationship updating until the end
-                getSingleResource(resources).setRelationships(null);
-                // Reparse since we mangle it first
-                action.doc = requestScope.getMapper().readJsonApiPatchExtValue(patchValue);
-                action.path = fullPath;
-                action.isPostProcessing = true;
+                Resource resource = getSingleResource(resources);
+                Map<String, Relationship> relationships = resource.getRelationships();
+                // Defer relationship updating until the end.  Resources without relationships need no update.
+                if (relationships != null) {
+                    resource.setRelationships(null);
+                    Resource relationshipsOnly =
+                            new Resource(resource.getType(), resource.getId(), null, relationships, null, null);
+                    action.doc = new JsonApiDocument(new Data<>(relationshipsOnly));
+                    action.path = path + "/" + resource.getId();
+                    action.isPostProcessing = true;
+                }
             }
             PostVisitor visitor = new PostVisitor(new PatchRequestScope(path, value, requestScope));
-            return visitor.visit(JsonApiParser.parse(path));
+            return visitor.visit(parse(path));
         } catch (HttpStatusException e) {
             action.cause = e;
             throw e;
@@ -228,7 +235,7 @@ public class JsonApiPatch {
             JsonApiDocument value = requestScope.getMapper().readJsonApiPatchExtValue(patchVal);
             // Defer relationship updating until the end
             PatchVisitor visitor = new PatchVisitor(new PatchRequestScope(path, value, requestScope));
-            return visitor.visit(JsonApiParser.parse(path));
+            return visitor.visit(parse(path));
         } catch (IOException e) {
             throw new InvalidEntityBodyException("Could not parse patch extension value: " + patchVal);
         }
@@ -257,12 +264,20 @@ public class JsonApiPatch {
             }
             DeleteVisitor visitor = new DeleteVisitor(
                 new PatchRequestScope(path, value, requestScope));
-            return visitor.visit(JsonApiParser.parse(fullPath));
+            return visitor.visit(parse(fullPath));
         } catch (IOException e) {
             throw new InvalidEntityBodyException("Could not parse patch extension value: " + patchValue);
         }
     }
 
+    /**
+     * Parse a request path.  Patch documents often apply many operations to the same collection, so each distinct
+     * path is only parsed once.
+     */
+    private ParseTree parse(String path) {
+        return parsedPaths.computeIfAbsent(path, JsonApiParser::parse);
+    }
+
     /**
      * Post-process relationships after all objects for request have been created.
      *
@@ -323,26 +338,6 @@ public class JsonApiPatch {
         return failed;
     }
 
-    /**
-     * Clear all relationships for all resources in document.
-     */
-    private static void clearAllExceptRelationships(JsonApiDocument doc) {
-        Data<Resource> data = doc.getData();
-        if (data == null || data.get() == null) {
-            return;
-        }
-        data.get().forEach(JsonApiPatch::clearAllExceptRelationships);
-    }
-
-    /**
-     * Clear all properties except the relationships.
-     */
-    private static void clearAllExceptRelationships(Resource resource) {
-        resource.setAttributes(null);
-        resource.setLinks(null);
-        resource.setMeta(null);
-    }
-
     /**
      * Convert a message and status to an error node.
      *
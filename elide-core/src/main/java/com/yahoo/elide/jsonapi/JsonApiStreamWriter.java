@@ -0,0 +1,84 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.jsonapi;
+
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.jsonapi.document.processors.IncludedProcessor;
+import com.yahoo.elide.jsonapi.models.Meta;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * Writes a JSON API collection document directly to a {@link JsonGenerator}.
+ * <p>
+ * Each primary resource is converted and written as it is iterated rather than first building a
+ * {@link com.yahoo.elide.jsonapi.models.JsonApiDocument} and its {@link com.fasterxml.jackson.databind.JsonNode}
+ * tree.  Included resources are collected (and de-duplicated) while the primary data is written and are then
+ * written once each.
+ */
+public class JsonApiStreamWriter {
+    private final Iterable<PersistentResource> data;
+    private final Optional<MultivaluedMap<String, String>> queryParams;
+    private final Meta meta;
+
+    /**
+     * Constructor.
+     *
+     * @param data the primary resources, iterated once while the document is written
+     * @param queryParams the query params (used for include processing)
+     * @param meta the document meta block or null
+     */
+    public JsonApiStreamWriter(Iterable<PersistentResource> data,
+                               Optional<MultivaluedMap<String, String>> queryParams,
+                               Meta meta) {
+        this.data = data;
+        this.queryParams = queryParams;
+        this.meta = meta;
+    }
+
+    /**
+     * Write the document.  The generator must have been created by the JSON API object mapper so that
+     * resources are serialized the same way as in a non-streamed response.
+     *
+     * @param generator the generator to write to
+     * @throws IOException if the document cannot be written
+     */
+    public void write(JsonGenerator generator) throws IOException {
+        IncludedProcessor includedProcessor = new IncludedProcessor();
+        Set<PersistentResource> included = new LinkedHashSet<>();
+
+        generator.writeStartObject();
+
+        generator.writeArrayFieldStart("data");
+        for (PersistentResource resource : data) {
+            generator.writeObject(resource.toResource());
+            includedProcessor.forEachIncludedResource(resource, queryParams, included::add);
+        }
+        generator.writeEndArray();
+
+        if (meta != null) {
+            generator.writeObjectField("meta", meta);
+        }
+
+        if (!included.isEmpty()) {
+            generator.writeArrayFieldStart("included");
+            for (PersistentResource resource : included) {
+                generator.writeObject(resource.toResource());
+            }
+            generator.writeEndArray();
+        }
+
+        generator.writeEndObject();
+        generator.flush();
+    }
+}
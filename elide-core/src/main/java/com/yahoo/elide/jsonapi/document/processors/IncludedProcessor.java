@@ -6,28 +6,48 @@
 package com.yahoo.elide.jsonapi.document.processors;
 
 import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.jsonapi.models.JsonApiDocument;
 
-import com.google.common.collect.Lists;
+import org.apache.commons.lang3.tuple.Pair;
 
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import javax.ws.rs.core.MultivaluedMap;
 
 /**
  * A Document Processor that add requested relations to the include block of the JsonApiDocument.
+ * <p>
+ * The include paths are parsed into a tree once.  The tree is resolved breadth first: each relationship of a level
+ * is read for every (distinct) resource of the level before the next level is visited, so the relationship batch
+ * loader can load it with one call.  When the settings provide an include executor and the transaction supports
+ * concurrent reads, the sibling relationships of a level are loaded in parallel.
  */
 public class IncludedProcessor implements DocumentProcessor {
     private static final String RELATION_PATH_DELIMITER = "\\.";
     private static final String RELATION_PATH_SEPARATOR = ",";
     private static final String INCLUDE = "include";
 
+    /**
+     * A relationship of an include path and the relationships requested below it.
+     */
+    private static class IncludeNode {
+        private final Map<String, IncludeNode> children = new LinkedHashMap<>();
+    }
+
     /**
      * If the include query param is present, this processor will add the requested relations resources
      * to the included block of the JsonApiDocument.
@@ -35,9 +55,7 @@ public class IncludedProcessor implements DocumentProcessor {
     @Override
     public void execute(JsonApiDocument jsonApiDocument, PersistentResource resource,
                         Optional<MultivaluedMap<String, String>> queryParams) {
-        if (isPresent(queryParams, INCLUDE)) {
-            addIncludedResources(jsonApiDocument, resource, queryParams.get().get(INCLUDE));
-        }
+        forEachIncludedResource(resource, queryParams, included -> jsonApiDocument.addIncluded(included.toResource()));
     }
 
     /**
@@ -47,57 +65,108 @@ public class IncludedProcessor implements DocumentProcessor {
     @Override
     public void execute(JsonApiDocument jsonApiDocument, Set<PersistentResource> resources,
                         Optional<MultivaluedMap<String, String>> queryParams) {
-        if (isPresent(queryParams, INCLUDE)) {
+        forEachIncludedResource(resources, queryParams,
+                included -> jsonApiDocument.addIncluded(included.toResource()));
+    }
 
-            // Process include for each resource
-            resources.forEach(resource ->
-                    addIncludedResources(jsonApiDocument, resource, queryParams.get().get(INCLUDE)));
+    /**
+     * If the include query param is present, passes each requested relation resource of the given resource
+     * to the consumer once.
+     *
+     * @param resource the resource
+     * @param queryParams the query params
+     * @param consumer receives the included resources
+     */
+    public void forEachIncludedResource(PersistentResource resource,
+                                        Optional<MultivaluedMap<String, String>> queryParams,
+                                        Consumer<PersistentResource> consumer) {
+        forEachIncludedResource(Collections.singleton(resource), queryParams, consumer);
+    }
+
+    /**
+     * If the include query param is present, passes each requested relation resource of the given resources
+     * to the consumer once.
+     *
+     * @param resources the resources
+     * @param queryParams the query params
+     * @param consumer receives the included resources
+     */
+    public void forEachIncludedResource(Collection<PersistentResource> resources,
+                                        Optional<MultivaluedMap<String, String>> queryParams,
+                                        Consumer<PersistentResource> consumer) {
+        if (isPresent(queryParams, INCLUDE) && !resources.isEmpty()) {
+            addIncludedResources(consumer, resources, parseIncludeTree(queryParams.get().get(INCLUDE)));
         }
     }
 
     /**
-     * Adds the requested relation resources to the included block of the JsonApiDocument.
+     * Builds the tree of requested relation paths.
      */
-    private void addIncludedResources(JsonApiDocument jsonApiDocument, PersistentResource rec,
-            List<String> requestedRelationPaths) {
-        // Process each include relation path
-        requestedRelationPaths.forEach(pathParam -> {
-            List<String> pathList = Arrays.asList(pathParam.split(RELATION_PATH_SEPARATOR));
-
-            pathList.forEach(requestedRelationPath -> {
-                List<String> relationPath = Lists.newArrayList(requestedRelationPath.split(RELATION_PATH_DELIMITER));
-                addResourcesForPath(jsonApiDocument, rec, relationPath);
-            });
-        });
+    private static IncludeNode parseIncludeTree(List<String> requestedRelationPaths) {
+        IncludeNode root = new IncludeNode();
+        for (String pathParam : requestedRelationPaths) {
+            for (String requestedRelationPath : pathParam.split(RELATION_PATH_SEPARATOR)) {
+                IncludeNode node = root;
+                for (String relation : requestedRelationPath.split(RELATION_PATH_DELIMITER)) {
+                    node = node.children.computeIfAbsent(relation, key -> new IncludeNode());
+                }
+            }
+        }
+        return root;
     }
 
     /**
-     * Adds all the relation resources for a given relation path to the included block of the
-     * JsonApiDocument.
+     * Passes the requested relation resources to the consumer, one level of the include tree at a time.
      */
-    private void addResourcesForPath(JsonApiDocument jsonApiDocument, PersistentResource<?> rec,
-                                     List<String> relationPath) {
+    private void addIncludedResources(Consumer<PersistentResource> consumer, Collection<PersistentResource> records,
+                                      IncludeNode root) {
+        Set<PersistentResource> included = new HashSet<>();
+        Queue<Pair<IncludeNode, Collection<PersistentResource>>> levels = new ArrayDeque<>();
+        levels.add(Pair.of(root, records));
+
+        while (!levels.isEmpty()) {
+            Pair<IncludeNode, Collection<PersistentResource>> level = levels.remove();
+            IncludeNode node = level.getLeft();
+            Collection<PersistentResource> parents = level.getRight();
+
+            prefetch(parents, node.children.keySet());
+
+            node.children.forEach((relation, child) -> {
+                Set<PersistentResource> resources = new LinkedHashSet<>();
+                parents.forEach(parent -> resources.addAll(getRelation(parent, relation)));
+
+                for (PersistentResource resource : resources) {
+                    if (included.add(resource)) {
+                        consumer.accept(resource);
+                    }
+                }
+
+                if (!child.children.isEmpty() && !resources.isEmpty()) {
+                    levels.add(Pair.of(child, resources));
+                }
+            });
+        }
+    }
 
-        //Pop off a relation of relation path
-        String relation = relationPath.remove(0);
+    /**
+     * Loads the sibling relationships of a level in parallel when the request allows it.
+     */
+    private static void prefetch(Collection<PersistentResource> parents, Collection<String> relations) {
+        RequestScope requestScope = parents.iterator().next().getRequestScope();
+        requestScope.getRelationshipBatchLoader()
+                .prefetch(parents, relations, requestScope.getElideSettings().getIncludeExecutor());
+    }
 
+    /**
+     * Reads the relation resources of a resource which the user may read.
+     */
+    private static Set<PersistentResource> getRelation(PersistentResource<?> rec, String relation) {
         Optional<FilterExpression> filterExpression = rec.getRequestScope().getExpressionForRelation(rec, relation);
-        Set<PersistentResource> collection;
         try {
-            collection = rec.getRelationCheckedFiltered(relation, filterExpression, Optional.empty(), Optional.empty());
+            return rec.getRelationCheckedFiltered(relation, filterExpression, Optional.empty(), Optional.empty());
         } catch (ForbiddenAccessException e) {
-            return;
+            return Collections.emptySet();
         }
-
-        collection.forEach(resource -> {
-            jsonApiDocument.addIncluded(resource.toResource());
-
-            //If more relations left in the path, process a level deeper
-            if (!relationPath.isEmpty()) {
-                //Use a copy of the relationPath to preserve the path for remaining branches of the relationship tree
-                addResourcesForPath(jsonApiDocument, resource, new ArrayList<>(relationPath));
-            }
-        });
     }
 
     private static boolean isPresent(Optional<MultivaluedMap<String, String>> queryParams, String key) {
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.metrics;
+
+/**
+ * Times the phases of a request.  Elide starts a timer when a phase begins and closes it when the phase ends:
+ * <pre>
+ * try (ElideMetrics.Timer timer = metrics.start(Phase.LOAD, Book.class, "loadObjects")) {
+ *     ...
+ * }
+ * </pre>
+ * Implementations are shared by all requests and must be thread safe.  Phases can nest, for example permission
+ * checks that load relationships.
+ */
+@FunctionalInterface
+public interface ElideMetrics {
+
+    /**
+     * Metrics that record nothing.
+     */
+    ElideMetrics NONE = (phase, entityClass, operation) -> Timer.NONE;
+
+    /**
+     * The timed phases of a request.
+     */
+    enum Phase {
+        /** Parsing the request path and document. */
+        PARSE,
+        /** Parsing the filter query parameters. */
+        FILTER_PARSE,
+        /** Data store reads. */
+        LOAD,
+        /** Permission evaluation. */
+        PERMISSION,
+        /** Lifecycle triggers. */
+        TRIGGER,
+        /** Serializing the response. */
+        SERIALIZE
+    }
+
+    /**
+     * A started timer.  Closing it records the elapsed time.
+     */
+    @FunctionalInterface
+    interface Timer extends AutoCloseable {
+        Timer NONE = () -> { };
+
+        @Override
+        void close();
+    }
+
+    /**
+     * Start timing a phase.
+     *
+     * @param phase the phase
+     * @param entityClass the entity class the phase works on or null
+     * @param operation the operation within the phase
+     * @return the timer to close when the phase ends
+     */
+    Timer start(Phase phase, Class<?> entityClass, String operation);
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.metrics;
+
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.wrapped.TransactionWrapper;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+import com.yahoo.elide.metrics.ElideMetrics.Phase;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Times the data store reads of a transaction.
+ */
+public class TimedTransaction extends TransactionWrapper {
+    private final ElideMetrics metrics;
+
+    public TimedTransaction(DataStoreTransaction tx, ElideMetrics metrics) {
+        super(tx);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Object loadObject(Class<?> entityClass, Serializable id, Optional<FilterExpression> filterExpression,
+                             RequestScope scope) {
+        try (ElideMetrics.Timer timer = metrics.start(Phase.LOAD, entityClass, "loadObject")) {
+            return super.loadObject(entityClass, id, filterExpression, scope);
+        }
+    }
+
+    @Override
+    public Iterable<Object> loadObjects(Class<?> entityClass, Optional<FilterExpression> filterExpression,
+                                        Optional<Sorting> sorting, Optional<Pagination> pagination,
+                                        RequestScope scope) {
+        try (ElideMetrics.Timer timer = metrics.start(Phase.LOAD, entityClass, "loadObjects")) {
+            return super.loadObjects(entityClass, filterExpression, sorting, pagination, scope);
+        }
+    }
+
+    @Override
+    public Object getRelation(DataStoreTransaction relationTx, Object entity, String relationName,
+                              Optional<FilterExpression> filterExpression, Optional<Sorting> sorting,
+                              Optional<Pagination> pagination, RequestScope scope) {
+        try (ElideMetrics.Timer timer = metrics.start(Phase.LOAD, entity.getClass(), "getRelation")) {
+            return super.getRelation(relationTx, entity, relationName, filterExpression, sorting, pagination, scope);
+        }
+    }
+
+    @Override
+    public Map<Object, Object> getRelations(DataStoreTransaction relationTx, Collection<?> entities,
+                                            String relationName, Optional<FilterExpression> filterExpression,
+                                            RequestScope scope) {
+        Class<?> entityClass = entities.isEmpty() ? null : entities.iterator().next().getClass();
+        try (ElideMetrics.Timer timer = metrics.start(Phase.LOAD, entityClass, "getRelations")) {
+            return super.getRelations(relationTx, entities, relationName, filterExpression, scope);
+        }
+    }
+}
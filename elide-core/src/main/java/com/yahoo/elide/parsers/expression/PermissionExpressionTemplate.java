@@ -0,0 +1,30 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.parsers.expression;
+
+import com.yahoo.elide.security.checks.Check;
+import com.yahoo.elide.security.permissions.expressions.Expression;
+
+import java.util.function.Function;
+
+/**
+ * A permission expression compiled from its {@code ParseTree}.
+ * <p>
+ * Templates are immutable and hold one instance of each check, so they are compiled once and shared by all
+ * requests.  Binding a template only creates the expression nodes for a resource.  Checks must not keep state
+ * between evaluations.
+ */
+@FunctionalInterface
+public interface PermissionExpressionTemplate {
+
+    /**
+     * Build the expression for one evaluation.
+     *
+     * @param expressionGenerator creates the leaf expression of a check
+     * @return the expression
+     */
+    Expression bind(Function<Check, Expression> expressionGenerator);
+}
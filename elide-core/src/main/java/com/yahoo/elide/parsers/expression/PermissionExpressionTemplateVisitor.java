@@ -0,0 +1,59 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.parsers.expression;
+
+import com.yahoo.elide.core.CheckInstantiator;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.generated.parsers.ExpressionBaseVisitor;
+import com.yahoo.elide.generated.parsers.ExpressionParser;
+import com.yahoo.elide.security.checks.Check;
+import com.yahoo.elide.security.permissions.expressions.AndExpression;
+import com.yahoo.elide.security.permissions.expressions.NotExpression;
+import com.yahoo.elide.security.permissions.expressions.OrExpression;
+
+/**
+ * Compiles a permission {@code ParseTree} into a {@link PermissionExpressionTemplate}.
+ * Checks are instantiated once when the template is compiled.
+ */
+public class PermissionExpressionTemplateVisitor extends ExpressionBaseVisitor<PermissionExpressionTemplate>
+        implements CheckInstantiator {
+    private final EntityDictionary dictionary;
+
+    public PermissionExpressionTemplateVisitor(EntityDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    @Override
+    public PermissionExpressionTemplate visitNOT(ExpressionParser.NOTContext ctx) {
+        PermissionExpressionTemplate expression = visit(ctx.expression());
+        return (generator) -> new NotExpression(expression.bind(generator));
+    }
+
+    @Override
+    public PermissionExpressionTemplate visitOR(ExpressionParser.ORContext ctx) {
+        PermissionExpressionTemplate left = visit(ctx.left);
+        PermissionExpressionTemplate right = visit(ctx.right);
+        return (generator) -> new OrExpression(left.bind(generator), right.bind(generator));
+    }
+
+    @Override
+    public PermissionExpressionTemplate visitAND(ExpressionParser.ANDContext ctx) {
+        PermissionExpressionTemplate left = visit(ctx.left);
+        PermissionExpressionTemplate right = visit(ctx.right);
+        return (generator) -> new AndExpression(left.bind(generator), right.bind(generator));
+    }
+
+    @Override
+    public PermissionExpressionTemplate visitPAREN(ExpressionParser.PARENContext ctx) {
+        return visit(ctx.expression());
+    }
+
+    @Override
+    public PermissionExpressionTemplate visitPermissionClass(ExpressionParser.PermissionClassContext ctx) {
+        Check check = getCheck(dictionary, ctx.getText());
+        return (generator) -> generator.apply(check);
+    }
+}
@@ -12,12 +12,14 @@ import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
 import com.yahoo.elide.core.exceptions.InternalServerErrorException;
 import com.yahoo.elide.core.exceptions.InvalidEntityBodyException;
 import com.yahoo.elide.core.exceptions.InvalidObjectIdentifierException;
+import com.yahoo.elide.core.exceptions.InvalidOperationException;
 import com.yahoo.elide.core.exceptions.InvalidValueException;
 import com.yahoo.elide.core.exceptions.UnknownEntityException;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.core.sort.Sorting;
 import com.yahoo.elide.jsonapi.JsonApiMapper;
+import com.yahoo.elide.jsonapi.JsonApiStreamWriter;
 import com.yahoo.elide.jsonapi.document.processors.DocumentProcessor;
 import com.yahoo.elide.jsonapi.document.processors.IncludedProcessor;
 import com.yahoo.elide.jsonapi.models.Data;
@@ -69,36 +71,26 @@ public class CollectionTerminalState extends BaseState {
         RequestScope requestScope = state.getRequestScope();
         Optional<MultivaluedMap<String, String>> queryParams = requestScope.getQueryParams();
 
+        if (requestScope.getElideSettings().isStreamResponses()) {
+            // Serialization is deferred until the response body is written.  The query runs (and sets the page
+            // totals) here, the records are read while they are written.
+            Iterable<PersistentResource> collection = getStreamedCollection(requestScope);
+            requestScope.setStreamWriter(new JsonApiStreamWriter(collection, queryParams,
+                    getPaginationMeta(requestScope.getPagination())));
+            return () -> Pair.of(HttpStatus.SC_OK, null);
+        }
+
         Set<PersistentResource> collection = getResourceCollection(requestScope);
+
         // Set data
-        jsonApiDocument.setData(getData(collection));
+        jsonApiDocument.setData(getData(collection, requestScope));
 
         // Run include processor
         DocumentProcessor includedProcessor = new IncludedProcessor();
         includedProcessor.execute(jsonApiDocument, collection, queryParams);
 
         // Add pagination meta data
-        Pagination pagination = requestScope.getPagination();
-        if (!pagination.isEmpty()) {
-
-            Map<String, Number> pageMetaData = new HashMap<>();
-            pageMetaData.put("number", (pagination.getOffset() / pagination.getLimit()) + 1);
-            pageMetaData.put("limit", pagination.getLimit());
-
-            // Get total records if it has been requested and add to the page meta data
-            if (pagination.isGenerateTotals()) {
-                Long totalRecords = pagination.getPageTotals();
-                pageMetaData.put("totalPages", totalRecords / pagination.getLimit()
-                        + ((totalRecords % pagination.getLimit()) > 0 ? 1 : 0));
-                pageMetaData.put("totalRecords", totalRecords);
-            }
-
-            Map<String, Object> allMetaData = new HashMap<>();
-            allMetaData.put("page", pageMetaData);
-
-            Meta meta = new Meta(allMetaData);
-            jsonApiDocument.setMeta(meta);
-        }
+        jsonApiDocument.setMeta(getPaginationMeta(requestScope.getPagination()));
 
         JsonNode responseBody = requestScope.getMapper().toJsonObject(jsonApiDocument);
 
@@ -120,6 +112,93 @@ public class CollectionTerminalState extends BaseState {
         };
     }
 
+    /**
+     * Delete every record of a root collection matching the request filter.
+     */
+    @Override
+    public Supplier<Pair<Integer, JsonNode>> handleDelete(StateContext state) {
+        RequestScope requestScope = state.getRequestScope();
+
+        PersistentResource.deleteRecords(entityClass, getBulkFilterExpression(requestScope), requestScope);
+        return () -> Pair.of(HttpStatus.SC_NO_CONTENT, null);
+    }
+
+    /**
+     * Set the attributes of the body on every record of a root collection matching the request filter.  The body
+     * is a single resource without an id or relationships.
+     */
+    @Override
+    public Supplier<Pair<Integer, JsonNode>> handlePatch(StateContext state) {
+        RequestScope requestScope = state.getRequestScope();
+        FilterExpression filterExpression = getBulkFilterExpression(requestScope);
+
+        Data<Resource> data = state.getJsonApiDocument().getData();
+        if (data == null) {
+            throw new InvalidEntityBodyException("Expected data but found null");
+        }
+        if (!data.isToOne()) {
+            throw new InvalidEntityBodyException("Expected single element but found list");
+        }
+
+        Resource resource = data.getSingleValue();
+        if (!requestScope.getDictionary().getJsonAliasFor(entityClass).equals(resource.getType())) {
+            throw new InvalidEntityBodyException("Type in request body does not match the collection");
+        }
+        if (resource.getId() != null || resource.getRelationships() != null) {
+            throw new InvalidEntityBodyException("Bulk updates only accept attributes");
+        }
+
+        Map<String, Object> attributes = resource.getAttributes();
+        if (attributes != null && !attributes.isEmpty()) {
+            PersistentResource.updateRecords(entityClass, attributes, filterExpression, requestScope);
+        }
+        return () -> Pair.of(HttpStatus.SC_NO_CONTENT, null);
+    }
+
+    /**
+     * Get the filter of a bulk write.  A filter is required so that a collection is not emptied by mistake.
+     */
+    private FilterExpression getBulkFilterExpression(RequestScope requestScope) {
+        String type = requestScope.getDictionary().getJsonAliasFor(entityClass);
+        if (parent.isPresent()) {
+            throw new InvalidOperationException("Bulk writes are only supported on root collections, not "
+                    + relationName.get());
+        }
+        return requestScope.getRequestFilterExpression(entityClass)
+                .orElseThrow(() -> new InvalidOperationException("Bulk writes of " + type + " require a filter"));
+    }
+
+    private static Meta getPaginationMeta(Pagination pagination) {
+        if (pagination.isEmpty()) {
+            return null;
+        }
+
+        Map<String, Object> pageMetaData = new HashMap<>();
+        if (pagination.hasCursor()) {
+            // Keyset pages have no page number, return the cursors to request the neighbouring pages instead
+            if (pagination.getStartCursor() != null) {
+                pageMetaData.put("startCursor", pagination.getStartCursor());
+                pageMetaData.put("endCursor", pagination.getEndCursor());
+            }
+        } else {
+            pageMetaData.put("number", (pagination.getOffset() / pagination.getLimit()) + 1);
+        }
+        pageMetaData.put("limit", pagination.getLimit());
+
+        // Get total records if it has been requested and add to the page meta data
+        if (pagination.isGenerateTotals()) {
+            Long totalRecords = pagination.getPageTotals();
+            pageMetaData.put("totalPages", totalRecords / pagination.getLimit()
+                    + ((totalRecords % pagination.getLimit()) > 0 ? 1 : 0));
+            pageMetaData.put("totalRecords", totalRecords);
+        }
+
+        Map<String, Object> allMetaData = new HashMap<>();
+        allMetaData.put("page", pageMetaData);
+
+        return new Meta(allMetaData);
+    }
+
     private Set<PersistentResource> getResourceCollection(RequestScope requestScope) {
         final Set<PersistentResource> collection;
         // TODO: In case of join filters, apply pagination after getting records
@@ -152,9 +231,33 @@ public class CollectionTerminalState extends BaseState {
         return collection;
     }
 
-    private Data getData(Set<PersistentResource> collection) {
+    /**
+     * A root collection is read from the data store while it is written, a relationship is already loaded with
+     * its parent.
+     */
+    private Iterable<PersistentResource> getStreamedCollection(RequestScope requestScope) {
+        if (parent.isPresent()) {
+            return getResourceCollection(requestScope);
+        }
+
+        return PersistentResource.streamRecords(
+                entityClass,
+                requestScope.getLoadFilterExpression(entityClass),
+                Optional.ofNullable(requestScope.getSorting()),
+                Optional.ofNullable(requestScope.getPagination()),
+                requestScope);
+    }
+
+    private Data getData(Set<PersistentResource> collection, RequestScope requestScope) {
         Preconditions.checkNotNull(collection);
-        List<Resource> resources = collection.stream().map(PersistentResource::toResource).collect(Collectors.toList());
+        List<PersistentResource> records = new ArrayList<>();
+        collection.forEach(records::add);
+
+        // Load the relationships of the whole collection together
+        requestScope.getRelationshipBatchLoader().register(
+                records.stream().map(PersistentResource::getObject).collect(Collectors.toList()));
+
+        List<Resource> resources = records.stream().map(PersistentResource::toResource).collect(Collectors.toList());
         return new Data<>(resources);
     }
 
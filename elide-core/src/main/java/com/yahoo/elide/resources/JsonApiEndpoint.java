@@ -9,6 +9,9 @@ import com.yahoo.elide.Elide;
 import com.yahoo.elide.ElideResponse;
 import com.yahoo.elide.annotation.PATCH;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.function.Function;
 
 import javax.inject.Inject;
@@ -26,6 +29,7 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 
 /**
@@ -89,6 +93,7 @@ public class JsonApiEndpoint {
      * @param contentType document MIME type
      * @param accept response MIME type
      * @param path request path
+     * @param uriInfo URI info
      * @param securityContext security context
      * @param jsonapiDocument patch data as jsonapi document
      * @return response
@@ -100,8 +105,30 @@ public class JsonApiEndpoint {
         @HeaderParam("Content-Type") String contentType,
         @HeaderParam("accept") String accept,
         @PathParam("path") String path,
+        @Context UriInfo uriInfo,
         @Context SecurityContext securityContext,
         String jsonapiDocument) {
+        MultivaluedMap<String, String> queryParams = uriInfo.getQueryParameters();
+        return build(elide.patch(contentType, accept, path, jsonapiDocument, queryParams,
+                getUser.apply(securityContext)));
+    }
+
+    /**
+     * Update handler without query parameters.
+     *
+     * @param contentType document MIME type
+     * @param accept response MIME type
+     * @param path request path
+     * @param securityContext security context
+     * @param jsonapiDocument patch data as jsonapi document
+     * @return response
+     */
+    public Response patch(
+        String contentType,
+        String accept,
+        String path,
+        SecurityContext securityContext,
+        String jsonapiDocument) {
         return build(elide.patch(contentType, accept, path, jsonapiDocument, getUser.apply(securityContext)));
     }
 
@@ -109,6 +136,7 @@ public class JsonApiEndpoint {
      * Delete relationship handler (expects body with resource ids and types).
      *
      * @param path request path
+     * @param uriInfo URI info
      * @param securityContext security context
      * @param jsonApiDocument DELETE document
      * @return response
@@ -118,12 +146,67 @@ public class JsonApiEndpoint {
     @Consumes("application/vnd.api+json")
     public Response delete(
         @PathParam("path") String path,
+        @Context UriInfo uriInfo,
         @Context SecurityContext securityContext,
         String jsonApiDocument) {
+        MultivaluedMap<String, String> queryParams = uriInfo.getQueryParameters();
+        return build(elide.delete(path, jsonApiDocument, queryParams, getUser.apply(securityContext)));
+    }
+
+    /**
+     * Delete relationship handler without query parameters.
+     *
+     * @param path request path
+     * @param securityContext security context
+     * @param jsonApiDocument DELETE document
+     * @return response
+     */
+    public Response delete(
+        String path,
+        SecurityContext securityContext,
+        String jsonApiDocument) {
         return build(elide.delete(path, jsonApiDocument, getUser.apply(securityContext)));
     }
 
     private static Response build(ElideResponse response) {
+        if (response.isStreaming()) {
+            try {
+                return Response.status(response.getResponseCode()).entity(new StreamedBody(response)).build();
+            } catch (RuntimeException | Error e) {
+                closeQuietly(response, e);
+                throw e;
+            }
+        }
         return Response.status(response.getResponseCode()).entity(response.getBody()).build();
     }
+
+    private static void closeQuietly(ElideResponse response, Throwable cause) {
+        try {
+            response.close();
+        } catch (IOException | RuntimeException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    /**
+     * The entity of a streamed response.  Containers which close entities when the response is done, also when it
+     * was never written, end the request of a body which was discarded.
+     */
+    private static class StreamedBody implements StreamingOutput, Closeable {
+        private final ElideResponse response;
+
+        StreamedBody(ElideResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public void write(OutputStream out) throws IOException {
+            response.writeBody(out);
+        }
+
+        @Override
+        public void close() throws IOException {
+            response.close();
+        }
+    }
 }
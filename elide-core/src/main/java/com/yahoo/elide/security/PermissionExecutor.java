@@ -9,6 +9,7 @@ import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.security.permissions.ExpressionResult;
 
 import java.lang.annotation.Annotation;
+import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -96,6 +97,23 @@ public interface PermissionExecutor {
      */
     Optional<FilterExpression> getReadPermissionFilter(Class<?> resourceClass);
 
+    /**
+     * Restrict a filter to the instances the user may read and modify, so that a bulk write can be done by the
+     * data store without loading the instances.
+     *
+     * @param resourceClass the class to modify
+     * @param annotationClass the permission of the modification
+     * @param fields the fields to update.  Empty for deletes.
+     * @param filterExpression the instances to modify
+     * @return the restricted filter, or empty if the permissions can only be evaluated against loaded instances
+     */
+    default Optional<FilterExpression> getBulkPermissionFilter(Class<?> resourceClass,
+                                                               Class<? extends Annotation> annotationClass,
+                                                               Collection<String> fields,
+                                                               FilterExpression filterExpression) {
+        return Optional.empty();
+    }
+
     /**
      * Execute commit checks.
      */
@@ -18,12 +18,14 @@ import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.metrics.ElideMetrics;
 import com.yahoo.elide.security.ChangeSpec;
 import com.yahoo.elide.security.PermissionExecutor;
 import com.yahoo.elide.security.PersistentResource;
 import com.yahoo.elide.security.permissions.ExpressionResult;
 import com.yahoo.elide.security.permissions.ExpressionResultCache;
 import com.yahoo.elide.security.permissions.PermissionExpressionBuilder;
+import com.yahoo.elide.security.permissions.UserCheckCache;
 import com.yahoo.elide.security.permissions.expressions.Expression;
 
 import org.apache.commons.lang3.tuple.Triple;
@@ -33,6 +35,7 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.lang.annotation.Annotation;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -52,6 +55,7 @@ public class ActivePermissionExecutor implements PermissionExecutor {
     private final RequestScope requestScope;
     private final PermissionExpressionBuilder expressionBuilder;
     private final Map<Triple<Class<? extends Annotation>, Class, String>, ExpressionResult> userPermissionCheckCache;
+    private final UserCheckCache sharedUserCheckCache;
     private final Map<String, Long> checkStats;
     private final boolean verbose;
 
@@ -76,6 +80,7 @@ public class ActivePermissionExecutor implements PermissionExecutor {
         this.requestScope = requestScope;
         this.expressionBuilder = new PermissionExpressionBuilder(cache, requestScope.getDictionary());
         userPermissionCheckCache = new HashMap<>();
+        sharedUserCheckCache = requestScope.getElideSettings().getUserCheckCache();
         checkStats = new HashMap<>();
         this.verbose = verbose;
     }
@@ -271,9 +276,32 @@ public class ActivePermissionExecutor implements PermissionExecutor {
             Supplier<Expression> expressionSupplier,
             Optional<Function<Expression, ExpressionResult>> expressionExecutor) {
 
+        try (ElideMetrics.Timer timer = requestScope.getElideSettings().getMetrics()
+                .start(ElideMetrics.Phase.PERMISSION, resourceClass, annotationClass.getSimpleName())) {
+            return evaluatePermissions(resourceClass, annotationClass, field, expressionSupplier, expressionExecutor);
+        }
+    }
+
+    private <A extends Annotation> ExpressionResult evaluatePermissions(
+            Class<?> resourceClass,
+            Class<A> annotationClass,
+            Optional<String> field,
+            Supplier<Expression> expressionSupplier,
+            Optional<Function<Expression, ExpressionResult>> expressionExecutor) {
+
         // If the user check has already been evaluated before, return the result directly and save the building cost
-        ExpressionResult expressionResult
-                = userPermissionCheckCache.get(Triple.of(annotationClass, resourceClass, field.orElse(null)));
+        Triple<Class<? extends Annotation>, Class, String> cacheKey =
+                Triple.of(annotationClass, resourceClass, field.orElse(null));
+        ExpressionResult expressionResult = userPermissionCheckCache.get(cacheKey);
+
+        if (expressionResult == null && sharedUserCheckCache != null) {
+            expressionResult = sharedUserCheckCache
+                    .get(requestScope.getUser(), resourceClass, annotationClass, field.orElse(null))
+                    .orElse(null);
+            if (expressionResult != null) {
+                userPermissionCheckCache.put(cacheKey, expressionResult);
+            }
+        }
 
         if (expressionResult == PASS) {
             return expressionResult;
@@ -281,14 +309,24 @@ public class ActivePermissionExecutor implements PermissionExecutor {
 
         Expression expression = expressionSupplier.get();
 
-        if (expressionResult == null) {
-            expressionResult = executeExpressions(
-                    expression,
-                    annotationClass,
+        if (expressionResult == FAIL) {
+            throw new ForbiddenAccessException(EntityDictionary.getSimpleName(annotationClass), expression,
                     Expression.EvaluationMode.USER_CHECKS_ONLY);
+        }
 
-            userPermissionCheckCache.put(
-                    Triple.of(annotationClass, resourceClass, field.orElse(null)), expressionResult);
+        if (expressionResult == null) {
+            try {
+                expressionResult = executeExpressions(
+                        expression,
+                        annotationClass,
+                        Expression.EvaluationMode.USER_CHECKS_ONLY);
+            } catch (ForbiddenAccessException e) {
+                shareUserCheckResult(resourceClass, annotationClass, field, FAIL);
+                throw e;
+            }
+
+            userPermissionCheckCache.put(cacheKey, expressionResult);
+            shareUserCheckResult(resourceClass, annotationClass, field, expressionResult);
 
             if (expressionResult == PASS) {
                 return expressionResult;
@@ -300,6 +338,17 @@ public class ActivePermissionExecutor implements PermissionExecutor {
                 .orElse(expressionResult);
     }
 
+    /**
+     * Record the result of evaluating user checks in the cache shared between requests (if one is configured).
+     */
+    private void shareUserCheckResult(Class<?> resourceClass, Class<? extends Annotation> annotationClass,
+                                      Optional<String> field, ExpressionResult result) {
+        if (sharedUserCheckCache != null) {
+            sharedUserCheckCache.put(requestScope.getUser(), resourceClass, annotationClass, field.orElse(null),
+                    result);
+        }
+    }
+
     /**
      * Only executes user permissions.
      *
@@ -366,6 +415,15 @@ public class ActivePermissionExecutor implements PermissionExecutor {
         return Optional.ofNullable(filterExpression);
     }
 
+    @Override
+    public Optional<FilterExpression> getBulkPermissionFilter(Class<?> resourceClass,
+                                                              Class<? extends Annotation> annotationClass,
+                                                              Collection<String> fields,
+                                                              FilterExpression filterExpression) {
+        return Optional.ofNullable(expressionBuilder.buildBulkFilterExpression(
+                resourceClass, annotationClass, fields, filterExpression, requestScope));
+    }
+
     /**
      * Execute commmit checks.
      */
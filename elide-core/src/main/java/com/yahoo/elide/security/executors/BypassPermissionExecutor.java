@@ -12,6 +12,7 @@ import com.yahoo.elide.security.PersistentResource;
 import com.yahoo.elide.security.permissions.ExpressionResult;
 
 import java.lang.annotation.Annotation;
+import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -54,6 +55,14 @@ public class BypassPermissionExecutor implements PermissionExecutor {
         return Optional.empty();
     }
 
+    @Override
+    public Optional<FilterExpression> getBulkPermissionFilter(Class<?> resourceClass,
+                                                              Class<? extends Annotation> annotationClass,
+                                                              Collection<String> fields,
+                                                              FilterExpression filterExpression) {
+        return Optional.of(filterExpression);
+    }
+
     @Override
     public void executeCommitChecks() {
 
@@ -13,15 +13,22 @@ import static com.yahoo.elide.security.permissions.expressions.Expression.Result
 import com.yahoo.elide.annotation.ReadPermission;
 import com.yahoo.elide.core.CheckInstantiator;
 import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path.PathElement;
 import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.filter.FalsePredicate;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.expression.OrFilterExpression;
+import com.yahoo.elide.generated.parsers.ExpressionBaseVisitor;
+import com.yahoo.elide.generated.parsers.ExpressionParser;
 import com.yahoo.elide.parsers.expression.FilterExpressionNormalizationVisitor;
-import com.yahoo.elide.parsers.expression.PermissionExpressionVisitor;
+import com.yahoo.elide.parsers.expression.PermissionExpressionTemplate;
 import com.yahoo.elide.parsers.expression.PermissionToFilterExpressionVisitor;
 import com.yahoo.elide.security.ChangeSpec;
+import com.yahoo.elide.security.FilterExpressionCheck;
 import com.yahoo.elide.security.PersistentResource;
 import com.yahoo.elide.security.checks.Check;
+import com.yahoo.elide.security.checks.UserCheck;
 import com.yahoo.elide.security.permissions.expressions.AnyFieldExpression;
 import com.yahoo.elide.security.permissions.expressions.CheckExpression;
 import com.yahoo.elide.security.permissions.expressions.Expression;
@@ -31,6 +38,8 @@ import com.yahoo.elide.security.permissions.expressions.SpecificFieldExpression;
 import org.antlr.v4.runtime.tree.ParseTree;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
@@ -177,12 +186,14 @@ public class PermissionExpressionBuilder implements CheckInstantiator {
         Class<? extends Annotation> annotationClass = condition.getPermission();
         String field = condition.getField().isPresent() ? condition.getField().get() : null;
 
-        ParseTree classPermissions = entityDictionary.getPermissionsForClass(resourceClass, annotationClass);
-        ParseTree fieldPermissions = entityDictionary.getPermissionsForField(resourceClass, field, annotationClass);
+        PermissionExpressionTemplate classPermissions =
+                entityDictionary.getPermissionExpressionForClass(resourceClass, annotationClass);
+        PermissionExpressionTemplate fieldPermissions =
+                entityDictionary.getPermissionExpressionForField(resourceClass, field, annotationClass);
 
         return new SpecificFieldExpression(condition,
-                expressionFromParseTree(classPermissions, checkFn),
-                expressionFromParseTree(fieldPermissions, checkFn)
+                expressionFromTemplate(classPermissions, checkFn),
+                expressionFromTemplate(fieldPermissions, checkFn)
         );
     }
 
@@ -201,8 +212,9 @@ public class PermissionExpressionBuilder implements CheckInstantiator {
         Class<?> resourceClass = condition.getEntityClass();
         Class<? extends Annotation> annotationClass = condition.getPermission();
 
-        ParseTree classPermissions = entityDictionary.getPermissionsForClass(resourceClass, annotationClass);
-        Expression entityExpression = expressionFromParseTree(classPermissions, checkFn);
+        PermissionExpressionTemplate classPermissions =
+                entityDictionary.getPermissionExpressionForClass(resourceClass, annotationClass);
+        Expression entityExpression = expressionFromTemplate(classPermissions, checkFn);
 
         OrExpression allFieldsExpression = new OrExpression(FAILURE, null);
         List<String> fields = entityDictionary.getAllFields(resourceClass);
@@ -214,8 +226,9 @@ public class PermissionExpressionBuilder implements CheckInstantiator {
                 continue;
             }
 
-            ParseTree fieldPermissions = entityDictionary.getPermissionsForField(resourceClass, field, annotationClass);
-            Expression fieldExpression = expressionFromParseTree(fieldPermissions, checkFn);
+            PermissionExpressionTemplate fieldPermissions =
+                    entityDictionary.getPermissionExpressionForField(resourceClass, field, annotationClass);
+            Expression fieldExpression = expressionFromTemplate(fieldPermissions, checkFn);
 
             allFieldsExpression = new OrExpression(allFieldsExpression, fieldExpression);
         }
@@ -282,12 +295,92 @@ public class PermissionExpressionBuilder implements CheckInstantiator {
         return allFieldsFilterExpression;
     }
 
-    private Expression expressionFromParseTree(ParseTree permissions, Function<Check, Expression> checkFn) {
+    /**
+     * Build a filter expression which matches the instances of a filter the user may read and modify.  Only
+     * permissions made of {@link FilterExpressionCheck}s and {@link UserCheck}s can be turned into an exact filter.
+     *
+     * @param forType Resource class
+     * @param annotationClass the permission of the modification
+     * @param fields the fields to update.  Empty for deletes.
+     * @param filterExpression the instances to modify
+     * @param requestScope requestScope
+     * @return the restricted filter expression, or null when a permission needs other checks
+     */
+    public FilterExpression buildBulkFilterExpression(Class<?> forType,
+                                                      Class<? extends Annotation> annotationClass,
+                                                      Collection<String> fields,
+                                                      FilterExpression filterExpression,
+                                                      RequestScope requestScope) {
+        // With field level read permissions an instance is visible when any of its fields is
+        boolean fieldReadPermissions = entityDictionary.getAllFields(forType).stream()
+                .anyMatch(field -> entityDictionary.getPermissionsForField(forType, field, ReadPermission.class)
+                        != null);
+        if (fieldReadPermissions) {
+            return null;
+        }
+
+        ParseTree classPermissions = entityDictionary.getPermissionsForClass(forType, annotationClass);
+        List<ParseTree> permissions = new ArrayList<>();
+        permissions.add(entityDictionary.getPermissionsForClass(forType, ReadPermission.class));
+        if (fields.isEmpty()) {
+            permissions.add(classPermissions);
+        }
+        for (String field : fields) {
+            ParseTree fieldPermissions = entityDictionary.getPermissionsForField(forType, field, annotationClass);
+            permissions.add(fieldPermissions == null ? classPermissions : fieldPermissions);
+        }
+
+        FilterExpression bulkFilter = filterExpression;
+        for (ParseTree permission : permissions) {
+            if (permission == null) {
+                continue;
+            }
+            if (!isFilterable(permission)) {
+                return null;
+            }
+
+            FilterExpression permissionFilter = filterExpressionFromParseTree(permission, forType, requestScope);
+            if (permissionFilter == FALSE_USER_CHECK_EXPRESSION) {
+                String idField = entityDictionary.getIdFieldName(forType);
+                return new FalsePredicate(new PathElement(forType, entityDictionary.getIdType(forType), idField));
+            }
+            if (permissionFilter != TRUE_USER_CHECK_EXPRESSION) {
+                bulkFilter = new AndFilterExpression(bulkFilter, permissionFilter);
+            }
+        }
+        return bulkFilter;
+    }
+
+    /**
+     * Whether or not a permission only contains checks that are turned into filter expressions.
+     */
+    private boolean isFilterable(ParseTree permissions) {
+        return permissions.accept(new ExpressionBaseVisitor<Boolean>() {
+            @Override
+            public Boolean visitPermissionClass(ExpressionParser.PermissionClassContext ctx) {
+                Check check = getCheck(entityDictionary, ctx.getText());
+                return check instanceof FilterExpressionCheck || check instanceof UserCheck;
+            }
+
+            @Override
+            protected Boolean defaultResult() {
+                return true;
+            }
+
+            @Override
+            protected Boolean aggregateResult(Boolean aggregate, Boolean nextResult) {
+                return aggregate && nextResult;
+            }
+        });
+    }
+
+    private Expression expressionFromTemplate(PermissionExpressionTemplate permissions,
+                                              Function<Check, Expression> checkFn) {
         if (permissions == null) {
             return null;
         }
 
-        return new PermissionExpressionVisitor(entityDictionary, checkFn).visit(permissions);
+        return permissions.bind(checkFn);
     }
 
     private FilterExpression filterExpressionFromParseTree(ParseTree permissions, Class type, RequestScope scope) {
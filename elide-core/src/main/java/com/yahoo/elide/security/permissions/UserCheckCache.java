@@ -0,0 +1,158 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.security.permissions;
+
+import com.yahoo.elide.security.User;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+
+import java.lang.annotation.Annotation;
+import java.security.Principal;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import javax.ws.rs.core.SecurityContext;
+
+/**
+ * Cache of user check results shared by all requests.
+ * <p>
+ * The user checks of a permission depend only on the user, so the result of evaluating the user checks of a
+ * permission on an entity (or one of its fields) can be reused by later requests of the same user.  Entries are
+ * keyed by user identity, entity class, permission annotation and field.  The cache is bounded and entries expire
+ * a fixed time after they are written.  Call {@link #invalidate(User)} or {@link #invalidateAll()} when the roles of
+ * a user change before the entries expire.
+ * <p>
+ * User checks cached here must be pure functions of the user identity.
+ */
+public class UserCheckCache {
+    /**
+     * Identifies a user by the name of its principal.  The opaque user can be the principal itself or the
+     * {@link SecurityContext} of the request, which is what the endpoints pass by default.
+     */
+    public static final Function<User, Object> PRINCIPAL_NAME = user -> {
+        Object opaqueUser = user.getOpaqueUser();
+        if (opaqueUser instanceof SecurityContext) {
+            opaqueUser = ((SecurityContext) opaqueUser).getUserPrincipal();
+        }
+        return opaqueUser instanceof Principal ? ((Principal) opaqueUser).getName() : null;
+    };
+
+    private final Cache<Key, ExpressionResult> cache;
+    private final Function<User, Object> identity;
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class Key {
+        private final Object identity;
+        private final Class<?> entityClass;
+        private final Class<? extends Annotation> permission;
+        private final String field;
+    }
+
+    /**
+     * Constructor.  Users are identified by the name of their principal (see {@link #PRINCIPAL_NAME}).  The results
+     * of users without a principal are not cached.
+     *
+     * @param maximumSize the maximum number of entries
+     * @param timeToLive how long an entry is kept after it is written
+     * @param unit the unit of timeToLive
+     */
+    public UserCheckCache(long maximumSize, long timeToLive, TimeUnit unit) {
+        this(maximumSize, timeToLive, unit, PRINCIPAL_NAME);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize the maximum number of entries
+     * @param timeToLive how long an entry is kept after it is written
+     * @param unit the unit of timeToLive
+     * @param identity extracts the identity of a user (for example the principal name).  Results for users without
+     *                 an identity are not cached.
+     */
+    public UserCheckCache(long maximumSize, long timeToLive, TimeUnit unit, Function<User, Object> identity) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive, unit)
+                .recordStats()
+                .build();
+        this.identity = identity;
+    }
+
+    /**
+     * Get the cached result of the user checks of a permission.
+     *
+     * @param user the user
+     * @param entityClass the entity class
+     * @param permission the permission annotation
+     * @param field the field or null for the entity
+     * @return the cached result if present
+     */
+    public Optional<ExpressionResult> get(User user, Class<?> entityClass,
+                                          Class<? extends Annotation> permission, String field) {
+        return getKey(user, entityClass, permission, field).map(cache::getIfPresent);
+    }
+
+    /**
+     * Cache the result of the user checks of a permission.
+     *
+     * @param user the user
+     * @param entityClass the entity class
+     * @param permission the permission annotation
+     * @param field the field or null for the entity
+     * @param result the result of evaluating the user checks
+     */
+    public void put(User user, Class<?> entityClass, Class<? extends Annotation> permission, String field,
+                    ExpressionResult result) {
+        getKey(user, entityClass, permission, field).ifPresent(key -> cache.put(key, result));
+    }
+
+    /**
+     * Remove the cached results of a user.
+     *
+     * @param user the user
+     */
+    public void invalidate(User user) {
+        Object userIdentity = user == null ? null : identity.apply(user);
+        if (userIdentity != null) {
+            cache.asMap().keySet().removeIf(key -> Objects.equals(key.identity, userIdentity));
+        }
+    }
+
+    /**
+     * Remove the cached results of all users.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    private Optional<Key> getKey(User user, Class<?> entityClass, Class<? extends Annotation> permission,
+                                 String field) {
+        Object userIdentity = user == null ? null : identity.apply(user);
+        if (userIdentity == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new Key(userIdentity, entityClass, permission, field));
+    }
+}
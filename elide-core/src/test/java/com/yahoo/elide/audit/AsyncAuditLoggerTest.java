@@ -0,0 +1,68 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.audit;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
+public class AsyncAuditLoggerTest {
+
+    @Test
+    public void testRecordsAreWrittenInBatches() throws IOException {
+        List<List<String>> batches = new CopyOnWriteArrayList<>();
+        AsyncAuditLogger logger = new AsyncAuditLogger(records -> batches.add(records.stream()
+                .map(AsyncAuditLogger.Record::getMessage)
+                .collect(Collectors.toList())), 100, 2, AsyncAuditLogger.OverflowPolicy.BLOCK);
+
+        for (int idx = 0; idx < 5; idx++) {
+            logger.log(new LogMessage("message " + idx, idx));
+        }
+        logger.commit(null);
+        logger.close();
+
+        List<String> messages = batches.stream().flatMap(List::stream).collect(Collectors.toList());
+        Assert.assertEquals(messages.size(), 5);
+        Assert.assertEquals(messages.get(0), "message 0");
+        Assert.assertEquals(messages.get(4), "message 4");
+        Assert.assertTrue(batches.stream().allMatch(batch -> batch.size() <= 2));
+    }
+
+    @Test
+    public void testDropPolicy() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncAuditLogger logger = new AsyncAuditLogger(records -> {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, 1, 1, AsyncAuditLogger.OverflowPolicy.DROP);
+
+        // The writer holds the first record while the queue fills up
+        logger.log(new LogMessage("first", 0));
+        logger.commit(null);
+        writing.await();
+
+        logger.log(new LogMessage("queued", 0));
+        logger.log(new LogMessage("dropped", 0));
+        logger.commit(null);
+
+        Assert.assertEquals(logger.getDroppedCount(), 1);
+        Assert.assertEquals(logger.getQueueLength(), 1);
+
+        release.countDown();
+        logger.close();
+        Assert.assertEquals(logger.getQueueLength(), 0);
+    }
+}
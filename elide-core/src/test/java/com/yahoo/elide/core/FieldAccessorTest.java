@@ -0,0 +1,113 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import com.yahoo.elide.annotation.ComputedAttribute;
+
+import org.testng.annotations.Test;
+
+import javax.persistence.Id;
+import javax.persistence.Transient;
+
+public class FieldAccessorTest {
+
+    @Test
+    public void testFieldAccess() throws Exception {
+        EntityBinding binding = new EntityBinding(mock(EntityDictionary.class), FieldEntity.class, "field", "field");
+
+        FieldAccessor name = binding.fieldsToAccessors.get("name");
+        assertNotNull(name);
+        assertTrue(name.isWritable());
+
+        FieldEntity entity = new FieldEntity();
+        name.setValue(entity, "foo");
+        assertEquals(name.getValue(entity, null), "foo");
+        assertEquals(entity.name, "foo");
+
+        FieldAccessor count = binding.fieldsToAccessors.get("count");
+        assertTrue(count.canSetValue(3));
+        assertFalse(count.canSetValue(null));
+        assertFalse(count.canSetValue("3"));
+        count.setValue(entity, 3);
+        assertEquals(count.getValue(entity, null), 3);
+    }
+
+    @Test
+    public void testPropertyAccess() throws Exception {
+        EntityBinding binding = new EntityBinding(mock(EntityDictionary.class),
+                PropertyEntity.class, "property", "property");
+
+        PropertyEntity entity = new PropertyEntity();
+        FieldAccessor title = binding.fieldsToAccessors.get("title");
+        title.setValue(entity, "bar");
+        assertEquals(entity.setterCalls, 1);
+        assertEquals(title.getValue(entity, null), "bar");
+
+        RequestScope scope = mock(RequestScope.class);
+        FieldAccessor scoped = binding.fieldsToAccessors.get("scoped");
+        assertFalse(scoped.isWritable());
+        assertEquals(scoped.getValue(entity, scope), scope);
+    }
+
+    @Test(expectedExceptions = java.lang.reflect.InvocationTargetException.class)
+    public void testGetterExceptionIsWrapped() throws Exception {
+        EntityBinding binding = new EntityBinding(mock(EntityDictionary.class),
+                PropertyEntity.class, "property", "property");
+
+        binding.fieldsToAccessors.get("broken").getValue(new PropertyEntity(), null);
+    }
+
+    @Test
+    public void testNoAccessorForUnknownField() {
+        EntityBinding binding = new EntityBinding(mock(EntityDictionary.class), FieldEntity.class, "field", "field");
+        assertNull(binding.fieldsToAccessors.get("missing"));
+    }
+
+    public static class FieldEntity {
+        @Id
+        private long id;
+
+        private String name;
+
+        private int count;
+    }
+
+    public static class PropertyEntity {
+        private String title;
+        private int setterCalls;
+
+        @Id
+        public long getId() {
+            return 0;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            setterCalls++;
+            this.title = title;
+        }
+
+        public String getBroken() {
+            throw new IllegalStateException();
+        }
+
+        @Transient
+        @ComputedAttribute
+        public Object getScoped(com.yahoo.elide.security.RequestScope scope) {
+            return scope;
+        }
+    }
+}
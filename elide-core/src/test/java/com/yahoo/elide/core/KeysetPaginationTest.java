@@ -0,0 +1,189 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.annotation.ReadPermission;
+import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
+import com.yahoo.elide.core.exceptions.InvalidValueException;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.InMemoryFilterExecutor;
+import com.yahoo.elide.core.pagination.KeysetPagination;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+import com.yahoo.elide.security.PermissionExecutor;
+
+import example.Author;
+import example.Book;
+import example.Publisher;
+
+import org.glassfish.jersey.internal.util.collection.MultivaluedStringMap;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javax.ws.rs.core.MultivaluedMap;
+
+public class KeysetPaginationTest {
+    private RequestScope scope;
+    private List<Book> books;
+
+    @BeforeMethod
+    public void setup() {
+        EntityDictionary dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Publisher.class);
+
+        scope = new RequestScope("/", null, null, null, null,
+                new ElideSettingsBuilder(null)
+                        .withEntityDictionary(dictionary)
+                        .build());
+
+        books = Arrays.asList(book(1, "A"), book(2, "B"), book(3, "B"), book(4, "C"));
+    }
+
+    @Test
+    public void testFirstPage() {
+        KeysetPagination keyset = keyset("page[after]", "", "title");
+
+        Assert.assertFalse(keyset.getSeekExpression().isPresent());
+
+        List<Object> page = keyset.getPage(Arrays.asList(books.get(0), books.get(1)));
+        Assert.assertEquals(page, Arrays.asList(books.get(0), books.get(1)));
+        Assert.assertEquals(KeysetPagination.decodeCursor(keyset.getCursor(books.get(1))), Arrays.asList("B", 2));
+    }
+
+    @Test
+    public void testAfterCursor() {
+        String cursor = KeysetPagination.encodeCursor(Arrays.asList("B", 2));
+        KeysetPagination keyset = keyset("page[after]", cursor, "title");
+
+        Assert.assertEquals(select(keyset.getSeekExpression().get()), Arrays.asList(3L, 4L));
+    }
+
+    @Test
+    public void testAfterCursorDescending() {
+        String cursor = KeysetPagination.encodeCursor(Arrays.asList("B", 3));
+        KeysetPagination keyset = keyset("page[after]", cursor, "-title");
+
+        Assert.assertEquals(select(keyset.getSeekExpression().get()), Arrays.asList(1L, 2L));
+    }
+
+    @Test
+    public void testBeforeCursor() {
+        String cursor = KeysetPagination.encodeCursor(Arrays.asList("B", 3));
+        KeysetPagination keyset = keyset("page[before]", cursor, "title");
+
+        // Rows before the cursor are loaded in reverse order and then restored to the requested order
+        Assert.assertEquals(keyset.getSorting().getValidSortingRules(Book.class, scope.getDictionary())
+                .values(), Arrays.asList(Sorting.SortOrder.desc, Sorting.SortOrder.desc));
+        Assert.assertEquals(select(keyset.getSeekExpression().get()), Arrays.asList(1L, 2L));
+
+        List<Object> page = keyset.getPage(Arrays.asList(books.get(1), books.get(0)));
+        Assert.assertEquals(page, Arrays.asList(books.get(0), books.get(1)));
+    }
+
+    @Test
+    public void testNullSortValues() {
+        books = Arrays.asList(book(1, "A"), book(2, "B"), book(3, "B"), book(4, "C"), book(5, null), book(6, null));
+        Assert.assertTrue(keyset("page[after]", "", "title").getSorting().isNullsGreatest());
+
+        // Nulls are last in ascending order
+        Assert.assertEquals(KeysetPagination.decodeCursor(keyset("page[after]", "", "title")
+                .getCursor(books.get(4))), Arrays.asList(null, 5));
+        Assert.assertEquals(select(keyset("page[after]", KeysetPagination.encodeCursor(Arrays.asList("C", 4)),
+                "title").getSeekExpression().get()), Arrays.asList(5L, 6L));
+        Assert.assertEquals(select(keyset("page[after]", KeysetPagination.encodeCursor(Arrays.asList(null, 5)),
+                "title").getSeekExpression().get()), Arrays.asList(6L));
+
+        // And first in descending order
+        Assert.assertEquals(select(keyset("page[after]", KeysetPagination.encodeCursor(Arrays.asList(null, 6)),
+                "-title").getSeekExpression().get()), Arrays.asList(1L, 2L, 3L, 4L));
+        Assert.assertEquals(select(keyset("page[after]", KeysetPagination.encodeCursor(Arrays.asList("B", 3)),
+                "-title").getSeekExpression().get()), Arrays.asList(1L));
+    }
+
+    @Test
+    public void testPageTotalsIgnoreCursor() {
+        MultivaluedMap<String, String> queryParams = new MultivaluedStringMap();
+        queryParams.add("page[after]", KeysetPagination.encodeCursor(Arrays.asList("B", 2)));
+        queryParams.add("page[size]", "2");
+        queryParams.add("page[totals]", "");
+        Pagination pagination = Pagination.parseQueryParams(queryParams, scope.getElideSettings())
+                .evaluate(Book.class);
+        KeysetPagination keyset = new KeysetPagination(Book.class, Optional.of(Sorting.parseSortRule("title")),
+                pagination, scope);
+
+        // The load of the page counts the rows after the cursor
+        keyset.loadPageTotals(count -> {
+            count.get().setPageTotals(books.size());
+            return Collections.emptyList();
+        });
+        pagination.setPageTotals(2);
+
+        keyset.getPage(Arrays.asList(books.get(2), books.get(3)));
+        Assert.assertEquals(pagination.getPageTotals(), 4);
+    }
+
+    @Test(expectedExceptions = ForbiddenAccessException.class)
+    public void testCursorRequiresReadPermission() {
+        PermissionExecutor permissionExecutor = mock(PermissionExecutor.class);
+        when(permissionExecutor.checkSpecificFieldPermissions(any(), any(), eq(ReadPermission.class), eq("title")))
+                .thenThrow(new ForbiddenAccessException("ReadPermission"));
+        scope = new RequestScope("/", null, null, null, null,
+                new ElideSettingsBuilder(null)
+                        .withEntityDictionary(scope.getDictionary())
+                        .withPermissionExecutor(requestScope -> permissionExecutor)
+                        .build());
+
+        keyset("page[after]", "", "title").getCursor(books.get(0));
+    }
+
+    @Test(expectedExceptions = InvalidValueException.class)
+    public void testCursorForDifferentSort() {
+        String cursor = KeysetPagination.encodeCursor(Collections.singletonList(2));
+        keyset("page[after]", cursor, "title").getSeekExpression();
+    }
+
+    private KeysetPagination keyset(String key, String cursor, String sort) {
+        MultivaluedMap<String, String> queryParams = new MultivaluedStringMap();
+        queryParams.add(key, cursor);
+        queryParams.add("page[size]", "2");
+
+        Pagination pagination = Pagination.parseQueryParams(queryParams, scope.getElideSettings())
+                .evaluate(Book.class);
+        return new KeysetPagination(Book.class, Optional.of(Sorting.parseSortRule(sort)), pagination, scope);
+    }
+
+    private List<Long> select(FilterExpression expression) {
+        Predicate predicate = expression.accept(new InMemoryFilterExecutor(scope));
+        return books.stream()
+                .filter(predicate::test)
+                .map(Book::getId)
+                .collect(Collectors.toList());
+    }
+
+    private static Book book(long id, String title) {
+        Book book = new Book();
+        book.setId(id);
+        book.setTitle(title);
+        return book;
+    }
+}
@@ -10,6 +10,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -54,14 +55,18 @@ import example.Editor;
 import example.Publisher;
 import example.TestCheckMappings;
 
+import org.mockito.InOrder;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.persistence.Entity;
 import javax.persistence.Id;
@@ -205,6 +210,155 @@ public class LifeCycleTest {
         verify(tx).close();
     }
 
+    @Test
+    public void testElideGetCollectionStreamed() throws Exception {
+        DataStore store = mock(DataStore.class);
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        Book book = mock(Book.class);
+        when(book.getId()).thenReturn(1L);
+
+        Elide elide = new Elide(new ElideSettingsBuilder(store)
+                .withEntityDictionary(dictionary)
+                .withAuditLogger(MOCK_AUDIT_LOGGER)
+                .withStreamResponses(true)
+                .build());
+
+        when(store.beginReadTransaction()).thenReturn(tx);
+        when(tx.loadObjects(eq(Book.class), any(), any(), any(), isA(RequestScope.class)))
+                .thenReturn(Arrays.asList(book));
+
+        MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
+        ElideResponse response = elide.get("/book", headers, null);
+
+        assertEquals(response.getResponseCode(), HttpStatus.SC_OK);
+        assertTrue(response.isStreaming());
+        verify(tx).flush(any());
+        verify(tx, never()).commit(any());
+        verify(tx, never()).close();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.writeBody(out);
+        String body = new String(out.toByteArray(), StandardCharsets.UTF_8);
+
+        assertTrue(body.startsWith("{\"data\":[{"), body);
+        assertTrue(body.contains("\"type\":\"book\""), body);
+        assertFalse(response.isStreaming());
+        verify(callback, times(3)).execute(eq(book), isA(RequestScope.class), any());
+        verify(tx).commit(any());
+        verify(tx).close();
+    }
+
+    @Test
+    public void testElideGetCollectionStreamedAsItIsRead() throws Exception {
+        DataStore store = mock(DataStore.class);
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        AuditLogger auditLogger = mock(AuditLogger.class);
+        Book book = mock(Book.class);
+        when(book.getId()).thenReturn(1L);
+
+        Elide elide = new Elide(new ElideSettingsBuilder(store)
+                .withEntityDictionary(dictionary)
+                .withAuditLogger(auditLogger)
+                .withStreamResponses(true)
+                .build());
+
+        AtomicInteger reads = new AtomicInteger();
+        Iterable<Object> books = () -> {
+            reads.incrementAndGet();
+            return Arrays.<Object>asList(book).iterator();
+        };
+        when(store.beginReadTransaction()).thenReturn(tx);
+        when(tx.loadObjects(eq(Book.class), any(), any(), any(), isA(RequestScope.class))).thenReturn(books);
+
+        MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
+        ElideResponse response = elide.get("/book", headers, null);
+
+        // The records are not read until the body is written, the audit log is done on the request thread
+        assertEquals(reads.get(), 0);
+        verify(auditLogger).commit(any());
+        verify(auditLogger).clear();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.writeBody(out);
+        String body = new String(out.toByteArray(), StandardCharsets.UTF_8);
+
+        assertTrue(body.contains("\"type\":\"book\""), body);
+        assertEquals(reads.get(), 1);
+        verify(auditLogger).commit(any());
+        verify(auditLogger).clear();
+        verify(tx).commit(any());
+    }
+
+    @Test
+    public void testElideGetCollectionStreamedRunsPreCommitBeforeCommit() throws Exception {
+        DataStore store = mock(DataStore.class);
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        MockCallback preCommit = mock(MockCallback.class);
+        MockCallback postCommit = mock(MockCallback.class);
+        Book book = mock(Book.class);
+        when(book.getId()).thenReturn(1L);
+
+        EntityDictionary dictionary = new TestEntityDictionary(TestCheckMappings.MAPPINGS);
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Publisher.class);
+        dictionary.bindEntity(Editor.class);
+        dictionary.bindTrigger(Book.class, OnReadPreCommit.class, preCommit);
+        dictionary.bindTrigger(Book.class, OnReadPostCommit.class, postCommit);
+
+        Elide elide = new Elide(new ElideSettingsBuilder(store)
+                .withEntityDictionary(dictionary)
+                .withAuditLogger(MOCK_AUDIT_LOGGER)
+                .withStreamResponses(true)
+                .build());
+
+        when(store.beginReadTransaction()).thenReturn(tx);
+        when(tx.loadObjects(eq(Book.class), any(), any(), any(), isA(RequestScope.class)))
+                .thenReturn(Arrays.asList(book));
+
+        MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
+        ElideResponse response = elide.get("/book", headers, null);
+        response.writeBody(new ByteArrayOutputStream());
+
+        // Records read while the body is written run the pre-commit hooks before the commit
+        InOrder inOrder = inOrder(preCommit, tx, postCommit);
+        inOrder.verify(preCommit).execute(eq(book), isA(RequestScope.class), any());
+        inOrder.verify(tx).commit(any());
+        inOrder.verify(postCommit).execute(eq(book), isA(RequestScope.class), any());
+        inOrder.verify(tx).close();
+    }
+
+    @Test
+    public void testElideGetCollectionStreamedClosedWithoutWriting() throws Exception {
+        DataStore store = mock(DataStore.class);
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        Book book = mock(Book.class);
+        when(book.getId()).thenReturn(1L);
+
+        Elide elide = new Elide(new ElideSettingsBuilder(store)
+                .withEntityDictionary(dictionary)
+                .withAuditLogger(MOCK_AUDIT_LOGGER)
+                .withStreamResponses(true)
+                .build());
+
+        when(store.beginReadTransaction()).thenReturn(tx);
+        when(tx.loadObjects(eq(Book.class), any(), any(), any(), isA(RequestScope.class)))
+                .thenReturn(Arrays.asList(book));
+
+        MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
+        ElideResponse response = elide.get("/book", headers, null);
+        assertTrue(response.isStreaming());
+
+        // A body which is never written (the client went away) still ends the transaction, without a commit
+        response.close();
+        assertFalse(response.isStreaming());
+        verify(tx).close();
+        verify(tx, never()).commit(any());
+
+        response.close();
+        verify(tx).close();
+    }
+
     @Test
     public void testElidePatch() throws Exception {
         DataStore store = mock(DataStore.class);
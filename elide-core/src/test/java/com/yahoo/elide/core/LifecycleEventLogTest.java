@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.annotation.OnReadPreCommit;
+import com.yahoo.elide.annotation.OnUpdatePreCommit;
+import com.yahoo.elide.annotation.OnUpdatePreSecurity;
+import com.yahoo.elide.functions.LifeCycleHook;
+
+import example.Author;
+import example.Book;
+import example.Publisher;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Optional;
+
+public class LifecycleEventLogTest {
+    private EntityDictionary dictionary;
+    private RequestScope scope;
+    private LifeCycleHook<Book> hook;
+
+    @BeforeMethod
+    public void setup() {
+        dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Publisher.class);
+
+        scope = new RequestScope("/", null, null, null, null,
+                new ElideSettingsBuilder(null)
+                        .withEntityDictionary(dictionary)
+                        .build());
+
+        hook = mock(LifeCycleHook.class);
+    }
+
+    @Test
+    public void testQueuedEventsAreDistinct() {
+        dictionary.bindTrigger(Book.class, OnReadPreCommit.class, "title", hook);
+        Book book = new Book();
+        PersistentResource<Book> resource = new PersistentResource<>(book, null, "1", scope);
+
+        LifecycleEventLog log = new LifecycleEventLog(dictionary);
+        log.publish(resource, "title", CRUDEvent.CRUDAction.READ, Optional.empty());
+        log.publish(resource, "title", CRUDEvent.CRUDAction.READ, Optional.empty());
+        log.publish(resource, "genre", CRUDEvent.CRUDAction.READ, Optional.empty());
+        log.publish(resource, PersistentResource.CLASS_NO_FIELD, CRUDEvent.CRUDAction.READ, Optional.empty());
+
+        log.replay(CRUDEvent.CRUDAction.READ, OnReadPreCommit.class);
+        verify(hook, times(1)).execute(eq(book), any(), any());
+    }
+
+    @Test
+    public void testPreSecurityHooksRunWhenPublished() {
+        dictionary.bindTrigger(Book.class, OnUpdatePreSecurity.class, "title", hook);
+        Book book = new Book();
+        PersistentResource<Book> resource = new PersistentResource<>(book, null, "1", scope);
+
+        LifecycleEventLog log = new LifecycleEventLog(dictionary);
+        log.publish(resource, "title", CRUDEvent.CRUDAction.UPDATE, Optional.empty());
+        verify(hook, times(1)).execute(eq(book), any(), any());
+
+        log.publish(resource, "title", CRUDEvent.CRUDAction.UPDATE, Optional.empty());
+        log.replay(CRUDEvent.CRUDAction.UPDATE, OnUpdatePreCommit.class);
+        verify(hook, times(1)).execute(eq(book), any(), any());
+    }
+
+    @Test
+    public void testAnyFieldHooks() {
+        dictionary.bindTrigger(Book.class, OnUpdatePreCommit.class, hook, true);
+        Book book = new Book();
+        PersistentResource<Book> resource = new PersistentResource<>(book, null, "1", scope);
+
+        LifecycleEventLog log = new LifecycleEventLog(dictionary);
+        log.publish(resource, "title", CRUDEvent.CRUDAction.UPDATE, Optional.empty());
+        log.publish(resource, "genre", CRUDEvent.CRUDAction.UPDATE, Optional.empty());
+        verify(hook, never()).execute(any(), any(), any());
+
+        log.replay(CRUDEvent.CRUDAction.UPDATE, OnUpdatePreCommit.class);
+        verify(hook, times(2)).execute(eq(book), any(), any());
+    }
+
+    @Test
+    public void testEventsPublishedAfterReplay() {
+        dictionary.bindTrigger(Book.class, OnReadPreCommit.class, "title", hook);
+        Book book = new Book();
+        Book otherBook = new Book();
+        PersistentResource<Book> resource = new PersistentResource<>(book, null, "1", scope);
+        PersistentResource<Book> otherResource = new PersistentResource<>(otherBook, null, "2", scope);
+
+        LifecycleEventLog log = new LifecycleEventLog(dictionary);
+        log.publish(resource, "title", CRUDEvent.CRUDAction.READ, Optional.empty());
+        log.replay(CRUDEvent.CRUDAction.READ, OnReadPreCommit.class);
+        verify(hook, times(1)).execute(eq(book), any(), any());
+
+        // Reads while the response is built come after the pre-commit replay
+        log.publish(otherResource, "title", CRUDEvent.CRUDAction.READ, Optional.empty());
+        verify(hook, times(1)).execute(eq(otherBook), any(), any());
+        verify(hook, times(1)).execute(eq(book), any(), any());
+    }
+}
@@ -9,12 +9,14 @@ import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.ElideSettingsBuilder;
 import com.yahoo.elide.annotation.Paginate;
 import com.yahoo.elide.core.exceptions.InvalidValueException;
+import com.yahoo.elide.core.pagination.KeysetPagination;
 import com.yahoo.elide.core.pagination.Pagination;
 
 import org.glassfish.jersey.internal.util.collection.MultivaluedStringMap;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 import javax.ws.rs.core.MultivaluedMap;
@@ -220,4 +222,50 @@ public class PaginationLogicTest {
         Assert.assertEquals(pageData.getOffset(), 0);
         Assert.assertEquals(result.getLimit(), 10);
     }
+
+    @Test
+    public void shouldParseCursorQueryParams() {
+        String cursor = KeysetPagination.encodeCursor(Arrays.asList("Foo", 3));
+
+        MultivaluedMap<String, String> queryParams = new MultivaluedStringMap();
+        queryParams.add("page[after]", cursor);
+        queryParams.add("page[size]", "10");
+
+        Pagination pageData = Pagination.parseQueryParams(queryParams, elideSettings)
+                .evaluate(PaginationLogicTest.class);
+        Assert.assertTrue(pageData.hasCursor());
+        Assert.assertEquals(pageData.getAfter(), cursor);
+        Assert.assertNull(pageData.getBefore());
+        Assert.assertEquals(pageData.getOffset(), 0);
+        Assert.assertEquals(pageData.getLimit(), 10);
+        Assert.assertEquals(KeysetPagination.decodeCursor(cursor), Arrays.asList("Foo", 3));
+    }
+
+    @Test(expectedExceptions = InvalidValueException.class)
+    public void shouldThrowExceptionForCursorAndOffset() {
+        MultivaluedMap<String, String> queryParams = new MultivaluedStringMap();
+        queryParams.add("page[before]", "");
+        queryParams.add("page[offset]", "10");
+
+        Pagination.parseQueryParams(queryParams, elideSettings).evaluate(PaginationLogicTest.class);
+    }
+
+    @Test(expectedExceptions = InvalidValueException.class)
+    public void shouldThrowExceptionForMalformedCursor() {
+        MultivaluedMap<String, String> queryParams = new MultivaluedStringMap();
+        queryParams.add("page[after]", "NaN");
+
+        Pagination.parseQueryParams(queryParams, elideSettings);
+    }
+
+    @Test
+    public void checkCursorAfter() {
+        String cursor = KeysetPagination.encodeCursor(Arrays.asList(1));
+        Pagination pageData = Pagination.fromOffsetAndFirst(Optional.of("10"), Optional.of(cursor), false,
+                elideSettings).get().evaluate(PaginationLogicTest.class);
+
+        Assert.assertEquals(pageData.getAfter(), cursor);
+        Assert.assertEquals(pageData.getOffset(), 0);
+        Assert.assertEquals(pageData.getLimit(), 10);
+    }
 }
@@ -29,6 +29,11 @@ import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
 import com.yahoo.elide.core.exceptions.InvalidAttributeException;
 import com.yahoo.elide.core.exceptions.InvalidObjectIdentifierException;
 import com.yahoo.elide.core.exceptions.InvalidValueException;
+import com.yahoo.elide.core.filter.FalsePredicate;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.InPredicate;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.jsonapi.models.Data;
 import com.yahoo.elide.jsonapi.models.JsonApiDocument;
@@ -59,11 +64,13 @@ import example.NoUpdateEntity;
 import example.Parent;
 import example.Right;
 import example.Shape;
+import example.VersionedEntity;
 import example.packageshareable.ContainerWithPackageShare;
 import example.packageshareable.ShareableWithPackageShare;
 import example.packageshareable.UnshareableWithEntityUnshare;
 
 import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.testng.Assert;
 import org.testng.annotations.BeforeTest;
 import org.testng.annotations.Test;
@@ -120,6 +127,7 @@ public class PersistentResourceTest extends PersistenceResourceTestSetup {
         dictionary.bindEntity(NoReadEntity.class);
         dictionary.bindEntity(NoDeleteEntity.class);
         dictionary.bindEntity(NoUpdateEntity.class);
+        dictionary.bindEntity(VersionedEntity.class);
         dictionary.bindEntity(NoCreateEntity.class);
         dictionary.bindEntity(NoShareEntity.class);
         dictionary.bindEntity(example.User.class);
@@ -1606,6 +1614,125 @@ public class PersistentResourceTest extends PersistenceResourceTestSetup {
         );
     }
 
+    @Test
+    public void testDeleteRecordsInBulk() {
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        RequestScope goodScope = new RequestScope(null, null, tx, new User(1), null, elideSettings);
+        FilterExpression filter = new InPredicate(new Path(NoDeleteEntity.class, dictionary, "id"), 1L);
+
+        when(tx.supportsBulkWrites(eq(NoDeleteEntity.class), any())).thenReturn(true);
+
+        PersistentResource.deleteRecords(NoDeleteEntity.class, filter, goodScope);
+
+        // DeletePermission denies all, so the statement matches nothing
+        verify(tx).bulkDelete(eq(NoDeleteEntity.class),
+                eq(Optional.of(new FalsePredicate(new Path(NoDeleteEntity.class, dictionary, "id")))),
+                eq(goodScope));
+        verify(tx, never()).loadObjects(any(), any(), any(), any(), any(RequestScope.class));
+    }
+
+    @Test
+    public void testDeleteRecordsOneByOne() {
+        NoDeleteEntity entity = new NoDeleteEntity();
+        entity.setId(1);
+
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        RequestScope goodScope = new RequestScope(null, null, tx, new User(1), null, elideSettings);
+        FilterExpression filter = new InPredicate(new Path(NoDeleteEntity.class, dictionary, "id"), 1L);
+
+        when(tx.loadObjects(eq(NoDeleteEntity.class), any(), any(), any(), any(RequestScope.class)))
+                .thenReturn(Lists.newArrayList(entity));
+
+        long deleted = PersistentResource.deleteRecords(NoDeleteEntity.class, filter, goodScope);
+
+        // Records the user may not delete are skipped
+        Assert.assertEquals(deleted, 0);
+        verify(tx, never()).bulkDelete(any(), any(), any());
+        verify(tx, never()).delete(any(), any());
+    }
+
+    @Test
+    public void testDeleteRecordsInPages() {
+        List<Object> firstPage = new ArrayList<>();
+        for (int id = 1; id <= 100; id++) {
+            NoDeleteEntity entity = new NoDeleteEntity();
+            entity.setId(id);
+            firstPage.add(entity);
+        }
+        NoDeleteEntity last = new NoDeleteEntity();
+        last.setId(101);
+
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        RequestScope goodScope = new RequestScope(null, null, tx, new User(1), null, elideSettings);
+        FilterExpression filter = new InPredicate(new Path(NoDeleteEntity.class, dictionary, "id"), 1L);
+
+        when(tx.loadObjects(eq(NoDeleteEntity.class), any(), any(), any(), any(RequestScope.class)))
+                .thenReturn(firstPage)
+                .thenReturn(Lists.newArrayList(last));
+
+        PersistentResource.deleteRecords(NoDeleteEntity.class, filter, goodScope);
+
+        // The second page seeks past the last id of the first one
+        ArgumentCaptor<Optional> filters = ArgumentCaptor.forClass(Optional.class);
+        verify(tx, times(2)).loadObjects(eq(NoDeleteEntity.class), filters.capture(), any(), any(),
+                any(RequestScope.class));
+        verify(tx, times(2)).flush(goodScope);
+        Assert.assertEquals(filters.getAllValues().get(0), Optional.of(filter));
+        Assert.assertEquals(filters.getAllValues().get(1), Optional.of(new AndFilterExpression(filter,
+                new FilterPredicate(new Path(NoDeleteEntity.class, dictionary, "id"), Operator.GT,
+                        Collections.singletonList(100L)))));
+    }
+
+    @Test
+    public void testUpdateRecordsInBulk() {
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        RequestScope goodScope = new RequestScope(null, null, tx, new User(1), null, elideSettings);
+        FilterExpression filter = new InPredicate(new Path(Job.class, dictionary, "title"), "Engineer");
+
+        when(tx.supportsBulkWrites(eq(Job.class), any())).thenReturn(true);
+        when(tx.bulkUpdate(eq(Job.class), any(), any(), any())).thenReturn(2L);
+
+        long updated = PersistentResource.updateRecords(Job.class,
+                Collections.singletonMap("title", "Manager"), filter, goodScope);
+
+        Assert.assertEquals(updated, 2);
+        verify(tx).bulkUpdate(eq(Job.class), eq(Collections.singletonMap("title", "Manager")),
+                eq(Optional.of(filter)), eq(goodScope));
+        verify(tx, never()).loadObjects(any(), any(), any(), any(), any(RequestScope.class));
+    }
+
+    @Test
+    public void testUpdateRecordsOfVersionedEntityOneByOne() {
+        VersionedEntity entity = new VersionedEntity();
+        entity.setId(1);
+
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        RequestScope goodScope = new RequestScope(null, null, tx, new User(1), null, elideSettings);
+        FilterExpression filter = new InPredicate(new Path(VersionedEntity.class, dictionary, "id"), 1L);
+
+        when(tx.supportsBulkWrites(eq(VersionedEntity.class), any())).thenReturn(true);
+        when(tx.loadObjects(eq(VersionedEntity.class), any(), any(), any(), any(RequestScope.class)))
+                .thenReturn(Lists.newArrayList(entity));
+
+        long updated = PersistentResource.updateRecords(VersionedEntity.class,
+                Collections.singletonMap("name", "updated"), filter, goodScope);
+
+        // A bulk statement would not increment the version
+        Assert.assertEquals(updated, 1);
+        Assert.assertEquals(entity.getName(), "updated");
+        verify(tx, never()).bulkUpdate(any(), any(), any(), any());
+    }
+
+    @Test(expectedExceptions = InvalidAttributeException.class)
+    public void testUpdateRecordsRejectsRelationships() {
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        RequestScope goodScope = new RequestScope(null, null, tx, new User(1), null, elideSettings);
+        FilterExpression filter = new InPredicate(new Path(NoUpdateEntity.class, dictionary, "id"), 1L);
+
+        PersistentResource.updateRecords(NoUpdateEntity.class, Collections.singletonMap("children", null),
+                filter, goodScope);
+    }
+
     @Test()
     public void testLoadRecordSuccess() {
         Child child1 = newChild(1);
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+
+import example.Author;
+import example.Book;
+import example.Publisher;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class RelationshipBatchLoaderTest {
+    private DataStoreTransaction tx;
+    private RequestScope scope;
+
+    @BeforeMethod
+    public void setup() {
+        EntityDictionary dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Publisher.class);
+
+        tx = mock(DataStoreTransaction.class);
+        scope = new RequestScope("/", null, tx, null, null,
+                new ElideSettingsBuilder(null)
+                        .withEntityDictionary(dictionary)
+                        .build());
+    }
+
+    @Test
+    public void testRelationLoadedOncePerGroup() {
+        Author author1 = new Author();
+        Author author2 = new Author();
+        Book book1 = new Book();
+        Book book2 = new Book();
+
+        Map<Object, Object> books = new IdentityHashMap<>();
+        books.put(author1, Arrays.asList(book1));
+        books.put(author2, Arrays.asList(book2));
+        when(tx.getRelations(eq(tx), anyCollection(), eq("books"), eq(Optional.empty()), eq(scope)))
+                .thenReturn(books);
+
+        Map<Object, Object> authors = new IdentityHashMap<>();
+        authors.put(book1, Arrays.asList(author1));
+        authors.put(book2, Arrays.asList(author2));
+        when(tx.getRelations(eq(tx), anyCollection(), eq("authors"), eq(Optional.empty()), eq(scope)))
+                .thenReturn(authors);
+
+        RelationshipBatchLoader loader = scope.getRelationshipBatchLoader();
+        loader.register(Arrays.asList(author1, author2));
+
+        assertEquals(loader.getRelation(author1, "books", Optional.empty()), Optional.of(Arrays.asList(book1)));
+        assertEquals(loader.getRelation(author2, "books", Optional.empty()), Optional.of(Arrays.asList(book2)));
+        verify(tx, times(1)).getRelations(eq(tx), anyCollection(), eq("books"), any(), eq(scope));
+
+        // The loaded books form the next group
+        assertEquals(loader.getRelation(book2, "authors", Optional.empty()), Optional.of(Arrays.asList(author2)));
+        verify(tx, times(1)).getRelations(eq(tx), anyCollection(), eq("authors"), any(), eq(scope));
+    }
+
+    @Test
+    public void testUnsupportedRelationFallsBack() {
+        Author author1 = new Author();
+        Author author2 = new Author();
+        when(tx.getRelations(eq(tx), anyCollection(), eq("books"), any(), eq(scope)))
+                .thenReturn(Collections.emptyMap());
+
+        RelationshipBatchLoader loader = scope.getRelationshipBatchLoader();
+        loader.register(Arrays.asList(author1, author2));
+
+        assertFalse(loader.getRelation(author1, "books", Optional.empty()).isPresent());
+        assertFalse(loader.getRelation(author2, "books", Optional.empty()).isPresent());
+        verify(tx, times(1)).getRelations(eq(tx), anyCollection(), eq("books"), any(), eq(scope));
+    }
+
+    @Test
+    public void testUngroupedObjectsAreNotBatched() {
+        Author author = new Author();
+        List<Object> single = Arrays.asList(author);
+
+        RelationshipBatchLoader loader = scope.getRelationshipBatchLoader();
+        loader.register(single);
+
+        assertFalse(loader.getRelation(author, "books", Optional.empty()).isPresent());
+        assertFalse(loader.getRelation(new Author(), "books", Optional.empty()).isPresent());
+        verify(tx, never()).getRelations(any(), anyCollection(), any(), any(), any());
+    }
+
+    @Test
+    public void testPrefetchSiblingRelations() {
+        Book book1 = new Book();
+        Book book2 = new Book();
+        Author author1 = new Author();
+        Author author2 = new Author();
+        Publisher publisher = new Publisher();
+
+        Map<Object, Object> authors = new IdentityHashMap<>();
+        authors.put(book1, Arrays.asList(author1));
+        authors.put(book2, Arrays.asList(author2));
+        when(tx.getRelations(eq(tx), anyCollection(), eq("authors"), any(), eq(scope))).thenReturn(authors);
+
+        Map<Object, Object> publishers = new IdentityHashMap<>();
+        publishers.put(book1, publisher);
+        when(tx.getRelations(eq(tx), anyCollection(), eq("publisher"), any(), eq(scope))).thenReturn(publishers);
+        when(tx.supportsConcurrentReads()).thenReturn(true);
+
+        RelationshipBatchLoader loader = scope.getRelationshipBatchLoader();
+        loader.register(Arrays.asList(book1, book2));
+
+        PersistentResource resource = new PersistentResource<>(book1, null, "1", scope);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            loader.prefetch(Arrays.asList(resource), Arrays.asList("authors", "publisher"), executor);
+        } finally {
+            executor.shutdown();
+        }
+        verify(tx, times(1)).getRelations(eq(tx), anyCollection(), eq("authors"), any(), eq(scope));
+        verify(tx, times(1)).getRelations(eq(tx), anyCollection(), eq("publisher"), any(), eq(scope));
+
+        // Reads of the prefetched relationships do not call the store again
+        Optional<FilterExpression> filter = resource.getRelationFilter(Author.class, Optional.empty());
+        assertEquals(loader.getRelation(book2, "authors", filter), Optional.of(Arrays.asList(author2)));
+        verify(tx, times(1)).getRelations(eq(tx), anyCollection(), eq("authors"), any(), eq(scope));
+
+        // The loaded authors form the next group
+        assertFalse(loader.getRelation(author1, "books", Optional.empty()).isPresent());
+        verify(tx, times(1)).getRelations(eq(tx), anyCollection(), eq("books"), any(), eq(scope));
+    }
+}
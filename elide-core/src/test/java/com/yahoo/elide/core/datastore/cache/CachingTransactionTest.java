@@ -0,0 +1,164 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.cache;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.core.DataStore;
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.filter.InPredicate;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+
+import com.google.common.collect.Lists;
+import example.Author;
+import example.Book;
+import example.Editor;
+import example.Publisher;
+import org.mockito.ArgumentCaptor;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+public class CachingTransactionTest {
+
+    private EntityDictionary dictionary;
+    private RequestScope scope;
+    private DataStore wrappedStore;
+    private DataStoreTransaction wrappedTransaction;
+    private Book book1;
+    private Book book2;
+    private Optional<FilterExpression> filter;
+
+    @BeforeMethod
+    public void init() {
+        dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Editor.class);
+        dictionary.bindEntity(Publisher.class);
+
+        scope = mock(RequestScope.class);
+        when(scope.getDictionary()).thenReturn(dictionary);
+
+        wrappedTransaction = mock(DataStoreTransaction.class);
+        wrappedStore = mock(DataStore.class);
+        when(wrappedStore.beginTransaction()).thenReturn(wrappedTransaction);
+        when(wrappedStore.beginReadTransaction()).thenReturn(wrappedTransaction);
+
+        book1 = new Book();
+        book1.setId(1);
+        book2 = new Book();
+        book2.setId(2);
+
+        filter = Optional.of(new InPredicate(new Path(Book.class, dictionary, "genre"), "Literary Fiction"));
+    }
+
+    @Test
+    public void testReadFromCache() {
+        CachingDataStore store = new CachingDataStore(wrappedStore);
+        when(wrappedTransaction.loadObjects(eq(Book.class), any(), any(), any(), any()))
+                .thenReturn(Arrays.asList(book1, book2))
+                .thenReturn(Arrays.asList(book2, book1));
+
+        List<Object> first = Lists.newArrayList(load(store));
+        List<Object> second = Lists.newArrayList(load(store));
+
+        Assert.assertEquals(first, Arrays.asList(book1, book2));
+        Assert.assertEquals(second, Arrays.asList(book1, book2));
+        Assert.assertEquals(store.getCache().getMissCount(), 1);
+        Assert.assertEquals(store.getCache().getHitCount(), 1);
+
+        ArgumentCaptor<Optional> captor = ArgumentCaptor.forClass(Optional.class);
+        verify(wrappedTransaction, times(2)).loadObjects(eq(Book.class), captor.capture(), any(), any(), any());
+        Assert.assertEquals(captor.getAllValues().get(0), filter);
+
+        InPredicate idFilter = (InPredicate) captor.getAllValues().get(1).get();
+        Assert.assertEquals(idFilter.getField(), "id");
+        Assert.assertEquals(idFilter.getValues(), Arrays.asList(1L, 2L));
+    }
+
+    @Test
+    public void testCommitMakesReadsStale() {
+        CachingDataStore store = new CachingDataStore(wrappedStore);
+        when(wrappedTransaction.loadObjects(eq(Book.class), any(), any(), any(), any()))
+                .thenReturn(Arrays.asList(book1, book2))
+                .thenReturn(Arrays.asList(book1));
+
+        Lists.newArrayList(load(store));
+
+        DataStoreTransaction writeTransaction = store.beginTransaction();
+        writeTransaction.delete(book2, scope);
+        writeTransaction.commit(scope);
+
+        List<Object> afterDelete = Lists.newArrayList(load(store));
+
+        Assert.assertEquals(afterDelete, Arrays.asList(book1));
+        Assert.assertEquals(store.getCache().getMissCount(), 2);
+        Assert.assertEquals(store.getCache().getEvictionCount(), 1);
+        verify(wrappedTransaction, times(2)).loadObjects(eq(Book.class), eq(filter), any(), any(), any());
+    }
+
+    @Test
+    public void testLargeResultsAreNotCached() {
+        CachingDataStore store = new CachingDataStore(wrappedStore,
+                new QueryResultCache(10, 1, TimeUnit.MINUTES, 1));
+        when(wrappedTransaction.loadObjects(eq(Book.class), any(), any(), any(), any()))
+                .thenReturn(Arrays.asList(book1, book2));
+
+        Lists.newArrayList(load(store));
+        Lists.newArrayList(load(store));
+
+        Assert.assertEquals(store.getCache().size(), 0);
+        Assert.assertEquals(store.getCache().getMissCount(), 2);
+    }
+
+    @Test
+    public void testQueriesWithTheSameTextAreDistinct() {
+        CachingDataStore store = new CachingDataStore(wrappedStore);
+        when(wrappedTransaction.loadObjects(eq(Book.class), any(), any(), any(), any()))
+                .thenReturn(Arrays.asList(book1))
+                .thenReturn(Arrays.asList(book2));
+
+        // Both filters print as the same text
+        Path genre = new Path(Book.class, dictionary, "genre");
+        Optional<FilterExpression> oneGenre =
+                Optional.of(new InPredicate(genre, "Literary Fiction, Poetry"));
+        Optional<FilterExpression> twoGenres =
+                Optional.of(new InPredicate(genre, "Literary Fiction", "Poetry"));
+        Assert.assertEquals(oneGenre.get().toString(), twoGenres.get().toString());
+
+        List<Object> first = Lists.newArrayList(load(store, oneGenre));
+        List<Object> second = Lists.newArrayList(load(store, twoGenres));
+
+        Assert.assertEquals(first, Arrays.asList(book1));
+        Assert.assertEquals(second, Arrays.asList(book2));
+        Assert.assertEquals(store.getCache().getMissCount(), 2);
+        Assert.assertEquals(store.getCache().getHitCount(), 0);
+    }
+
+    private Iterable<Object> load(CachingDataStore store) {
+        return load(store, filter);
+    }
+
+    private Iterable<Object> load(CachingDataStore store, Optional<FilterExpression> filter) {
+        DataStoreTransaction transaction = store.beginReadTransaction();
+        return transaction.loadObjects(Book.class, filter, Optional.empty(), Optional.empty(), scope);
+    }
+}
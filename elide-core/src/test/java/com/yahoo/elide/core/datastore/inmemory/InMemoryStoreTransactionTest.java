@@ -512,4 +512,59 @@ public class InMemoryStoreTransactionTest {
         Assert.assertTrue(loaded.contains(book2));
         Assert.assertTrue(loaded.contains(book3));
     }
+
+    @Test
+    public void testInMemorySortedPage() {
+        Pagination pagination = Pagination.fromOffsetAndLimit(1, 1, true);
+
+        Map<String, Sorting.SortOrder> sortOrder = new HashMap<>();
+        sortOrder.put("title", Sorting.SortOrder.desc);
+
+        Sorting sorting = new Sorting(sortOrder);
+
+        when(wrappedTransaction.supportsFiltering(eq(Book.class),
+                any())).thenReturn(DataStoreTransaction.FeatureSupport.FULL);
+        when(wrappedTransaction.supportsSorting(eq(Book.class),
+                any())).thenReturn(false);
+        when(wrappedTransaction.supportsPagination(eq(Book.class))).thenReturn(true);
+
+        when(wrappedTransaction.loadObjects(eq(Book.class), eq(Optional.empty()),
+                eq(Optional.empty()), eq(Optional.empty()), eq(scope))).thenReturn(books);
+
+        Collection<Object> loaded = (Collection<Object>) inMemoryStoreTransaction.loadObjects(
+                Book.class,
+                Optional.empty(),
+                Optional.of(sorting),
+                Optional.of(pagination),
+                scope);
+
+        Assert.assertEquals(loaded, Lists.newArrayList(book2));
+        Assert.assertEquals(pagination.getPageTotals(), 3);
+    }
+
+    @Test
+    public void testInMemoryFilteredPage() {
+        FilterExpression expression =
+                new InPredicate(new Path(Book.class, dictionary, "genre"), "Literary Fiction");
+
+        Pagination pagination = Pagination.fromOffsetAndLimit(1, 0, true);
+
+        when(wrappedTransaction.supportsFiltering(eq(Book.class),
+                any())).thenReturn(DataStoreTransaction.FeatureSupport.NONE);
+        when(wrappedTransaction.supportsPagination(eq(Book.class))).thenReturn(true);
+
+        when(wrappedTransaction.loadObjects(eq(Book.class), eq(Optional.empty()),
+                eq(Optional.empty()), eq(Optional.empty()), eq(scope))).thenReturn(books);
+
+        Collection<Object> loaded = (Collection<Object>) inMemoryStoreTransaction.loadObjects(
+                Book.class,
+                Optional.of(expression),
+                Optional.empty(),
+                Optional.of(pagination),
+                scope);
+
+        Assert.assertEquals(loaded.size(), 1);
+        Assert.assertTrue(loaded.contains(book1) || loaded.contains(book3));
+        Assert.assertEquals(pagination.getPageTotals(), 2);
+    }
 }
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.DataStoreTransaction.FeatureSupport;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.InPredicate;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.OrFilterExpression;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+
+import example.Book;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+
+public class IndexedHashMapDataStoreTest {
+    private IndexedHashMapDataStore store;
+    private EntityDictionary dictionary;
+    private RequestScope scope;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        store = new IndexedHashMapDataStore(Book.class.getPackage())
+                .withIndex(Book.class, "genre", IndexedHashMapDataStore.IndexType.HASH)
+                .withIndex(Book.class, "publishDate", IndexedHashMapDataStore.IndexType.SORTED);
+        dictionary = new EntityDictionary(new HashMap<>());
+        store.populateEntityDictionary(dictionary);
+
+        scope = new RequestScope("/", null, null, null, null,
+                new ElideSettingsBuilder(store)
+                        .withEntityDictionary(dictionary)
+                        .build());
+
+        try (DataStoreTransaction tx = store.beginTransaction()) {
+            tx.createObject(book("Foundation", "SciFi", 1951), scope);
+            tx.createObject(book("Dune", "SciFi", 1965), scope);
+            tx.createObject(book("Emma", "Romance", 1815), scope);
+            tx.createObject(book("Untitled", null, 2000), scope);
+            tx.commit(scope);
+        }
+    }
+
+    @Test
+    public void testFilterSupport() throws IOException {
+        FilterExpression genre = new InPredicate(path("genre"), "SciFi");
+        FilterExpression title = new InPredicate(path("title"), "Dune");
+        FilterExpression after = predicate("publishDate", Operator.GT, 1900L);
+        FilterExpression prefix = predicate("genre", Operator.PREFIX, "Sci");
+
+        try (DataStoreTransaction tx = store.beginTransaction()) {
+            Assert.assertEquals(tx.supportsFiltering(Book.class, genre), FeatureSupport.PARTIAL);
+            Assert.assertEquals(tx.supportsFiltering(Book.class, after), FeatureSupport.PARTIAL);
+            Assert.assertEquals(tx.supportsFiltering(Book.class, title), FeatureSupport.NONE);
+            Assert.assertEquals(tx.supportsFiltering(Book.class, prefix), FeatureSupport.NONE);
+            Assert.assertEquals(tx.supportsFiltering(Book.class, new AndFilterExpression(genre, title)),
+                    FeatureSupport.PARTIAL);
+            Assert.assertEquals(tx.supportsFiltering(Book.class, new OrFilterExpression(genre, title)),
+                    FeatureSupport.NONE);
+            Assert.assertEquals(tx.supportsFiltering(Book.class, new OrFilterExpression(genre, after)),
+                    FeatureSupport.PARTIAL);
+
+            Assert.assertTrue(tx.supportsSorting(Book.class, Sorting.parseSortRule("-publishDate")));
+            Assert.assertFalse(tx.supportsSorting(Book.class, Sorting.parseSortRule("title")));
+        }
+    }
+
+    @Test
+    public void testIndexedFilters() throws IOException {
+        try (DataStoreTransaction tx = store.beginTransaction()) {
+            FilterExpression genre = new InPredicate(path("genre"), "SciFi", "Romance");
+            Assert.assertEquals(titles(tx.loadObjects(Book.class, Optional.of(genre), Optional.empty(),
+                    Optional.empty(), scope)), Arrays.asList("Foundation", "Dune", "Emma"));
+
+            FilterExpression range = new AndFilterExpression(
+                    predicate("publishDate", Operator.GE, 1951L),
+                    predicate("publishDate", Operator.LT, 2000L));
+            Assert.assertEquals(titles(tx.loadObjects(Book.class, Optional.of(range), Optional.empty(),
+                    Optional.empty(), scope)), Arrays.asList("Foundation", "Dune"));
+
+            FilterExpression either = new OrFilterExpression(
+                    new InPredicate(path("genre"), "Romance"),
+                    predicate("publishDate", Operator.GT, 1960L));
+            Assert.assertEquals(titles(tx.loadObjects(Book.class, Optional.of(either), Optional.empty(),
+                    Optional.empty(), scope)), Arrays.asList("Emma", "Dune", "Untitled"));
+        }
+    }
+
+    @Test
+    public void testSortedPagination() throws IOException {
+        try (DataStoreTransaction tx = store.beginTransaction()) {
+            Pagination pagination = Pagination.fromOffsetAndLimit(2, 1, true);
+            Iterable<Object> page = tx.loadObjects(Book.class, Optional.empty(),
+                    Optional.of(Sorting.parseSortRule("-publishDate")), Optional.of(pagination), scope);
+
+            Assert.assertEquals(titles(page), Arrays.asList("Dune", "Foundation"));
+            Assert.assertEquals(pagination.getPageTotals(), 4);
+
+            FilterExpression genre = new InPredicate(path("genre"), "SciFi");
+            page = tx.loadObjects(Book.class, Optional.of(genre),
+                    Optional.of(Sorting.parseSortRule("publishDate")), Optional.empty(), scope);
+            Assert.assertEquals(titles(page), Arrays.asList("Foundation", "Dune"));
+        }
+    }
+
+    @Test
+    public void testSnapshotIsolation() throws IOException {
+        try (DataStoreTransaction reader = store.beginTransaction()) {
+            Assert.assertEquals(titles(reader.loadObjects(Book.class, Optional.empty(), Optional.empty(),
+                    Optional.empty(), scope)).size(), 4);
+
+            try (DataStoreTransaction writer = store.beginTransaction()) {
+                Book emma = (Book) writer.loadObject(Book.class, 3L, Optional.empty(), scope);
+                writer.delete(emma, scope);
+                writer.createObject(book("Neuromancer", "SciFi", 1984), scope);
+                writer.commit(scope);
+            }
+
+            Assert.assertEquals(titles(reader.loadObjects(Book.class, Optional.empty(), Optional.empty(),
+                    Optional.empty(), scope)).size(), 4);
+        }
+
+        try (DataStoreTransaction tx = store.beginTransaction()) {
+            FilterExpression genre = new InPredicate(path("genre"), "SciFi", "Romance");
+            Assert.assertEquals(titles(tx.loadObjects(Book.class, Optional.of(genre), Optional.empty(),
+                    Optional.empty(), scope)), Arrays.asList("Foundation", "Dune", "Neuromancer"));
+            Assert.assertNull(tx.loadObject(Book.class, 3L, Optional.empty(), scope));
+        }
+    }
+
+    @Test
+    public void testModifiedRowsAreRechecked() throws IOException {
+        InMemoryDataStore inMemoryStore = new InMemoryDataStore(store);
+        try (DataStoreTransaction tx = inMemoryStore.beginTransaction()) {
+            // Modified in place and not committed, the index still has Dune under SciFi and 1965
+            Book dune = (Book) tx.loadObject(Book.class, 2L, Optional.empty(), scope);
+            dune.setGenre("Romance");
+            dune.setPublishDate(1700);
+
+            FilterExpression genre = new InPredicate(path("genre"), "SciFi");
+            Assert.assertEquals(titles(tx.loadObjects(Book.class, Optional.of(genre), Optional.empty(),
+                    Optional.empty(), scope)), Arrays.asList("Foundation"));
+
+            Assert.assertEquals(titles(tx.loadObjects(Book.class, Optional.empty(),
+                    Optional.of(Sorting.parseSortRule("publishDate")), Optional.empty(), scope)),
+                    Arrays.asList("Dune", "Emma", "Foundation", "Untitled"));
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testSortedIndexRequiresComparable() {
+        new IndexedHashMapDataStore(Book.class.getPackage())
+                .withIndex(Book.class, "authors", IndexedHashMapDataStore.IndexType.SORTED)
+                .populateEntityDictionary(new EntityDictionary(new HashMap<>()));
+    }
+
+    private Path path(String field) {
+        return new Path(Book.class, dictionary, field);
+    }
+
+    private FilterPredicate predicate(String field, Operator operator, Object value) {
+        return new FilterPredicate(path(field), operator, Collections.singletonList(value));
+    }
+
+    private static Book book(String title, String genre, long publishDate) {
+        Book book = new Book();
+        book.setTitle(title);
+        book.setGenre(genre);
+        book.setPublishDate(publishDate);
+        return book;
+    }
+
+    private static List<String> titles(Iterable<Object> books) {
+        List<String> titles = new ArrayList<>();
+        books.forEach(book -> titles.add(((Book) book).getTitle()));
+        return titles;
+    }
+}
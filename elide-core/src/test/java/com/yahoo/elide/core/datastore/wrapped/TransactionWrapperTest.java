@@ -18,6 +18,8 @@ import com.yahoo.elide.security.User;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 
 public class TransactionWrapperTest {
@@ -235,6 +237,20 @@ public class TransactionWrapperTest {
         Assert.assertEquals(actual, 1L);
     }
 
+    @Test
+    public void testGetRelations() {
+        DataStoreTransaction wrapped = mock(DataStoreTransaction.class);
+        DataStoreTransaction wrapper = new TestTransactionWrapper(wrapped);
+
+        Map<Object, Object> expected = Collections.singletonMap(1L, 2L);
+        when(wrapped.getRelations(any(), any(), any(), any(), any())).thenReturn(expected);
+
+        Map<Object, Object> actual = wrapper.getRelations(null, null, null, null, null);
+
+        verify(wrapped, times(1)).getRelations(any(), any(), any(), any(), any());
+        Assert.assertEquals(actual, expected);
+    }
+
     @Test
     public void testLoadObject() {
         DataStoreTransaction wrapped = mock(DataStoreTransaction.class);
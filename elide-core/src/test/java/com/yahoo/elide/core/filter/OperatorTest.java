@@ -8,6 +8,7 @@ package com.yahoo.elide.core.filter;
 import static org.mockito.Mockito.when;
 
 import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.exceptions.InvalidPredicateException;
 import com.yahoo.elide.core.exceptions.InvalidValueException;
@@ -291,4 +292,36 @@ public class OperatorTest {
             Assert.assertTrue(true);
         }
     }
+
+    @Test
+    public void testCompiledPredicateReuse() throws Exception {
+        EntityDictionary dictionary = requestScope.getDictionary();
+        Path id = new Path(Author.class, dictionary, "id");
+        Path name = new Path(Author.class, dictionary, "name");
+
+        Author first = new Author();
+        first.setId(1L);
+        first.setName("AuthorForTest");
+
+        Author second = new Author();
+        second.setId(2L);
+        second.setName("Other");
+
+        // Filter values are coerced once and reused for every entity
+        fn = Operator.IN.contextualize(id, Arrays.asList("1", 3), requestScope);
+        Assert.assertTrue(fn.test(first));
+        Assert.assertFalse(fn.test(second));
+        Assert.assertTrue(fn.test(first));
+
+        fn = Operator.PREFIX_CASE_INSENSITIVE.contextualize(name, Collections.singletonList("AUTHOR"), requestScope);
+        Assert.assertTrue(fn.test(first));
+        Assert.assertFalse(fn.test(second));
+
+        fn = Operator.GE.contextualize(id, Collections.singletonList("2"), requestScope);
+        Assert.assertFalse(fn.test(first));
+        Assert.assertTrue(fn.test(second));
+
+        second.setId(null);
+        Assert.assertFalse(fn.test(second));
+    }
 }
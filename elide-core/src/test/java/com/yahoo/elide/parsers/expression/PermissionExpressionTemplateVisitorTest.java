@@ -37,7 +37,7 @@ import javax.persistence.Entity;
 /**
  * Test the expression language.
  */
-public class PermissionExpressionVisitorTest {
+public class PermissionExpressionTemplateVisitorTest {
     private EntityDictionary dictionary;
 
     @BeforeMethod
@@ -96,10 +96,10 @@ public class PermissionExpressionVisitorTest {
     }
 
     private Expression getExpressionForPermission(Class<? extends Annotation> permission, Class model) {
-        PermissionExpressionVisitor v = new PermissionExpressionVisitor(dictionary, DummyExpression::new);
+        PermissionExpressionTemplateVisitor v = new PermissionExpressionTemplateVisitor(dictionary);
         ParseTree permissions = dictionary.getPermissionsForClass(model, permission);
 
-        return v.visit(permissions);
+        return v.visit(permissions).bind(DummyExpression::new);
     }
 
     @Entity
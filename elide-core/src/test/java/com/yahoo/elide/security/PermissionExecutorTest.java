@@ -18,13 +18,20 @@ import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
 import com.yahoo.elide.security.checks.CommitCheck;
 import com.yahoo.elide.security.checks.OperationCheck;
 import com.yahoo.elide.security.checks.UserCheck;
+import com.yahoo.elide.security.permissions.UserCheckCache;
+
+import com.google.common.collect.ImmutableMap;
 
 import example.TestCheckMappings;
 
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.security.Principal;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.persistence.Entity;
 import javax.persistence.Id;
@@ -379,6 +386,59 @@ public class PermissionExecutorTest {
         requestScope.getPermissionExecutor().checkPermission(ReadPermission.class, resource, cspec);
     }
 
+    @Test
+    public void testSharedUserCheckCache() {
+        UserCheckCache cache = new UserCheckCache(100, 1, TimeUnit.HOURS);
+        EntityDictionary dictionary = new EntityDictionary(ImmutableMap.of("isAdmin", CountingAdminCheck.class));
+        dictionary.bindEntity(SharedUserCheckRecord.class);
+        ElideSettings settings = new ElideSettingsBuilder(null)
+                .withEntityDictionary(dictionary)
+                .withUserCheckCache(cache)
+                .build();
+        CountingAdminCheck.CALLS.set(0);
+
+        // The second request of the same user reuses the result of the first
+        checkReadPermission(principal("admin"), settings);
+        checkReadPermission(principal("admin"), settings);
+        Assert.assertEquals(CountingAdminCheck.CALLS.get(), 1);
+        Assert.assertEquals(cache.getHitCount(), 1);
+
+        // Failures are shared too
+        for (int i = 0; i < 2; i++) {
+            try {
+                checkReadPermission(principal("guest"), settings);
+                Assert.fail("Expected ForbiddenAccessException");
+            } catch (ForbiddenAccessException e) {
+                // expected
+            }
+        }
+        Assert.assertEquals(CountingAdminCheck.CALLS.get(), 2);
+        Assert.assertEquals(cache.getHitCount(), 2);
+
+        // Invalidating a user evaluates the checks of the next request again
+        cache.invalidate(principal("admin"));
+        checkReadPermission(principal("admin"), settings);
+        Assert.assertEquals(CountingAdminCheck.CALLS.get(), 3);
+        Assert.assertEquals(cache.size(), 2);
+
+        // Users without a principal are not cached
+        checkReadPermission(new User("admin"), settings);
+        Assert.assertEquals(CountingAdminCheck.CALLS.get(), 4);
+        Assert.assertEquals(cache.size(), 2);
+    }
+
+    private static User principal(String name) {
+        // A new principal object for every request, as the container creates them
+        return new User((Principal) () -> name);
+    }
+
+    private void checkReadPermission(User user, ElideSettings settings) {
+        RequestScope requestScope = new RequestScope(null, null, null, user, null, settings);
+        SharedUserCheckRecord obj = new SharedUserCheckRecord();
+        PersistentResource resource = new PersistentResource<>(obj, null, requestScope.getUUIDFor(obj), requestScope);
+        requestScope.getPermissionExecutor().checkPermission(ReadPermission.class, resource);
+    }
+
     public <T> PersistentResource newResource(T obj, Class<T> cls) {
         EntityDictionary dictionary = new EntityDictionary(TestCheckMappings.MAPPINGS);
         dictionary.bindEntity(cls);
@@ -530,4 +590,21 @@ public class PermissionExecutorTest {
     @UpdatePermission(expression = "peUserCheck")
     public static class UserCheckCacheRecord {
     }
+
+    /* Shared UserCheck cache testing */
+
+    public static class CountingAdminCheck extends UserCheck {
+        public static final AtomicInteger CALLS = new AtomicInteger();
+        @Override
+        public boolean ok(User user) {
+            CALLS.incrementAndGet();
+            return "admin".equals(user.getOpaqueUser());
+        }
+    }
+
+    @Entity
+    @Include
+    @ReadPermission(expression = "isAdmin")
+    public static class SharedUserCheckRecord {
+    }
 }
@@ -7,23 +7,37 @@ package com.yahoo.elide.security.permissions;
 
 import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.annotation.DeletePermission;
 import com.yahoo.elide.annotation.Include;
 import com.yahoo.elide.annotation.ReadPermission;
 import com.yahoo.elide.annotation.UpdatePermission;
 import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path.PathElement;
 import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.filter.FalsePredicate;
+import com.yahoo.elide.core.filter.InPredicate;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.parsers.expression.PermissionExpressionTemplate;
 import com.yahoo.elide.security.ChangeSpec;
+import com.yahoo.elide.security.FilterExpressionCheck;
 import com.yahoo.elide.security.checks.Check;
+import com.yahoo.elide.security.checks.OperationCheck;
 import com.yahoo.elide.security.checks.prefab.Role;
+import com.yahoo.elide.security.permissions.expressions.CheckExpression;
 import com.yahoo.elide.security.permissions.expressions.Expression;
 
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import javax.persistence.Entity;
 import javax.persistence.Id;
@@ -39,6 +53,8 @@ public class PermissionExpressionBuilderTest {
         Map<String, Class<? extends Check>> checks = new HashMap<>();
         checks.put("user has all access", Role.ALL.class);
         checks.put("user has no access", Role.NONE.class);
+        checks.put("name is foo", NameIsFoo.class);
+        checks.put("operation fails", Fails.class);
 
         dictionary = new EntityDictionary(checks);
 
@@ -122,6 +138,141 @@ public class PermissionExpressionBuilderTest {
 
      }
 
+    @Test
+    public void testCompiledExpressionIsShared() {
+        @Entity
+        @Include
+        @ReadPermission(expression = "user has all access OR user has no access")
+        class Model { }
+        dictionary.bindEntity(Model.class);
+
+        PermissionExpressionTemplate template =
+                dictionary.getPermissionExpressionForClass(Model.class, ReadPermission.class);
+        Assert.assertSame(dictionary.getPermissionExpressionForClass(Model.class, ReadPermission.class), template);
+
+        // Each binding creates new expression nodes around the same check instances
+        List<Check> first = new ArrayList<>();
+        List<Check> second = new ArrayList<>();
+        Expression firstExpression = template.bind(check -> {
+            first.add(check);
+            return new CheckExpression(check, null, null, null, new ExpressionResultCache());
+        });
+        Expression secondExpression = template.bind(check -> {
+            second.add(check);
+            return new CheckExpression(check, null, null, null, new ExpressionResultCache());
+        });
+
+        Assert.assertNotSame(firstExpression, secondExpression);
+        Assert.assertEquals(first.size(), 2);
+        Assert.assertSame(first.get(0), second.get(0));
+        Assert.assertSame(first.get(1), second.get(1));
+        Assert.assertTrue(first.get(0) instanceof Role.ALL);
+        Assert.assertTrue(first.get(1) instanceof Role.NONE);
+    }
+
+    @Test
+    public void testBulkFilterExpression() {
+        @Entity
+        @Include
+        @ReadPermission(expression = "user has all access")
+        @DeletePermission(expression = "name is foo")
+        class Model {
+            @Id
+            private long id;
+            private String name;
+        }
+        dictionary.bindEntity(Model.class);
+
+        FilterExpression filter = new InPredicate(new PathElement(Model.class, long.class, "id"), 1L);
+        FilterExpression bulkFilter = builder.buildBulkFilterExpression(Model.class, DeletePermission.class,
+                Collections.emptySet(), filter, newRequestScope());
+
+        // User checks which pass add nothing, filter checks restrict the filter
+        Assert.assertEquals(bulkFilter, new AndFilterExpression(filter,
+                new InPredicate(new PathElement(Model.class, String.class, "name"), "foo")));
+    }
+
+    @Test
+    public void testBulkFilterExpressionOfFields() {
+        @Entity
+        @Include
+        @UpdatePermission(expression = "user has no access")
+        class Model {
+            @Id
+            private long id;
+            @UpdatePermission(expression = "user has all access")
+            private String name;
+            private String description;
+        }
+        dictionary.bindEntity(Model.class);
+
+        FilterExpression filter = new InPredicate(new PathElement(Model.class, long.class, "id"), 1L);
+
+        Assert.assertEquals(builder.buildBulkFilterExpression(Model.class, UpdatePermission.class,
+                Collections.singleton("name"), filter, newRequestScope()), filter);
+
+        // Fields without their own permission fall back to the class permission
+        Assert.assertEquals(builder.buildBulkFilterExpression(Model.class, UpdatePermission.class,
+                Collections.singleton("description"), filter, newRequestScope()),
+                new FalsePredicate(new PathElement(Model.class, dictionary.getIdType(Model.class), "id")));
+    }
+
+    @Test
+    public void testBulkFilterExpressionNeedsFilterableChecks() {
+        @Entity
+        @Include
+        @DeletePermission(expression = "name is foo OR operation fails")
+        class Model {
+            @Id
+            private long id;
+            private String name;
+        }
+        dictionary.bindEntity(Model.class);
+
+        FilterExpression filter = new InPredicate(new PathElement(Model.class, long.class, "id"), 1L);
+
+        Assert.assertNull(builder.buildBulkFilterExpression(Model.class, DeletePermission.class,
+                Collections.emptySet(), filter, newRequestScope()));
+    }
+
+    @Test
+    public void testBulkFilterExpressionWithFieldReadPermissions() {
+        @Entity
+        @Include
+        class Model {
+            @Id
+            private long id;
+            @ReadPermission(expression = "user has no access")
+            private String name;
+        }
+        dictionary.bindEntity(Model.class);
+
+        FilterExpression filter = new InPredicate(new PathElement(Model.class, long.class, "id"), 1L);
+
+        Assert.assertNull(builder.buildBulkFilterExpression(Model.class, DeletePermission.class,
+                Collections.emptySet(), filter, newRequestScope()));
+    }
+
+    public static class NameIsFoo extends FilterExpressionCheck<Object> {
+        @Override
+        public FilterExpression getFilterExpression(Class<?> entityClass,
+                                                    com.yahoo.elide.security.RequestScope requestScope) {
+            return new InPredicate(new PathElement(entityClass, String.class, "name"), "foo");
+        }
+    }
+
+    public static class Fails extends OperationCheck<Object> {
+        @Override
+        public boolean ok(Object object, com.yahoo.elide.security.RequestScope requestScope,
+                          Optional<ChangeSpec> changeSpec) {
+            return false;
+        }
+    }
+
+    private RequestScope newRequestScope() {
+        return new RequestScope(null, null, null, null, null, elideSettings);
+    }
+
     public <T> PersistentResource newResource(T obj, Class<T> cls) {
         RequestScope requestScope = new RequestScope(null, null, null, null, null, elideSettings);
         return new PersistentResource<>(obj, null, requestScope.getUUIDFor(obj), requestScope);
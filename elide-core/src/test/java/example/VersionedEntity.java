@@ -0,0 +1,29 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package example;
+
+import com.yahoo.elide.annotation.Include;
+
+import lombok.Data;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+@Include(rootLevel = true, type = "versioned")
+@Entity
+@Table(name = "versioned")
+@Data
+public class VersionedEntity {
+    @Id
+    private long id;
+
+    private String name;
+
+    @Version
+    private long version;
+}
@@ -32,10 +32,14 @@ import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.expression.FilterExpressionVisitor;
 import com.yahoo.elide.core.filter.expression.NotFilterExpression;
 import com.yahoo.elide.core.filter.expression.OrFilterExpression;
+import com.yahoo.elide.core.hibernate.hql.AbstractHQLQueryBuilder;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
 import org.apache.commons.lang3.tuple.Triple;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -43,9 +47,20 @@ import java.util.stream.Collectors;
 
 /**
  * Translates a filter predicate into a JPQL fragment.
+ * <p>
+ * The parameter lists of IN and NOT IN predicates are padded to the next power of two by repeating their last value,
+ * so lists of similar length share the same query text.  Lists longer than the chunk size are split into chunks (OR'd
+ * for IN, AND'ed for NOT IN) to stay within database limits on the length of an IN list, and only the last chunk is
+ * padded.
  */
 public class FilterTranslator implements FilterOperation<String> {
     private static final String COMMA = ", ";
+    private static final EnumSet<Operator> IN_LIST_OPERATORS = EnumSet.of(IN, IN_INSENSITIVE, NOT, NOT_INSENSITIVE);
+
+    public static final int DEFAULT_IN_LIST_CHUNK_SIZE = 1000;
+
+    private static volatile boolean inListPadding = true;
+    private static volatile int inListChunkSize = DEFAULT_IN_LIST_CHUNK_SIZE;
 
     private static Map<Operator, JPQLPredicateGenerator> operatorGenerators;
     private static Map<Triple<Operator, Class<?>, String>, JPQLPredicateGenerator> predicateOverrides;
@@ -169,6 +184,7 @@ public class FilterTranslator implements FilterOperation<String> {
     public static void registerJPQLGenerator(Operator op,
                                              JPQLPredicateGenerator generator) {
         operatorGenerators.put(op, generator);
+        AbstractHQLQueryBuilder.getQueryTemplateCache().invalidateAll();
     }
 
     /**
@@ -183,6 +199,82 @@ public class FilterTranslator implements FilterOperation<String> {
                                              String fieldName,
                                              JPQLPredicateGenerator generator) {
         predicateOverrides.put(Triple.of(op, entityClass, fieldName), generator);
+        AbstractHQLQueryBuilder.getQueryTemplateCache().invalidateAll();
+    }
+
+    /**
+     * Enables or disables padding IN and NOT IN parameter lists to the next power of two.
+     * @param padding Whether to pad IN lists
+     */
+    public static void setInListPadding(boolean padding) {
+        inListPadding = padding;
+        AbstractHQLQueryBuilder.getQueryTemplateCache().invalidateAll();
+    }
+
+    /**
+     * Sets the maximum number of parameters in a single IN or NOT IN list.  Longer lists are split into chunks.
+     * @param chunkSize The maximum length of an IN list
+     */
+    public static void setInListChunkSize(int chunkSize) {
+        Preconditions.checkArgument(chunkSize > 0, "IN list chunk size must be positive");
+        inListChunkSize = chunkSize;
+        AbstractHQLQueryBuilder.getQueryTemplateCache().invalidateAll();
+    }
+
+    /**
+     * Returns the maximum number of parameters in a single IN or NOT IN list.
+     * @return The maximum length of an IN list
+     */
+    public static int getInListChunkSize() {
+        return inListChunkSize;
+    }
+
+    /**
+     * Returns the parameters of a predicate at a position of a filter expression, as they are referenced in the
+     * JPQL generated for the predicate.  IN lists are padded by repeating their last value.
+     * @param filterPredicate The predicate
+     * @param position The position of the predicate in the filter expression
+     * @return The filter parameters
+     */
+    public static List<FilterParameter> getParameters(FilterPredicate filterPredicate, int position) {
+        List<FilterParameter> params = filterPredicate.getParameters(position);
+        int count = getParameterCount(filterPredicate);
+        if (count == params.size()) {
+            return params;
+        }
+
+        List<Object> values = new ArrayList<>(count);
+        values.addAll(filterPredicate.getValues());
+        Object last = values.get(values.size() - 1);
+        while (values.size() < count) {
+            values.add(last);
+        }
+        return new FilterPredicate(filterPredicate.getPath(), filterPredicate.getOperator(), values)
+                .getParameters(position);
+    }
+
+    /**
+     * Returns the number of parameters referenced in the JPQL generated for a predicate.
+     * @param filterPredicate The predicate
+     * @return The number of parameters, including padding
+     */
+    public static int getParameterCount(FilterPredicate filterPredicate) {
+        int size = filterPredicate.getValues().size();
+        if (!inListPadding || size <= 1 || !IN_LIST_OPERATORS.contains(filterPredicate.getOperator())) {
+            return size;
+        }
+
+        int chunkSize = inListChunkSize;
+        int fullChunks = size / chunkSize * chunkSize;
+        return fullChunks + getPaddedLength(size - fullChunks, chunkSize);
+    }
+
+    /* The length of the last chunk of an IN list padded to the next power of two, at most the chunk size */
+    private static int getPaddedLength(int length, int chunkSize) {
+        if (length <= 1) {
+            return length;
+        }
+        return Math.min(Integer.highestOneBit(length - 1) << 1, chunkSize);
     }
 
     /**
@@ -225,6 +317,17 @@ public class FilterTranslator implements FilterOperation<String> {
      * @return The hql query fragment.
      */
     protected String apply(FilterPredicate filterPredicate, boolean prefixWithAlias) {
+        return apply(filterPredicate, prefixWithAlias, filterPredicate.getParameters());
+    }
+
+    /**
+     * Transforms a filter predicate into a JPQL query fragment.
+     * @param filterPredicate The predicate to transform.
+     * @param prefixWithAlias Whether or not to append the entity type to the predicate.
+     * @param params The parameters to reference in the fragment.
+     * @return The hql query fragment.
+     */
+    private String apply(FilterPredicate filterPredicate, boolean prefixWithAlias, List<FilterParameter> params) {
         String fieldPath = filterPredicate.getFieldPath();
 
         if (prefixWithAlias) {
@@ -236,8 +339,6 @@ public class FilterTranslator implements FilterOperation<String> {
         //JPQL doesn't support 'this', but it does support aliases.
         fieldPath = fieldPath.replaceAll("\\.this", "");
 
-        List<FilterParameter> params = filterPredicate.getParameters();
-
         Operator op = filterPredicate.getOperator();
         JPQLPredicateGenerator generator = lookupJPQLGenerator(op, last.getType(), last.getFieldName());
 
@@ -249,6 +350,16 @@ public class FilterTranslator implements FilterOperation<String> {
             throw new InvalidPredicateException("Operator not implemented: " + filterPredicate.getOperator());
         }
 
+        int chunkSize = inListChunkSize;
+        if (params.size() > chunkSize && IN_LIST_OPERATORS.contains(op)) {
+            JPQLPredicateGenerator chunkGenerator = generator;
+            String columnAlias = fieldPath;
+            String connective = (op == NOT || op == NOT_INSENSITIVE) ? " AND " : " OR ";
+            return Lists.partition(params, chunkSize).stream()
+                    .map(chunk -> chunkGenerator.generate(columnAlias, chunk))
+                    .collect(Collectors.joining(connective, "(", ")"));
+        }
+
         return generator.generate(fieldPath, params);
     }
 
@@ -264,6 +375,14 @@ public class FilterTranslator implements FilterOperation<String> {
                 .collect(Collectors.joining(COMMA)));
     }
 
+    /**
+     * Translates a filter expression to a JPQL WHERE clause.  Parameters are named by the position of their predicate
+     * in the expression (see {@link #getParameters(FilterPredicate, int)}), so the clause does not depend on the
+     * filter values.
+     * @param filterExpression The expression to translate
+     * @param prefixWithAlias Whether or not to append the entity type to the predicates.
+     * @return The JPQL WHERE clause
+     */
     public String apply(FilterExpression filterExpression, boolean prefixWithAlias) {
         JPQLQueryVisitor visitor = new JPQLQueryVisitor(prefixWithAlias);
         return "WHERE " + filterExpression.accept(visitor);
@@ -274,6 +393,7 @@ public class FilterTranslator implements FilterOperation<String> {
      */
     public class JPQLQueryVisitor implements FilterExpressionVisitor<String> {
         private boolean prefixWithAlias;
+        private int position = 0;
 
         public JPQLQueryVisitor(boolean prefixWithAlias) {
             this.prefixWithAlias = prefixWithAlias;
@@ -281,7 +401,7 @@ public class FilterTranslator implements FilterOperation<String> {
 
         @Override
         public String visitPredicate(FilterPredicate filterPredicate) {
-            return apply(filterPredicate, prefixWithAlias);
+            return apply(filterPredicate, prefixWithAlias, getParameters(filterPredicate, position++));
         }
 
         @Override
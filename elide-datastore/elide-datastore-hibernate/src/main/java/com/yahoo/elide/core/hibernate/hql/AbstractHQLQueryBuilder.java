@@ -9,6 +9,7 @@ import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.RelationshipType;
 import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.FilterTranslator;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.hibernate.Query;
@@ -25,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javax.persistence.OneToOne;
@@ -53,6 +55,9 @@ public abstract class AbstractHQLQueryBuilder {
     protected static final boolean USE_ALIAS = true;
     protected static final boolean NO_ALIAS = false;
 
+    private static final QueryTemplateCache QUERY_TEMPLATES =
+            new QueryTemplateCache(QueryTemplateCache.DEFAULT_MAXIMUM_SIZE);
+
     /**
      * Represents a relationship between two entities.
      */
@@ -79,6 +84,14 @@ public abstract class AbstractHQLQueryBuilder {
 
     public abstract Query build();
 
+    /**
+     * The query text shared by all query builders.
+     * @return the query template cache
+     */
+    public static QueryTemplateCache getQueryTemplateCache() {
+        return QUERY_TEMPLATES;
+    }
+
     public AbstractHQLQueryBuilder withPossibleFilterExpression(Optional<FilterExpression> filterExpression) {
         this.filterExpression = filterExpression;
         return this;
@@ -95,8 +108,9 @@ public abstract class AbstractHQLQueryBuilder {
     }
 
     /**
-     * Given a collection of filter predicates and a Hibernate query, populates the named parameters in the
-     * Hibernate query.
+     * Given a collection of filter predicates translated one at a time by
+     * {@link FilterTranslator#apply(FilterPredicate, boolean)} and a Hibernate query, populates the named
+     * parameters in the Hibernate query.
      *
      * @param query The HQL query
      * @param predicates The predicates to extract named parameter values from
@@ -112,6 +126,46 @@ public abstract class AbstractHQLQueryBuilder {
         }
     }
 
+    /**
+     * Given a filter expression translated by {@link FilterTranslator#apply(FilterExpression, boolean)} and a
+     * Hibernate query, populates the named parameters in the Hibernate query.
+     *
+     * @param query The HQL query
+     * @param filterExpression The translated filter expression
+     */
+    protected void supplyFilterQueryParameters(Query query, FilterExpression filterExpression) {
+        List<FilterPredicate> predicates = (List<FilterPredicate>) filterExpression.accept(
+                new PredicateExtractionVisitor(new ArrayList<>()));
+
+        // Parameters are named by the position of their predicate in the expression
+        for (int position = 0; position < predicates.size(); position++) {
+            FilterPredicate filterPredicate = predicates.get(position);
+            if (filterPredicate.getOperator().isParameterized()) {
+                boolean shouldEscape = filterPredicate.isMatchingOperator();
+                FilterTranslator.getParameters(filterPredicate, position).forEach(param -> {
+                    query.setParameter(param.getName(), shouldEscape ? param.escapeMatching() : param.getValue());
+                });
+            }
+        }
+    }
+
+    /**
+     * Returns the text of the query, generating it only if no query of the same shape has been built.
+     * @param generator Generates the query text
+     * @param shape The values other than the builder type, dictionary and filter expression shape that the query
+     *              text depends on
+     * @return The query text
+     */
+    protected String getQueryText(Supplier<String> generator, Object... shape) {
+        StringBuilder key = new StringBuilder(getClass().getName())
+                .append('@').append(System.identityHashCode(dictionary));
+        for (Object part : shape) {
+            key.append('|').append(part);
+        }
+        key.append('|').append(filterExpression.map(QueryTemplateCache::getShape).orElse(""));
+        return QUERY_TEMPLATES.get(key.toString(), generator);
+    }
+
     /**
      * Extracts all the HQL JOIN clauses from given filter expression.
      * @param filterExpression the filter expression to extract a join clause from
@@ -129,13 +183,16 @@ public abstract class AbstractHQLQueryBuilder {
     }
 
     /**
-     * Modifies the HQL query to add OFFSET and LIMIT.
+     * Modifies the HQL query to add OFFSET and LIMIT.  A keyset page is selected by its seek predicate in the
+     * filter expression, so only the LIMIT is added.
      * @param query The HQL query object
      */
     protected void addPaginationToQuery(Query query) {
         if (pagination.isPresent()) {
             Pagination pagination = this.pagination.get();
-            query.setFirstResult(pagination.getOffset());
+            if (!pagination.hasCursor()) {
+                query.setFirstResult(pagination.getOffset());
+            }
             query.setMaxResults(pagination.getLimit());
         }
     }
@@ -226,14 +283,16 @@ public abstract class AbstractHQLQueryBuilder {
             );
             if (!validSortingRules.isEmpty()) {
                 final List<String> ordering = new ArrayList<>();
+                final boolean nullsGreatest = sorting.get().isNullsGreatest();
                 // pass over the sorting rules
                 validSortingRules.entrySet().stream().forEachOrdered(entry -> {
                         Path path = entry.getKey();
 
                         String prefix = (prefixWithAlias) ? Path.getTypeAlias(sortClass) + PERIOD : "";
 
-                        ordering.add(prefix + path.getFieldPath() + SPACE
-                                + (entry.getValue().equals(Sorting.SortOrder.desc) ? "desc" : "asc"));
+                        boolean descending = entry.getValue().equals(Sorting.SortOrder.desc);
+                        String nulls = !nullsGreatest ? "" : (descending ? " nulls first" : " nulls last");
+                        ordering.add(prefix + path.getFieldPath() + SPACE + (descending ? "desc" : "asc") + nulls);
                     }
                 );
                 sortingRules = " order by " + StringUtils.join(ordering, COMMA);
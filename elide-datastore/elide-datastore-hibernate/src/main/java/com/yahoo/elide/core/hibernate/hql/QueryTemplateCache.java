@@ -0,0 +1,110 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.hibernate.hql;
+
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.FilterTranslator;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpressionVisitor;
+import com.yahoo.elide.core.filter.expression.NotFilterExpression;
+import com.yahoo.elide.core.filter.expression.OrFilterExpression;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of generated HQL query text.
+ * <p>
+ * Filter parameters are named by position, so the text of a query only depends on its shape: the builder, the
+ * entities and relationship queried, the paths, operators and number of parameters of the filter predicates and the
+ * sort rules.  Queries of the same shape reuse the text generated for the first one, and the identical text lets
+ * Hibernate reuse its query plan.
+ */
+public class QueryTemplateCache {
+    public static final long DEFAULT_MAXIMUM_SIZE = 1024;
+
+    private final Cache<String, String> cache;
+
+    public QueryTemplateCache(long maximumSize) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Get the text of a query, generating it if no query of the same shape is cached.
+     *
+     * @param key the query shape
+     * @param generator generates the query text
+     * @return the query text
+     */
+    public String get(String key, Supplier<String> generator) {
+        String hql = cache.getIfPresent(key);
+        if (hql == null) {
+            hql = generator.get();
+            cache.put(key, hql);
+        }
+        return hql;
+    }
+
+    /**
+     * Remove all cached queries.  Called when the JPQL generated for a filter operator changes.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    public double getHitRate() {
+        return cache.stats().hitRate();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    /**
+     * Describe the shape of a filter expression, ignoring the filter values.
+     *
+     * @param filterExpression the filter expression
+     * @return the shape of the filter expression
+     */
+    public static String getShape(FilterExpression filterExpression) {
+        return filterExpression.accept(new FilterExpressionVisitor<String>() {
+            @Override
+            public String visitPredicate(FilterPredicate filterPredicate) {
+                return filterPredicate.getPath() + " " + filterPredicate.getOperator().getNotation()
+                        + " " + FilterTranslator.getParameterCount(filterPredicate);
+            }
+
+            @Override
+            public String visitAndExpression(AndFilterExpression expression) {
+                return "(" + expression.getLeft().accept(this) + " AND " + expression.getRight().accept(this) + ")";
+            }
+
+            @Override
+            public String visitOrExpression(OrFilterExpression expression) {
+                return "(" + expression.getLeft().accept(this) + " OR " + expression.getRight().accept(this) + ")";
+            }
+
+            @Override
+            public String visitNotExpression(NotFilterExpression expression) {
+                return "NOT (" + expression.getNegated().accept(this) + ")";
+            }
+        });
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.hibernate.hql;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.FilterTranslator;
+import com.yahoo.elide.core.hibernate.Query;
+import com.yahoo.elide.core.hibernate.Session;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+
+import java.util.Optional;
+
+/**
+ * Constructs a HQL statement to delete the members of a root collection matching a filter.  The filter must not
+ * reference relationships: bulk statements cannot join.
+ */
+public class RootCollectionDeleteQueryBuilder extends AbstractHQLQueryBuilder {
+
+    private Class<?> entityClass;
+
+    public RootCollectionDeleteQueryBuilder(Class<?> entityClass,
+                                            EntityDictionary dictionary,
+                                            Session session) {
+        super(dictionary, session);
+        this.entityClass = dictionary.lookupEntityClass(entityClass);
+    }
+
+    @Override
+    public AbstractHQLQueryBuilder withPossiblePagination(Optional<Pagination> ignored) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public AbstractHQLQueryBuilder withPossibleSorting(Optional<Sorting> ignored) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Constructs a statement like:
+     *
+     * DELETE FROM Author AS Author
+     * WHERE Author.name = :name_p0_0
+     *
+     * @return the constructed statement
+     */
+    @Override
+    public Query build() {
+        String entityName = entityClass.getCanonicalName();
+        String entityAlias = FilterPredicate.getTypeAlias(entityClass);
+
+        Query query = session.createQuery(getQueryText(() -> {
+            String filterClause = filterExpression
+                    .map(fe -> new FilterTranslator().apply(fe, USE_ALIAS))
+                    .orElse("");
+
+            return "DELETE"
+                    + FROM
+                    + entityName
+                    + AS
+                    + entityAlias
+                    + SPACE
+                    + filterClause;
+        }, entityClass));
+
+        filterExpression.ifPresent(fe -> supplyFilterQueryParameters(query, fe));
+        return query;
+    }
+}
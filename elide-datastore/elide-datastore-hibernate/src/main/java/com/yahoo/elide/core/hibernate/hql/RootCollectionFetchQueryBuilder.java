@@ -8,12 +8,9 @@ package com.yahoo.elide.core.hibernate.hql;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.filter.FilterPredicate;
 import com.yahoo.elide.core.filter.FilterTranslator;
-import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.hibernate.Query;
 import com.yahoo.elide.core.hibernate.Session;
 
-import java.util.Collection;
-
 /**
  * Constructs a HQL query to fetch a root collection.
  */
@@ -38,47 +35,45 @@ public class RootCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
         String entityName = entityClass.getCanonicalName();
         String entityAlias = FilterPredicate.getTypeAlias(entityClass);
 
-        Query query;
-        if (filterExpression.isPresent()) {
-            PredicateExtractionVisitor extractor = new PredicateExtractionVisitor();
-            Collection<FilterPredicate> predicates = filterExpression.get().accept(extractor);
+        String sortClause = getSortClause(sorting, entityClass, USE_ALIAS);
 
-            //Build the WHERE clause
-            String filterClause = new FilterTranslator().apply(filterExpression.get(), USE_ALIAS);
-
-            //Build the JOIN clause
-            String joinClause =  getJoinClauseFromFilters(filterExpression.get())
-                    + extractToOneMergeJoins(entityClass, entityAlias);
-
-            query = session.createQuery(
-                    SELECT
+        Query query = session.createQuery(getQueryText(() -> {
+            if (!filterExpression.isPresent()) {
+                return SELECT
                         + entityAlias
                         + FROM
                         + entityName
                         + AS
                         + entityAlias
                         + SPACE
-                        + joinClause
-                        + SPACE
-                        + filterClause
+                        + extractToOneMergeJoins(entityClass, entityAlias)
                         + SPACE
-                        + getSortClause(sorting, entityClass, USE_ALIAS)
-            );
+                        + sortClause;
+            }
 
-            //Fill in the query parameters
-            supplyFilterQueryParameters(query, predicates);
-        } else {
-            query = session.createQuery(SELECT
+            //Build the WHERE clause
+            String filterClause = new FilterTranslator().apply(filterExpression.get(), USE_ALIAS);
+
+            //Build the JOIN clause
+            String joinClause =  getJoinClauseFromFilters(filterExpression.get())
+                    + extractToOneMergeJoins(entityClass, entityAlias);
+
+            return SELECT
                     + entityAlias
                     + FROM
                     + entityName
                     + AS
                     + entityAlias
                     + SPACE
-                    + extractToOneMergeJoins(entityClass, entityAlias)
+                    + joinClause
                     + SPACE
-                    + getSortClause(sorting, entityClass, USE_ALIAS));
-        }
+                    + filterClause
+                    + SPACE
+                    + sortClause;
+        }, entityClass, sortClause));
+
+        //Fill in the query parameters
+        filterExpression.ifPresent(fe -> supplyFilterQueryParameters(query, fe));
 
         addPaginationToQuery(query);
         return query;
@@ -8,14 +8,11 @@ package com.yahoo.elide.core.hibernate.hql;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.filter.FilterPredicate;
 import com.yahoo.elide.core.filter.FilterTranslator;
-import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.hibernate.Query;
 import com.yahoo.elide.core.hibernate.Session;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.core.sort.Sorting;
 
-import java.util.Collection;
-import java.util.HashSet;
 import java.util.Optional;
 
 /**
@@ -57,40 +54,32 @@ public class RootCollectionPageTotalsQueryBuilder extends AbstractHQLQueryBuilde
         String entityName = entityClass.getCanonicalName();
         String entityAlias = FilterPredicate.getTypeAlias(entityClass);
 
-        Collection<FilterPredicate> predicates;
+        Query query = session.createQuery(getQueryText(() -> {
+            String filterClause = "";
+            String joinClause = "";
 
-        String filterClause;
-        String joinClause;
+            if (filterExpression.isPresent()) {
+                //Build the WHERE clause
+                filterClause = new FilterTranslator().apply(filterExpression.get(), USE_ALIAS);
 
-        if (filterExpression.isPresent()) {
-            PredicateExtractionVisitor extractor = new PredicateExtractionVisitor();
-            predicates = filterExpression.get().accept(extractor);
+                //Build the JOIN clause
+                joinClause =  getJoinClauseFromFilters(filterExpression.get());
+            }
 
-            //Build the WHERE clause
-            filterClause = new FilterTranslator().apply(filterExpression.get(), USE_ALIAS);
+            return "SELECT COUNT(DISTINCT "
+                    + entityAlias
+                    + ") "
+                    + FROM
+                    + entityName
+                    + AS
+                    + entityAlias
+                    + SPACE
+                    + joinClause
+                    + SPACE
+                    + filterClause;
+        }, entityClass));
 
-            //Build the JOIN clause
-            joinClause =  getJoinClauseFromFilters(filterExpression.get());
-
-        } else {
-            predicates = new HashSet();
-            filterClause = "";
-            joinClause = "";
-        }
-
-        Query query = session.createQuery("SELECT COUNT(DISTINCT "
-                + entityAlias
-                + ") "
-                + FROM
-                + entityName
-                + AS
-                + entityAlias
-                + SPACE
-                + joinClause
-                + SPACE
-                + filterClause
-        );
-        supplyFilterQueryParameters(query, predicates);
+        filterExpression.ifPresent(fe -> supplyFilterQueryParameters(query, fe));
         return query;
     }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.hibernate.hql;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.FilterTranslator;
+import com.yahoo.elide.core.hibernate.Query;
+import com.yahoo.elide.core.hibernate.Session;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Constructs a HQL statement to set attributes of the members of a root collection matching a filter.  The filter
+ * must not reference relationships: bulk statements cannot join.
+ */
+public class RootCollectionUpdateQueryBuilder extends AbstractHQLQueryBuilder {
+    private static final String SET_PARAMETER = "bulk_set_";
+
+    private Class<?> entityClass;
+    private Map<String, Object> attributes;
+
+    public RootCollectionUpdateQueryBuilder(Class<?> entityClass,
+                                            Map<String, Object> attributes,
+                                            EntityDictionary dictionary,
+                                            Session session) {
+        super(dictionary, session);
+        this.entityClass = dictionary.lookupEntityClass(entityClass);
+        this.attributes = attributes;
+    }
+
+    @Override
+    public AbstractHQLQueryBuilder withPossiblePagination(Optional<Pagination> ignored) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public AbstractHQLQueryBuilder withPossibleSorting(Optional<Sorting> ignored) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Constructs a statement like:
+     *
+     * UPDATE Author AS Author
+     * SET Author.name = :bulk_set_0
+     * WHERE Author.name = :name_p0_0
+     *
+     * @return the constructed statement
+     */
+    @Override
+    public Query build() {
+        String entityName = entityClass.getCanonicalName();
+        String entityAlias = FilterPredicate.getTypeAlias(entityClass);
+        List<String> fieldNames = new ArrayList<>(attributes.keySet());
+
+        Query query = session.createQuery(getQueryText(() -> {
+            StringBuilder setClause = new StringBuilder(" SET ");
+            for (int idx = 0; idx < fieldNames.size(); idx++) {
+                if (idx > 0) {
+                    setClause.append(COMMA).append(SPACE);
+                }
+                setClause.append(entityAlias).append(PERIOD).append(fieldNames.get(idx))
+                        .append(" = :").append(SET_PARAMETER).append(idx);
+            }
+
+            String filterClause = filterExpression
+                    .map(fe -> new FilterTranslator().apply(fe, USE_ALIAS))
+                    .orElse("");
+
+            return "UPDATE "
+                    + entityName
+                    + AS
+                    + entityAlias
+                    + setClause
+                    + SPACE
+                    + filterClause;
+        }, entityClass, fieldNames));
+
+        for (int idx = 0; idx < fieldNames.size(); idx++) {
+            query.setParameter(SET_PARAMETER + idx, attributes.get(fieldNames.get(idx)));
+        }
+        filterExpression.ifPresent(fe -> supplyFilterQueryParameters(query, fe));
+        return query;
+    }
+}
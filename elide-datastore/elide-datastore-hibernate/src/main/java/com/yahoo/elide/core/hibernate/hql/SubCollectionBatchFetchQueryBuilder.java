@@ -0,0 +1,138 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.hibernate.hql;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.FilterTranslator;
+import com.yahoo.elide.core.hibernate.Query;
+import com.yahoo.elide.core.hibernate.Session;
+import com.yahoo.elide.core.pagination.Pagination;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.OrderBy;
+import javax.persistence.OrderColumn;
+
+/**
+ * Constructs a HQL query to fetch the members of a relationship for several parents at once.
+ * <p>
+ * Each row of the query result is a two element array of the parent and one of its children.  The children of
+ * each parent are returned in the order of the relationship's {@link OrderBy} or {@link OrderColumn} mapping.
+ */
+public class SubCollectionBatchFetchQueryBuilder extends AbstractHQLQueryBuilder {
+
+    private final Class<?> parentType;
+    private final Class<?> childType;
+    private final String relationshipName;
+    private final Collection<?> parents;
+
+    public SubCollectionBatchFetchQueryBuilder(Class<?> parentType,
+                                               Class<?> childType,
+                                               String relationshipName,
+                                               Collection<?> parents,
+                                               EntityDictionary dictionary,
+                                               Session session) {
+        super(dictionary, session);
+        this.parentType = parentType;
+        this.childType = childType;
+        this.relationshipName = relationshipName;
+        this.parents = parents;
+    }
+
+    @Override
+    public AbstractHQLQueryBuilder withPossiblePagination(Optional<Pagination> ignored) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Constructs a query that returns the members of a relationship paired with their owner.
+     *
+     * For a relationship like author.books, constructs a query like:
+     *
+     * SELECT example_Author__fetch, example_Book
+     * FROM example.Author example_Author__fetch JOIN example_Author__fetch.books example_Book
+     * WHERE example_Author__fetch IN (:example_Author__fetch)
+     *
+     * @return the constructed query
+     */
+    @Override
+    public Query build() {
+        String childAlias = FilterPredicate.getTypeAlias(childType);
+        String parentAlias = FilterPredicate.getTypeAlias(parentType) + "__fetch";
+        String parentName = parentType.getCanonicalName();
+
+        String selectClause = SELECT
+                + parentAlias + COMMA + SPACE + childAlias
+                + FROM
+                + parentName + SPACE + parentAlias
+                + JOIN
+                + parentAlias + PERIOD + relationshipName + SPACE + childAlias;
+
+        String parentClause = parentAlias + " IN (:" + parentAlias + ")";
+
+        String sortClause = getSortClause(sorting, childType, USE_ALIAS);
+        if (sortClause.isEmpty()) {
+            sortClause = getMappedOrderClause(childAlias);
+        }
+
+        Query query = session.createQuery(getQueryText(() -> filterExpression.map(fe -> {
+            String filterClause = new FilterTranslator().apply(fe, USE_ALIAS);
+
+            String joinClause = getJoinClauseFromFilters(fe)
+                    + extractToOneMergeJoins(childType, childAlias);
+
+            return selectClause
+                    + joinClause
+                    + SPACE
+                    + filterClause
+                    + " AND " + parentClause
+                    + SPACE
+                    + sortClause;
+        }).orElseGet(() -> selectClause
+                + extractToOneMergeJoins(childType, childAlias)
+                + " WHERE " + parentClause
+                + sortClause
+        ), parentType, childType, relationshipName, sortClause));
+
+        filterExpression.ifPresent(fe -> supplyFilterQueryParameters(query, fe));
+        query.setParameterList(parentAlias, parents);
+        return query;
+    }
+
+    /**
+     * Builds the ORDER BY clause of the order the relationship is mapped with, which is the order of the children
+     * when the collection of a single parent is loaded.
+     * @param childAlias The HQL alias of the children
+     * @return The ORDER BY clause or an empty string if the relationship is not ordered
+     */
+    private String getMappedOrderClause(String childAlias) {
+        if (dictionary.getAttributeOrRelationAnnotation(parentType, OrderColumn.class, relationshipName) != null) {
+            return " order by index(" + childAlias + ")";
+        }
+
+        OrderBy orderBy = dictionary.getAttributeOrRelationAnnotation(parentType, OrderBy.class, relationshipName);
+        if (orderBy == null) {
+            return "";
+        }
+
+        // An empty ordering orders by the primary key
+        if (orderBy.value().trim().isEmpty()) {
+            return " order by " + childAlias + PERIOD + dictionary.getIdFieldName(childType) + " asc";
+        }
+
+        List<String> ordering = new ArrayList<>();
+        for (String item : orderBy.value().split(COMMA)) {
+            ordering.add(childAlias + PERIOD + item.trim());
+        }
+        return " order by " + StringUtils.join(ordering, COMMA);
+    }
+}
@@ -8,12 +8,9 @@ package com.yahoo.elide.core.hibernate.hql;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.filter.FilterPredicate;
 import com.yahoo.elide.core.filter.FilterTranslator;
-import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.hibernate.Query;
 import com.yahoo.elide.core.hibernate.Session;
 
-import java.util.Collection;
-
 /**
  * Constructs a HQL query to fetch a hibernate collection proxy.
  */
@@ -47,42 +44,39 @@ public class SubCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
         String parentName = relationship.getParentType().getCanonicalName();
         String relationshipName = relationship.getRelationshipName();
 
-        Query query = filterExpression.map(fe -> {
-            PredicateExtractionVisitor extractor = new PredicateExtractionVisitor();
-            Collection<FilterPredicate> predicates = fe.accept(extractor);
+        String sortClause = getSortClause(sorting, relationship.getChildType(), USE_ALIAS);
+
+        Query query = session.createQuery(getQueryText(() -> filterExpression.map(fe -> {
             String filterClause = new FilterTranslator().apply(fe, USE_ALIAS);
 
-            String joinClause =  getJoinClauseFromFilters(filterExpression.get())
+            String joinClause =  getJoinClauseFromFilters(fe)
                     + extractToOneMergeJoins(relationship.getChildType(), childAlias);
 
             //SELECT parent_children from Parent parent JOIN parent.children parent_children
-            Query q = session.createQuery(SELECT
-                            + childAlias
-                            + FROM
-                            + parentName + SPACE + parentAlias
-                            + JOIN
-                            + parentAlias + PERIOD + relationshipName + SPACE + childAlias
-                            + joinClause
-                            + SPACE
-                            + filterClause
-                            + " AND " + parentAlias + "=:" + parentAlias
-                            + SPACE
-                            + getSortClause(sorting, relationship.getChildType(), USE_ALIAS)
-            );
-
-            supplyFilterQueryParameters(q, predicates);
-            return q;
-        }).orElse(session.createQuery(SELECT
-                            + childAlias
-                            + FROM
-                            + parentName + SPACE + parentAlias
-                            + JOIN
-                            + parentAlias + PERIOD + relationshipName + SPACE + childAlias
-                            + extractToOneMergeJoins(relationship.getChildType(), childAlias)
-                            + " WHERE " + parentAlias + "=:" + parentAlias
-                            + getSortClause(sorting, relationship.getChildType(), USE_ALIAS)
-        ));
+            return SELECT
+                    + childAlias
+                    + FROM
+                    + parentName + SPACE + parentAlias
+                    + JOIN
+                    + parentAlias + PERIOD + relationshipName + SPACE + childAlias
+                    + joinClause
+                    + SPACE
+                    + filterClause
+                    + " AND " + parentAlias + "=:" + parentAlias
+                    + SPACE
+                    + sortClause;
+        }).orElseGet(() -> SELECT
+                + childAlias
+                + FROM
+                + parentName + SPACE + parentAlias
+                + JOIN
+                + parentAlias + PERIOD + relationshipName + SPACE + childAlias
+                + extractToOneMergeJoins(relationship.getChildType(), childAlias)
+                + " WHERE " + parentAlias + "=:" + parentAlias
+                + sortClause
+        ), relationship.getParentType(), relationship.getChildType(), relationshipName, sortClause));
 
+        filterExpression.ifPresent(fe -> supplyFilterQueryParameters(query, fe));
         query.setParameter(parentAlias, relationship.getParent());
 
         addPaginationToQuery(query);
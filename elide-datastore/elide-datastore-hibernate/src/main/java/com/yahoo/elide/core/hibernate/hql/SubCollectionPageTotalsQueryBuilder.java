@@ -13,15 +13,12 @@ import com.yahoo.elide.core.filter.InPredicate;
 import com.yahoo.elide.core.filter.expression.AndFilterExpression;
 import com.yahoo.elide.core.filter.expression.ExpressionScopingVisitor;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
-import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.hibernate.Query;
 import com.yahoo.elide.core.hibernate.Session;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.core.sort.Sorting;
 import com.yahoo.elide.utils.coerce.CoerceUtil;
 
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -73,68 +70,57 @@ public class SubCollectionPageTotalsQueryBuilder extends AbstractHQLQueryBuilder
         //Construct a predicate that selects an individual element of the relationship's parent (Author.id = 3).
         FilterPredicate idExpression = new InPredicate(new PathElement(parentType, idType, idField), idVal);
 
-        Collection<FilterPredicate> predicates = new ArrayList<>();
-        String joinClause = "";
-        String filterClause = "";
-
         String relationshipName = relationship.getRelationshipName();
 
         //Relationship alias is Author_books
         String parentAlias = FilterPredicate.getTypeAlias(parentType);
         String relationshipAlias = parentAlias + UNDERSCORE + relationshipName;
 
-        if (filterExpression.isPresent()) {
-            // Copy and scope the filter expression for the join clause
-            ExpressionScopingVisitor visitor = new ExpressionScopingVisitor(
-                    new PathElement(parentType, relationship.getChildType(), relationship.getRelationshipName()));
-            FilterExpression scoped = filterExpression
-                    .map(fe -> fe.accept(visitor))
-                    .orElseThrow(() -> new IllegalStateException("Filter expression cloned to null"));
-
-            //For each filter predicate, prepend the predicate with the parent:
-            //books.title = 'Foobar' becomes author.books.title = 'Foobar'
-            PredicateExtractionVisitor extractor = new PredicateExtractionVisitor(new ArrayList<>());
-
-            predicates = scoped.accept(extractor);
-            predicates.add(idExpression);
-
-            //Join together the provided filter expression with the expression which selects the collection owner.
-            FilterExpression joinedExpression = new AndFilterExpression(scoped, idExpression);
-
-            //Build the JOIN clause from the filter predicate
-            joinClause = getJoinClauseFromFilters(joinedExpression);
+        //Join together the provided filter expression with the expression which selects the collection owner.
+        FilterExpression joinedExpression = filterExpression
+                .map(fe -> {
+                    // Copy and scope the filter expression for the join clause
+                    //For each filter predicate, prepend the predicate with the parent:
+                    //books.title = 'Foobar' becomes author.books.title = 'Foobar'
+                    ExpressionScopingVisitor visitor = new ExpressionScopingVisitor(
+                            new PathElement(parentType, relationship.getChildType(), relationshipName));
+                    return (FilterExpression) new AndFilterExpression(fe.accept(visitor), idExpression);
+                })
+                .orElse(idExpression);
+
+        Query query = session.createQuery(getQueryText(() -> {
+            String joinClause;
+            if (filterExpression.isPresent()) {
+                //Build the JOIN clause from the filter predicate
+                joinClause = getJoinClauseFromFilters(joinedExpression);
+            } else {
+                //If there is no filter, we still need to explicitly JOIN book and authors.
+                joinClause = JOIN
+                        + parentAlias
+                        + PERIOD + relationshipName
+                        + SPACE
+                        + relationshipAlias
+                        + SPACE;
+            }
 
             //Build the WHERE clause
-            filterClause = new FilterTranslator().apply(joinedExpression, USE_ALIAS);
-        } else {
+            String filterClause = new FilterTranslator().apply(joinedExpression, USE_ALIAS);
 
-            //If there is no filter, we still need to explicitly JOIN book and authors.
-            joinClause = JOIN
+            return "SELECT COUNT(DISTINCT "
+                    + relationshipAlias
+                    + ") "
+                    + FROM
+                    + parentType.getCanonicalName()
+                    + AS
                     + parentAlias
-                    + PERIOD + relationshipName
                     + SPACE
-                    + relationshipAlias
-                    + SPACE;
-
-            filterClause = new FilterTranslator().apply(idExpression, USE_ALIAS);
-            predicates.add(idExpression);
-        }
-
-        Query query = session.createQuery(
-                "SELECT COUNT(DISTINCT "
-                        + relationshipAlias
-                        + ") "
-                        + FROM
-                        + parentType.getCanonicalName()
-                        + AS
-                        + parentAlias
-                        + SPACE
-                        + joinClause
-                        + SPACE
-                        + filterClause);
+                    + joinClause
+                    + SPACE
+                    + filterClause;
+        }, parentType, relationship.getChildType(), relationshipName));
 
         //Fill in the query parameters
-        supplyFilterQueryParameters(query, predicates);
+        supplyFilterQueryParameters(query, joinedExpression);
         return query;
     }
 }
@@ -8,6 +8,7 @@ package com.yahoo.elide.core.filter;
 import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.exceptions.InvalidValueException;
 import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.expression.NotFilterExpression;
 import com.yahoo.elide.core.filter.expression.OrFilterExpression;
 
@@ -58,11 +59,11 @@ public class FilterTranslatorTest {
         FilterTranslator filterOp = new FilterTranslator();
         String query = filterOp.apply(not, false);
 
-        String p1Params = p1.getParameters().stream()
+        String p1Params = p1.getParameters(2).stream()
                 .map(FilterPredicate.FilterParameter::getPlaceholder).collect(Collectors.joining(", "));
-        String p2Params = p2.getParameters().stream()
+        String p2Params = p2.getParameters(0).stream()
                 .map(FilterPredicate.FilterParameter::getPlaceholder).collect(Collectors.joining(", "));
-        String p3Params = p3.getParameters().stream()
+        String p3Params = p3.getParameters(1).stream()
                 .map(FilterPredicate.FilterParameter::getPlaceholder).collect(Collectors.joining(", "));
         String expected = "WHERE NOT (((name IN (" + p2Params + ") OR genre IN (" + p3Params + ")) "
                 + "AND authors.name IN (" + p1Params + ")))";
@@ -139,4 +140,39 @@ public class FilterTranslatorTest {
             FilterTranslator.registerJPQLGenerator(Operator.INFIX_CASE_INSENSITIVE, old);
         }
     }
+
+    @Test
+    public void testInListPadding() throws Exception {
+        FilterPredicate pred = new InPredicate(new Path.PathElement(Book.class, String.class, "genre"),
+                "scifi", "drama", "poetry");
+
+        List<FilterPredicate.FilterParameter> params = FilterTranslator.getParameters(pred, 0);
+        Assert.assertEquals(params.stream().map(FilterPredicate.FilterParameter::getValue).collect(Collectors.toList()),
+                Arrays.asList("scifi", "drama", "poetry", "poetry"));
+
+        String actual = new FilterTranslator().apply((FilterExpression) pred, false);
+        Assert.assertEquals(actual, "WHERE genre IN (:genre_p0_0, :genre_p0_1, :genre_p0_2, :genre_p0_3)");
+    }
+
+    @Test
+    public void testInListChunking() throws Exception {
+        FilterPredicate pred = new FilterPredicate(new Path.PathElement(Book.class, String.class, "genre"),
+                Operator.NOT, Arrays.asList("a", "b", "c", "d", "e", "f", "g"));
+
+        try {
+            FilterTranslator.setInListChunkSize(4);
+            Assert.assertEquals(FilterTranslator.getParameterCount(pred), 8);
+
+            String actual = new FilterTranslator().apply((FilterExpression) pred, false);
+            Assert.assertEquals(actual, "WHERE (genre NOT IN (:genre_p0_0, :genre_p0_1, :genre_p0_2, :genre_p0_3) "
+                    + "AND genre NOT IN (:genre_p0_4, :genre_p0_5, :genre_p0_6, :genre_p0_7))");
+
+            // Only the last chunk is padded
+            FilterPredicate longer = new FilterPredicate(new Path.PathElement(Book.class, String.class, "genre"),
+                    Operator.IN, Arrays.asList("a", "b", "c", "d", "e", "f", "g", "h", "i"));
+            Assert.assertEquals(FilterTranslator.getParameterCount(longer), 9);
+        } finally {
+            FilterTranslator.setInListChunkSize(FilterTranslator.DEFAULT_IN_LIST_CHUNK_SIZE);
+        }
+    }
 }
@@ -135,6 +135,18 @@ public class AbstractHQLQueryBuilderTest extends AbstractHQLQueryBuilder {
         Assert.assertEquals(actual, expected);
     }
 
+    @Test
+    public void testSortClauseWithNullsGreatest() {
+        Map<String, Sorting.SortOrder> sorting = new LinkedHashMap<>();
+        sorting.put(TITLE, Sorting.SortOrder.asc);
+        sorting.put(GENRE, Sorting.SortOrder.desc);
+
+        String actual = getSortClause(Optional.of(new Sorting(sorting, true)), Book.class, NO_ALIAS);
+
+        String expected = " order by title asc nulls last,genre desc nulls first";
+        Assert.assertEquals(actual, expected);
+    }
+
     @Test
     public void testSortClauseWithJoin() {
         Map<String, Sorting.SortOrder> sorting = new LinkedHashMap<>();
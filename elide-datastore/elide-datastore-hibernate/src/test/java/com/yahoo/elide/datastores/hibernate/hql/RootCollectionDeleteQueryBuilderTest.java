@@ -0,0 +1,88 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.hibernate.hql;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.InPredicate;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.hibernate.hql.RootCollectionDeleteQueryBuilder;
+
+import example.Author;
+import example.Book;
+import example.Chapter;
+import example.Publisher;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Optional;
+
+public class RootCollectionDeleteQueryBuilderTest {
+    private EntityDictionary dictionary;
+
+    private static final String TITLE = "title";
+    private static final String GENRE = "genre";
+
+    @BeforeClass
+    public void initialize() {
+        dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Publisher.class);
+        dictionary.bindEntity(Chapter.class);
+    }
+
+    @Test
+    public void testRootDelete() {
+        RootCollectionDeleteQueryBuilder builder = new RootCollectionDeleteQueryBuilder(
+                Book.class, dictionary, new TestSessionWrapper());
+
+        TestQueryWrapper query = (TestQueryWrapper) builder.build();
+
+        String expected = "DELETE FROM example.Book AS example_Book ";
+        String actual = query.getQueryText();
+
+        Assert.assertEquals(actual, expected);
+    }
+
+    @Test
+    public void testRootDeleteWithFilter() {
+        FilterPredicate titlePredicate = new InPredicate(
+                new Path.PathElement(Book.class, String.class, TITLE), "ABC", "DEF");
+        FilterPredicate genrePredicate = new InPredicate(
+                new Path.PathElement(Book.class, String.class, GENRE), "Science Fiction");
+
+        RootCollectionDeleteQueryBuilder builder = new RootCollectionDeleteQueryBuilder(
+                Book.class, dictionary, new TestSessionWrapper());
+
+        TestQueryWrapper query = (TestQueryWrapper) builder
+                .withPossibleFilterExpression(Optional.of(new AndFilterExpression(titlePredicate, genrePredicate)))
+                .build();
+
+        String expected = "DELETE FROM example.Book AS example_Book "
+                + "WHERE (example_Book.title IN (:title_p0_0, :title_p0_1) "
+                + "AND example_Book.genre IN (:genre_p1_0))";
+        String actual = query.getQueryText();
+
+        Assert.assertEquals(actual, expected);
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testSortingNotSupported() {
+        new RootCollectionDeleteQueryBuilder(Book.class, dictionary, new TestSessionWrapper())
+                .withPossibleSorting(Optional.empty());
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testPaginationNotSupported() {
+        new RootCollectionDeleteQueryBuilder(Book.class, dictionary, new TestSessionWrapper())
+                .withPossiblePagination(Optional.empty());
+    }
+}
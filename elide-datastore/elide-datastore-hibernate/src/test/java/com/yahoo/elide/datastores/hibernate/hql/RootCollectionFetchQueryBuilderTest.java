@@ -10,6 +10,8 @@ import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.filter.FilterPredicate;
 import com.yahoo.elide.core.filter.InPredicate;
 import com.yahoo.elide.core.filter.expression.OrFilterExpression;
+import com.yahoo.elide.core.hibernate.hql.AbstractHQLQueryBuilder;
+import com.yahoo.elide.core.hibernate.hql.QueryTemplateCache;
 import com.yahoo.elide.core.hibernate.hql.RootCollectionFetchQueryBuilder;
 import com.yahoo.elide.core.sort.Sorting;
 
@@ -150,4 +152,29 @@ public class RootCollectionFetchQueryBuilderTest {
 
         Assert.assertEquals(actual, expected);
     }
+
+    @Test
+    public void testRootFetchReusesQueryTemplate() {
+        QueryTemplateCache templates = AbstractHQLQueryBuilder.getQueryTemplateCache();
+        Path.PathElement titlePath = new Path.PathElement(Book.class, String.class, TITLE);
+
+        TestQueryWrapper first = (TestQueryWrapper) new RootCollectionFetchQueryBuilder(
+                Book.class, dictionary, new TestSessionWrapper())
+                .withPossibleFilterExpression(Optional.of(new InPredicate(titlePath, "ABC", "DEF")))
+                .build();
+
+        long hits = templates.getHitCount();
+
+        TestQueryWrapper second = (TestQueryWrapper) new RootCollectionFetchQueryBuilder(
+                Book.class, dictionary, new TestSessionWrapper())
+                .withPossibleFilterExpression(Optional.of(new InPredicate(titlePath, "GHI", "JKL")))
+                .build();
+
+        String expected = "SELECT example_Book FROM example.Book AS example_Book  "
+                + "WHERE example_Book.title IN (:title_p0_0, :title_p0_1) ";
+
+        Assert.assertEquals(first.getQueryText(), expected);
+        Assert.assertEquals(second.getQueryText(), expected);
+        Assert.assertEquals(templates.getHitCount(), hits + 1);
+    }
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.hibernate.hql;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.InPredicate;
+import com.yahoo.elide.core.hibernate.hql.RootCollectionUpdateQueryBuilder;
+
+import example.Author;
+import example.Book;
+import example.Chapter;
+import example.Publisher;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public class RootCollectionUpdateQueryBuilderTest {
+    private EntityDictionary dictionary;
+
+    private static final String TITLE = "title";
+    private static final String GENRE = "genre";
+
+    @BeforeClass
+    public void initialize() {
+        dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Publisher.class);
+        dictionary.bindEntity(Chapter.class);
+    }
+
+    @Test
+    public void testRootUpdate() {
+        RootCollectionUpdateQueryBuilder builder = new RootCollectionUpdateQueryBuilder(
+                Book.class, Collections.singletonMap(GENRE, "Literary Fiction"), dictionary, new TestSessionWrapper());
+
+        TestQueryWrapper query = (TestQueryWrapper) builder.build();
+
+        String expected = "UPDATE example.Book AS example_Book SET example_Book.genre = :bulk_set_0 ";
+        String actual = query.getQueryText();
+
+        Assert.assertEquals(actual, expected);
+    }
+
+    @Test
+    public void testRootUpdateWithFilter() {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put(GENRE, "Literary Fiction");
+        attributes.put(TITLE, "Untitled");
+
+        FilterPredicate titlePredicate = new InPredicate(
+                new Path.PathElement(Book.class, String.class, TITLE), "ABC", "DEF");
+
+        RootCollectionUpdateQueryBuilder builder = new RootCollectionUpdateQueryBuilder(
+                Book.class, attributes, dictionary, new TestSessionWrapper());
+
+        TestQueryWrapper query = (TestQueryWrapper) builder
+                .withPossibleFilterExpression(Optional.of(titlePredicate))
+                .build();
+
+        String expected = "UPDATE example.Book AS example_Book "
+                + "SET example_Book.genre = :bulk_set_0, example_Book.title = :bulk_set_1 "
+                + "WHERE example_Book.title IN (:title_p0_0, :title_p0_1)";
+        String actual = query.getQueryText();
+
+        Assert.assertEquals(actual, expected);
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testSortingNotSupported() {
+        new RootCollectionUpdateQueryBuilder(Book.class, Collections.emptyMap(), dictionary, new TestSessionWrapper())
+                .withPossibleSorting(Optional.empty());
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testPaginationNotSupported() {
+        new RootCollectionUpdateQueryBuilder(Book.class, Collections.emptyMap(), dictionary, new TestSessionWrapper())
+                .withPossiblePagination(Optional.empty());
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.hibernate.hql;
+
+import com.yahoo.elide.annotation.Include;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.InPredicate;
+import com.yahoo.elide.core.hibernate.hql.SubCollectionBatchFetchQueryBuilder;
+
+import example.Author;
+import example.Book;
+import example.Chapter;
+import example.Publisher;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.OneToMany;
+import javax.persistence.OrderBy;
+import javax.persistence.OrderColumn;
+
+public class SubCollectionBatchFetchQueryBuilderTest {
+    private EntityDictionary dictionary;
+
+    private static final String BOOKS = "books";
+    private static final String NAME = "name";
+    private static final String PUBLISHER = "publisher";
+    private static final String PUB1 = "Pub1";
+
+    @BeforeClass
+    public void initialize() {
+        dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Publisher.class);
+        dictionary.bindEntity(Chapter.class);
+        dictionary.bindEntity(Playlist.class);
+        dictionary.bindEntity(Track.class);
+    }
+
+    @Test
+    public void testSubCollectionBatchFetch() {
+        SubCollectionBatchFetchQueryBuilder builder = new SubCollectionBatchFetchQueryBuilder(Author.class,
+                Book.class, BOOKS, Arrays.asList(new Author(), new Author()), dictionary, new TestSessionWrapper());
+
+        TestQueryWrapper query = (TestQueryWrapper) builder.build();
+
+        String expected = "SELECT example_Author__fetch, example_Book FROM example.Author example_Author__fetch "
+                + "JOIN example_Author__fetch.books example_Book "
+                + "WHERE example_Author__fetch IN (:example_Author__fetch)";
+
+        Assert.assertEquals(query.getQueryText(), expected);
+    }
+
+    @Test
+    public void testSubCollectionBatchFetchWithJoinFilter() {
+        List<Path.PathElement> publisherNamePath = Arrays.asList(
+                new Path.PathElement(Book.class, Publisher.class, PUBLISHER),
+                new Path.PathElement(Publisher.class, String.class, NAME)
+        );
+
+        FilterPredicate publisherNamePredicate = new InPredicate(
+                new Path(publisherNamePath),
+                PUB1);
+
+        SubCollectionBatchFetchQueryBuilder builder = new SubCollectionBatchFetchQueryBuilder(Author.class,
+                Book.class, BOOKS, Arrays.asList(new Author(), new Author()), dictionary, new TestSessionWrapper());
+
+        TestQueryWrapper query = (TestQueryWrapper) builder
+                .withPossibleFilterExpression(Optional.of(publisherNamePredicate))
+                .build();
+
+        String expected = "SELECT example_Author__fetch, example_Book FROM example.Author example_Author__fetch "
+                + "JOIN example_Author__fetch.books example_Book "
+                + "LEFT JOIN example_Book.publisher example_Book_publisher  "
+                + "WHERE example_Book_publisher.name IN (:publisher_name_XXX) "
+                + "AND example_Author__fetch IN (:example_Author__fetch) ";
+
+        String actual = query.getQueryText();
+        actual = actual.replaceFirst(":publisher_name_\\w+", ":publisher_name_XXX");
+
+        Assert.assertEquals(actual, expected);
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testPaginationNotSupported() {
+        new SubCollectionBatchFetchQueryBuilder(Author.class, Book.class, BOOKS, Arrays.asList(new Author()),
+                dictionary, new TestSessionWrapper())
+                .withPossiblePagination(Optional.empty());
+    }
+
+    @Test
+    public void testSubCollectionBatchFetchWithOrderBy() {
+        SubCollectionBatchFetchQueryBuilder builder = new SubCollectionBatchFetchQueryBuilder(Playlist.class,
+                Track.class, "tracks", Arrays.asList(new Playlist()), dictionary, new TestSessionWrapper());
+
+        TestQueryWrapper query = (TestQueryWrapper) builder.build();
+
+        String playlist = FilterPredicate.getTypeAlias(Playlist.class) + "__fetch";
+        String track = FilterPredicate.getTypeAlias(Track.class);
+        String expected = "SELECT " + playlist + ", " + track + " FROM " + Playlist.class.getCanonicalName() + " "
+                + playlist + " JOIN " + playlist + ".tracks " + track + " "
+                + "WHERE " + playlist + " IN (:" + playlist + ") "
+                + "order by " + track + ".title DESC," + track + ".id";
+
+        Assert.assertEquals(query.getQueryText(), expected);
+    }
+
+    @Test
+    public void testSubCollectionBatchFetchWithOrderColumn() {
+        SubCollectionBatchFetchQueryBuilder builder = new SubCollectionBatchFetchQueryBuilder(Playlist.class,
+                Track.class, "queue", Arrays.asList(new Playlist()), dictionary, new TestSessionWrapper());
+
+        TestQueryWrapper query = (TestQueryWrapper) builder.build();
+
+        String playlist = FilterPredicate.getTypeAlias(Playlist.class) + "__fetch";
+        String track = FilterPredicate.getTypeAlias(Track.class);
+        String expected = "SELECT " + playlist + ", " + track + " FROM " + Playlist.class.getCanonicalName() + " "
+                + playlist + " JOIN " + playlist + ".queue " + track + " "
+                + "WHERE " + playlist + " IN (:" + playlist + ") "
+                + "order by index(" + track + ")";
+
+        Assert.assertEquals(query.getQueryText(), expected);
+    }
+
+    @Include(rootLevel = true)
+    @Entity
+    public static class Playlist {
+        @Id
+        public long id;
+
+        @OneToMany
+        @OrderBy("title DESC, id")
+        public List<Track> tracks;
+
+        @OneToMany
+        @OrderColumn
+        public List<Track> queue;
+    }
+
+    @Include
+    @Entity
+    public static class Track {
+        @Id
+        public long id;
+
+        public String title;
+    }
+}
@@ -25,6 +25,7 @@ public abstract class AbstractHibernateStore implements JPQLDataStore {
     protected final boolean isScrollEnabled;
     protected final ScrollMode scrollMode;
     protected final HibernateTransactionSupplier transactionSupplier;
+    protected final Integer jdbcBatchSize;
 
     /**
      * Constructor.
@@ -52,10 +53,29 @@ public abstract class AbstractHibernateStore implements JPQLDataStore {
                                      boolean isScrollEnabled,
                                      ScrollMode scrollMode,
                                      HibernateTransactionSupplier transactionSupplier) {
+        this(aSessionFactory, isScrollEnabled, scrollMode, transactionSupplier, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param aSessionFactory Session factory
+     * @param isScrollEnabled Whether or not scrolling is enabled on driver
+     * @param scrollMode Scroll mode to use for scrolling driver
+     * @param transactionSupplier Supplier for transaction
+     * @param jdbcBatchSize JDBC batch size of the sessions of write transactions or null for the session factory
+     *                      setting
+     */
+    protected AbstractHibernateStore(SessionFactory aSessionFactory,
+                                     boolean isScrollEnabled,
+                                     ScrollMode scrollMode,
+                                     HibernateTransactionSupplier transactionSupplier,
+                                     Integer jdbcBatchSize) {
         this.sessionFactory = aSessionFactory;
         this.isScrollEnabled = isScrollEnabled;
         this.scrollMode = scrollMode;
         this.transactionSupplier = transactionSupplier;
+        this.jdbcBatchSize = jdbcBatchSize;
     }
 
     /**
@@ -66,6 +86,7 @@ public abstract class AbstractHibernateStore implements JPQLDataStore {
         private final EntityManager entityManager;
         private boolean isScrollEnabled;
         private ScrollMode scrollMode;
+        private Integer jdbcBatchSize;
 
         public Builder(final SessionFactory sessionFactory) {
             this.sessionFactory = sessionFactory;
@@ -99,11 +120,24 @@ public abstract class AbstractHibernateStore implements JPQLDataStore {
             return this;
         }
 
+        /**
+         * Batch the inserts, updates and deletes of write transactions in JDBC batches of this size.  Enable
+         * {@code hibernate.order_inserts} and {@code hibernate.order_updates} on the session factory so that
+         * statements for the same table are grouped into the same batch.
+         *
+         * @param jdbcBatchSize the JDBC batch size
+         * @return the builder
+         */
+        public Builder withJdbcBatchSize(final int jdbcBatchSize) {
+            this.jdbcBatchSize = jdbcBatchSize;
+            return this;
+        }
+
         public AbstractHibernateStore build() {
             if (sessionFactory != null) {
-                return new HibernateSessionFactoryStore(sessionFactory, isScrollEnabled, scrollMode);
+                return new HibernateSessionFactoryStore(sessionFactory, isScrollEnabled, scrollMode, jdbcBatchSize);
             } else if (entityManager != null) {
-                return new HibernateEntityManagerStore(entityManager, isScrollEnabled, scrollMode);
+                return new HibernateEntityManagerStore(entityManager, isScrollEnabled, scrollMode, jdbcBatchSize);
             }
             throw new IllegalStateException("Either an EntityManager or SessionFactory is required!");
         }
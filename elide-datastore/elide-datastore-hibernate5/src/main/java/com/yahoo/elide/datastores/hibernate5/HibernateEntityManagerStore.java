@@ -36,6 +36,14 @@ public class HibernateEntityManagerStore extends AbstractHibernateStore {
         this.entityManager = entityManager;
     }
 
+    public HibernateEntityManagerStore(EntityManager entityManager,
+                                       boolean isScrollEnabled,
+                                       ScrollMode scrollMode,
+                                       Integer jdbcBatchSize) {
+        super(null, isScrollEnabled, scrollMode, HibernateTransaction::new, jdbcBatchSize);
+        this.entityManager = entityManager;
+    }
+
     /**
      * Get current Hibernate session.
      *
@@ -57,6 +65,22 @@ public class HibernateEntityManagerStore extends AbstractHibernateStore {
         Session session = getSession();
         session.beginTransaction();
         session.clear();
+        session.setJdbcBatchSize(jdbcBatchSize);
+        return transactionSupplier.get(session, isScrollEnabled, scrollMode);
+    }
+
+    /**
+     * Start a Hibernate transaction which loads entities read-only and never flushes.
+     *
+     * @return transaction
+     */
+    @Override
+    @SuppressWarnings("resource")
+    public DataStoreTransaction beginReadTransaction() {
+        Session session = getSession();
+        session.beginTransaction();
+        session.clear();
+        session.setDefaultReadOnly(true);
         return transactionSupplier.get(session, isScrollEnabled, scrollMode);
     }
 
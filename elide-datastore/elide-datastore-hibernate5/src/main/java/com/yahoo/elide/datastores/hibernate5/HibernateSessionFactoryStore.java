@@ -27,6 +27,13 @@ public class HibernateSessionFactoryStore extends AbstractHibernateStore {
         super(aSessionFactory, isScrollEnabled, scrollMode);
     }
 
+    public HibernateSessionFactoryStore(SessionFactory aSessionFactory,
+                                        boolean isScrollEnabled,
+                                        ScrollMode scrollMode,
+                                        Integer jdbcBatchSize) {
+        super(aSessionFactory, isScrollEnabled, scrollMode, HibernateTransaction::new, jdbcBatchSize);
+    }
+
     /**
      * Get current Hibernate session.
      *
@@ -53,6 +60,23 @@ public class HibernateSessionFactoryStore extends AbstractHibernateStore {
     public DataStoreTransaction beginTransaction() {
         Session session = sessionFactory.getCurrentSession();
         Preconditions.checkNotNull(session);
+        if (jdbcBatchSize != null) {
+            session.setJdbcBatchSize(jdbcBatchSize);
+        }
+        session.beginTransaction();
+        return transactionSupplier.get(session, isScrollEnabled, scrollMode);
+    }
+
+    /**
+     * Start a Hibernate transaction which loads entities read-only and never flushes.
+     *
+     * @return transaction
+     */
+    @Override
+    public DataStoreTransaction beginReadTransaction() {
+        Session session = sessionFactory.getCurrentSession();
+        Preconditions.checkNotNull(session);
+        session.setDefaultReadOnly(true);
         session.beginTransaction();
         return transactionSupplier.get(session, isScrollEnabled, scrollMode);
     }
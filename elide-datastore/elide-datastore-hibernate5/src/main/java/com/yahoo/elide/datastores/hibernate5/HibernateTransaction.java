@@ -12,13 +12,17 @@ import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.exceptions.TransactionException;
 import com.yahoo.elide.core.filter.FalsePredicate;
 import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.FilterTranslator;
 import com.yahoo.elide.core.filter.InPredicate;
 import com.yahoo.elide.core.filter.expression.AndFilterExpression;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.hibernate.hql.AbstractHQLQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.RelationshipImpl;
+import com.yahoo.elide.core.hibernate.hql.RootCollectionDeleteQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.RootCollectionFetchQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.RootCollectionPageTotalsQueryBuilder;
+import com.yahoo.elide.core.hibernate.hql.RootCollectionUpdateQueryBuilder;
+import com.yahoo.elide.core.hibernate.hql.SubCollectionBatchFetchQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.SubCollectionFetchQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.SubCollectionPageTotalsQueryBuilder;
 import com.yahoo.elide.core.pagination.Pagination;
@@ -27,18 +31,25 @@ import com.yahoo.elide.datastores.hibernate5.porting.QueryWrapper;
 import com.yahoo.elide.datastores.hibernate5.porting.SessionWrapper;
 import com.yahoo.elide.security.User;
 
+import com.google.common.collect.Iterables;
+
 import org.hibernate.FlushMode;
 import org.hibernate.ObjectNotFoundException;
 import org.hibernate.ScrollMode;
 import org.hibernate.Session;
+import org.hibernate.annotations.OrderBy;
 import org.hibernate.collection.internal.AbstractPersistentCollection;
 
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.persistence.PersistenceException;
@@ -53,9 +64,15 @@ public class HibernateTransaction implements DataStoreTransaction {
     private final SessionWrapper sessionWrapper;
     private final LinkedHashSet<Runnable> deferredTasks = new LinkedHashSet<>();
     private final boolean isScrollEnabled;
+    private final boolean readOnly;
+    private final FlushMode previousFlushMode;
 
     /**
      * Constructor.
+     * <p>
+     * If the session loads entities read-only ({@link Session#isDefaultReadOnly()}), the transaction is a read
+     * transaction: the session is never flushed and the transaction ends with a rollback.  The flush mode and
+     * read-only default of the session are restored when the transaction ends.
      *
      * @param session Hibernate session
      * @param isScrollEnabled Whether or not scrolling is enabled
@@ -63,9 +80,13 @@ public class HibernateTransaction implements DataStoreTransaction {
      */
     protected HibernateTransaction(Session session, boolean isScrollEnabled, ScrollMode scrollMode) {
         this.session = session;
+        this.readOnly = session.isDefaultReadOnly();
+        this.previousFlushMode = session.getHibernateFlushMode();
         // Elide must not flush until all beans are ready
-        FlushMode flushMode = session.getHibernateFlushMode();
-        if (flushMode != FlushMode.COMMIT && flushMode != FlushMode.MANUAL) {
+        FlushMode flushMode = previousFlushMode;
+        if (readOnly) {
+            session.setHibernateFlushMode(FlushMode.MANUAL);
+        } else if (flushMode != FlushMode.COMMIT && flushMode != FlushMode.MANUAL) {
             session.setHibernateFlushMode(FlushMode.COMMIT);
         }
         this.sessionWrapper = new SessionWrapper(session);
@@ -104,6 +125,11 @@ public class HibernateTransaction implements DataStoreTransaction {
     @Override
     public void commit(RequestScope scope) {
         try {
+            if (readOnly) {
+                // Nothing was written, so skip the flush and the commit
+                endReadOnly();
+                return;
+            }
             this.flush(scope);
             this.session.getTransaction().commit();
         } catch (PersistenceException e) {
@@ -111,6 +137,28 @@ public class HibernateTransaction implements DataStoreTransaction {
         }
     }
 
+    /**
+     * Whether this is a read transaction.
+     *
+     * @return true if the session loads entities read-only
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    private void endReadOnly() {
+        try {
+            if (session.isOpen() && session.getTransaction().getStatus().canRollback()) {
+                session.getTransaction().rollback();
+            }
+        } finally {
+            if (session.isOpen()) {
+                session.setDefaultReadOnly(false);
+                session.setHibernateFlushMode(previousFlushMode);
+            }
+        }
+    }
+
     @Override
     public void createObject(Object entity, RequestScope scope) {
         deferredTasks.add(() -> session.persist(entity));
@@ -242,6 +290,98 @@ public class HibernateTransaction implements DataStoreTransaction {
         return val;
     }
 
+    @Override
+    public Map<Object, Object> getRelations(
+            DataStoreTransaction relationTx,
+            Collection<?> entities,
+            String relationName,
+            Optional<FilterExpression> filterExpression,
+            RequestScope scope) {
+
+        EntityDictionary dictionary = scope.getDictionary();
+        Map<Object, Object> relations = new IdentityHashMap<>();
+        Map<Object, List<Object>> fetched = new IdentityHashMap<>();
+
+        for (Object entity : entities) {
+            Object val = com.yahoo.elide.core.PersistentResource.getValue(entity, relationName, scope);
+            if (!(val instanceof AbstractPersistentCollection)) {
+                continue;
+            }
+
+            // An initialized collection proxy needs no query unless it must be filtered
+            if (!filterExpression.isPresent() && ((AbstractPersistentCollection) val).wasInitialized()) {
+                relations.put(entity, val);
+            } else {
+                List<Object> children = new ArrayList<>();
+                relations.put(entity, children);
+                fetched.put(entity, children);
+            }
+        }
+
+        if (fetched.isEmpty()) {
+            return relations;
+        }
+
+        Object first = fetched.keySet().iterator().next();
+        Class<?> parentType = dictionary.lookupEntityClass(first.getClass());
+        Class<?> childType = dictionary.getParameterizedType(first, relationName);
+
+        // The SQL order clause of a Hibernate @OrderBy cannot be added to the batch query, so these collections are
+        // loaded for each parent on its own
+        if (dictionary.getAttributeOrRelationAnnotation(parentType, OrderBy.class, relationName) != null) {
+            fetched.keySet().forEach(relations::remove);
+            return relations;
+        }
+
+        // Bound the parent IN list like any other IN list
+        for (List<Object> parents : Iterables.partition(fetched.keySet(), FilterTranslator.getInListChunkSize())) {
+            final QueryWrapper query = (QueryWrapper) new SubCollectionBatchFetchQueryBuilder(
+                    parentType,
+                    childType,
+                    relationName,
+                    parents,
+                    dictionary,
+                    sessionWrapper)
+                    .withPossibleFilterExpression(filterExpression)
+                    .build();
+
+            for (Object row : query.getQuery().list()) {
+                Object[] parentAndChild = (Object[]) row;
+                List<Object> children = fetched.get(parentAndChild[0]);
+                if (children != null) {
+                    children.add(parentAndChild[1]);
+                }
+            }
+        }
+        return relations;
+    }
+
+    @Override
+    public boolean supportsBulkWrites(Class<?> entityClass, FilterExpression expression) {
+        return true;
+    }
+
+    @Override
+    public long bulkDelete(Class<?> entityClass, Optional<FilterExpression> filterExpression, RequestScope scope) {
+        QueryWrapper query = (QueryWrapper)
+                new RootCollectionDeleteQueryBuilder(entityClass, scope.getDictionary(), sessionWrapper)
+                .withPossibleFilterExpression(filterExpression)
+                .build();
+
+        return query.getQuery().executeUpdate();
+    }
+
+    @Override
+    public long bulkUpdate(Class<?> entityClass, Map<String, Object> attributes,
+                           Optional<FilterExpression> filterExpression, RequestScope scope) {
+        QueryWrapper query = (QueryWrapper)
+                new RootCollectionUpdateQueryBuilder(entityClass, attributes, scope.getDictionary(), sessionWrapper)
+                .withPossibleFilterExpression(filterExpression)
+                .build();
+
+        return query.getQuery().executeUpdate();
+    }
+
     /**
      * Returns the total record count for a root entity and an optional filter expression.
      * @param entityClass The entity type to count
@@ -285,6 +425,10 @@ public class HibernateTransaction implements DataStoreTransaction {
 
     @Override
     public void close() throws IOException {
+        if (readOnly) {
+            endReadOnly();
+            return;
+        }
         if (session.isOpen() && session.getTransaction().getStatus().canRollback()) {
             session.getTransaction().rollback();
             throw new IOException("Transaction not closed");
@@ -52,6 +52,14 @@ public class JpaDataStore implements JPQLDataStore {
         return transaction;
     }
 
+    @Override
+    public DataStoreTransaction beginReadTransaction() {
+        EntityManager entityManager = entityManagerSupplier.get();
+        JpaTransaction transaction = transactionSupplier.get(entityManager);
+        transaction.beginReadOnly();
+        return transaction;
+    }
+
     /**
      * Functional interface for describing a method to supply EntityManager.
      */
@@ -11,13 +11,17 @@ import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.exceptions.TransactionException;
 import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.FilterTranslator;
 import com.yahoo.elide.core.filter.Operator;
 import com.yahoo.elide.core.filter.expression.AndFilterExpression;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.hibernate.hql.AbstractHQLQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.RelationshipImpl;
+import com.yahoo.elide.core.hibernate.hql.RootCollectionDeleteQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.RootCollectionFetchQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.RootCollectionPageTotalsQueryBuilder;
+import com.yahoo.elide.core.hibernate.hql.RootCollectionUpdateQueryBuilder;
+import com.yahoo.elide.core.hibernate.hql.SubCollectionBatchFetchQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.SubCollectionFetchQueryBuilder;
 import com.yahoo.elide.core.hibernate.hql.SubCollectionPageTotalsQueryBuilder;
 import com.yahoo.elide.core.pagination.Pagination;
@@ -27,19 +31,27 @@ import com.yahoo.elide.datastores.jpa.porting.QueryWrapper;
 import com.yahoo.elide.datastores.jpa.transaction.checker.PersistentCollectionChecker;
 import com.yahoo.elide.security.User;
 
+import com.google.common.collect.Iterables;
+
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import javax.persistence.EntityManager;
 import javax.persistence.FlushModeType;
 import javax.persistence.NoResultException;
+import javax.persistence.PersistenceUnitUtil;
 import javax.validation.ConstraintViolationException;
 
 /**
@@ -51,12 +63,72 @@ public abstract class AbstractJpaTransaction implements JpaTransaction {
             new PersistentCollectionChecker();
 
     protected final EntityManager em;
+    protected final boolean isScrollEnabled;
+    protected final int detachBatchSize;
     private final EntityManagerWrapper emWrapper;
     private final LinkedHashSet<Runnable> deferredTasks = new LinkedHashSet<>();
+    private final List<ScrollableIterator<Object>> openResults = new ArrayList<>();
+    private boolean readOnly;
+    private FlushModeType previousFlushMode;
 
     protected AbstractJpaTransaction(EntityManager em) {
+        this(em, false, 0);
+    }
+
+    /**
+     * Constructor.
+     * <p>
+     * With scrolling enabled, {@link #loadObjects} iterates the result stream of the query instead of reading the
+     * whole result list first.  In read transactions, the entities the iterator has moved past are then detached
+     * from the entity manager every {@code detachBatchSize} rows.  Only enable detaching for callers which are done
+     * with each entity (including its lazy relationships) before they read the next one, such as Elide with
+     * {@code streamResponses} enabled.  Result streams which were not read to the end are closed with the
+     * transaction.
+     *
+     * @param em the entity manager
+     * @param isScrollEnabled Whether or not to stream the results of collection queries
+     * @param detachBatchSize the number of read entities detached at once, or 0 to never detach them
+     */
+    protected AbstractJpaTransaction(EntityManager em, boolean isScrollEnabled, int detachBatchSize) {
         this.em = em;
         this.emWrapper = new EntityManagerWrapper(em);
+        this.isScrollEnabled = isScrollEnabled;
+        this.detachBatchSize = detachBatchSize;
+    }
+
+    /**
+     * Begin a transaction which only reads.  Queries load their entities read-only, the entity manager is never
+     * flushed, and {@link #commit(RequestScope)} ends the transaction with a rollback.
+     */
+    @Override
+    public void beginReadOnly() {
+        readOnly = true;
+        previousFlushMode = em.getFlushMode();
+        em.setFlushMode(FlushModeType.COMMIT);
+        emWrapper.setReadOnly(true);
+        begin();
+    }
+
+    /**
+     * Whether this transaction only reads.
+     *
+     * @return true if the transaction began with {@link #beginReadOnly()}
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * Restore the entity manager after a read transaction.
+     */
+    protected void endReadOnly() {
+        if (readOnly) {
+            readOnly = false;
+            emWrapper.setReadOnly(false);
+            if (em.isOpen()) {
+                em.setFlushMode(previousFlushMode);
+            }
+        }
     }
 
     @Override
@@ -75,7 +147,7 @@ public abstract class AbstractJpaTransaction implements JpaTransaction {
 
     @Override
     public void flush(RequestScope requestScope) {
-        if (!isOpen()) {
+        if (!isOpen() || readOnly) {
             return;
         }
         try {
@@ -115,6 +187,10 @@ public abstract class AbstractJpaTransaction implements JpaTransaction {
 
     @Override
     public void close() throws IOException {
+        // Results which were not read to the end still hold their cursor
+        openResults.forEach(ScrollableIterator::close);
+        openResults.clear();
+
         if (isOpen()) {
             rollback();
         }
@@ -197,6 +273,15 @@ public abstract class AbstractJpaTransaction implements JpaTransaction {
                         .withPossiblePagination(pagination)
                         .build();
 
+        if (isScrollEnabled) {
+            @SuppressWarnings("unchecked")
+            Stream<Object> results = query.getQuery().getResultStream();
+            ScrollableIterator<Object> iterator = readOnly && detachBatchSize > 0
+                    ? new ScrollableIterator<>(results, entities -> entities.forEach(em::detach), detachBatchSize)
+                    : new ScrollableIterator<>(results);
+            openResults.add(iterator);
+            return iterator;
+        }
         return query.getQuery().getResultList();
     }
 
@@ -255,6 +340,92 @@ public abstract class AbstractJpaTransaction implements JpaTransaction {
         return val;
     }
 
+    @Override
+    public Map<Object, Object> getRelations(
+            DataStoreTransaction relationTx,
+            Collection<?> entities,
+            String relationName,
+            Optional<FilterExpression> filterExpression,
+            RequestScope scope) {
+
+        EntityDictionary dictionary = scope.getDictionary();
+        PersistenceUnitUtil persistenceUnitUtil = em.getEntityManagerFactory().getPersistenceUnitUtil();
+        Map<Object, Object> relations = new IdentityHashMap<>();
+        Map<Object, List<Object>> fetched = new IdentityHashMap<>();
+
+        for (Object entity : entities) {
+            Object val = com.yahoo.elide.core.PersistentResource.getValue(entity, relationName, scope);
+            if (!(val instanceof Collection) || !IS_PERSISTENT_COLLECTION.test((Collection<?>) val)) {
+                continue;
+            }
+
+            // A loaded collection needs no query unless it must be filtered
+            if (!filterExpression.isPresent() && persistenceUnitUtil.isLoaded(entity, relationName)) {
+                relations.put(entity, val);
+            } else {
+                List<Object> children = new ArrayList<>();
+                relations.put(entity, children);
+                fetched.put(entity, children);
+            }
+        }
+
+        if (fetched.isEmpty()) {
+            return relations;
+        }
+
+        Object first = fetched.keySet().iterator().next();
+        Class<?> parentType = dictionary.lookupEntityClass(first.getClass());
+        Class<?> childType = dictionary.getParameterizedType(first, relationName);
+
+        // Bound the parent IN list like any other IN list
+        for (List<Object> parents : Iterables.partition(fetched.keySet(), FilterTranslator.getInListChunkSize())) {
+            final QueryWrapper query = (QueryWrapper) new SubCollectionBatchFetchQueryBuilder(
+                    parentType,
+                    childType,
+                    relationName,
+                    parents,
+                    dictionary,
+                    emWrapper)
+                    .withPossibleFilterExpression(filterExpression)
+                    .build();
+
+            for (Object row : query.getQuery().getResultList()) {
+                Object[] parentAndChild = (Object[]) row;
+                List<Object> children = fetched.get(parentAndChild[0]);
+                if (children != null) {
+                    children.add(parentAndChild[1]);
+                }
+            }
+        }
+        return relations;
+    }
+
+    @Override
+    public boolean supportsBulkWrites(Class<?> entityClass, FilterExpression expression) {
+        return true;
+    }
+
+    @Override
+    public long bulkDelete(Class<?> entityClass, Optional<FilterExpression> filterExpression, RequestScope scope) {
+        QueryWrapper query = (QueryWrapper)
+                new RootCollectionDeleteQueryBuilder(entityClass, scope.getDictionary(), emWrapper)
+                .withPossibleFilterExpression(filterExpression)
+                .build();
+
+        return query.getQuery().executeUpdate();
+    }
+
+    @Override
+    public long bulkUpdate(Class<?> entityClass, Map<String, Object> attributes,
+                           Optional<FilterExpression> filterExpression, RequestScope scope) {
+        QueryWrapper query = (QueryWrapper)
+                new RootCollectionUpdateQueryBuilder(entityClass, attributes, scope.getDictionary(), emWrapper)
+                .withPossibleFilterExpression(filterExpression)
+                .build();
+
+        return query.getQuery().executeUpdate();
+    }
+
     /**
      * Returns the total record count for a root entity and an optional filter expression.
      *
@@ -13,6 +13,14 @@ import com.yahoo.elide.core.DataStoreTransaction;
 public interface JpaTransaction extends DataStoreTransaction {
     void begin();
 
+    /**
+     * Begin a transaction which only reads.  Transactions which cannot read more cheaply than
+     * {@link #begin()} begin a normal transaction.
+     */
+    default void beginReadOnly() {
+        begin();
+    }
+
     void rollback();
 
     boolean isOpen();
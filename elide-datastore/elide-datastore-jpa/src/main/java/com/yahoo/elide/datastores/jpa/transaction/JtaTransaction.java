@@ -28,7 +28,21 @@ public class JtaTransaction extends AbstractJpaTransaction {
     }
 
     public JtaTransaction(EntityManager entityManager, UserTransaction transaction) {
-        super(entityManager);
+        this(entityManager, transaction, false, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param entityManager the entity manager
+     * @param transaction the user transaction
+     * @param isScrollEnabled Whether or not to stream the results of collection queries
+     * @param detachBatchSize the number of read entities detached at once in read transactions, or 0 to never
+     *                        detach them
+     */
+    public JtaTransaction(EntityManager entityManager, UserTransaction transaction,
+                          boolean isScrollEnabled, int detachBatchSize) {
+        super(entityManager, isScrollEnabled, detachBatchSize);
         this.transaction = transaction;
     }
 
@@ -53,6 +67,10 @@ public class JtaTransaction extends AbstractJpaTransaction {
 
     @Override
     public void commit(RequestScope scope) {
+        if (isReadOnly()) {
+            rollback();
+            return;
+        }
         super.commit(scope);
         try {
             transaction.commit();
@@ -69,6 +87,8 @@ public class JtaTransaction extends AbstractJpaTransaction {
             transaction.rollback();
         } catch (Exception e) {
             log.error("Fail UserTransaction#rollback()", e);
+        } finally {
+            endReadOnly();
         }
     }
 
@@ -20,7 +20,19 @@ public class NonJtaTransaction extends AbstractJpaTransaction {
     private final EntityTransaction transaction;
 
     public NonJtaTransaction(EntityManager entityManager) {
-        super(entityManager);
+        this(entityManager, false, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param entityManager the entity manager
+     * @param isScrollEnabled Whether or not to stream the results of collection queries
+     * @param detachBatchSize the number of read entities detached at once in read transactions, or 0 to never
+     *                        detach them
+     */
+    public NonJtaTransaction(EntityManager entityManager, boolean isScrollEnabled, int detachBatchSize) {
+        super(entityManager, isScrollEnabled, detachBatchSize);
         this.transaction = entityManager.getTransaction();
         entityManager.clear();
     }
@@ -34,6 +46,10 @@ public class NonJtaTransaction extends AbstractJpaTransaction {
 
     @Override
     public void commit(RequestScope scope) {
+        if (isReadOnly()) {
+            rollback();
+            return;
+        }
         if (transaction.isActive()) {
             super.commit(scope);
             transaction.commit();
@@ -42,12 +58,16 @@ public class NonJtaTransaction extends AbstractJpaTransaction {
 
     @Override
     public void rollback() {
-        if (transaction.isActive()) {
-            try {
-                super.rollback();
-            } finally {
-                transaction.rollback();
+        try {
+            if (transaction.isActive()) {
+                try {
+                    super.rollback();
+                } finally {
+                    transaction.rollback();
+                }
             }
+        } finally {
+            endReadOnly();
         }
     }
 
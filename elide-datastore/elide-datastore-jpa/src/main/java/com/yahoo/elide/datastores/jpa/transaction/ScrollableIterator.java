@@ -0,0 +1,98 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.jpa.transaction;
+
+import com.google.common.collect.Iterators;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Wraps a query result stream as a single use Iterable.  The stream is closed once it is exhausted or the iterator
+ * is closed.
+ * <p>
+ * If an evictor is given, the rows the iterator has moved past are handed to it in batches of {@code batchSize},
+ * so a caller that is done with each row before asking for the next one holds at most one batch of them.
+ *
+ * @param <T> type of return object
+ */
+public class ScrollableIterator<T> implements Iterable<T>, Iterator<T>, Closeable {
+    private final Stream<T> stream;
+    private final Iterator<T> rows;
+    private final Consumer<List<T>> evictor;
+    private final int batchSize;
+    private List<T> passed;
+    private T current;
+    private boolean inUse = false;
+
+    /**
+     * Constructor.
+     *
+     * @param stream the query results
+     * @param evictor receives batches of rows the iterator has moved past or null to keep every row
+     * @param batchSize the number of rows handed to the evictor at once
+     */
+    public ScrollableIterator(Stream<T> stream, Consumer<List<T>> evictor, int batchSize) {
+        this.stream = stream;
+        this.rows = stream.iterator();
+        this.evictor = evictor;
+        this.batchSize = batchSize;
+        this.passed = new ArrayList<>();
+    }
+
+    public ScrollableIterator(Stream<T> stream) {
+        this(stream, null, 0);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        if (inUse) {
+            throw new ConcurrentModificationException();
+        }
+
+        inUse = true;
+        return Iterators.unmodifiableIterator(this);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (rows.hasNext()) {
+            return true;
+        }
+        stream.close();
+        return false;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        if (evictor != null && current != null) {
+            passed.add(current);
+            if (passed.size() >= batchSize) {
+                evictor.accept(passed);
+                passed = new ArrayList<>();
+            }
+        }
+        current = rows.next();
+        return current;
+    }
+
+    /**
+     * Closes the result stream, also when it was not read to the end.
+     */
+    @Override
+    public void close() {
+        stream.close();
+    }
+}
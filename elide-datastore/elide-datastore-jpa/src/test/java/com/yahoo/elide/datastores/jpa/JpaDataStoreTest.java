@@ -6,27 +6,51 @@
 
 package com.yahoo.elide.datastores.jpa;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.yahoo.elide.annotation.Include;
 import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.annotations.JPQLFilterFragment;
 import com.yahoo.elide.core.filter.FilterPredicate;
 import com.yahoo.elide.core.filter.FilterTranslator;
 import com.yahoo.elide.core.filter.JPQLPredicateGenerator;
 import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.datastores.jpa.porting.EntityManagerWrapper;
+import com.yahoo.elide.datastores.jpa.transaction.NonJtaTransaction;
 
 import com.google.common.collect.Sets;
+import example.Author;
+import example.Book;
+import org.hibernate.collection.internal.PersistentBag;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import javax.persistence.Entity;
 import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.EntityTransaction;
+import javax.persistence.FlushModeType;
 import javax.persistence.Id;
+import javax.persistence.PersistenceUnitUtil;
+import javax.persistence.Query;
 import javax.persistence.metamodel.EntityType;
 import javax.persistence.metamodel.Metamodel;
 
@@ -74,4 +98,124 @@ public class JpaDataStoreTest {
             FilterTranslator.registerJPQLGenerator(Operator.IN, Test.class, "name", null);
         }
     }
+
+    @Test
+    public void testReadTransactionDoesNotFlushOrCommit() throws Exception {
+        EntityTransaction entityTransaction = mock(EntityTransaction.class);
+        EntityManager managerMock = mock(EntityManager.class);
+        when(managerMock.getTransaction()).thenReturn(entityTransaction);
+        when(managerMock.getFlushMode()).thenReturn(FlushModeType.AUTO);
+        when(managerMock.isOpen()).thenReturn(true);
+
+        JpaDataStore store = new JpaDataStore(() -> managerMock, NonJtaTransaction::new);
+        RequestScope scope = mock(RequestScope.class);
+
+        try (DataStoreTransaction tx = store.beginReadTransaction()) {
+            verify(entityTransaction).begin();
+            verify(managerMock).setFlushMode(FlushModeType.COMMIT);
+            when(entityTransaction.isActive()).thenReturn(true);
+
+            tx.flush(scope);
+            tx.commit(scope);
+            when(entityTransaction.isActive()).thenReturn(false);
+        }
+
+        verify(managerMock, never()).flush();
+        verify(entityTransaction, never()).commit();
+        verify(entityTransaction).rollback();
+        verify(managerMock).setFlushMode(FlushModeType.AUTO);
+    }
+
+    @Test
+    public void testReadTransactionDetachesScrolledRowsAndClosesUnfinishedResults() throws Exception {
+        Book first = new Book();
+        Book second = new Book();
+        Book third = new Book();
+        AtomicBoolean closed = new AtomicBoolean();
+        Query query = mock(Query.class);
+        when(query.getResultStream()).thenReturn(Stream.<Object>of(first, second, third, new Book())
+                .onClose(() -> closed.set(true)));
+
+        EntityTransaction entityTransaction = mock(EntityTransaction.class);
+        EntityManager managerMock = mock(EntityManager.class);
+        when(managerMock.getTransaction()).thenReturn(entityTransaction);
+        when(managerMock.getFlushMode()).thenReturn(FlushModeType.AUTO);
+        when(managerMock.createQuery(anyString())).thenReturn(query);
+
+        EntityDictionary dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Book.class);
+        RequestScope scope = mock(RequestScope.class);
+        when(scope.getDictionary()).thenReturn(dictionary);
+
+        NonJtaTransaction tx = new NonJtaTransaction(managerMock, true, 2);
+        tx.beginReadOnly();
+        Iterator<Object> rows = tx.loadObjects(Book.class, Optional.empty(), Optional.empty(), Optional.empty(), scope)
+                .iterator();
+        rows.next();
+        rows.next();
+        rows.next();
+
+        // The rows the iterator moved past are detached in batches
+        verify(managerMock).detach(first);
+        verify(managerMock).detach(second);
+        verify(managerMock, never()).detach(third);
+        Assert.assertFalse(closed.get());
+
+        // The last row was never read, closing the transaction still closes the result stream
+        tx.close();
+        Assert.assertTrue(closed.get());
+    }
+
+    @Test
+    public void testReadOnlyQueryHint() {
+        Query query = mock(Query.class);
+        EntityManager managerMock = mock(EntityManager.class);
+        when(managerMock.createQuery(anyString())).thenReturn(query);
+
+        EntityManagerWrapper wrapper = new EntityManagerWrapper(managerMock);
+        wrapper.createQuery("SELECT 1");
+        verify(query, never()).setHint(anyString(), any());
+
+        wrapper.setReadOnly(true);
+        wrapper.createQuery("SELECT 1");
+        verify(query).setHint(EntityManagerWrapper.HINT_READ_ONLY, true);
+    }
+
+    @Test
+    public void testGetRelationsChunksParents() {
+        Query query = mock(Query.class);
+        when(query.setParameter(anyString(), any())).thenReturn(query);
+        when(query.getResultList()).thenReturn(Collections.emptyList());
+
+        PersistenceUnitUtil persistenceUnitUtil = mock(PersistenceUnitUtil.class);
+        EntityManagerFactory factory = mock(EntityManagerFactory.class);
+        when(factory.getPersistenceUnitUtil()).thenReturn(persistenceUnitUtil);
+
+        EntityManager managerMock = mock(EntityManager.class);
+        when(managerMock.getTransaction()).thenReturn(mock(EntityTransaction.class));
+        when(managerMock.getEntityManagerFactory()).thenReturn(factory);
+        when(managerMock.createQuery(anyString())).thenReturn(query);
+
+        EntityDictionary dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Book.class);
+        RequestScope scope = mock(RequestScope.class);
+        when(scope.getDictionary()).thenReturn(dictionary);
+
+        List<Author> authors = Arrays.asList(new Author(), new Author(), new Author());
+        authors.forEach(author -> author.setBooks(new PersistentBag()));
+
+        FilterTranslator.setInListChunkSize(2);
+        try {
+            Map<Object, Object> relations = new NonJtaTransaction(managerMock)
+                    .getRelations(null, authors, "books", Optional.empty(), scope);
+
+            Assert.assertEquals(relations.size(), 3);
+            verify(managerMock, times(2)).createQuery(anyString());
+            verify(query, times(2)).getResultList();
+        } finally {
+            FilterTranslator.setInListChunkSize(FilterTranslator.DEFAULT_IN_LIST_CHUNK_SIZE);
+        }
+    }
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.jpa.transaction;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+public class ScrollableIteratorTest {
+
+    @Test
+    public void testIteratesAndClosesStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        ScrollableIterator<Integer> iterator =
+                new ScrollableIterator<>(Stream.of(1, 2, 3).onClose(() -> closed.set(true)));
+
+        Assert.assertEquals(Lists.newArrayList(iterator), ImmutableList.of(1, 2, 3));
+        Assert.assertTrue(closed.get());
+        Assert.assertThrows(ConcurrentModificationException.class, iterator::iterator);
+    }
+
+    @Test
+    public void testEvictsPassedRowsInBatches() {
+        List<List<Integer>> evicted = new ArrayList<>();
+        ScrollableIterator<Integer> iterator =
+                new ScrollableIterator<>(Stream.of(1, 2, 3, 4, 5, 6), evicted::add, 2);
+
+        List<Integer> read = new ArrayList<>();
+        for (Integer row : iterator) {
+            read.add(row);
+            if (row == 3) {
+                // Rows are only evicted once the iterator has moved past them
+                Assert.assertEquals(evicted, ImmutableList.of(ImmutableList.of(1, 2)));
+            }
+        }
+
+        Assert.assertEquals(read, ImmutableList.of(1, 2, 3, 4, 5, 6));
+        Assert.assertEquals(evicted, ImmutableList.of(ImmutableList.of(1, 2), ImmutableList.of(3, 4)));
+    }
+
+    @Test
+    public void testCloseBeforeExhausted() {
+        AtomicBoolean closed = new AtomicBoolean();
+        ScrollableIterator<Integer> iterator =
+                new ScrollableIterator<>(Stream.of(1, 2, 3).onClose(() -> closed.set(true)));
+
+        Assert.assertEquals(iterator.iterator().next(), Integer.valueOf(1));
+        Assert.assertFalse(closed.get());
+
+        iterator.close();
+        Assert.assertTrue(closed.get());
+    }
+}
@@ -10,8 +10,11 @@ import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.EntityDictionary;
 
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 /**
  * Allows multiple database handlers to each process their own beans while keeping the main
@@ -32,7 +35,10 @@ public class MultiplexManager implements DataStore {
 
     protected final List<DataStore> dataStores;
     protected final ConcurrentHashMap<Class<?>, DataStore> dataStoreMap = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<DataStore, Map<SubTransactionLatency.Operation, SubTransactionLatency>> latencies =
+            new ConcurrentHashMap<>();
     private EntityDictionary dictionary;
+    private Executor executor;
 
     /**
      * Create a single DataStore to handle provided managers within a single transaction.
@@ -42,6 +48,41 @@ public class MultiplexManager implements DataStore {
         this.dataStores = Arrays.asList(dataStores);
     }
 
+    /**
+     * Flush the sub-transactions, and commit the sub-transactions of read transactions, concurrently.  Write
+     * transactions still commit one data store at a time so failed commits can be reversed.  The data stores must
+     * not share state a flush depends on.
+     *
+     * @param executor the executor or null to process the sub-transactions one at a time
+     * @return this manager
+     */
+    public MultiplexManager withExecutor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Get the latency of an operation of the sub-transactions of a data store.
+     *
+     * @param dataStore a data store of this manager
+     * @param operation the operation
+     * @return the latency statistics
+     */
+    public SubTransactionLatency getLatency(DataStore dataStore, SubTransactionLatency.Operation operation) {
+        return latencies.computeIfAbsent(dataStore, key -> {
+            Map<SubTransactionLatency.Operation, SubTransactionLatency> operations =
+                    new EnumMap<>(SubTransactionLatency.Operation.class);
+            for (SubTransactionLatency.Operation value : SubTransactionLatency.Operation.values()) {
+                operations.put(value, new SubTransactionLatency());
+            }
+            return operations;
+        }).get(operation);
+    }
+
     @Override
     public void populateEntityDictionary(EntityDictionary dictionary) {
         this.dictionary = dictionary;
@@ -8,6 +8,7 @@ package com.yahoo.elide.datastores.multiplex;
 import com.yahoo.elide.core.DataStore;
 import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.datastores.multiplex.SubTransactionLatency.Operation;
 
 /**
  * Multiplex transaction handler.
@@ -24,6 +25,13 @@ public class MultiplexReadTransaction extends MultiplexTransaction {
         return dataStore.beginReadTransaction();
     }
 
+    @Override
+    public void commit(RequestScope scope) {
+        // Read transactions have no commits to reverse, so their sub-transactions commit concurrently
+        flush(scope);
+        forEachOpenTransaction(Operation.COMMIT, true, transaction -> transaction.commit(scope));
+    }
+
     @Override
     public void save(Object entity, RequestScope scope) {
         throw new UnsupportedOperationException();
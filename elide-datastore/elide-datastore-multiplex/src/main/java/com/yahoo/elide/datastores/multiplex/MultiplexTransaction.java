@@ -17,23 +17,36 @@ import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.core.sort.Sorting;
+import com.yahoo.elide.datastores.multiplex.SubTransactionLatency.Operation;
 import com.yahoo.elide.security.User;
 
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Multiplex transaction handler.  Process each sub-database transactions within a single transaction.
  * If any commit fails in process, reverse any commits already completed.
+ * <p>
+ * Sub-transactions are begun the first time an entity of their data store is used, so only the data stores a
+ * request touches are flushed, committed and closed.
  */
 public abstract class MultiplexTransaction implements DataStoreTransaction {
     protected final LinkedHashMap<DataStore, DataStoreTransaction> transactions;
     protected final MultiplexManager multiplexManager;
-    protected final DataStoreTransaction lastDataStoreTransaction;
+    protected final DataStore lastDataStore;
+    private User user;
 
     /**
      * Multiplex transaction handler.
@@ -42,26 +55,38 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
     public MultiplexTransaction(MultiplexManager multiplexManager) {
         this.multiplexManager = multiplexManager;
         this.transactions = new LinkedHashMap<>(multiplexManager.dataStores.size());
-
-        // create each subordinate transaction
-        DataStoreTransaction transaction = null;
-        for (DataStore dataStore : multiplexManager.dataStores) {
-            transaction = beginTransaction(dataStore);
-            transactions.put(dataStore, transaction);
-        }
-        lastDataStoreTransaction = transaction;
+        this.lastDataStore = multiplexManager.dataStores.isEmpty()
+                ? null
+                : multiplexManager.dataStores.get(multiplexManager.dataStores.size() - 1);
     }
 
     protected abstract DataStoreTransaction beginTransaction(DataStore dataStore);
 
+    /**
+     * Sub-transactions begun later also access the user, so the returned user follows the opaque user of the
+     * last sub-transaction that did.
+     */
     @Override
     public User accessUser(Object opaqueUser) {
-        User user = new User(opaqueUser);
-        for (DataStore dataStore : multiplexManager.dataStores) {
-            DataStoreTransaction transaction = transactions.get(dataStore);
+        user = new User(opaqueUser);
+        for (DataStoreTransaction transaction : getOpenTransactions()) {
             user = transaction.accessUser(user.getOpaqueUser());
         }
-        return user;
+        return new MultiplexUser(opaqueUser);
+    }
+
+    /**
+     * The user of the request, whose opaque user is the one returned by the sub-transactions begun so far.
+     */
+    private class MultiplexUser extends User {
+        MultiplexUser(Object opaqueUser) {
+            super(opaqueUser);
+        }
+
+        @Override
+        public Object getOpaqueUser() {
+            return user.getOpaqueUser();
+        }
     }
 
     @Override
@@ -94,28 +119,28 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
 
     @Override
     public void flush(RequestScope requestScope) {
-        transactions.values().forEach(dataStoreTransaction -> dataStoreTransaction.flush(requestScope));
+        forEachOpenTransaction(Operation.FLUSH, true, transaction -> transaction.flush(requestScope));
     }
 
     @Override
     public void preCommit() {
-        transactions.values().forEach(DataStoreTransaction::preCommit);
+        forEachOpenTransaction(Operation.PRE_COMMIT, false, DataStoreTransaction::preCommit);
     }
 
     @Override
     public void commit(RequestScope scope) {
         // flush all before commit
         flush(scope);
-        transactions.values().forEach(dataStoreTransaction -> dataStoreTransaction.commit(scope));
+        forEachOpenTransaction(Operation.COMMIT, false, transaction -> transaction.commit(scope));
     }
 
     @Override
     public void close() throws IOException {
 
         IOException cause = null;
-        for (DataStoreTransaction transaction : transactions.values()) {
+        for (DataStore dataStore : getOpenDataStores()) {
             try {
-                transaction.close();
+                timed(dataStore, Operation.CLOSE, () -> transactions.get(dataStore).close());
             } catch (IOException | Error | RuntimeException e) {
                 if (cause != null) {
                     cause.addSuppressed(e);
@@ -137,14 +162,126 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
     }
 
     protected DataStoreTransaction getTransaction(Class<?> cls) {
-        DataStoreTransaction transaction = transactions.get(this.multiplexManager.getSubManager(cls));
-        if (transaction == null) {
+        DataStore dataStore = this.multiplexManager.getSubManager(cls);
+        if (dataStore == null) {
             Class entityClass = multiplexManager.getDictionary().lookupEntityClass(cls);
             throw new InvalidCollectionException(entityClass == null ? cls.getName() : entityClass.getName());
         }
+        return getTransaction(dataStore);
+    }
+
+    /**
+     * Get the sub-transaction of a data store, beginning it on first use.
+     * @param dataStore the data store
+     * @return the sub-transaction
+     */
+    protected DataStoreTransaction getTransaction(DataStore dataStore) {
+        DataStoreTransaction transaction = transactions.get(dataStore);
+        if (transaction == null) {
+            transaction = beginTransaction(dataStore);
+            if (user != null) {
+                user = transaction.accessUser(user.getOpaqueUser());
+            }
+            transactions.put(dataStore, transaction);
+        }
         return transaction;
     }
 
+    /**
+     * Get the data stores whose sub-transactions were begun so far, in order.
+     * @return the data stores of the open sub-transactions
+     */
+    protected List<DataStore> getOpenDataStores() {
+        return multiplexManager.dataStores.stream()
+                .filter(transactions::containsKey)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get the sub-transactions begun so far, in the order of their data stores.
+     * @return the open sub-transactions
+     */
+    protected List<DataStoreTransaction> getOpenTransactions() {
+        return getOpenDataStores().stream()
+                .map(transactions::get)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Apply an operation to each open sub-transaction.  When the manager has an executor and concurrent is set, the
+     * operation runs on all sub-transactions at once; the first failure is thrown after all of them completed, with
+     * the other failures suppressed.  Otherwise it runs in data store order and stops at the first failure.
+     * @param operation the operation whose latency is recorded
+     * @param concurrent whether the sub-transactions may be processed concurrently
+     * @param action the operation
+     */
+    protected void forEachOpenTransaction(Operation operation, boolean concurrent,
+                                          Consumer<DataStoreTransaction> action) {
+        List<DataStore> dataStores = getOpenDataStores();
+        Executor executor = multiplexManager.getExecutor();
+        if (!concurrent || executor == null || dataStores.size() < 2) {
+            for (DataStore dataStore : dataStores) {
+                timed(dataStore, operation, () -> action.accept(transactions.get(dataStore)));
+            }
+            return;
+        }
+
+        List<CompletableFuture<Void>> futures = dataStores.stream()
+                .map(dataStore -> {
+                    DataStoreTransaction transaction = transactions.get(dataStore);
+                    return CompletableFuture.runAsync(
+                            () -> timed(dataStore, operation, () -> action.accept(transaction)), executor);
+                })
+                .collect(Collectors.toList());
+
+        Throwable failure = null;
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() == null ? e : e.getCause();
+                if (failure == null) {
+                    failure = cause;
+                } else {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure != null) {
+            throw (RuntimeException) failure;
+        }
+    }
+
+    /**
+     * An operation on a sub-transaction.
+     * @param <E> the checked exception thrown by the operation
+     */
+    @FunctionalInterface
+    protected interface SubTransactionOperation<E extends Exception> {
+        void run() throws E;
+    }
+
+    /**
+     * Run an operation on the sub-transaction of a data store and record its latency.
+     * @param dataStore the data store
+     * @param operation the operation whose latency is recorded
+     * @param action the operation
+     * @param <E> the checked exception thrown by the operation
+     * @throws E if the operation fails
+     */
+    protected <E extends Exception> void timed(DataStore dataStore, Operation operation,
+                                               SubTransactionOperation<E> action) throws E {
+        long start = System.nanoTime();
+        try {
+            action.run();
+        } finally {
+            multiplexManager.getLatency(dataStore, operation).record(System.nanoTime() - start);
+        }
+    }
+
     protected DataStoreTransaction getRelationTransaction(Object object, String relationName) {
         EntityDictionary dictionary = multiplexManager.getDictionary();
         Class<?> relationClass = dictionary.getParameterizedType(object, relationName);
@@ -186,6 +323,27 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
         return entityTransaction.getRelation(relationTx, entity, relationName, filter, sorting, pagination, scope);
     }
 
+    @Override
+    public Map<Object, Object> getRelations(DataStoreTransaction relationTx,
+                                            Collection<?> entities,
+                                            String relationName,
+                                            Optional<FilterExpression> filter,
+                                            RequestScope scope) {
+        if (entities.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Object entity = entities.iterator().next();
+        relationTx = getRelationTransaction(entity, relationName);
+        DataStoreTransaction entityTransaction = getTransaction(entity.getClass());
+
+        // Relations which cross data stores are bridged one entity at a time
+        if (entityTransaction != relationTx) {
+            return Collections.emptyMap();
+        }
+        return entityTransaction.getRelations(relationTx, entities, relationName, filter, scope);
+    }
+
     @Override
     public void updateToManyRelation(DataStoreTransaction relationTx,
                                      Object entity, String relationName,
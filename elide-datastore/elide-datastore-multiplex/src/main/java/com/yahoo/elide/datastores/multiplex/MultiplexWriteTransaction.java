@@ -13,6 +13,7 @@ import com.yahoo.elide.core.exceptions.TransactionException;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.core.sort.Sorting;
+import com.yahoo.elide.datastores.multiplex.SubTransactionLatency.Operation;
 
 import java.io.IOException;
 import java.io.Serializable;
@@ -22,7 +23,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Map.Entry;
 import java.util.Optional;
 
 import javax.ws.rs.WebApplicationException;
@@ -64,10 +64,14 @@ public class MultiplexWriteTransaction extends MultiplexTransaction {
         flush(scope);
 
         ArrayList<DataStore> commitList = new ArrayList<>();
-        for (Entry<DataStore, DataStoreTransaction> entry : transactions.entrySet()) {
+        for (DataStore dataStore : multiplexManager.dataStores) {
+            DataStoreTransaction transaction = transactions.get(dataStore);
+            if (transaction == null) {
+                continue;
+            }
             try {
-                entry.getValue().commit(scope);
-                commitList.add(entry.getKey());
+                timed(dataStore, Operation.COMMIT, () -> transaction.commit(scope));
+                commitList.add(dataStore);
             } catch (HttpStatusException | WebApplicationException e) {
                 reverseTransactions(commitList, e, scope);
                 throw e;
@@ -113,7 +117,7 @@ public class MultiplexWriteTransaction extends MultiplexTransaction {
     }
 
     private <T> Iterable<T> hold(DataStoreTransaction transaction, Iterable<T> list) {
-        if (transaction != lastDataStoreTransaction) {
+        if (transaction != transactions.get(lastDataStore)) {
             ArrayList<T> newList = new ArrayList<>();
             list.forEach(newList::add);
             for (T object : newList) {
@@ -131,7 +135,7 @@ public class MultiplexWriteTransaction extends MultiplexTransaction {
      * @return original object
      */
     private <T> T hold(DataStoreTransaction subTransaction, T object) {
-        if (subTransaction != lastDataStoreTransaction) {
+        if (subTransaction != transactions.get(lastDataStore)) {
             clonedObjects.put(object, cloneObject(object));
         }
         return object;
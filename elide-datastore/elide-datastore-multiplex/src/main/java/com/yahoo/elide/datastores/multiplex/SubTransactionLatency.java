@@ -0,0 +1,52 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.multiplex;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency of one operation of the sub-transactions of one data store of a {@link MultiplexManager}.
+ */
+public class SubTransactionLatency {
+
+    /**
+     * Sub-transaction operations whose latency is recorded.
+     */
+    public enum Operation {
+        FLUSH,
+        PRE_COMMIT,
+        COMMIT,
+        CLOSE
+    }
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+    void record(long nanos) {
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    public double getMeanNanos() {
+        long operations = count.sum();
+        return operations == 0 ? 0 : (double) totalNanos.sum() / operations;
+    }
+}
@@ -5,36 +5,131 @@
  */
 package com.yahoo.elide.datastores.multiplex;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.yahoo.elide.core.DataStore;
 import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.example.beans.FirstBean;
+import com.yahoo.elide.example.other.OtherBean;
+import com.yahoo.elide.security.User;
 
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 /**
  * Tests MultiplexTransaction.
  */
 public class MultiplexTransactionTest {
-    @Test
-    public void testPrecommit() throws Exception {
-        DataStore store1 =  mock(DataStore.class);
-        DataStore store2 =  mock(DataStore.class);
-        DataStoreTransaction tx1 = mock(DataStoreTransaction.class);
-        DataStoreTransaction tx2 = mock(DataStoreTransaction.class);
+    private DataStore store1;
+    private DataStore store2;
+    private DataStoreTransaction tx1;
+    private DataStoreTransaction tx2;
+    private MultiplexManager store;
+
+    @BeforeMethod
+    public void setup() {
+        store1 = mock(DataStore.class);
+        store2 = mock(DataStore.class);
+        tx1 = mock(DataStoreTransaction.class);
+        tx2 = mock(DataStoreTransaction.class);
 
         when(store1.beginReadTransaction()).thenReturn(tx1);
         when(store2.beginReadTransaction()).thenReturn(tx2);
+        when(store1.beginTransaction()).thenReturn(tx1);
+        when(store2.beginTransaction()).thenReturn(tx2);
+        bind(store1, FirstBean.class);
+        bind(store2, OtherBean.class);
 
-        MultiplexManager store = new MultiplexManager(store1, store2);
+        store = new MultiplexManager(store1, store2);
+        store.populateEntityDictionary(new EntityDictionary(new HashMap<>()));
+    }
 
+    @Test
+    public void testPrecommit() throws Exception {
         DataStoreTransaction multiplexTx = store.beginReadTransaction();
 
+        multiplexTx.loadObject(FirstBean.class, "1", Optional.empty(), null);
+        multiplexTx.loadObject(OtherBean.class, "1", Optional.empty(), null);
         multiplexTx.preCommit();
 
         verify(tx1).preCommit();
         verify(tx2).preCommit();
     }
+
+    @Test
+    public void testUntouchedStoresAreNotBegun() throws Exception {
+        try (DataStoreTransaction multiplexTx = store.beginTransaction()) {
+            multiplexTx.accessUser("user");
+            multiplexTx.createObject(new FirstBean(), null);
+            multiplexTx.preCommit();
+            multiplexTx.commit(null);
+        }
+
+        verify(tx1).accessUser("user");
+        verify(tx1).preCommit();
+        verify(tx1).commit(null);
+        verify(tx1).close();
+        verify(store2, never()).beginTransaction();
+        verify(store2, never()).beginReadTransaction();
+    }
+
+    @Test
+    public void testUserOfLazilyBegunStores() throws Exception {
+        when(tx1.accessUser("user")).thenReturn(new User("first user"));
+        when(tx2.accessUser("first user")).thenReturn(new User("other user"));
+
+        try (DataStoreTransaction multiplexTx = store.beginTransaction()) {
+            User user = multiplexTx.accessUser("user");
+            Assert.assertEquals(user.getOpaqueUser(), "user");
+
+            multiplexTx.createObject(new FirstBean(), null);
+            Assert.assertEquals(user.getOpaqueUser(), "first user");
+
+            multiplexTx.createObject(new OtherBean(), null);
+            Assert.assertEquals(user.getOpaqueUser(), "other user");
+        }
+    }
+
+    @Test
+    public void testConcurrentFlush() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            store.withExecutor(executor);
+            doThrow(new IllegalStateException()).when(tx1).flush(null);
+
+            DataStoreTransaction multiplexTx = store.beginReadTransaction();
+            multiplexTx.loadObject(FirstBean.class, "1", Optional.empty(), null);
+            multiplexTx.loadObject(OtherBean.class, "1", Optional.empty(), null);
+
+            Assert.assertThrows(IllegalStateException.class, () -> multiplexTx.flush(null));
+            // The failure of one store does not prevent the other stores from flushing
+            verify(tx2).flush(null);
+            Assert.assertEquals(store.getLatency(store1, SubTransactionLatency.Operation.FLUSH).getCount(), 1);
+            Assert.assertEquals(store.getLatency(store2, SubTransactionLatency.Operation.FLUSH).getCount(), 1);
+            Assert.assertEquals(store.getLatency(store2, SubTransactionLatency.Operation.COMMIT).getCount(), 0);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void bind(DataStore dataStore, Class<?> entityClass) {
+        doAnswer(invocation -> {
+            EntityDictionary dictionary = invocation.getArgument(0);
+            dictionary.bindEntity(entityClass);
+            return null;
+        }).when(dataStore).populateEntityDictionary(any());
+    }
 }
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import graphql.language.Document;
+import graphql.language.OperationDefinition;
+import graphql.parser.Parser;
+import graphql.schema.GraphQLSchema;
+import graphql.validation.ValidationError;
+import graphql.validation.Validator;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Bounded cache of parsed and validated GraphQL documents keyed by query text and operation name.
+ * <p>
+ * The cache also stores the text of persisted queries by their SHA-256 hash when persisted queries are enabled, so
+ * that clients can send the hash of a query they sent before instead of the whole query.
+ */
+public class GraphQLDocumentCache {
+    private final GraphQLSchema schema;
+    private final Cache<Pair<String, String>, ParsedDocument> documents;
+    private final Cache<String, String> persistedQueries;
+
+    /**
+     * A parsed document along with the errors found validating it against the schema.
+     */
+    public static class ParsedDocument {
+        @Getter private final Document document;
+        @Getter private final List<ValidationError> errors;
+        @Getter private final boolean mutation;
+
+        ParsedDocument(Document document, List<ValidationError> errors, String operationName) {
+            this.document = document;
+            this.errors = errors;
+            this.mutation = isMutation(document, operationName);
+        }
+
+        public boolean isValid() {
+            return errors.isEmpty();
+        }
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param schema the schema documents are validated against
+     * @param maximumSize the maximum number of documents and of persisted queries to keep
+     * @param persistedQueries whether clients can send the hash of a query instead of the query
+     */
+    public GraphQLDocumentCache(GraphQLSchema schema, long maximumSize, boolean persistedQueries) {
+        this.schema = schema;
+        this.documents = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        this.persistedQueries = persistedQueries
+                ? CacheBuilder.newBuilder().maximumSize(maximumSize).build()
+                : null;
+    }
+
+    /**
+     * Get the parsed document of a query, parsing and validating it if it is not cached.
+     *
+     * @param query the query text
+     * @param operationName the name of the operation to execute or null
+     * @return the parsed document or empty when the query does not parse
+     */
+    public Optional<ParsedDocument> get(String query, String operationName) {
+        Pair<String, String> key = Pair.of(query, operationName);
+        ParsedDocument parsed = documents.getIfPresent(key);
+        if (parsed == null) {
+            Document document;
+            try {
+                document = new Parser().parseDocument(query);
+            } catch (RuntimeException e) {
+                // Syntax errors are reported by GraphQL.execute
+                return Optional.empty();
+            }
+            parsed = new ParsedDocument(document, new Validator().validateDocument(schema, document), operationName);
+            documents.put(key, parsed);
+        }
+        return Optional.of(parsed);
+    }
+
+    /**
+     * Whether the operation of a document which is run is a mutation.
+     *
+     * @param document the document
+     * @param operationName the name of the operation to run or null for the first one
+     * @return true if the operation is a mutation
+     */
+    public static boolean isMutation(Document document, String operationName) {
+        return document.getDefinitions().stream()
+                .filter(OperationDefinition.class::isInstance)
+                .map(OperationDefinition.class::cast)
+                .filter(operation -> operationName == null || operationName.equals(operation.getName()))
+                .findFirst()
+                .map(operation -> operation.getOperation() == OperationDefinition.Operation.MUTATION)
+                .orElse(false);
+    }
+
+    public boolean isPersistedQueries() {
+        return persistedQueries != null;
+    }
+
+    /**
+     * Get the text of a persisted query.
+     *
+     * @param hash the SHA-256 hash of the query text
+     * @return the query text or empty if it was not persisted or persisted queries are disabled
+     */
+    public Optional<String> getPersistedQuery(String hash) {
+        if (persistedQueries == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(persistedQueries.getIfPresent(hash));
+    }
+
+    /**
+     * Persist the text of a query so later requests can send its hash instead.
+     *
+     * @param hash the SHA-256 hash the client computed for the query text
+     * @param query the query text
+     * @return false if the hash does not match the query text
+     */
+    public boolean persistQuery(String hash, String query) {
+        if (!Objects.equals(hash, hash(query))) {
+            return false;
+        }
+        if (persistedQueries != null) {
+            persistedQueries.put(hash, query);
+        }
+        return true;
+    }
+
+    public long getHitCount() {
+        return documents.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return documents.stats().missCount();
+    }
+
+    public double getHitRate() {
+        return documents.stats().hitRate();
+    }
+
+    public long size() {
+        return documents.size();
+    }
+
+    /**
+     * Hash a query the way clients of persisted queries do.
+     *
+     * @param query the query text
+     * @return the hex encoded SHA-256 hash of the query text
+     */
+    public static String hash(String query) {
+        return Hashing.sha256().hashString(query, StandardCharsets.UTF_8).toString();
+    }
+}
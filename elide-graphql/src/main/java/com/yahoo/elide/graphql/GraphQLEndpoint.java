@@ -7,8 +7,10 @@ package com.yahoo.elide.graphql;
 
 import com.yahoo.elide.Elide;
 import com.yahoo.elide.ElideSettings;
+import com.yahoo.elide.core.DataStore;
 import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.ErrorObjects;
+import com.yahoo.elide.core.HttpStatus;
 import com.yahoo.elide.core.exceptions.CustomErrorException;
 import com.yahoo.elide.core.exceptions.HttpStatusException;
 import com.yahoo.elide.core.exceptions.InvalidEntityBodyException;
@@ -16,12 +18,12 @@ import com.yahoo.elide.core.exceptions.TransactionException;
 import com.yahoo.elide.resources.DefaultOpaqueUserFunction;
 import com.yahoo.elide.security.User;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 
 import org.apache.commons.lang3.tuple.Pair;
@@ -29,17 +31,24 @@ import org.owasp.encoder.Encode;
 
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
 import graphql.GraphQL;
 import graphql.GraphQLError;
+import graphql.parser.Parser;
+import graphql.schema.GraphQLSchema;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -53,6 +62,7 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.core.StreamingOutput;
 
 /**
  * Default endpoint/servlet for using Elide and JSONAPI.
@@ -66,12 +76,16 @@ public class GraphQLEndpoint {
     private Elide elide;
     private ElideSettings elideSettings;
     private GraphQL api;
+    private GraphQLDocumentCache documentCache;
     protected final Function<SecurityContext, Object> getUser;
 
     private static final String QUERY = "query";
     private static final String OPERATION_NAME = "operationName";
     private static final String VARIABLES = "variables";
-    private static final String MUTATION = "mutation";
+    private static final String EXTENSIONS = "extensions";
+    private static final String PERSISTED_QUERY = "persistedQuery";
+    private static final String SHA256_HASH = "sha256Hash";
+    private static final String PERSISTED_QUERY_NOT_FOUND = "{\"errors\":[{\"message\":\"PersistedQueryNotFound\"}]}";
     private static final DefaultOpaqueUserFunction DEFAULT_GET_USER = securityContext -> securityContext;
 
     @Inject
@@ -84,7 +98,12 @@ public class GraphQLEndpoint {
         this.getUser = getUser == null ? DEFAULT_GET_USER : getUser;
         PersistentResourceFetcher fetcher = new PersistentResourceFetcher(elide.getElideSettings());
         ModelBuilder builder = new ModelBuilder(elide.getElideSettings().getDictionary(), fetcher);
-        this.api = new GraphQL(builder.build());
+        GraphQLSchema schema = builder.build();
+        this.api = new GraphQL(schema);
+        if (elideSettings.getGraphQLDocumentCacheSize() > 0) {
+            this.documentCache = new GraphQLDocumentCache(schema, elideSettings.getGraphQLDocumentCacheSize(),
+                    elideSettings.isGraphQLPersistedQueries());
+        }
 
         // add serializers to allow for custom handling of ExecutionResult and GraphQLError objects
         GraphQLErrorSerializer errorSerializer = new GraphQLErrorSerializer(elideSettings.isEncodeErrorResponses());
@@ -119,56 +138,190 @@ public class GraphQLEndpoint {
             return buildErrorResponse(new InvalidEntityBodyException(graphQLDocument), false);
         }
 
+        // Resolve the user on the request thread; batched requests may run on other threads
+        Object opaqueUser = getUser.apply(securityContext);
         Function<JsonNode, Response> executeRequest =
-                (node) -> executeGraphQLRequest(mapper, securityContext, graphQLDocument, node);
+                (node) -> executeGraphQLRequest(mapper, opaqueUser, graphQLDocument, node);
 
         if (topLevel.isArray()) {
-            Iterator<JsonNode> nodeIterator = topLevel.iterator();
-            Iterable<JsonNode> nodeIterable = () -> nodeIterator;
-            // NOTE: Create a non-parallel stream
-            // It's unclear whether or not the expectations of the caller would be that requests are intended
-            // to run serially even outside of a single transaction. We should revisit this.
-            Stream<JsonNode> nodeStream = StreamSupport.stream(nodeIterable.spliterator(), false);
-            ArrayNode result = nodeStream
-                    .map(executeRequest)
-                    .map(response -> {
-                        try {
-                            return mapper.readTree((String) response.getEntity());
-                        } catch (IOException e) {
-                            log.debug("Caught an IO exception while trying to read response body");
-                            return JsonNodeFactory.instance.objectNode();
-                        }
-                    })
-                    .reduce(JsonNodeFactory.instance.arrayNode(),
-                            (arrayNode, node) -> arrayNode.add(node),
-                            (left, right) -> left.addAll(right));
-            try {
-                return Response.ok(mapper.writeValueAsString(result)).build();
-            } catch (IOException e) {
-                log.error("An unexpected error occurred trying to serialize array response.", e);
-                return Response.serverError().build();
+            // Each entry runs in its own transaction.  With an executor, queries run concurrently.  Mutations run in
+            // order on the request thread once every entry before them has completed.  All entries complete before
+            // the response is built, so a failure yields an error response rather than a truncated array.
+            Executor executor = elideSettings.getGraphQLBatchExecutor();
+            List<CompletableFuture<Response>> futures = new ArrayList<>();
+            for (JsonNode node : topLevel) {
+                if (executor == null || isMutation(node)) {
+                    futures.forEach(GraphQLEndpoint::join);
+                    futures.add(CompletableFuture.completedFuture(executeRequest.apply(node)));
+                } else {
+                    futures.add(CompletableFuture.supplyAsync(() -> executeRequest.apply(node), executor));
+                }
             }
+            List<Response> responses = new ArrayList<>();
+            for (CompletableFuture<Response> future : futures) {
+                responses.add(join(future));
+            }
+            StreamingOutput body = out -> writeBatchResponse(mapper, responses, out);
+            return Response.ok(body).build();
         }
 
         return executeRequest.apply(topLevel);
     }
 
+    /**
+     * Write the responses of the entries of a batched request as a JSON array.
+     *
+     * @param mapper the object mapper
+     * @param responses the response of each entry in request order
+     * @param out the response body
+     * @throws IOException if the body cannot be written
+     */
+    private static void writeBatchResponse(ObjectMapper mapper, List<Response> responses,
+                                           OutputStream out) throws IOException {
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(out)) {
+            generator.writeStartArray();
+            for (Response response : responses) {
+                String entity = (String) response.getEntity();
+                if (response.getStatus() == HttpStatus.SC_OK) {
+                    // Successful responses are always JSON documents
+                    generator.writeRawValue(entity);
+                    continue;
+                }
+                JsonNode node;
+                try {
+                    node = mapper.readTree(entity);
+                } catch (IOException e) {
+                    log.debug("Caught an IO exception while trying to read response body");
+                    node = JsonNodeFactory.instance.objectNode();
+                }
+                generator.writeTree(node);
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * Whether an entry of a batched request may contain a mutation.  Entries which cannot be told apart are treated
+     * as mutations.
+     *
+     * @param jsonDocument the entry
+     * @return false if the entry only contains queries
+     */
+    private boolean isMutation(JsonNode jsonDocument) {
+        String query = null;
+        if (jsonDocument.has(QUERY) && !jsonDocument.get(QUERY).isNull()) {
+            query = jsonDocument.get(QUERY).asText();
+        } else if (documentCache != null && documentCache.isPersistedQueries()) {
+            String persistedQueryHash = getPersistedQueryHash(jsonDocument);
+            if (persistedQueryHash != null) {
+                query = documentCache.getPersistedQuery(persistedQueryHash).orElse(null);
+            }
+        }
+        if (query == null) {
+            return true;
+        }
+
+        String operationName = jsonDocument.has(OPERATION_NAME) && !jsonDocument.get(OPERATION_NAME).isNull()
+                ? jsonDocument.get(OPERATION_NAME).asText()
+                : null;
+        String text = query;
+        Optional<GraphQLDocumentCache.ParsedDocument> parsedDocument = documentCache == null
+                ? Optional.empty()
+                : documentCache.get(query, operationName);
+        return parsedDocument
+                .filter(GraphQLDocumentCache.ParsedDocument::isValid)
+                .map(GraphQLDocumentCache.ParsedDocument::isMutation)
+                .orElseGet(() -> isMutation(text, operationName));
+    }
+
+    /**
+     * Parse a document to tell whether the operation which is run is a mutation.  Documents which do not parse are
+     * treated as mutations, GraphQL reports their errors.
+     *
+     * @param query the document
+     * @param operationName the name of the operation to run or null
+     * @return false if the operation is a query
+     */
+    private static boolean isMutation(String query, String operationName) {
+        try {
+            return GraphQLDocumentCache.isMutation(new Parser().parseDocument(query), operationName);
+        } catch (RuntimeException e) {
+            return true;
+        }
+    }
+
+    private static Response join(CompletableFuture<Response> response) {
+        try {
+            return response.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
     private Response executeGraphQLRequest(
             ObjectMapper mapper,
-            SecurityContext securityContext,
+            Object opaqueUser,
             String graphQLDocument,
             JsonNode jsonDocument) {
         boolean isVerbose = false;
-        try (DataStoreTransaction tx = elide.getDataStore().beginTransaction()) {
-            final User user = tx.accessUser(getUser.apply(securityContext));
-            GraphQLRequestScope requestScope = new GraphQLRequestScope(tx, user, elide.getElideSettings());
-            isVerbose = requestScope.getPermissionExecutor().isVerbose();
+        String persistedQueryHash = documentCache != null && documentCache.isPersistedQueries()
+                ? getPersistedQueryHash(jsonDocument)
+                : null;
+        String query;
+        if (jsonDocument.has(QUERY) && !jsonDocument.get(QUERY).isNull()) {
+            query = jsonDocument.get(QUERY).asText();
+            if (persistedQueryHash != null && !documentCache.persistQuery(persistedQueryHash, query)) {
+                return Response.status(400).entity("The `sha256Hash` does not match the `query`.").build();
+            }
+        } else if (persistedQueryHash != null) {
+            Optional<String> persistedQuery = documentCache.getPersistedQuery(persistedQueryHash);
+            if (!persistedQuery.isPresent()) {
+                return Response.ok(PERSISTED_QUERY_NOT_FOUND).build();
+            }
+            query = persistedQuery.get();
+        } else {
+            return Response.status(400).entity("A `query` key is required.").build();
+        }
+
+        String operationName = null;
+        if (jsonDocument.has(OPERATION_NAME) && !jsonDocument.get(OPERATION_NAME).isNull()) {
+            operationName = jsonDocument.get(OPERATION_NAME).asText();
+        }
+
+        Optional<GraphQLDocumentCache.ParsedDocument> parsedDocument = documentCache == null
+                ? Optional.empty()
+                : documentCache.get(query, operationName);
 
-            if (!jsonDocument.has(QUERY)) {
-                return Response.status(400).entity("A `query` key is required.").build();
+        // Invalid documents are rejected without opening a transaction
+        if (parsedDocument.isPresent() && !parsedDocument.get().isValid()) {
+            ExecutionResult result = new ExecutionResultImpl(parsedDocument.get().getErrors());
+            try {
+                return Response.ok(mapper.writeValueAsString(result)).build();
+            } catch (JsonProcessingException e) {
+                log.error("An unexpected error occurred trying to serialize validation errors.", e);
+                return Response.serverError().build();
             }
+        }
 
-            String query = jsonDocument.get(QUERY).asText();
+        // Queries run in a read-only transaction, the document is parsed to tell when it is not cached
+        String name = operationName;
+        boolean isMutation = parsedDocument
+                .map(GraphQLDocumentCache.ParsedDocument::isMutation)
+                .orElseGet(() -> isMutation(query, name));
+        DataStore dataStore = elide.getDataStore();
+
+        try (DataStoreTransaction tx = isMutation
+                ? dataStore.beginTransaction()
+                : dataStore.beginReadTransaction()) {
+            final User user = tx.accessUser(opaqueUser);
+            GraphQLRequestScope requestScope = new GraphQLRequestScope(tx, user, elide.getElideSettings());
+            isVerbose = requestScope.getPermissionExecutor().isVerbose();
 
             // Logging all queries. It is recommended to put any private information that shouldn't be logged into
             // the "variables" section of your query. Variable values are not logged.
@@ -178,8 +331,8 @@ public class GraphQLEndpoint {
                     .context(requestScope)
                     .query(query);
 
-            if (jsonDocument.has(OPERATION_NAME) && !jsonDocument.get(OPERATION_NAME).isNull()) {
-                executionInput.operationName(jsonDocument.get(OPERATION_NAME).asText());
+            if (operationName != null) {
+                executionInput.operationName(operationName);
             }
 
             if (jsonDocument.has(VARIABLES) && !jsonDocument.get(VARIABLES).isNull()) {
@@ -192,7 +345,7 @@ public class GraphQLEndpoint {
             tx.preCommit();
             requestScope.runQueuedPreSecurityTriggers();
             requestScope.getPermissionExecutor().executeCommitChecks();
-            if (query.trim().startsWith(MUTATION)) {
+            if (isMutation) {
                 if (!result.getErrors().isEmpty()) {
                     HashMap<String, Object> abortedResponseObject = new HashMap<String, Object>() {
                         {
@@ -263,6 +416,21 @@ public class GraphQLEndpoint {
         }
     }
 
+    /**
+     * Get the hash of a persisted query sent as {@code extensions.persistedQuery.sha256Hash}.
+     *
+     * @param jsonDocument the request document
+     * @return the hash or null if the request does not reference a persisted query
+     */
+    private static String getPersistedQueryHash(JsonNode jsonDocument) {
+        JsonNode hash = jsonDocument.path(EXTENSIONS).path(PERSISTED_QUERY).path(SHA256_HASH);
+        return hash.isTextual() ? hash.asText() : null;
+    }
+
+    public Optional<GraphQLDocumentCache> getDocumentCache() {
+        return Optional.ofNullable(documentCache);
+    }
+
     private Response buildErrorResponse(HttpStatusException error, boolean isVerbose) {
         ObjectMapper mapper = elide.getMapper().getObjectMapper();
         JsonNode errorNode;
@@ -33,6 +33,7 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -164,16 +165,18 @@ public class PersistentResourceFetcher implements DataFetcher {
      * @param first Pagination first argument
      * @param filters Filter params
      * @param generateTotals True if page totals should be generated for this type, false otherwise
+     * @param lookahead True if one record past the page may be fetched to tell whether there is a next page
      * @return {@link PersistentResource} object(s)
      */
     public ConnectionContainer fetchObject(Environment context, RequestScope requestScope, Class entityClass,
                                                 Optional<List<String>> ids, Optional<String> sort,
                                                 Optional<String> offset, Optional<String> first,
-                                                Optional<String> filters, boolean generateTotals) {
+                                                Optional<String> filters, boolean generateTotals,
+                                                boolean lookahead) {
         EntityDictionary dictionary = requestScope.getDictionary();
         String typeName = dictionary.getJsonAliasFor(entityClass);
 
-        Optional<Pagination> pagination = buildPagination(first, offset, generateTotals);
+        Optional<Pagination> pagination = buildPagination(first, offset, generateTotals, lookahead);
         Optional<Sorting> sorting = buildSorting(sort);
         Optional<FilterExpression> filter = buildFilter(typeName, filters, requestScope);
 
@@ -190,7 +193,7 @@ public class PersistentResourceFetcher implements DataFetcher {
                 entityClass, /* Empty list of IDs */ new ArrayList<>(), filter, sorting, pagination, requestScope
         ));
 
-        return new ConnectionContainer(records, pagination, typeName);
+        return buildConnection(records, pagination, typeName);
     }
 
     /**
@@ -204,6 +207,7 @@ public class PersistentResourceFetcher implements DataFetcher {
      * @param first Pagination first
      * @param filters Filter string
      * @param generateTotals True if page totals should be generated for this type, false otherwise
+     * @param lookahead True if one record past the page may be fetched to tell whether there is a next page
      * @return persistence resource object(s)
      */
     public Object fetchRelationship(Environment context,
@@ -214,12 +218,13 @@ public class PersistentResourceFetcher implements DataFetcher {
                                      Optional<String> first,
                                      Optional<String> sort,
                                      Optional<String> filters,
-                                     boolean generateTotals) {
+                                     boolean generateTotals,
+                                     boolean lookahead) {
         EntityDictionary dictionary = parentResource.getRequestScope().getDictionary();
         Class entityClass = dictionary.getParameterizedType(parentResource.getObject(), fieldName);
         String typeName = dictionary.getJsonAliasFor(entityClass);
 
-        Optional<Pagination> pagination = buildPagination(first, offset, generateTotals);
+        Optional<Pagination> pagination = buildPagination(first, offset, generateTotals, lookahead);
         Optional<Sorting> sorting = buildSorting(sort);
         Optional<FilterExpression> filter = buildFilter(typeName, filters, parentResource.getRequestScope());
 
@@ -231,7 +236,31 @@ public class PersistentResourceFetcher implements DataFetcher {
                     filter, sorting, pagination);
         }
 
-        return new ConnectionContainer(relations, pagination, typeName);
+        return buildConnection(relations, pagination, typeName);
+    }
+
+    /**
+     * Wraps a page of resources.  When the page was fetched with lookahead, the extra record is dropped and tells
+     * whether there is a next page.
+     */
+    private static ConnectionContainer buildConnection(Set<PersistentResource> resources,
+                                                       Optional<Pagination> pagination,
+                                                       String typeName) {
+        if (!pagination.isPresent() || !pagination.get().isLookahead()) {
+            return new ConnectionContainer(resources, pagination, typeName);
+        }
+        if (pagination.get().hasCursor()) {
+            // Keyset pages drop the extra record when they are loaded
+            return new ConnectionContainer(resources, pagination, typeName, pagination.get().getHasNextPage());
+        }
+
+        int pageSize = pagination.get().getLimit() - 1;
+        Set<PersistentResource> page = new LinkedHashSet<>();
+        Iterator<PersistentResource> iterator = resources.iterator();
+        while (page.size() < pageSize && iterator.hasNext()) {
+            page.add(iterator.next());
+        }
+        return new ConnectionContainer(page, pagination, typeName, Optional.of(iterator.hasNext()));
     }
 
     private ConnectionContainer upsertObjects(Environment context) {
@@ -401,6 +430,7 @@ public class PersistentResourceFetcher implements DataFetcher {
                         Optional.empty(),
                         Optional.empty(),
                         Optional.empty(),
+                        false,
                         false).getPersistentResources();
                 upsertedResource = loadedResource.iterator().next();
 
@@ -431,6 +461,7 @@ public class PersistentResourceFetcher implements DataFetcher {
                 Optional.empty(),
                 Optional.empty(),
                 Optional.empty(),
+                false,
                 false).getPersistentResources();
             updatedResource = loadedResource.iterator().next();
         }
@@ -553,8 +584,20 @@ public class PersistentResourceFetcher implements DataFetcher {
 
     private Optional<Pagination> buildPagination(Optional<String> first,
                                                  Optional<String> offset,
-                                                 boolean generateTotals) {
-        return Pagination.fromOffsetAndFirst(first, offset, generateTotals, settings);
+                                                 boolean generateTotals,
+                                                 boolean lookahead) {
+        Optional<Pagination> pagination = Pagination.fromOffsetAndFirst(first, offset, generateTotals, settings);
+
+        // Offset pages with totals tell whether there is a next page from the totals, which for keyset pages
+        // count the whole collection rather than the records after the cursor
+        boolean hasCursor = pagination.map(Pagination::hasCursor).orElse(false);
+        if (!lookahead || (generateTotals && !hasCursor)) {
+            return pagination;
+        }
+
+        Pagination page = pagination.orElseGet(() -> Pagination.getDefaultPagination(settings));
+        page.setLookahead(true);
+        return Optional.of(page);
     }
 
     private Optional<Sorting> buildSorting(Optional<String> sort) {
@@ -10,7 +10,6 @@ import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.graphql.Environment;
 import com.yahoo.elide.graphql.PersistentResourceFetcher;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.util.Optional;
@@ -22,16 +21,32 @@ import javax.ws.rs.BadRequestException;
 /**
  * Container representing a GraphQL "connection" object.
  */
-@AllArgsConstructor
 public class ConnectionContainer implements GraphQLContainer {
     @Getter private final Set<PersistentResource> persistentResources;
     @Getter private final Optional<Pagination> pagination;
     // Refers to the type of persistentResources
     @Getter private final String typeName;
+    // Whether there is a next page, when the page was fetched with one record of lookahead
+    @Getter private final Optional<Boolean> hasNextPage;
+
+    private PageInfoContainer pageInfo;
 
     private static final String EDGES_KEYWORD = "edges";
     public static final String PAGE_INFO_KEYWORD = "pageInfo";
 
+    public ConnectionContainer(Set<PersistentResource> persistentResources, Optional<Pagination> pagination,
+                               String typeName) {
+        this(persistentResources, pagination, typeName, Optional.empty());
+    }
+
+    public ConnectionContainer(Set<PersistentResource> persistentResources, Optional<Pagination> pagination,
+                               String typeName, Optional<Boolean> hasNextPage) {
+        this.persistentResources = persistentResources;
+        this.pagination = pagination;
+        this.typeName = typeName;
+        this.hasNextPage = hasNextPage;
+    }
+
     @Override
     public Object processFetch(Environment context, PersistentResourceFetcher fetcher) {
         String fieldName = context.field.getName();
@@ -42,7 +57,11 @@ public class ConnectionContainer implements GraphQLContainer {
                         .map(EdgesContainer::new)
                         .collect(Collectors.toList());
             case PAGE_INFO_KEYWORD:
-                return new PageInfoContainer(this);
+                // The page info is computed once however many page info fields are selected
+                if (pageInfo == null) {
+                    pageInfo = new PageInfoContainer(this);
+                }
+                return pageInfo;
             default:
                 break;
         }
@@ -6,6 +6,7 @@
 package com.yahoo.elide.graphql.containers;
 
 import static com.yahoo.elide.graphql.containers.RootContainer.requestContainsPageInfo;
+import static com.yahoo.elide.graphql.containers.RootContainer.requestContainsTotalRecords;
 
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.PersistentResource;
@@ -46,10 +47,11 @@ public class NodeContainer implements PersistentResourceContainer, GraphQLContai
             return attribute;
         }
         if (dictionary.isRelation(parentClass, fieldName)) { /* fetch relationship properties */
-            boolean generateTotals = requestContainsPageInfo(context.field);
+            boolean generateTotals = requestContainsTotalRecords(context.field);
+            boolean lookahead = requestContainsPageInfo(context.field);
             return fetcher.fetchRelationship(context, context.parentResource,
                     fieldName, context.ids, context.offset, context.first, context.sort, context.filters,
-                    generateTotals);
+                    generateTotals, lookahead);
         }
         if (Objects.equals(idFieldName, fieldName)) {
             return new DeferredId(context.parentResource);
@@ -5,16 +5,13 @@
  */
 package com.yahoo.elide.graphql.containers;
 
-import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.graphql.Environment;
 import com.yahoo.elide.graphql.PersistentResourceFetcher;
 
 import lombok.Getter;
 
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import javax.ws.rs.BadRequestException;
 
@@ -28,10 +25,14 @@ public class PageInfoContainer implements GraphQLContainer {
     private static final String PAGE_INFO_HAS_NEXT_PAGE_KEYWORD = "hasNextPage";
     private static final String PAGE_INFO_START_CURSOR_KEYWORD = "startCursor";
     private static final String PAGE_INFO_END_CURSOR_KEYWORD = "endCursor";
-    private static final String PAGE_INFO_TOTAL_RECORDS_KEYWORD = "totalRecords";
+    static final String PAGE_INFO_TOTAL_RECORDS_KEYWORD = "totalRecords";
+
+    // Number of records in the page
+    private final int numResults;
 
     public PageInfoContainer(ConnectionContainer connectionContainer) {
         this.connectionContainer = connectionContainer;
+        this.numResults = connectionContainer.getPersistentResources().size();
     }
 
     @Override
@@ -40,22 +41,19 @@ public class PageInfoContainer implements GraphQLContainer {
         ConnectionContainer connectionContainer = getConnectionContainer();
         Optional<Pagination> pagination = connectionContainer.getPagination();
 
-        List<String> ids = connectionContainer.getPersistentResources().stream()
-                .map(PersistentResource::getId)
-                .sorted()
-                .collect(Collectors.toList());
-
         return pagination.map(pageValue -> {
+            if (pageValue.hasCursor()) {
+                return processCursorFetch(fieldName, pageValue, numResults);
+            }
+
             switch (fieldName) {
-                case PAGE_INFO_HAS_NEXT_PAGE_KEYWORD: {
-                    int numResults = ids.size();
-                    int nextOffset = numResults + pageValue.getOffset();
-                    return nextOffset < pageValue.getPageTotals();
-                }
+                case PAGE_INFO_HAS_NEXT_PAGE_KEYWORD:
+                    return connectionContainer.getHasNextPage()
+                            .orElseGet(() -> numResults + pageValue.getOffset() < pageValue.getPageTotals());
                 case PAGE_INFO_START_CURSOR_KEYWORD:
                     return pageValue.getOffset();
                 case PAGE_INFO_END_CURSOR_KEYWORD:
-                    return pageValue.getOffset() + ids.size();
+                    return pageValue.getOffset() + numResults;
                 case PAGE_INFO_TOTAL_RECORDS_KEYWORD:
                     return pageValue.getPageTotals();
                 default:
@@ -66,4 +64,27 @@ public class PageInfoContainer implements GraphQLContainer {
         }).orElseThrow(() -> new BadRequestException("Could not generate pagination information for type: "
                 + connectionContainer.getTypeName()));
     }
+
+    /**
+     * Page info of a keyset page.  The cursors are opaque keyset cursors and the totals count all the records of
+     * the collection.  Whether there is a next page is known from the record fetched past the page.
+     */
+    private Object processCursorFetch(String fieldName, Pagination pageValue, int numResults) {
+        switch (fieldName) {
+            case PAGE_INFO_HAS_NEXT_PAGE_KEYWORD:
+                // Without lookahead (page info selected only through fragments) a full page may be followed by more
+                return connectionContainer.getHasNextPage()
+                        .orElseGet(() -> numResults >= pageValue.getLimit());
+            case PAGE_INFO_START_CURSOR_KEYWORD:
+                return pageValue.getStartCursor();
+            case PAGE_INFO_END_CURSOR_KEYWORD:
+                return pageValue.getEndCursor();
+            case PAGE_INFO_TOTAL_RECORDS_KEYWORD:
+                return pageValue.getPageTotals();
+            default:
+                break;
+        }
+        throw new BadRequestException("Invalid request. Looking for field: "
+                + fieldName + " in an pageInfo object.");
+    }
 }
@@ -11,6 +11,8 @@ import com.yahoo.elide.graphql.PersistentResourceFetcher;
 
 import graphql.language.Field;
 
+import java.util.stream.Stream;
+
 /**
  * Root container for GraphQL requests.
  */
@@ -19,14 +21,36 @@ public class RootContainer implements GraphQLContainer {
     public Object processFetch(Environment context, PersistentResourceFetcher fetcher) {
         EntityDictionary dictionary = context.requestScope.getDictionary();
         Class<?> entityClass = dictionary.getEntityClass(context.field.getName());
-        boolean generateTotals = requestContainsPageInfo(context.field);
+        boolean generateTotals = requestContainsTotalRecords(context.field);
+        boolean lookahead = requestContainsPageInfo(context.field);
         return fetcher.fetchObject(context, context.requestScope, entityClass, context.ids,
-                context.sort, context.offset, context.first, context.filters, generateTotals);
+                context.sort, context.offset, context.first, context.filters, generateTotals, lookahead);
     }
 
     public static boolean requestContainsPageInfo(Field field) {
+        return getPageInfoFields(field).findAny().isPresent();
+    }
+
+    /**
+     * Whether the page info of a connection selects the total number of records, which requires counting them.
+     * Page info selected through fragments is assumed to need the total.
+     *
+     * @param field the connection field
+     * @return true if page totals should be generated
+     */
+    public static boolean requestContainsTotalRecords(Field field) {
+        return getPageInfoFields(field)
+                .flatMap(pageInfo -> pageInfo.getSelectionSet() == null
+                        ? Stream.empty()
+                        : pageInfo.getSelectionSet().getSelections().stream())
+                .anyMatch(f -> !(f instanceof Field)
+                        || PageInfoContainer.PAGE_INFO_TOTAL_RECORDS_KEYWORD.equals(((Field) f).getName()));
+    }
+
+    private static Stream<Field> getPageInfoFields(Field field) {
         return field.getSelectionSet().getSelections().stream()
-                .anyMatch(f -> f instanceof Field
-                        && ConnectionContainer.PAGE_INFO_KEYWORD.equals(((Field) f).getName()));
+                .filter(f -> f instanceof Field
+                        && ConnectionContainer.PAGE_INFO_KEYWORD.equals(((Field) f).getName()))
+                .map(Field.class::cast);
     }
 }
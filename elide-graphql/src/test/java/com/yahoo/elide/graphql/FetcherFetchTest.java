@@ -133,6 +133,26 @@ public class FetcherFetchTest extends PersistentResourceFetcherTest {
         runComparisonTest("pageTotalsRelationship");
     }
 
+    @Test
+    public void testPageInfoWithoutTotals() throws Exception {
+        runComparisonTest("pageInfoWithoutTotals");
+    }
+
+    @Test
+    public void testPageInfoLastPageWithoutTotals() throws Exception {
+        runComparisonTest("pageInfoLastPageWithoutTotals");
+    }
+
+    @Test
+    public void testKeysetPageWithTotals() throws Exception {
+        runComparisonTest("keysetPageWithTotals");
+    }
+
+    @Test
+    public void testKeysetLastPageWithTotals() throws Exception {
+        runComparisonTest("keysetLastPageWithTotals");
+    }
+
     @Test
     public void testComputedAttributes() throws Exception {
         runComparisonTest("computedAttributes");
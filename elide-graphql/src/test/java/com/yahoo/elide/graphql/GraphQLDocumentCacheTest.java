@@ -0,0 +1,72 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import static org.mockito.Mockito.mock;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import graphql.schema.DataFetcher;
+import graphql.schema.GraphQLSchema;
+
+public class GraphQLDocumentCacheTest extends GraphQLTest {
+    private static final String QUERY = "query Titles { book { edges { node { id title } } } }";
+    private static final String MUTATION = "mutation Titles { book(op: FETCH) { edges { node { id } } } }";
+
+    private GraphQLSchema schema;
+
+    @BeforeMethod
+    public void setupSchema() {
+        schema = new ModelBuilder(dictionary, mock(DataFetcher.class)).build();
+    }
+
+    @Test
+    public void testDocumentsAreParsedOnce() {
+        GraphQLDocumentCache cache = new GraphQLDocumentCache(schema, 10, false);
+
+        GraphQLDocumentCache.ParsedDocument first = cache.get(QUERY, "Titles").get();
+        GraphQLDocumentCache.ParsedDocument second = cache.get(QUERY, "Titles").get();
+
+        Assert.assertSame(first, second);
+        Assert.assertTrue(first.isValid());
+        Assert.assertFalse(first.isMutation());
+        Assert.assertEquals(cache.getHitCount(), 1);
+        Assert.assertEquals(cache.getMissCount(), 1);
+        Assert.assertEquals(cache.size(), 1);
+
+        Assert.assertTrue(cache.get(MUTATION, null).get().isMutation());
+        Assert.assertEquals(cache.size(), 2);
+    }
+
+    @Test
+    public void testInvalidDocuments() {
+        GraphQLDocumentCache cache = new GraphQLDocumentCache(schema, 10, false);
+
+        GraphQLDocumentCache.ParsedDocument parsed = cache.get("{ book { edges { node { isbn13 } } } }", null).get();
+        Assert.assertFalse(parsed.isValid());
+
+        Assert.assertFalse(cache.get("{ book { edges ", null).isPresent());
+        Assert.assertEquals(cache.size(), 1);
+    }
+
+    @Test
+    public void testPersistedQueries() {
+        GraphQLDocumentCache cache = new GraphQLDocumentCache(schema, 10, true);
+        String hash = GraphQLDocumentCache.hash(QUERY);
+
+        Assert.assertFalse(cache.getPersistedQuery(hash).isPresent());
+        Assert.assertFalse(cache.persistQuery(GraphQLDocumentCache.hash(MUTATION), QUERY));
+        Assert.assertTrue(cache.persistQuery(hash, QUERY));
+        Assert.assertEquals(cache.getPersistedQuery(hash).get(), QUERY);
+
+        GraphQLDocumentCache disabled = new GraphQLDocumentCache(schema, 10, false);
+        Assert.assertFalse(disabled.isPersistedQueries());
+        disabled.persistQuery(hash, QUERY);
+        Assert.assertFalse(disabled.getPersistedQuery(hash).isPresent());
+    }
+}
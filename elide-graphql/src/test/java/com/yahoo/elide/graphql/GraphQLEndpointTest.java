@@ -0,0 +1,135 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import example.Book;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.core.StreamingOutput;
+
+public class GraphQLEndpointTest extends GraphQLTest {
+    private static final String QUERY = "{\"query\": \"{ book { edges { node { id title } } } }\"}";
+    private static final String MUTATION = "{\"query\": \"mutation { book(op: UPSERT, data: {id: \\\"1\\\", "
+            + "title: \\\"Dune\\\"}) { edges { node { id title } } } }\"}";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private HashMapDataStore store;
+    private ExecutorService executor;
+    private GraphQLEndpoint endpoint;
+
+    @BeforeClass
+    public void setupEndpoint() {
+        store = spy(new HashMapDataStore(Book.class.getPackage()));
+        executor = Executors.newFixedThreadPool(2);
+        Elide elide = new Elide(new ElideSettingsBuilder(store)
+                .withEntityDictionary(dictionary)
+                .withGraphQLBatchExecutor(executor)
+                .build());
+        endpoint = new GraphQLEndpoint(elide, null);
+    }
+
+    @AfterClass
+    public void shutdownExecutor() {
+        executor.shutdown();
+    }
+
+    @BeforeMethod
+    public void resetStore() {
+        reset(store);
+    }
+
+    @Test
+    public void testQueryUsesReadTransaction() throws IOException {
+        Response response = endpoint.post(mock(SecurityContext.class), QUERY);
+
+        Assert.assertEquals(response.getStatus(), 200);
+        Assert.assertTrue(mapper.readTree((String) response.getEntity()).has("data"));
+        verify(store).beginReadTransaction();
+    }
+
+    @Test
+    public void testNamedQueryUsesReadTransactionWithoutDocumentCache() {
+        Assert.assertFalse(endpoint.getDocumentCache().isPresent());
+
+        String request = "{\"query\": \"mutation Save { book(op: UPSERT, data: {id: \\\"1\\\", title: \\\"Dune\\\"}) "
+                + "{ edges { node { id } } } } query Books { book { edges { node { id } } } }\", "
+                + "\"operationName\": \"Books\"}";
+        Response response = endpoint.post(mock(SecurityContext.class), request);
+
+        Assert.assertEquals(response.getStatus(), 200);
+        verify(store).beginReadTransaction();
+    }
+
+    @Test
+    public void testMutationUsesReadWriteTransaction() {
+        Response response = endpoint.post(mock(SecurityContext.class), MUTATION);
+
+        Assert.assertEquals(response.getStatus(), 200);
+        verify(store, never()).beginReadTransaction();
+        verify(store).beginTransaction();
+    }
+
+    @Test
+    public void testBatchedRequests() throws IOException {
+        String batch = "[" + QUERY + ", {\"query\": \"{ book { edges { node { isbn } } } }\"}, " + QUERY + "]";
+        Response response = endpoint.post(mock(SecurityContext.class), batch);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(out);
+        JsonNode result = mapper.readTree(out.toByteArray());
+
+        Assert.assertEquals(result.size(), 3);
+        Assert.assertTrue(result.get(0).has("data"));
+        Assert.assertTrue(result.get(1).has("errors"));
+        Assert.assertTrue(result.get(2).has("data"));
+    }
+
+    @Test
+    public void testBatchedMutationsRunBeforeLaterEntries() throws IOException {
+        String batch = "[" + MUTATION + ", " + QUERY + "]";
+        Response response = endpoint.post(mock(SecurityContext.class), batch);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(out);
+        JsonNode result = mapper.readTree(out.toByteArray());
+
+        Assert.assertEquals(result.size(), 2);
+        Assert.assertTrue(result.get(1).get("data").toString().contains("Dune"));
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testBatchedRequestFailsBeforeResponse() {
+        doThrow(new IllegalStateException()).when(store).beginReadTransaction();
+
+        // The failure surfaces from the request instead of truncating the streamed array
+        endpoint.post(mock(SecurityContext.class), "[" + QUERY + ", " + QUERY + "]");
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.tests;
+
+import static com.jayway.restassured.RestAssured.given;
+import static org.testng.Assert.assertEquals;
+
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.HttpStatus;
+import com.yahoo.elide.initialization.AbstractIntegrationTestInitializer;
+import com.yahoo.elide.jsonapi.models.Resource;
+
+import example.Book;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+
+/**
+ * Integration tests of filtered deletes and updates of root collections.
+ */
+public class BulkWriteIT extends AbstractIntegrationTestInitializer {
+    private static final String JSONAPI_CONTENT_TYPE = "application/vnd.api+json";
+
+    @BeforeClass
+    public static void setup() throws IOException {
+        DataStoreTransaction tx = dataStore.beginTransaction();
+
+        Book literaryFiction = new Book(); // id 1
+        literaryFiction.setTitle("The Old Man and the Sea");
+        literaryFiction.setGenre("Literary Fiction");
+        tx.createObject(literaryFiction, null);
+
+        Book scienceFiction = new Book(); // id 2
+        scienceFiction.setTitle("Ender's Game");
+        scienceFiction.setGenre("Science Fiction");
+        tx.createObject(scienceFiction, null);
+
+        Book moreScienceFiction = new Book(); // id 3
+        moreScienceFiction.setTitle("Foundation");
+        moreScienceFiction.setGenre("Science Fiction");
+        tx.createObject(moreScienceFiction, null);
+
+        tx.commit(null);
+        tx.close();
+    }
+
+    @Test
+    public void testDeleteWithFilter() throws IOException {
+        given()
+                .contentType(JSONAPI_CONTENT_TYPE)
+                .accept(JSONAPI_CONTENT_TYPE)
+                .delete("/book?filter[book.genre]=Science Fiction")
+                .then()
+                .statusCode(HttpStatus.SC_NO_CONTENT);
+
+        given().when().get("/book/2").then().statusCode(HttpStatus.SC_NOT_FOUND);
+        given().when().get("/book/3").then().statusCode(HttpStatus.SC_NOT_FOUND);
+        given().when().get("/book/1").then().statusCode(HttpStatus.SC_OK);
+    }
+
+    @Test
+    public void testPatchWithFilter() throws IOException {
+        given()
+                .contentType(JSONAPI_CONTENT_TYPE)
+                .accept(JSONAPI_CONTENT_TYPE)
+                .body("{\"data\":{\"type\":\"book\",\"attributes\":{\"language\":\"English\"}}}")
+                .patch("/book?filter[book.genre]=Literary Fiction")
+                .then()
+                .statusCode(HttpStatus.SC_NO_CONTENT);
+
+        String actual = given().when().get("/book/1").then().statusCode(HttpStatus.SC_OK)
+                .extract().body().asString();
+        Resource book = jsonApiMapper.readJsonApiDocument(actual).getData().getSingleValue();
+        assertEquals(book.getAttributes().get("language"), "English");
+    }
+
+    @Test
+    public void testDeleteWithoutFilter() {
+        given()
+                .contentType(JSONAPI_CONTENT_TYPE)
+                .accept(JSONAPI_CONTENT_TYPE)
+                .delete("/book")
+                .then()
+                .statusCode(HttpStatus.SC_BAD_REQUEST);
+    }
+
+    @Test
+    public void testPatchWithRelationships() {
+        given()
+                .contentType(JSONAPI_CONTENT_TYPE)
+                .accept(JSONAPI_CONTENT_TYPE)
+                .body("{\"data\":{\"type\":\"book\",\"relationships\":{\"authors\":{\"data\":[]}}}}")
+                .patch("/book?filter[book.genre]=Literary Fiction")
+                .then()
+                .statusCode(HttpStatus.SC_BAD_REQUEST);
+    }
+}
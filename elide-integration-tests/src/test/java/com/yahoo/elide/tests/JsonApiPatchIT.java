@@ -0,0 +1,119 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.tests;
+
+import static com.jayway.restassured.RestAssured.given;
+import static org.testng.Assert.assertEquals;
+
+import com.yahoo.elide.core.HttpStatus;
+import com.yahoo.elide.initialization.AbstractIntegrationTestInitializer;
+import com.yahoo.elide.jsonapi.models.Resource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Integration tests of creates through the JSON-API patch extension.
+ */
+public class JsonApiPatchIT extends AbstractIntegrationTestInitializer {
+    private static final String JSONAPI_CONTENT_TYPE = "application/vnd.api+json";
+    private static final String JSONAPI_CONTENT_TYPE_WITH_JSON_PATCH_EXTENSION =
+            "application/vnd.api+json; ext=jsonpatch";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test(priority = 1)
+    public void testAddWithoutRelationships() throws IOException {
+        String request = "[{\"op\":\"add\",\"path\":\"/book\",\"value\":"
+                + book("12345678-1234-1234-1234-123456789ab1", "The Old Man and the Sea") + "}]";
+
+        JsonNode response = patch(request);
+
+        assertEquals(response.size(), 1);
+        assertEquals(response.get(0).get("data").get("type").asText(), "book");
+        assertEquals(response.get(0).get("data").get("attributes").get("title").asText(),
+                "The Old Man and the Sea");
+        assertEquals(response.get(0).get("data").get("relationships").get("authors").get("data").size(), 0);
+    }
+
+    @Test(priority = 2)
+    public void testAddWithRelationships() throws IOException {
+        String bookId = "12345678-1234-1234-1234-123456789ab2";
+        String request = "["
+                + "{\"op\":\"add\",\"path\":\"/author\",\"value\":{\"type\":\"author\","
+                + "\"id\":\"12345678-1234-1234-1234-123456789ab3\",\"attributes\":{\"name\":\"Orson Scott Card\"},"
+                + "\"relationships\":{\"books\":{\"data\":[{\"type\":\"book\",\"id\":\"" + bookId + "\"}]}}}},"
+                + "{\"op\":\"add\",\"path\":\"/book\",\"value\":" + book(bookId, "Ender's Game") + "}"
+                + "]";
+
+        JsonNode response = patch(request);
+        assertEquals(response.size(), 2);
+
+        // The relationship to a resource added later in the same document is set once all of them exist
+        String authorId = response.get(0).get("data").get("id").asText();
+        String createdBookId = response.get(1).get("data").get("id").asText();
+        String actual = given()
+                .accept(JSONAPI_CONTENT_TYPE)
+                .get("/author/" + authorId + "/books")
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .extract().body().asString();
+        Collection<Resource> books = jsonApiMapper.readJsonApiDocument(actual).getData().get();
+        assertEquals(books.size(), 1);
+
+        Resource book = books.iterator().next();
+        assertEquals(book.getId(), createdBookId);
+        assertEquals(book.getAttributes().get("title"), "Ender's Game");
+    }
+
+    @Test(priority = 3)
+    public void testBulkAdd() throws IOException {
+        List<String> operations = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            String id = String.format("12345678-1234-1234-1234-%012d", i);
+            operations.add("{\"op\":\"add\",\"path\":\"/book\",\"value\":" + book(id, "Volume " + i) + "}");
+        }
+
+        JsonNode response = patch("[" + String.join(",", operations) + "]");
+        assertEquals(response.size(), 50);
+
+        String actual = given()
+                .accept(JSONAPI_CONTENT_TYPE)
+                .get("/book?filter[book.title][prefix]=Volume&page[size]=100")
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .extract().body().asString();
+        List<String> titles = jsonApiMapper.readJsonApiDocument(actual).getData().get().stream()
+                .map(resource -> (String) resource.getAttributes().get("title"))
+                .sorted()
+                .collect(Collectors.toList());
+        assertEquals(titles.size(), 50);
+        assertEquals(titles.get(0), "Volume 0");
+    }
+
+    private JsonNode patch(String request) throws IOException {
+        return objectMapper.readTree(given()
+                .contentType(JSONAPI_CONTENT_TYPE_WITH_JSON_PATCH_EXTENSION)
+                .accept(JSONAPI_CONTENT_TYPE_WITH_JSON_PATCH_EXTENSION)
+                .body(request)
+                .patch("/")
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .extract().body().asString());
+    }
+
+    private static String book(String id, String title) {
+        return "{\"type\":\"book\",\"id\":\"" + id + "\",\"attributes\":{\"title\":\"" + title + "\"}}";
+    }
+}
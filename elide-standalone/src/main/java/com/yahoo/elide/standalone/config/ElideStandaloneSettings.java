@@ -15,6 +15,7 @@ import com.yahoo.elide.datastores.jpa.transaction.NonJtaTransaction;
 import com.yahoo.elide.resources.DefaultOpaqueUserFunction;
 import com.yahoo.elide.security.checks.Check;
 import com.yahoo.elide.standalone.Util;
+import com.yahoo.elide.standalone.metrics.DropwizardElideMetrics;
 
 import org.eclipse.jetty.servlet.ServletContextHandler;
 import org.glassfish.hk2.api.ServiceLocator;
@@ -75,6 +76,10 @@ public interface ElideStandaloneSettings {
             builder = builder.withISO8601Dates("yyyy-MM-dd'T'HH:mm'Z'", TimeZone.getTimeZone("UTC"));
         }
 
+        if (enableServiceMonitoring()) {
+            builder = builder.withMetrics(new DropwizardElideMetrics(ElideResourceConfig.getMetricRegistry()));
+        }
+
         return builder.build();
     }
 
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.standalone.metrics;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.metrics.ElideMetrics;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
+import java.util.Locale;
+
+/**
+ * Records Elide request phases as Dropwizard timers named {@code elide.<phase>.<entity>.<operation>}.
+ * <p>
+ * The entity is left out of the name of phases which are not tied to an entity (for example parsing the request).
+ */
+public class DropwizardElideMetrics implements ElideMetrics {
+    private final MetricRegistry registry;
+
+    public DropwizardElideMetrics(MetricRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public ElideMetrics.Timer start(Phase phase, Class<?> entityClass, String operation) {
+        String entity = entityClass == null ? null : EntityDictionary.getSimpleName(entityClass);
+        Timer.Context context = registry
+                .timer(MetricRegistry.name("elide", phase.name().toLowerCase(Locale.ENGLISH), entity, operation))
+                .time();
+        return context::stop;
+    }
+}
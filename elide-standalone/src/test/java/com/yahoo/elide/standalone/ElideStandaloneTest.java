@@ -15,7 +15,9 @@ import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
 import com.yahoo.elide.datastores.jpa.JpaDataStore;
 import com.yahoo.elide.datastores.jpa.transaction.NonJtaTransaction;
+import com.yahoo.elide.standalone.config.ElideResourceConfig;
 import com.yahoo.elide.standalone.config.ElideStandaloneSettings;
+import com.yahoo.elide.standalone.metrics.DropwizardElideMetrics;
 import com.yahoo.elide.standalone.models.Post;
 
 import org.apache.http.HttpStatus;
@@ -68,7 +70,8 @@ public class ElideStandaloneTest {
                         .withUseFilterExpressions(true)
                         .withEntityDictionary(dictionary)
                         .withJoinFilterDialect(new RSQLFilterDialect(dictionary))
-                        .withSubqueryFilterDialect(new RSQLFilterDialect(dictionary));
+                        .withSubqueryFilterDialect(new RSQLFilterDialect(dictionary))
+                        .withMetrics(new DropwizardElideMetrics(ElideResourceConfig.getMetricRegistry()));
 
                 return builder.build();
             }
@@ -113,6 +116,23 @@ public class ElideStandaloneTest {
                 .body("meters", hasKey("com.codahale.metrics.servlet.InstrumentedFilter.responseCodes.ok"));
     }
 
+    @Test
+    public void testElideTimers() throws Exception {
+        given()
+                .accept(JSONAPI_CONTENT_TYPE)
+                .get("/api/v1/post")
+                .then()
+                .statusCode(HttpStatus.SC_OK);
+
+        given()
+                .when()
+                .get("/stats/metrics")
+                .then()
+                .statusCode(200)
+                .body("timers", hasKey("elide.parse.path"))
+                .body("timers", hasKey("elide.load.Post.loadObjects"));
+    }
+
     @Test
     public void testHealthCheckServlet() throws Exception {
             given()